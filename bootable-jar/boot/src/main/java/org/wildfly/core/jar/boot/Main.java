@@ -12,10 +12,13 @@ import java.io.InputStreamReader;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.PosixFilePermission;
 import java.security.Policy;
 import java.util.ArrayList;
@@ -28,6 +31,7 @@ import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import org.jboss.modules.Module;
@@ -46,8 +50,10 @@ public final class Main {
     private static final String SYSPROP_KEY_CLASS_PATH = "java.class.path";
     private static final String SYSPROP_KEY_MODULE_PATH = "module.path";
     private static final String SYSPROP_KEY_SYSTEM_MODULES = "jboss.modules.system.pkgs";
+    private static final String SYSPROP_KEY_BOOT_MODULE_LOADER = "boot.module.loader";
 
     private static final String JBOSS_MODULES_DIR_NAME = "modules";
+    private static final String JBOSS_MODULES_JAR = "jboss-modules.jar";
 
     private static final String MODULE_ID_JAR_RUNTIME = "org.wildfly.bootable-jar";
 
@@ -60,15 +66,22 @@ public final class Main {
     private static final String BOOTABLE_JAR_RUNTIME_CONFIGURATOR_ARGS_METHOD_NAME = "getArguments";
 
     private static final String INSTALL_DIR = "--install-dir";
+    private static final String REUSE_INSTALL_DIR = "--reuse-install-dir";
+    private static final String ON_DEMAND_MODULES = "--on-demand-modules";
     private static final String SECMGR = "-secmgr";
     private static final String DISPLAY_GALLEON_CONFIG = "--display-galleon-config";
 
-    private static final String WILDFLY_RESOURCE = "/wildfly.zip";
+    private static final String WILDFLY_ZIP = "wildfly.zip";
+    private static final String WILDFLY_RESOURCE = "/" + WILDFLY_ZIP;
 
     private static final String PROVISIONING_RESOURCE = "/provisioning.xml";
 
     private static final String WILDFLY_BOOTABLE_TMP_DIR_PREFIX = "wildfly-bootable-server";
 
+    // Read by the runtime so the installation cleaner keeps the reusable content
+    private static final String REUSE_INSTALL_DIR_PROP = "org.wildfly.core.jar.reuse.install.dir";
+    static final String INSTALL_MARKER = "wildfly-install-marker";
+
     private static final Set<PosixFilePermission> EXECUTE_PERMISSIONS = new HashSet<>();
 
     static {
@@ -88,10 +101,16 @@ public final class Main {
         Path installDir = null;
         boolean securityManager = false;
         boolean displayGalleonConfig = false;
+        boolean reuseInstallDir = false;
+        boolean onDemandModules = false;
 
         for (String arg : args) {
             if (arg.startsWith(INSTALL_DIR)) {
                 installDir = Paths.get(getValue(arg));
+            } else if (REUSE_INSTALL_DIR.equals(arg)) {
+                reuseInstallDir = true;
+            } else if (ON_DEMAND_MODULES.equals(arg)) {
+                onDemandModules = true;
             } else if (SECMGR.equals(arg)) {
                 securityManager = true;
             } else if (DISPLAY_GALLEON_CONFIG.equals(arg)) {
@@ -121,6 +140,13 @@ public final class Main {
             throw new Exception("An existing security manager was detected.  You must use the -secmgr switch to start with a security manager.");
         }
 
+        if (reuseInstallDir && installDir == null) {
+            throw new Exception("The " + REUSE_INSTALL_DIR + " argument requires the " + INSTALL_DIR + " argument to be set.");
+        }
+        if (reuseInstallDir && onDemandModules) {
+            throw new Exception("The " + REUSE_INSTALL_DIR + " and " + ON_DEMAND_MODULES + " arguments can't be used together.");
+        }
+
         installDir = installDir == null ? Files.createTempDirectory(WILDFLY_BOOTABLE_TMP_DIR_PREFIX) : installDir;
         long t = System.currentTimeMillis();
         // If the same install directory is being used and a previous delete is happening we should attempt to wait for
@@ -139,7 +165,14 @@ public final class Main {
             if (wf == null) {
                 throw new Exception("Resource " + WILDFLY_RESOURCE + " doesn't exist, can't run.");
             }
-            unzip(wf, installDir);
+            if (reuseInstallDir) {
+                System.setProperty(REUSE_INSTALL_DIR_PROP, "true");
+                installReusable(wf, installDir, getJarFingerprint());
+            } else if (onDemandModules) {
+                installOnDemand(wf, installDir);
+            } else {
+                unzip(wf, installDir, null);
+            }
         }
 
         //Extensions are injected by the maven plugin during packaging.
@@ -235,35 +268,179 @@ public final class Main {
         runMethod.invoke(null, jbossHome, arguments, moduleLoader, moduleCL, unzipTime, cliCmds);
     }
 
-    private static void unzip(InputStream wf, Path dir) throws Exception {
+    /**
+     * Installs the server in an install directory which is kept between runs. The read-only part of the installation,
+     * the modules, is only extracted if the directory doesn't already contain the modules of this bootable JAR. The
+     * rest of the installation is always extracted again so each run starts with the original configuration.
+     * <p>
+     * The marker identifying the installed modules is written once they are all extracted, and deleted before they are
+     * deleted, so an installation interrupted at any point is extracted again by the next run.
+     *
+     * @param wf the server zip
+     * @param dir the install directory
+     * @param fingerprint the identity of the bootable JAR, {@code null} if unknown, in which case the installation is
+     *                    never reused
+     */
+    static void installReusable(InputStream wf, Path dir, String fingerprint) throws Exception {
+        final Path marker = dir.resolve(INSTALL_MARKER);
+        final boolean modulesInstalled = fingerprint != null && Files.exists(marker)
+                && fingerprint.equals(new String(Files.readAllBytes(marker), StandardCharsets.UTF_8));
+        if (Files.exists(dir)) {
+            if (!modulesInstalled) {
+                Files.deleteIfExists(marker);
+            }
+            // Remove what a previous run left behind, including the modules if they are not the ones of this JAR
+            deleteContent(dir, modulesInstalled);
+        }
+        unzip(wf, dir, modulesInstalled ? Main::isReusable : null);
+        if (fingerprint != null && !modulesInstalled) {
+            Files.write(marker, fingerprint.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static boolean isReusable(String entryName) {
+        return entryName.startsWith(JBOSS_MODULES_DIR_NAME + "/") || entryName.equals(JBOSS_MODULES_JAR);
+    }
+
+    /**
+     * Identifies the bootable JAR from its location, size and modification time, reading its content to compute a
+     * hash would defeat the purpose of not extracting it.
+     */
+    private static String getJarFingerprint() {
+        try {
+            final Path jar = Paths.get(Main.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (Files.isRegularFile(jar)) {
+                return jar.toAbsolutePath() + File.pathSeparator + Files.size(jar) + File.pathSeparator
+                        + Files.getLastModifiedTime(jar).toMillis();
+            }
+        } catch (Exception ignore) {
+            // not a file, can't tell whether the installation can be reused
+        }
+        return null;
+    }
+
+    private static void deleteContent(Path dir, boolean keepReusable) throws IOException {
+        final Path marker = dir.resolve(INSTALL_MARKER);
+        final Path modules = dir.resolve(JBOSS_MODULES_DIR_NAME);
+        final Path modulesJar = dir.resolve(JBOSS_MODULES_JAR);
+        Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path d, BasicFileAttributes attrs) {
+                return keepReusable && d.equals(modules) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (!keepReusable || !(file.equals(marker) || file.equals(modulesJar))) {
+                    Files.delete(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path d, IOException exc) throws IOException {
+                if (!d.equals(dir)) {
+                    Files.delete(d);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void unzip(InputStream wf, Path dir, Predicate<String> skip) throws Exception {
         boolean isWindows = isWindows();
         try (ZipInputStream zis = new ZipInputStream(wf)) {
             ZipEntry ze = zis.getNextEntry();
             while (ze != null) {
                 String fileName = ze.getName();
-                Path newFile = dir.resolve(fileName);
-                if (!newFile.normalize().startsWith(dir.normalize())) {
-                    throw new IOException("Bad zip entry");
-                }
-                if (ze.isDirectory()) {
-                    Files.createDirectories(newFile);
-                } else {
-                    // Create any parent directories that may be required before the copy
-                    final Path parent = newFile.getParent();
-                    if (parent != null && Files.notExists(parent)) {
-                        Files.createDirectories(parent);
-                    }
-                    Files.copy(zis, newFile, StandardCopyOption.REPLACE_EXISTING);
-                    if (!isWindows && newFile.getFileName().toString().endsWith(".sh")) {
-                        Files.setPosixFilePermissions(newFile, EXECUTE_PERMISSIONS);
-                    }
+                if (skip != null && skip.test(fileName)) {
+                    zis.closeEntry();
+                    ze = zis.getNextEntry();
+                    continue;
                 }
+                extractEntry(zis, fileName, ze.isDirectory(), dir, isWindows);
                 zis.closeEntry();
                 ze = zis.getNextEntry();
             }
         }
     }
 
+    /**
+     * Installs the server without extracting the module jars, they are extracted by the {@link OnDemandModuleLoader}
+     * when the module using them is loaded. If the bootable JAR stores the server zip without compressing it, the server
+     * zip is read in place from the bootable JAR. Otherwise it can't be read from randomly, and is copied as is to the
+     * install directory to be read from.
+     */
+    private static void installOnDemand(InputStream wf, Path dir) throws Exception {
+        boolean isWindows = isWindows();
+        Files.createDirectories(dir);
+        final Path bootableJar = getBootableJar();
+        ServerZip serverZip = bootableJar == null ? null : ServerZip.openStored(bootableJar, WILDFLY_ZIP);
+        if (serverZip != null) {
+            System.setProperty(OnDemandModuleLoader.SERVER_ZIP_PROP, bootableJar.toAbsolutePath().toString());
+            System.setProperty(OnDemandModuleLoader.SERVER_ZIP_ENTRY_PROP, WILDFLY_ZIP);
+        } else {
+            final Path copy = dir.resolve(WILDFLY_ZIP);
+            Files.copy(wf, copy, StandardCopyOption.REPLACE_EXISTING);
+            serverZip = ServerZip.open(copy);
+            System.setProperty(OnDemandModuleLoader.SERVER_ZIP_PROP, copy.toAbsolutePath().toString());
+        }
+        try (ServerZip zip = serverZip) {
+            for (ServerZip.Entry entry : zip.entries()) {
+                if (!isExtractedOnDemand(entry.getName())) {
+                    try (InputStream in = zip.getInputStream(entry)) {
+                        extractEntry(in, entry.getName(), entry.isDirectory(), dir, isWindows);
+                    }
+                }
+            }
+        }
+        System.setProperty(SYSPROP_KEY_BOOT_MODULE_LOADER, OnDemandModuleLoader.class.getName());
+    }
+
+    /**
+     * Gets the bootable JAR file containing the server zip.
+     *
+     * @return the file, or {@code null} if the server zip is not a resource of a JAR file
+     */
+    private static Path getBootableJar() throws Exception {
+        final URL url = Main.class.getResource(WILDFLY_RESOURCE);
+        if (url == null || !"jar".equals(url.getProtocol())) {
+            return null;
+        }
+        final String spec = url.getPath();
+        final int separator = spec.indexOf("!/");
+        if (separator == -1 || !spec.startsWith("file:")) {
+            return null;
+        }
+        return Paths.get(new URL(spec.substring(0, separator)).toURI());
+    }
+
+    private static boolean isExtractedOnDemand(String entryName) {
+        // The modules used to run the CLI boot script are loaded from the file system by the server
+        return entryName.startsWith(JBOSS_MODULES_DIR_NAME + "/") && entryName.endsWith(".jar")
+                && !entryName.contains("/org/jboss/as/cli/main/") && !entryName.contains("/org/aesh/main/");
+    }
+
+    private static void extractEntry(InputStream in, String name, boolean directory, Path dir, boolean isWindows) throws IOException {
+        Path newFile = dir.resolve(name);
+        if (!newFile.normalize().startsWith(dir.normalize())) {
+            throw new IOException("Bad zip entry");
+        }
+        if (directory) {
+            Files.createDirectories(newFile);
+        } else {
+            // Create any parent directories that may be required before the copy
+            final Path parent = newFile.getParent();
+            if (parent != null && Files.notExists(parent)) {
+                Files.createDirectories(parent);
+            }
+            Files.copy(in, newFile, StandardCopyOption.REPLACE_EXISTING);
+            if (!isWindows && newFile.getFileName().toString().endsWith(".sh")) {
+                Files.setPosixFilePermissions(newFile, EXECUTE_PERMISSIONS);
+            }
+        }
+    }
+
     private static boolean isWindows() {
         return System.getProperty("os.name").toLowerCase(Locale.ENGLISH).contains("windows");
     }
@@ -0,0 +1,192 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.core.jar.boot;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.jar.JarFile;
+
+import org.jboss.modules.JDKModuleFinder;
+import org.jboss.modules.ModuleFinder;
+import org.jboss.modules.ModuleLoadException;
+import org.jboss.modules.ModuleLoader;
+import org.jboss.modules.ModuleSpec;
+import org.jboss.modules.ResourceLoader;
+import org.jboss.modules.ResourceLoaders;
+import org.jboss.modules.xml.ModuleXmlParser;
+
+/**
+ * A module loader for a server installation whose module resource roots have not been extracted. The module
+ * descriptors are read from the installation directory, the resource roots they reference are extracted from the
+ * server zip the first time the module is loaded. Modules which are never loaded are never written to disk.
+ * <p>
+ * Installed as the JBoss Modules boot module loader, it is configured through the {@code module.path} system property
+ * and the {@value #SERVER_ZIP_PROP} system property, which points to the server zip. If the
+ * {@value #SERVER_ZIP_ENTRY_PROP} system property is set, the server zip is read in place from that entry of the file,
+ * i.e. of the bootable JAR.
+ * </p>
+ * <p>
+ * The resource roots have to be extracted to be loaded, as JBoss Modules can only load jars from files.
+ * </p>
+ */
+public final class OnDemandModuleLoader extends ModuleLoader {
+
+    static final String SERVER_ZIP_PROP = "org.wildfly.core.jar.boot.server.zip";
+    static final String SERVER_ZIP_ENTRY_PROP = "org.wildfly.core.jar.boot.server.zip.entry";
+
+    public OnDemandModuleLoader() throws IOException {
+        super(new ModuleFinder[] {
+                new OnDemandModuleFinder(new File(System.getProperty("module.path")), openServerZip()),
+                JDKModuleFinder.getInstance()
+        });
+    }
+
+    private static ServerZip openServerZip() throws IOException {
+        final Path file = Paths.get(System.getProperty(SERVER_ZIP_PROP));
+        final String entry = System.getProperty(SERVER_ZIP_ENTRY_PROP);
+        if (entry == null) {
+            return ServerZip.open(file);
+        }
+        final ServerZip serverZip = ServerZip.openStored(file, entry);
+        if (serverZip == null) {
+            throw new IOException("No stored entry " + entry + " in " + file);
+        }
+        return serverZip;
+    }
+
+    @Override
+    public String toString() {
+        return "on demand module loader @" + Integer.toHexString(hashCode());
+    }
+
+    private static final class OnDemandModuleFinder implements ModuleFinder, ModuleXmlParser.ResourceRootFactory {
+
+        private final File installDir;
+        private final File[] roots;
+        private final ServerZip serverZip;
+
+        OnDemandModuleFinder(final File modulesDir, final ServerZip serverZip) throws IOException {
+            this.installDir = modulesDir.getAbsoluteFile().getParentFile();
+            this.roots = resolveLayeredModulePath(modulesDir.getAbsoluteFile());
+            this.serverZip = serverZip;
+        }
+
+        @Override
+        public ModuleSpec findModule(final String name, final ModuleLoader delegateLoader) throws ModuleLoadException {
+            final String path = toPathString(name);
+            for (File root : roots) {
+                final File moduleXml = new File(root, path + File.separator + "module.xml");
+                if (moduleXml.isFile()) {
+                    try (InputStream in = new FileInputStream(moduleXml)) {
+                        return ModuleXmlParser.parseModuleXml(this, moduleXml.getParent(), in, moduleXml.getPath(), delegateLoader, name);
+                    } catch (IOException e) {
+                        throw new ModuleLoadException("Failed to read " + moduleXml, e);
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public ResourceLoader createResourceLoader(final String rootPath, final String loaderPath, final String loaderName) throws IOException {
+            final File file = new File(rootPath, loaderPath);
+            if (!file.exists()) {
+                extract(file);
+            }
+            if (file.isDirectory()) {
+                return ResourceLoaders.createFileResourceLoader(loaderName, file);
+            }
+            return ResourceLoaders.createJarResourceLoader(loaderName, new JarFile(file, true));
+        }
+
+        private synchronized void extract(final File file) throws IOException {
+            if (file.exists()) {
+                // Another module referencing the same resource root got there first
+                return;
+            }
+            final String entryName = installDir.toPath().relativize(file.getAbsoluteFile().toPath()).toString().replace(File.separatorChar, '/');
+            final ServerZip.Entry entry = serverZip.getEntry(entryName);
+            if (entry == null) {
+                // An exploded resource root, these are extracted with the module descriptors
+                throw new IOException("No resource root " + entryName + " in " + serverZip.getName());
+            }
+            final Path target = file.toPath();
+            final Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+            try (InputStream in = serverZip.getInputStream(entry)) {
+                Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        private static String toPathString(final String moduleName) {
+            final int idx = moduleName.lastIndexOf(':');
+            final String name;
+            final String slot;
+            if (idx == -1) {
+                name = moduleName;
+                slot = "main";
+            } else {
+                name = moduleName.substring(0, idx);
+                slot = moduleName.substring(idx + 1);
+            }
+            return name.replace('.', File.separatorChar) + File.separatorChar + slot;
+        }
+
+        /**
+         * Resolves the layers and add-ons of the module root, the same way JBoss Modules does for a local module path.
+         * Bootable JARs don't support patching, so overlays are not taken into account.
+         */
+        private static File[] resolveLayeredModulePath(final File modulesDir) throws IOException {
+            final List<File> path = new ArrayList<>();
+            path.add(modulesDir);
+            List<String> layers = Collections.singletonList("base");
+            final File layersConf = new File(modulesDir, "layers.conf");
+            if (layersConf.isFile()) {
+                try (Reader reader = new InputStreamReader(new FileInputStream(layersConf), StandardCharsets.UTF_8)) {
+                    final Properties props = new Properties();
+                    props.load(reader);
+                    final String layersProp = props.getProperty("layers");
+                    layers = new ArrayList<>();
+                    if (layersProp != null) {
+                        for (String layer : layersProp.split(",")) {
+                            if (!layer.trim().isEmpty()) {
+                                layers.add(layer.trim());
+                            }
+                        }
+                    }
+                    if (!Boolean.parseBoolean(props.getProperty("exclude.base.layer", "false"))) {
+                        layers.add("base");
+                    }
+                }
+            }
+            final File layersDir = new File(modulesDir, "system" + File.separator + "layers");
+            for (String layer : layers) {
+                final File layerDir = new File(layersDir, layer);
+                if (layerDir.isDirectory()) {
+                    path.add(layerDir);
+                }
+            }
+            final File[] addOns = new File(modulesDir, "system" + File.separator + "add-ons").listFiles(File::isDirectory);
+            if (addOns != null) {
+                Collections.addAll(path, addOns);
+            }
+            return path.toArray(new File[0]);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.core.jar.boot;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+
+/**
+ * The server zip, read in place from a range of a file: either a whole zip file, or the data of an entry the bootable
+ * JAR stores without compression. The entries are read from the central directory of the zip, and their content
+ * straight from the file, so that the server zip doesn't have to be copied to be read from.
+ * <p>
+ * {@link java.util.zip.ZipFile} can't be used as it can only read whole files, nor can the zip file system, which needs
+ * a seekable channel the zip file system of the bootable JAR doesn't provide for its entries. Every offset read from the
+ * zip is checked against the range of the zip, so that a corrupt zip fails with an {@link IOException} rather than
+ * reading outside of it.
+ * </p>
+ */
+final class ServerZip implements Closeable {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int END_SIZE = 22;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final long U32_MAX = 0xFFFFFFFFL;
+
+    private final String name;
+    private final FileChannel channel;
+    private final long base;
+    private final long length;
+    private final Map<String, Entry> entries;
+
+    private ServerZip(String name, FileChannel channel, long base, long length) throws IOException {
+        this.name = name;
+        this.channel = channel;
+        this.base = base;
+        this.length = length;
+        this.entries = readCentralDirectory(length);
+    }
+
+    /**
+     * Opens a zip file.
+     */
+    static ServerZip open(Path zip) throws IOException {
+        final FileChannel channel = FileChannel.open(zip, StandardOpenOption.READ);
+        try {
+            return new ServerZip(zip.toString(), channel, 0, channel.size());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a zip stored as an entry of another zip file.
+     *
+     * @param outer the zip file containing the zip
+     * @param entryName the name of the entry of the zip
+     * @return the zip, or {@code null} if there is no such entry or it is compressed, its content then can't be read in
+     * place
+     */
+    static ServerZip openStored(Path outer, String entryName) throws IOException {
+        final FileChannel channel = FileChannel.open(outer, StandardOpenOption.READ);
+        try {
+            final ServerZip outerZip = new ServerZip(outer.toString(), channel, 0, channel.size());
+            final Entry entry = outerZip.getEntry(entryName);
+            if (entry == null || entry.method != ZipEntry.STORED) {
+                channel.close();
+                return null;
+            }
+            return new ServerZip(outer + "!/" + entryName, channel, outerZip.dataOffset(entry), entry.compressedSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Collection<Entry> entries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    Entry getEntry(String entryName) {
+        return entries.get(entryName);
+    }
+
+    InputStream getInputStream(Entry entry) throws IOException {
+        final InputStream in = new RangeInputStream(dataOffset(entry), entry.compressedSize);
+        switch (entry.method) {
+            case ZipEntry.STORED:
+                return in;
+            case ZipEntry.DEFLATED:
+                return new EntryInflaterInputStream(in);
+            default:
+                throw new IOException("Unsupported compression method " + entry.method + " of " + entry.name + " in " + name);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long dataOffset(Entry entry) throws IOException {
+        final ByteBuffer header = read(entry.headerOffset, 30);
+        if (header.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+            throw new IOException("Invalid local header of " + entry.name + " in " + name);
+        }
+        // The sizes of the local header are left out when they follow the data, in a data descriptor, so the ones of
+        // the central directory are always used
+        final long offset = entry.headerOffset + 30 + (header.getShort(26) & 0xFFFF) + (header.getShort(28) & 0xFFFF);
+        if (offset > length - entry.compressedSize) {
+            throw new IOException("Invalid size of " + entry.name + " in " + name);
+        }
+        return offset;
+    }
+
+    private Map<String, Entry> readCentralDirectory(long length) throws IOException {
+        // The end of central directory record is followed by a comment of up to 64K
+        final int tailSize = (int) Math.min(length, END_SIZE + MAX_COMMENT_SIZE);
+        final ByteBuffer tail = read(length - tailSize, tailSize);
+        int end = -1;
+        for (int i = tailSize - END_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) == END_SIGNATURE) {
+                end = i;
+                break;
+            }
+        }
+        if (end == -1) {
+            throw new IOException("No central directory in " + name);
+        }
+        long count = tail.getShort(end + 10) & 0xFFFF;
+        long directorySize = tail.getInt(end + 12) & U32_MAX;
+        long directoryOffset = tail.getInt(end + 16) & U32_MAX;
+        final long locatorOffset = length - tailSize + end - ZIP64_LOCATOR_SIZE;
+        if (locatorOffset >= 0 && read(locatorOffset, 4).getInt(0) == ZIP64_LOCATOR_SIGNATURE) {
+            final long zip64End = read(locatorOffset + 8, 8).getLong(0);
+            final ByteBuffer record = read(zip64End, 56);
+            if (record.getInt(0) != ZIP64_END_SIGNATURE) {
+                throw new IOException("Invalid zip64 end of central directory in " + name);
+            }
+            count = record.getLong(32);
+            directorySize = record.getLong(40);
+            directoryOffset = record.getLong(48);
+        }
+
+        if (directorySize < 0 || directorySize > Integer.MAX_VALUE) {
+            throw new IOException("Invalid central directory in " + name);
+        }
+        final ByteBuffer directory = read(directoryOffset, (int) directorySize);
+        final Map<String, Entry> result = new LinkedHashMap<>();
+        int position = 0;
+        for (long i = 0; i < count; i++) {
+            if (position > directorySize - 46 || directory.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                throw new IOException("Invalid central directory in " + name);
+            }
+            final int method = directory.getShort(position + 10) & 0xFFFF;
+            long compressedSize = directory.getInt(position + 20) & U32_MAX;
+            long size = directory.getInt(position + 24) & U32_MAX;
+            final int nameLength = directory.getShort(position + 28) & 0xFFFF;
+            final int extraLength = directory.getShort(position + 30) & 0xFFFF;
+            final int commentLength = directory.getShort(position + 32) & 0xFFFF;
+            long headerOffset = directory.getInt(position + 42) & U32_MAX;
+            if (position + 46L + nameLength + extraLength + commentLength > directorySize) {
+                throw new IOException("Invalid central directory in " + name);
+            }
+            final byte[] nameBytes = new byte[nameLength];
+            directory.position(position + 46);
+            directory.get(nameBytes);
+            // The zip64 extra field holds the values which don't fit, in this order
+            int extra = position + 46 + nameLength;
+            final int extraEnd = extra + extraLength;
+            while (extra + 4 <= extraEnd) {
+                final int id = directory.getShort(extra) & 0xFFFF;
+                final int dataSize = directory.getShort(extra + 2) & 0xFFFF;
+                if (id == ZIP64_EXTRA_ID) {
+                    int field = extra + 4;
+                    final int fieldEnd = Math.min(field + dataSize, extraEnd);
+                    if (size == U32_MAX) {
+                        size = readZip64Field(directory, field, fieldEnd);
+                        field += 8;
+                    }
+                    if (compressedSize == U32_MAX) {
+                        compressedSize = readZip64Field(directory, field, fieldEnd);
+                        field += 8;
+                    }
+                    if (headerOffset == U32_MAX) {
+                        headerOffset = readZip64Field(directory, field, fieldEnd);
+                    }
+                }
+                extra += 4 + dataSize;
+            }
+            final String entryName = new String(nameBytes, StandardCharsets.UTF_8);
+            if (size < 0 || compressedSize < 0) {
+                throw new IOException("Invalid size of " + entryName + " in " + name);
+            }
+            result.put(entryName, new Entry(entryName, method, compressedSize, size, headerOffset));
+            position += 46 + nameLength + extraLength + commentLength;
+        }
+        return result;
+    }
+
+    private long readZip64Field(ByteBuffer directory, int field, int fieldEnd) throws IOException {
+        if (field + 8 > fieldEnd) {
+            throw new IOException("Invalid zip64 extra field in " + name);
+        }
+        return directory.getLong(field);
+    }
+
+    private ByteBuffer read(long offset, int size) throws IOException {
+        if (offset < 0 || offset > length - size) {
+            throw new IOException("Invalid offset " + offset + " in " + name);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, base + offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of " + name);
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * An entry of the zip.
+     */
+    static final class Entry {
+
+        private final String name;
+        private final int method;
+        private final long compressedSize;
+        private final long size;
+        private final long headerOffset;
+
+        private Entry(String name, int method, long compressedSize, long size, long headerOffset) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.headerOffset = headerOffset;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        boolean isDirectory() {
+            return name.endsWith("/");
+        }
+
+        long getSize() {
+            return size;
+        }
+    }
+
+    /**
+     * Inflates raw deflate data, the way {@link java.util.zip.ZipFile} does.
+     */
+    private static final class EntryInflaterInputStream extends InflaterInputStream {
+
+        private boolean eof;
+
+        EntryInflaterInputStream(InputStream in) {
+            super(in, new Inflater(true));
+        }
+
+        @Override
+        protected void fill() throws IOException {
+            if (eof) {
+                throw new EOFException("Unexpected end of ZLIB input stream");
+            }
+            len = in.read(buf, 0, buf.length);
+            if (len == -1) {
+                // The inflater needs an extra dummy byte when the zlib header and checksum are omitted
+                buf[0] = 0;
+                len = 1;
+                eof = true;
+            }
+            inf.setInput(buf, 0, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            inf.end();
+        }
+    }
+
+    private final class RangeInputStream extends InputStream {
+
+        private long position;
+        private final long end;
+
+        RangeInputStream(long offset, long length) {
+            this.position = offset;
+            this.end = offset + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            final int count = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), base + position);
+            if (count < 0) {
+                throw new IOException("Unexpected end of " + name);
+            }
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, end - position);
+        }
+    }
+}
@@ -4,6 +4,25 @@
  */
 package org.wildfly.core.jar.boot;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 /**
@@ -12,6 +31,25 @@ import org.junit.Test;
  */
 public class MainTestCase {
 
+    private static final String MODULE_JAR = "modules/system/layers/base/org/test/main/test.jar";
+    private static final String MODULES_JAR = "jboss-modules.jar";
+    private static final String CONFIG = "standalone/configuration/standalone.xml";
+    private static final String FINGERPRINT = "bootable.jar:1234:5678";
+
+    private Path dir;
+
+    @Before
+    public void createDir() throws IOException {
+        dir = Files.createTempDirectory("install-dir");
+    }
+
+    @After
+    public void deleteDir() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(p -> p.toFile().delete());
+        }
+    }
+
     // test that missing zipped server fails.
     @Test
     public void test() throws Exception {
@@ -27,4 +65,118 @@ public class MainTestCase {
             throw new Exception("Test should have failed");
         }
     }
+
+    private static byte[] serverZip(String version) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (String name : new String[] {MODULE_JAR, MODULES_JAR, CONFIG}) {
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write((name + " " + version).getBytes(UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private void install(String version, String fingerprint) throws Exception {
+        Main.installReusable(new ByteArrayInputStream(serverZip(version)), dir, fingerprint);
+    }
+
+    private String read(String name) throws IOException {
+        return new String(Files.readAllBytes(dir.resolve(name)), UTF_8);
+    }
+
+    private void write(String name, String content) throws IOException {
+        final Path file = dir.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(UTF_8));
+    }
+
+    @Test
+    public void testFingerprintMarker() throws Exception {
+        install("1", FINGERPRINT);
+        assertEquals(MODULE_JAR + " 1", read(MODULE_JAR));
+        assertEquals(MODULES_JAR + " 1", read(MODULES_JAR));
+        assertEquals(CONFIG + " 1", read(CONFIG));
+        assertArrayEquals(FINGERPRINT.getBytes(UTF_8), Files.readAllBytes(dir.resolve(Main.INSTALL_MARKER)));
+    }
+
+    @Test
+    public void testUnknownFingerprint() throws Exception {
+        install("1", null);
+        assertEquals(MODULE_JAR + " 1", read(MODULE_JAR));
+        assertFalse(Files.exists(dir.resolve(Main.INSTALL_MARKER)));
+
+        // Never reused
+        install("2", null);
+        assertEquals(MODULE_JAR + " 2", read(MODULE_JAR));
+        assertFalse(Files.exists(dir.resolve(Main.INSTALL_MARKER)));
+    }
+
+    @Test
+    public void testReuseMatchingInstallation() throws Exception {
+        install("1", FINGERPRINT);
+        // What the previous run changed or created
+        write(CONFIG, "changed");
+        write("standalone/data/content", "left behind");
+        write("standalone/tmp/vfs/file", "left behind");
+
+        // The same bootable JAR, so the modules are not extracted again even though the zip differs
+        install("2", FINGERPRINT);
+        assertEquals(MODULE_JAR + " 1", read(MODULE_JAR));
+        assertEquals(MODULES_JAR + " 1", read(MODULES_JAR));
+        // Everything else starts from the packaged content
+        assertEquals(CONFIG + " 2", read(CONFIG));
+        assertFalse(Files.exists(dir.resolve("standalone/data")));
+        assertFalse(Files.exists(dir.resolve("standalone/tmp")));
+        assertArrayEquals(FINGERPRINT.getBytes(UTF_8), Files.readAllBytes(dir.resolve(Main.INSTALL_MARKER)));
+    }
+
+    @Test
+    public void testMismatchedInstallation() throws Exception {
+        install("1", FINGERPRINT);
+        write("modules/system/layers/base/org/removed/main/removed.jar", "stale");
+
+        final String other = "bootable.jar:1234:9999";
+        install("2", other);
+        assertEquals(MODULE_JAR + " 2", read(MODULE_JAR));
+        assertEquals(MODULES_JAR + " 2", read(MODULES_JAR));
+        assertEquals(CONFIG + " 2", read(CONFIG));
+        assertFalse(Files.exists(dir.resolve("modules/system/layers/base/org/removed")));
+        assertArrayEquals(other.getBytes(UTF_8), Files.readAllBytes(dir.resolve(Main.INSTALL_MARKER)));
+    }
+
+    @Test
+    public void testPartialInstallation() throws Exception {
+        // A run interrupted while extracting the modules, before writing the marker
+        write(MODULE_JAR, "truncated");
+        write("modules/system/layers/base/org/other/main/other.jar", "partial");
+
+        install("1", FINGERPRINT);
+        assertEquals(MODULE_JAR + " 1", read(MODULE_JAR));
+        assertEquals(MODULES_JAR + " 1", read(MODULES_JAR));
+        assertFalse(Files.exists(dir.resolve("modules/system/layers/base/org/other")));
+        assertTrue(Files.exists(dir.resolve(Main.INSTALL_MARKER)));
+    }
+
+    @Test
+    public void testInterruptedInstallation() throws Exception {
+        install("1", FINGERPRINT);
+        final InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("interrupted");
+            }
+        };
+        try {
+            Main.installReusable(failing, dir, "bootable.jar:1234:9999");
+            fail("Extraction should have failed");
+        } catch (IOException expected) {
+        }
+        // The marker no longer matches the content left, the next run extracts everything again
+        assertFalse(Files.exists(dir.resolve(Main.INSTALL_MARKER)));
+        install("1", FINGERPRINT);
+        assertEquals(MODULE_JAR + " 1", read(MODULE_JAR));
+        assertArrayEquals(FINGERPRINT.getBytes(UTF_8), Files.readAllBytes(dir.resolve(Main.INSTALL_MARKER)));
+    }
 }
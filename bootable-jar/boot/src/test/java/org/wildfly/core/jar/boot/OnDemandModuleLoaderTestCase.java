@@ -0,0 +1,99 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.core.jar.boot;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jboss.modules.Module;
+import org.jboss.modules.ModuleNotFoundException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link OnDemandModuleLoader}.
+ */
+public class OnDemandModuleLoaderTestCase {
+
+    private static final String MODULE_DIR = "modules/org/test/main/";
+    private static final byte[] MODULE_XML = ("<module xmlns=\"urn:jboss:module:1.9\" name=\"org.test\">" +
+            "<resources><resource-root path=\"test.jar\"/></resources></module>").getBytes(UTF_8);
+
+    private Path installDir;
+
+    @Before
+    public void install() throws IOException {
+        installDir = Files.createTempDirectory("on-demand");
+        // The server zip, installed but for the module jar
+        final Path moduleXml = installDir.resolve(MODULE_DIR + "module.xml");
+        Files.createDirectories(moduleXml.getParent());
+        Files.write(moduleXml, MODULE_XML);
+        Files.write(installDir.resolve("wildfly.zip"),
+                ServerZipTestCase.serverZip(MODULE_DIR + "module.xml", MODULE_XML, MODULE_DIR + "test.jar", jar()));
+        System.setProperty("module.path", installDir.resolve("modules").toString());
+        System.setProperty(OnDemandModuleLoader.SERVER_ZIP_PROP, installDir.resolve("wildfly.zip").toString());
+    }
+
+    @After
+    public void delete() throws IOException {
+        System.clearProperty("module.path");
+        System.clearProperty(OnDemandModuleLoader.SERVER_ZIP_PROP);
+        try (Stream<Path> files = Files.walk(installDir)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    private static byte[] jar() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream jar = new ZipOutputStream(out)) {
+            jar.putNextEntry(new ZipEntry("org/test/hello.txt"));
+            jar.write("hello".getBytes(UTF_8));
+            jar.closeEntry();
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testResourceRootExtractedWhenModuleLoaded() throws Exception {
+        final Path jar = installDir.resolve(MODULE_DIR + "test.jar");
+        final OnDemandModuleLoader loader = new OnDemandModuleLoader();
+        Assert.assertFalse(Files.exists(jar));
+
+        final Module module = loader.loadModule("org.test");
+        Assert.assertTrue(Files.isRegularFile(jar));
+        try (InputStream in = module.getClassLoader().getResourceAsStream("org/test/hello.txt")) {
+            Assert.assertNotNull(in);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[64];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                out.write(buffer, 0, count);
+            }
+            Assert.assertEquals("hello", new String(out.toByteArray(), UTF_8));
+        }
+    }
+
+    @Test
+    public void testUnknownModuleNotExtracted() throws Exception {
+        final OnDemandModuleLoader loader = new OnDemandModuleLoader();
+        try {
+            loader.loadModule("org.missing");
+            Assert.fail("org.missing should not be found");
+        } catch (ModuleNotFoundException expected) {
+            // expected
+        }
+        Assert.assertFalse(Files.exists(installDir.resolve(MODULE_DIR + "test.jar")));
+    }
+}
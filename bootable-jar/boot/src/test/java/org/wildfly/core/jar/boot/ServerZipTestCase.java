@@ -0,0 +1,336 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.core.jar.boot;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ServerZip}.
+ */
+public class ServerZipTestCase {
+
+    private static final byte[] MODULE_XML = "<module name=\"org.test\"/>".getBytes(UTF_8);
+    private static final byte[] JAR = "not really a jar, stored as is".getBytes(UTF_8);
+
+    private Path dir;
+
+    @Before
+    public void createDir() throws IOException {
+        dir = Files.createTempDirectory("server-zip");
+    }
+
+    @After
+    public void deleteDir() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    static byte[] serverZip(String moduleXmlName, byte[] moduleXml, String jarName, byte[] jar) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("modules/"));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry(moduleXmlName));
+            zip.write(moduleXml);
+            zip.closeEntry();
+            zip.putNextEntry(stored(jarName, jar));
+            zip.write(jar);
+            zip.closeEntry();
+        }
+        return out.toByteArray();
+    }
+
+    static ZipEntry stored(String name, byte[] content) {
+        final ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCompressedSize(content.length);
+        final CRC32 crc = new CRC32();
+        crc.update(content);
+        entry.setCrc(crc.getValue());
+        return entry;
+    }
+
+    /**
+     * A zip of a single stored entry whose sizes and offset are all held by zip64 extra fields, with a zip64 end of
+     * central directory record, the way zips larger than 4GB are written.
+     */
+    static byte[] zip64(String name, byte[] content) {
+        final byte[] nameBytes = name.getBytes(UTF_8);
+        final CRC32 crc = new CRC32();
+        crc.update(content);
+        final ByteBuffer zip = ByteBuffer.allocate(1024 + content.length).order(ByteOrder.LITTLE_ENDIAN);
+        // Local header
+        zip.putInt(0x04034b50).putShort((short) 45).putShort((short) 0).putShort((short) ZipEntry.STORED).putInt(0)
+                .putInt((int) crc.getValue()).putInt(-1).putInt(-1).putShort((short) nameBytes.length).putShort((short) 20)
+                .put(nameBytes).putShort((short) 1).putShort((short) 16).putLong(content.length).putLong(content.length)
+                .put(content);
+        // Central directory
+        final int directoryOffset = zip.position();
+        zip.putInt(0x02014b50).putShort((short) 45).putShort((short) 45).putShort((short) 0).putShort((short) ZipEntry.STORED)
+                .putInt(0).putInt((int) crc.getValue()).putInt(-1).putInt(-1).putShort((short) nameBytes.length)
+                .putShort((short) 28).putShort((short) 0).putShort((short) 0).putShort((short) 0).putInt(0).putInt(-1)
+                .put(nameBytes).putShort((short) 1).putShort((short) 24).putLong(content.length).putLong(content.length)
+                .putLong(0);
+        final int directorySize = zip.position() - directoryOffset;
+        // Zip64 end of central directory record and locator
+        final int zip64End = zip.position();
+        zip.putInt(0x06064b50).putLong(44).putShort((short) 45).putShort((short) 45).putInt(0).putInt(0).putLong(1)
+                .putLong(1).putLong(directorySize).putLong(directoryOffset);
+        zip.putInt(0x07064b50).putInt(0).putLong(zip64End).putInt(1);
+        // End of central directory record
+        zip.putInt(0x06054b50).putShort((short) 0).putShort((short) 0).putShort((short) -1).putShort((short) -1)
+                .putInt(-1).putInt(-1).putShort((short) 0);
+        return Arrays.copyOf(zip.array(), zip.position());
+    }
+
+    private Path bootableJar(byte[] serverZip, boolean storeServerZip) throws IOException {
+        final Path jar = dir.resolve("bootable.jar");
+        try (OutputStream out = Files.newOutputStream(jar); ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+            zip.write("Manifest-Version: 1.0\n".getBytes(UTF_8));
+            zip.closeEntry();
+            zip.putNextEntry(storeServerZip ? stored("wildfly.zip", serverZip) : new ZipEntry("wildfly.zip"));
+            zip.write(serverZip);
+            zip.closeEntry();
+        }
+        return jar;
+    }
+
+    private static byte[] read(ServerZip zip, String name) throws IOException {
+        final ServerZip.Entry entry = zip.getEntry(name);
+        Assert.assertNotNull(name, entry);
+        try (InputStream in = zip.getInputStream(entry)) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[7];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static void assertServerZip(ServerZip zip) throws IOException {
+        final List<String> names = new ArrayList<>();
+        for (ServerZip.Entry entry : zip.entries()) {
+            names.add(entry.getName());
+        }
+        Assert.assertEquals(Arrays.asList("modules/", "modules/org/test/main/module.xml", "modules/org/test/main/test.jar"), names);
+        Assert.assertTrue(zip.getEntry("modules/").isDirectory());
+        Assert.assertEquals(MODULE_XML.length, zip.getEntry("modules/org/test/main/module.xml").getSize());
+        Assert.assertArrayEquals(MODULE_XML, read(zip, "modules/org/test/main/module.xml"));
+        Assert.assertArrayEquals(JAR, read(zip, "modules/org/test/main/test.jar"));
+        Assert.assertNull(zip.getEntry("modules/org/other/main/module.xml"));
+    }
+
+    @Test
+    public void testZipFile() throws IOException {
+        final Path file = dir.resolve("wildfly.zip");
+        Files.write(file, serverZip("modules/org/test/main/module.xml", MODULE_XML, "modules/org/test/main/test.jar", JAR));
+        try (ServerZip zip = ServerZip.open(file)) {
+            assertServerZip(zip);
+        }
+    }
+
+    @Test
+    public void testStoredZipReadInPlace() throws IOException {
+        final Path jar = bootableJar(serverZip("modules/org/test/main/module.xml", MODULE_XML, "modules/org/test/main/test.jar", JAR), true);
+        try (ServerZip zip = ServerZip.openStored(jar, "wildfly.zip")) {
+            Assert.assertNotNull(zip);
+            assertServerZip(zip);
+        }
+    }
+
+    @Test
+    public void testCompressedZipNotReadInPlace() throws IOException {
+        final Path jar = bootableJar(serverZip("modules/org/test/main/module.xml", MODULE_XML, "modules/org/test/main/test.jar", JAR), false);
+        Assert.assertNull(ServerZip.openStored(jar, "wildfly.zip"));
+        Assert.assertNull(ServerZip.openStored(jar, "missing.zip"));
+    }
+
+    @Test
+    public void testZip64Entry() throws IOException {
+        final byte[] zip64 = zip64("modules/org/test/main/test.jar", JAR);
+        final Path file = dir.resolve("wildfly.zip");
+        Files.write(file, zip64);
+        // The zip is valid
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            Assert.assertEquals(JAR.length, zip.getEntry("modules/org/test/main/test.jar").getSize());
+        }
+        try (ServerZip zip = ServerZip.open(file)) {
+            Assert.assertEquals(JAR.length, zip.getEntry("modules/org/test/main/test.jar").getSize());
+            Assert.assertArrayEquals(JAR, read(zip, "modules/org/test/main/test.jar"));
+        }
+        try (ServerZip zip = ServerZip.openStored(bootableJar(zip64, true), "wildfly.zip")) {
+            Assert.assertArrayEquals(JAR, read(zip, "modules/org/test/main/test.jar"));
+        }
+    }
+
+    @Test
+    public void testZip64Directory() throws IOException {
+        // More entries than the end of central directory record can count
+        final int count = 0x10000 + 10;
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < count; i++) {
+                zip.putNextEntry(new ZipEntry("modules/" + i + "/"));
+                zip.closeEntry();
+            }
+            zip.putNextEntry(new ZipEntry("modules/org/test/main/module.xml"));
+            zip.write(MODULE_XML);
+            zip.closeEntry();
+        }
+        try (ServerZip zip = ServerZip.openStored(bootableJar(out.toByteArray(), true), "wildfly.zip")) {
+            Assert.assertEquals(count + 1, zip.entries().size());
+            Assert.assertTrue(zip.getEntry("modules/" + (count - 1) + "/").isDirectory());
+            Assert.assertArrayEquals(MODULE_XML, read(zip, "modules/org/test/main/module.xml"));
+        }
+    }
+
+    @Test
+    public void testDataDescriptor() throws IOException {
+        final byte[] serverZip = serverZip("modules/org/test/main/module.xml", MODULE_XML, "modules/org/test/main/test.jar", JAR);
+        final ByteBuffer buffer = ByteBuffer.wrap(serverZip).order(ByteOrder.LITTLE_ENDIAN);
+        // The deflated entry, after the "modules/" one, has its sizes and CRC in a data descriptor following its data,
+        // the local header only holds zeros
+        final int header = buffer.getInt(centralHeader(serverZip, 1) + 42);
+        Assert.assertEquals(0x04034b50, buffer.getInt(header));
+        Assert.assertEquals(0x08, buffer.getShort(header + 6) & 0x08);
+        Assert.assertEquals(0, buffer.getInt(header + 18));
+        Assert.assertEquals(0, buffer.getInt(header + 22));
+        try (ServerZip zip = ServerZip.openStored(bootableJar(serverZip, true), "wildfly.zip")) {
+            Assert.assertEquals(MODULE_XML.length, zip.getEntry("modules/org/test/main/module.xml").getSize());
+            Assert.assertArrayEquals(MODULE_XML, read(zip, "modules/org/test/main/module.xml"));
+        }
+    }
+
+    private static int endOfCentralDirectory(byte[] zip) {
+        // The zips of these tests have no comment
+        return zip.length - 22;
+    }
+
+    private static int centralHeader(byte[] zip, int index) {
+        final ByteBuffer buffer = ByteBuffer.wrap(zip).order(ByteOrder.LITTLE_ENDIAN);
+        int position = buffer.getInt(endOfCentralDirectory(zip) + 16);
+        for (int i = 0; i < index; i++) {
+            position += 46 + (buffer.getShort(position + 28) & 0xFFFF) + (buffer.getShort(position + 30) & 0xFFFF)
+                    + (buffer.getShort(position + 32) & 0xFFFF);
+        }
+        return position;
+    }
+
+    private void assertCorrupt(byte[] serverZip) throws IOException {
+        final Path file = dir.resolve("wildfly.zip");
+        Files.write(file, serverZip);
+        try (ServerZip zip = ServerZip.open(file)) {
+            Assert.fail("Opened corrupt zip " + zip.getName());
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void testCorruptDirectoryOffset() throws IOException {
+        final byte[] serverZip = serverZip("modules/org/test/main/module.xml", MODULE_XML, "modules/org/test/main/test.jar", JAR);
+        final ByteBuffer buffer = ByteBuffer.wrap(serverZip).order(ByteOrder.LITTLE_ENDIAN);
+        final int end = endOfCentralDirectory(serverZip);
+        buffer.putInt(end + 16, serverZip.length);
+        assertCorrupt(serverZip);
+        buffer.putInt(end + 16, -1);
+        assertCorrupt(serverZip);
+    }
+
+    @Test
+    public void testCorruptDirectorySize() throws IOException {
+        final byte[] serverZip = serverZip("modules/org/test/main/module.xml", MODULE_XML, "modules/org/test/main/test.jar", JAR);
+        final ByteBuffer buffer = ByteBuffer.wrap(serverZip).order(ByteOrder.LITTLE_ENDIAN);
+        final int end = endOfCentralDirectory(serverZip);
+        // More entries than the central directory holds
+        buffer.putShort(end + 10, (short) 4);
+        assertCorrupt(serverZip);
+        // An entry name running past the central directory
+        buffer.putShort(end + 10, (short) 3);
+        buffer.putShort(centralHeader(serverZip, 2) + 28, (short) 0x1000);
+        assertCorrupt(serverZip);
+    }
+
+    @Test
+    public void testCorruptZip64Extra() throws IOException {
+        final byte[] zip64 = zip64("modules/org/test/main/test.jar", JAR);
+        // The extra field is too short for the values it should hold, the central directory follows the local header
+        // and the data of the only entry
+        final int header = 30 + 30 + 20 + JAR.length;
+        ByteBuffer.wrap(zip64).order(ByteOrder.LITTLE_ENDIAN).putShort(header + 46 + 30 + 2, (short) 16);
+        final Path file = dir.resolve("wildfly.zip");
+        Files.write(file, zip64);
+        try (ServerZip zip = ServerZip.open(file)) {
+            Assert.fail("Opened corrupt zip " + zip.getName());
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void testCorruptHeaderOffset() throws IOException {
+        final byte[] serverZip = serverZip("modules/org/test/main/module.xml", MODULE_XML, "modules/org/test/main/test.jar", JAR);
+        // The local header of the stored jar is past the end of the server zip, in the central directory of the
+        // bootable JAR, which must not be read as part of the server zip
+        ByteBuffer.wrap(serverZip).order(ByteOrder.LITTLE_ENDIAN).putInt(centralHeader(serverZip, 2) + 42, serverZip.length + 16);
+        try (ServerZip zip = ServerZip.openStored(bootableJar(serverZip, true), "wildfly.zip")) {
+            Assert.assertArrayEquals(MODULE_XML, read(zip, "modules/org/test/main/module.xml"));
+            try {
+                read(zip, "modules/org/test/main/test.jar");
+                Assert.fail("Read corrupt entry");
+            } catch (IOException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void testCorruptEntrySize() throws IOException {
+        final byte[] serverZip = serverZip("modules/org/test/main/module.xml", MODULE_XML, "modules/org/test/main/test.jar", JAR);
+        // The stored jar runs past the end of the server zip
+        final int header = centralHeader(serverZip, 2);
+        final ByteBuffer buffer = ByteBuffer.wrap(serverZip).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(header + 20, serverZip.length);
+        buffer.putInt(header + 24, serverZip.length);
+        try (ServerZip zip = ServerZip.openStored(bootableJar(serverZip, true), "wildfly.zip")) {
+            try {
+                read(zip, "modules/org/test/main/test.jar");
+                Assert.fail("Read corrupt entry");
+            } catch (IOException expected) {
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotAZip() throws IOException {
+        final Path file = dir.resolve("wildfly.zip");
+        Files.write(file, JAR);
+        ServerZip.open(file).close();
+    }
+}
@@ -120,9 +120,11 @@ public final class BootableJar implements ShutdownHandler {
         configureLogger();
         // Some traces to log could have been captured during args handling
         arguments.logArgumentsHandling(log);
+        log.startupStage("server installation", unzipTime);
         long t = System.currentTimeMillis();
         if (arguments.getDeployment() != null) {
             setupDeployment(arguments.getDeployment());
+            log.startupStage("deployment installation", System.currentTimeMillis() - t);
         }
         if (cmds != null && !cmds.isEmpty()) {
             cliScript = Files.createTempFile("boot-config", null);
@@ -294,7 +296,9 @@ public final class BootableJar implements ShutdownHandler {
         } else {
             throw log.pidFileAlreadyExists(pidFile, environment.getJBossHome());
         }
+        final long t = System.currentTimeMillis();
         server.start();
+        log.startupStage("server boot", System.currentTimeMillis() - t);
     }
 
     private Server buildServer(List<String> args) throws IOException {
@@ -43,6 +43,12 @@ final class CmdUsage extends CommandLineArgumentUsage {
         instructions.add(BootableJarLogger.ROOT_LOGGER.argInstallation());
         addArguments(Constants.INSTALL_DIR_ARG + "=<value>");
 
+        addArguments(Constants.REUSE_INSTALL_DIR_ARG);
+        instructions.add(BootableJarLogger.ROOT_LOGGER.argReuseInstallation());
+
+        addArguments(Constants.ON_DEMAND_MODULES_ARG);
+        instructions.add(BootableJarLogger.ROOT_LOGGER.argOnDemandModules());
+
         addArguments(CommandLineConstants.PROPERTIES + "=<url>");
         instructions.add(BootableJarLogger.ROOT_LOGGER.argProperties());
 
@@ -12,6 +12,8 @@ interface Constants {
 
     static final String DEPLOYMENT_ARG = "--deployment";
     static final String INSTALL_DIR_ARG = "--install-dir";
+    static final String REUSE_INSTALL_DIR_ARG = "--reuse-install-dir";
+    static final String ON_DEMAND_MODULES_ARG = "--on-demand-modules";
     static final String DISPLAY_GALLEON_CONFIG_ARG = "--display-galleon-config";
     static final String CLI_SCRIPT_ARG = "--cli-script";
 
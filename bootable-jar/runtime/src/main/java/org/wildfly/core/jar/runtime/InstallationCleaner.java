@@ -26,6 +26,10 @@ import org.wildfly.core.jar.runtime._private.BootableJarLogger;
  * If the {@code org.wildfly.core.jar.cleanup.newProcess} system property is set to {@code true}, the default for Windows,
  * a new process will be launched to delete the install directory.
  * </p>
+ * <p>
+ * If the install directory is reused between runs, the {@code modules} directory, {@code jboss-modules.jar} and the
+ * install marker are kept and the rest of the directory content is deleted in the current process.
+ * </p>
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
@@ -36,6 +40,7 @@ class InstallationCleaner implements Runnable {
     private final boolean newProcess;
     private final int retries;
     private final boolean alreadyRunning;
+    private final boolean reuseInstallDir;
 
     InstallationCleaner(final BootableEnvironment environment, final BootableJarLogger logger) throws IOException {
         this.environment = environment;
@@ -45,7 +50,9 @@ class InstallationCleaner implements Runnable {
             Files.createFile(cleanupMarker);
         }
         this.logger = logger;
-        newProcess = getProperty("org.wildfly.core.jar.cleanup.newProcess", environment.isWindows());
+        reuseInstallDir = getProperty("org.wildfly.core.jar.reuse.install.dir", false);
+        // The files likely to be locked are the module jars, which are kept when reusing the install directory
+        newProcess = !reuseInstallDir && getProperty("org.wildfly.core.jar.cleanup.newProcess", environment.isWindows());
         retries = getProperty("org.wildfly.core.jar.cleanup.retries", 3);
     }
 
@@ -113,9 +120,20 @@ class InstallationCleaner implements Runnable {
 
     private void deleteDirectory() throws IOException {
         final Path installDir = environment.getJBossHome();
+        final Path modulesDir = installDir.resolve("modules");
+        final Path modulesJar = installDir.resolve("jboss-modules.jar");
+        final Path installMarker = installDir.resolve("wildfly-install-marker");
         Files.walkFileTree(installDir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                return reuseInstallDir && dir.equals(modulesDir) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
             @Override
             public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                if (reuseInstallDir && (file.equals(modulesJar) || file.equals(installMarker))) {
+                    return FileVisitResult.CONTINUE;
+                }
                 try {
                     // Don't delete the cleanup marker until we're ready to delete the directory
                     if (!file.equals(cleanupMarker)) {
@@ -133,6 +151,9 @@ class InstallationCleaner implements Runnable {
                     if (dir.equals(installDir)) {
                         // We have to delete the marker before we can delete the directory
                         Files.deleteIfExists(cleanupMarker);
+                        if (reuseInstallDir) {
+                            return FileVisitResult.CONTINUE;
+                        }
                     }
                     Files.delete(dir);
                 } catch (IOException e) {
@@ -161,6 +161,12 @@ public interface BootableJarLogger extends BasicLogger {
     @Message(id = Message.NONE, value = "Path to a CLI script to execute when starting the Bootable JAR")
     String argCliScript();
 
+    @Message(id = Message.NONE, value = "Keep the install directory set with --install-dir between runs. The server modules are only extracted if the directory doesn't already contain the modules of this bootable JAR, the rest of the installation is reset on each run.")
+    String argReuseInstallation();
+
+    @Message(id = Message.NONE, value = "Don't extract the server module jars when installing the server, each is extracted the first time a module using it is loaded.")
+    String argOnDemandModules();
+
     @LogMessage(level = DEBUG)
     @Message(id = 25, value = "Failed to initialize a security provider. Reason: %s")
     void securityProviderFailed(Throwable ex);
@@ -168,4 +174,8 @@ public interface BootableJarLogger extends BasicLogger {
     @LogMessage(level = INFO)
     @Message(id = 26, value = "The JDK_SERIAL_FILTER environment variable is being ignored because the global ObjectInputFilter was already configured by the jdk.serialFilter system or security property")
     void advertiseSerialFilterSet();
+
+    @LogMessage(level = DEBUG)
+    @Message(id = 27, value = "Startup stage '%s' took %sms")
+    void startupStage(String stage, long duration);
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.core.jar.runtime;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.core.jar.runtime._private.BootableJarLogger;
+
+/**
+ * Tests the deletion of the install directory when the server stops.
+ */
+public class InstallationCleanerTestCase {
+
+    private static final String REUSE_INSTALL_DIR_PROP = "org.wildfly.core.jar.reuse.install.dir";
+    private static final String NEW_PROCESS_PROP = "org.wildfly.core.jar.cleanup.newProcess";
+
+    private Path dir;
+
+    @Before
+    public void createInstallation() throws IOException {
+        dir = Files.createTempDirectory("install-dir");
+        for (String name : new String[] {"modules/system/layers/base/org/test/main/test.jar", "jboss-modules.jar",
+                "wildfly-install-marker", "standalone/configuration/standalone.xml", "standalone/data/content"}) {
+            final Path file = dir.resolve(name);
+            Files.createDirectories(file.getParent());
+            Files.write(file, name.getBytes());
+        }
+    }
+
+    @After
+    public void deleteInstallation() throws IOException {
+        System.clearProperty(REUSE_INSTALL_DIR_PROP);
+        System.clearProperty(NEW_PROCESS_PROP);
+        if (Files.exists(dir)) {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    private void cleanup() throws IOException {
+        final BootableEnvironment environment = BootableEnvironment.of(dir, (name, value) -> null);
+        new InstallationCleaner(environment, BootableJarLogger.ROOT_LOGGER).cleanup();
+    }
+
+    @Test
+    public void testDeleteInstallation() throws Exception {
+        System.setProperty(NEW_PROCESS_PROP, "false");
+        cleanup();
+        assertFalse(Files.exists(dir));
+    }
+
+    @Test
+    public void testKeepReusableInstallation() throws Exception {
+        System.setProperty(REUSE_INSTALL_DIR_PROP, "true");
+        cleanup();
+        assertTrue(Files.exists(dir.resolve("modules/system/layers/base/org/test/main/test.jar")));
+        assertTrue(Files.exists(dir.resolve("jboss-modules.jar")));
+        assertTrue(Files.exists(dir.resolve("wildfly-install-marker")));
+        assertFalse(Files.exists(dir.resolve("wildfly-cleanup-marker")));
+        assertFalse(Files.exists(dir.resolve("standalone")));
+    }
+}
@@ -507,6 +507,20 @@ public abstract class AbstractControllerService implements Service<ModelControll
         return controller.getNotificationSupport();
     }
 
+    /**
+     * Records that a proxy to a remote process was registered or unregistered on the resource registrations outside
+     * of an operation, so the {@link ModelController#getModelVersion(PathAddress) model versions} of the subtrees
+     * containing it change.
+     *
+     * @param address the address of the proxy
+     */
+    protected final void proxyRegistrationChanged(final PathAddress address) {
+        final ModelControllerImpl controller = this.controller;
+        if (controller != null) {
+            controller.proxyRegistrationChanged(address);
+        }
+    }
+
     protected final MutableRootResourceRegistrationProvider getMutableRootResourceRegistrationProvider() {
         return ModelControllerImpl.getMutableRootResourceRegistrationProvider();
     }
@@ -21,6 +21,7 @@ import java.util.Set;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 
+import org.jboss.as.controller.access.constraint.AccessConstraintClassifications;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.access.management.AccessConstraintDescriptionProviderUtil;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
@@ -72,6 +73,7 @@ public abstract class AttributeDefinition implements Feature {
     private final boolean resourceOnly;
     private final DeprecationData deprecationData;
     private final List<AccessConstraintDefinition> accessConstraints;
+    private final AccessConstraintClassifications accessConstraintClassifications;
     private final Boolean nilSignificant;
     private final AttributeParser parser;
     private final String attributeGroup;
@@ -102,6 +104,7 @@ public abstract class AttributeDefinition implements Feature {
         this.attributeMarshaller = Optional.ofNullable(builder.getAttributeMarshaller()).orElse(AttributeMarshaller.SIMPLE);
         this.resourceOnly = builder.isResourceOnly();
         this.accessConstraints = wrapConstraints(builder.getAccessConstraints());
+        this.accessConstraintClassifications = AccessConstraintClassifications.of(this.accessConstraints);
         this.deprecationData = builder.getDeprecated();
         this.nilSignificant = builder.getNullSignificant();
         this.attributeGroup = builder.getAttributeGroup();
@@ -1144,6 +1147,16 @@ public abstract class AttributeDefinition implements Feature {
         return accessConstraints;
     }
 
+    /**
+     * Gets the sensitivity classifications and application types of the {@link #getAccessConstraints() access constraints}
+     * of the attribute.
+     *
+     * @return the classifications. Will not be {@code null}
+     */
+    public AccessConstraintClassifications getAccessConstraintClassifications() {
+        return accessConstraintClassifications;
+    }
+
     protected void addAccessConstraints(ModelNode result, Locale locale) {
         AccessConstraintDescriptionProviderUtil.addAccessConstraints(result, accessConstraints, locale);
     }
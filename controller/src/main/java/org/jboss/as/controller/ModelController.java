@@ -6,6 +6,7 @@
 package org.jboss.as.controller;
 
 import java.security.Permission;
+import java.util.Set;
 
 import org.jboss.as.controller.client.Operation;
 import org.jboss.as.controller.client.OperationAttachments;
@@ -55,6 +56,39 @@ public interface ModelController {
      */
     OperationResponse execute(Operation operation, OperationMessageHandler handler, OperationTransactionControl control);
 
+    /**
+     * Get the version of the persistent configuration of the resource at the given address and of its children.
+     * The version changes whenever a change to that configuration is committed, so it can be used to tell whether
+     * a read of the configuration would return the same result as a previous read with the same version.
+     * <p>
+     * Runtime-only and proxied resources have no version as their content is not tracked by this controller, and
+     * neither have resources which do not exist.
+     * </p>
+     *
+     * @param address the address of the resource
+     * @return the version, or {@code -1} if the resource has no version
+     *
+     * @throws SecurityException if the caller does not have {@link #ACCESS_PERMISSION}
+     */
+    default long getModelVersion(PathAddress address) {
+        return -1;
+    }
+
+    /**
+     * Get the roles the access control maps the current caller to for an operation, taking into account the 'run as'
+     * roles requested by the operation headers. Together with the identity of the caller, the roles determine what
+     * the caller is allowed to read.
+     *
+     * @param operation the operation
+     * @return the roles, an empty set if the access control is not role based, or {@code null} if the roles can't be
+     *         determined
+     *
+     * @throws SecurityException if the caller does not have {@link #ACCESS_PERMISSION}
+     */
+    default Set<String> getCallerRoles(ModelNode operation) {
+        return null;
+    }
+
     /**
      * A callback interface for the operation's completion status.  Implemented in order to control whether a complete
      * operation is committed or rolled back after it is prepared.
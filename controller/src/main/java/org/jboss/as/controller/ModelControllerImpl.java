@@ -52,6 +52,8 @@ import java.util.function.Supplier;
 
 import org.jboss.as.controller.OperationContext.RollbackHandler;
 import org.jboss.as.controller.access.Authorizer;
+import org.jboss.as.controller.access.Environment;
+import org.jboss.as.controller.access.rbac.RunAsRoleMapper;
 import org.jboss.as.controller.audit.AuditLogger;
 import org.jboss.as.controller.audit.ManagedAuditLogger;
 import org.jboss.as.controller.capability.registry.RuntimeCapabilityRegistry;
@@ -107,6 +109,7 @@ class ModelControllerImpl implements ModelController {
     private final ModelControllerLock controllerLock = new ModelControllerLock();
     private final ContainerStateMonitor stateMonitor;
     private final AtomicReference<ManagementModelImpl> managementModel = new AtomicReference<>();
+    private final ModelVersionTracker modelVersions = new ModelVersionTracker();
     private final ConfigurationPersister persister;
     private final ProcessType processType;
     private final Stability stability;
@@ -247,6 +250,70 @@ class ModelControllerImpl implements ModelController {
                 handler, control, attachments, prepareStep, false, partialModelIndicator.isModelPartial(), forBoot));
     }
 
+    @Override
+    public long getModelVersion(final PathAddress address) {
+        final SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(ModelController.ACCESS_PERMISSION);
+        }
+        final ManagementModelImpl model = managementModel.get();
+        final ImmutableManagementResourceRegistration registration = model.getRootResourceRegistration().getSubModel(address);
+        if (registration == null || registration.isRuntimeOnly() || registration.isRemote()) {
+            return -1;
+        }
+        // The versions of removed resources are discarded
+        Resource resource = model.rootResource;
+        for (int i = 0; resource != null && i < address.size() && !address.getElement(i).isMultiTarget(); i++) {
+            resource = resource.getChild(address.getElement(i));
+        }
+        return resource != null ? modelVersions.getVersion(address) : -1;
+    }
+
+    @Override
+    public Set<String> getCallerRoles(final ModelNode operation) {
+        final SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(ModelController.ACCESS_PERMISSION);
+        }
+        if (!authorizer.getDescription().isRoleBased()) {
+            return Collections.emptySet();
+        }
+        return authorizer.getCallerRoles(securityIdentitySupplier.get(), new Environment(processState, processType),
+                RunAsRoleMapper.getOperationHeaderRoles(operation));
+    }
+
+    /**
+     * Records that a proxy to a remote process was registered or unregistered outside of any operation, so the
+     * versions of the subtrees containing it change.
+     *
+     * @param address the address of the proxy
+     */
+    void proxyRegistrationChanged(final PathAddress address) {
+        final Set<PathAddress> affected = Collections.singleton(address);
+        final boolean unregistered = managementModel.get().getRootResourceRegistration().getProxyController(address) == null;
+        modelVersions.modified(affected, unregistered ? affected : Collections.emptySet(), false);
+    }
+
+    /**
+     * Gets the affected addresses which no longer target a resource once a change is published.
+     */
+    private static Set<PathAddress> getRemovedAddresses(final Resource root, final Set<PathAddress> affectedAddresses) {
+        Set<PathAddress> result = Collections.emptySet();
+        for (PathAddress address : affectedAddresses) {
+            Resource resource = root;
+            for (int i = 0; resource != null && i < address.size(); i++) {
+                resource = resource.getChild(address.getElement(i));
+            }
+            if (resource == null) {
+                if (result.isEmpty()) {
+                    result = new HashSet<>();
+                }
+                result.add(address);
+            }
+        }
+        return result;
+    }
+
     private AbstractOperationContext getDelegateContext(final int operationId) {
         final SecurityManager sm = System.getSecurityManager();
         if (sm != null) {
@@ -328,6 +395,31 @@ class ModelControllerImpl implements ModelController {
         return response;
     }
 
+    /**
+     * Executes a step of an operation in progress in a read-only context of its own, concurrently with other such
+     * steps. The step reads the model of the operation and is authorized by its context.
+     *
+     * @param operation the operation of the step
+     * @param stepHandler the handler of the step
+     * @param primaryContext the context of the operation in progress
+     * @param securityIdentity the identity of the caller of the operation
+     * @return the response of the step
+     */
+    ModelNode executeConcurrentReadOnlyStep(final ModelNode operation, final OperationStepHandler stepHandler,
+                                            final OperationContextImpl primaryContext, final SecurityIdentity securityIdentity) {
+        final ModelNode response = new ModelNode();
+        try (ReadOnlyContext context = new ReadOnlyContext(processType, this.stability, runningModeControl.getRunningMode(), null, processState, false,
+                primaryContext.getManagementModel(), primaryContext, this, primaryContext.getOperationId(), () -> securityIdentity, true)) {
+            context.addStep(response, operation, stepHandler, OperationContext.Stage.MODEL);
+            context.executeOperation();
+        }
+        return response;
+    }
+
+    ExecutorService getExecutorService() {
+        return executorService;
+    }
+
     /**
      * Executes an operation on the controller
      * @param operation the operation
@@ -774,6 +866,10 @@ class ModelControllerImpl implements ModelController {
                         delegate.commit();
                     }
                 }
+                if (resourceTreeModified || resourceRegistrationModified) {
+                    // Only once published, so a reader never sees the new version with the old model
+                    modelVersions.modified(affectedAddresses, getRemovedAddresses(model.rootResource, affectedAddresses), resourceRegistrationModified);
+                }
             }
 
             @Override
@@ -0,0 +1,122 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Tracks modification counters for the subtrees of the resource tree published by a {@link ModelControllerImpl}.
+ * <p>
+ * Each committed change to the resource tree is given a new version, which is recorded against every resource the
+ * change affected and all their ancestors. The version of a subtree is thus the latest change within it, or the latest
+ * change to one of the ancestors of its root, as adding or removing an ancestor adds or removes the subtree.
+ * Changes to the resource registrations can't be attributed to a subtree, so they advance the version of every
+ * subtree.
+ * <p>
+ * Versions start from a random value, so the versions of different controller instances, e.g. before and after a
+ * reload, are not mistaken for one another.
+ * <p>
+ * The versions of a removed resource and its descendants are discarded, so only the existing resources have recorded
+ * versions. The version of a removed subtree must thus not be used while it does not exist, and if it is added again
+ * the addition gives it a version later than any it had before the removal.
+ * <p>
+ * Changes are usually recorded by the operation holding the controller lock, but the proxies to remote processes are
+ * registered outside of any operation, so changes may be recorded concurrently.
+ */
+final class ModelVersionTracker {
+
+    private final Map<PathAddress, Long> subtreeVersions = new ConcurrentHashMap<>();
+    private final Map<PathAddress, Long> resourceVersions = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE / 2));
+    private final AtomicLong globalVersion = new AtomicLong(version.get());
+
+    /**
+     * Records a change, which must only be called once the change is published.
+     * If the affected resources are unknown the change advances the version of every subtree.
+     *
+     * @param affectedAddresses the addresses of the resources the change affected
+     * @param resourceRegistrationModified {@code true} if the change modified the resource registrations
+     */
+    void modified(final Set<PathAddress> affectedAddresses, final boolean resourceRegistrationModified) {
+        modified(affectedAddresses, Collections.emptySet(), resourceRegistrationModified);
+    }
+
+    /**
+     * Records a change, which must only be called once the change is published.
+     * If the affected resources are unknown the change advances the version of every subtree.
+     *
+     * @param affectedAddresses the addresses of the resources the change affected
+     * @param removedAddresses the addresses of the affected resources which no longer exist after the change
+     * @param resourceRegistrationModified {@code true} if the change modified the resource registrations
+     */
+    void modified(final Set<PathAddress> affectedAddresses, final Set<PathAddress> removedAddresses, final boolean resourceRegistrationModified) {
+        final long current = version.incrementAndGet();
+        final Set<PathAddress> recorded = new HashSet<>();
+        for (PathAddress address : affectedAddresses) {
+            resourceVersions.merge(address, current, Math::max);
+            for (int i = address.size(); i >= 0; i--) {
+                final PathAddress subtree = address.subAddress(0, i);
+                if (!recorded.add(subtree)) {
+                    // An other affected resource already recorded the remaining ancestors
+                    break;
+                }
+                // A concurrent change may have recorded a later version already
+                subtreeVersions.merge(subtree, current, Math::max);
+            }
+        }
+        if (!removedAddresses.isEmpty()) {
+            final Predicate<PathAddress> removed = address -> {
+                for (int i = address.size(); i > 0; i--) {
+                    if (removedAddresses.contains(address.subAddress(0, i))) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+            subtreeVersions.keySet().removeIf(removed);
+            resourceVersions.keySet().removeIf(removed);
+        }
+        if (resourceRegistrationModified || affectedAddresses.isEmpty()) {
+            globalVersion.accumulateAndGet(current, Math::max);
+        }
+    }
+
+    /**
+     * Gets the number of addresses with a recorded version.
+     */
+    int size() {
+        final Set<PathAddress> addresses = new HashSet<>(subtreeVersions.keySet());
+        addresses.addAll(resourceVersions.keySet());
+        return addresses.size();
+    }
+
+    /**
+     * Get the version of the subtree rooted at an address.
+     *
+     * @param address the address of the root of the subtree, may target multiple resources in which case the subtree
+     *                of the address up to the first multi-target element is used
+     * @return the version
+     */
+    long getVersion(final PathAddress address) {
+        int depth = 0;
+        while (depth < address.size() && !address.getElement(depth).isMultiTarget()) {
+            depth++;
+        }
+        final PathAddress root = address.subAddress(0, depth);
+        long result = Math.max(globalVersion.get(), subtreeVersions.getOrDefault(root, 0L));
+        for (int i = 0; i < depth; i++) {
+            result = Math.max(result, resourceVersions.getOrDefault(root.subAddress(0, i), 0L));
+        }
+        return result;
+    }
+}
@@ -49,6 +49,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -131,8 +133,12 @@ final class OperationContextImpl extends AbstractOperationContext {
 
     private final ModelControllerImpl modelController;
     private final OperationMessageHandler messageHandler;
+    // A lock rather than a monitor, so threads waiting for removals don't pin the carrier of a virtual thread
+    private final ReentrantLock removalLock = new ReentrantLock();
+    private final Condition removalCompleted = removalLock.newCondition();
+    // protected by "removalLock"
     private final Set<ServiceController<?>> realRemovingControllers = Collections.newSetFromMap(new IdentityHashMap<>());
-    // protected by "realRemovingControllers"
+    // protected by "removalLock"
     private final Map<ServiceName, Step> removalSteps = new HashMap<>();
     private final OperationAttachments attachments;
     /** Tracks the addresses associated with writes to the model.
@@ -238,9 +244,12 @@ final class OperationContextImpl extends AbstractOperationContext {
             this.originalModel = this.managementModel = null;
             this.lockStep = this.containerMonitorStep = null;
             this.contextAttachments.close();
-            synchronized (this.realRemovingControllers) {
+            removalLock.lock();
+            try {
                 this.realRemovingControllers.clear();
                 this.removalSteps.clear();
+            } finally {
+                removalLock.unlock();
             }
             this.addedRequirements.clear();
             this.removedCapabilities.clear();
@@ -274,6 +283,14 @@ final class OperationContextImpl extends AbstractOperationContext {
         return managementModel;
     }
 
+    ModelControllerImpl getModelController() {
+        return modelController;
+    }
+
+    Integer getOperationId() {
+        return operationId;
+    }
+
     @Override
     boolean isBootOperation() {
         return forBoot;
@@ -527,12 +544,13 @@ final class OperationContextImpl extends AbstractOperationContext {
     @Override
     protected void waitForRemovals() throws InterruptedException, TimeoutException {
         if (affectsRuntime && !cancelled) {
-            synchronized (realRemovingControllers) {
+            removalLock.lock();
+            try {
                 long waitTime = getBlockingTimeout().getLocalBlockingTimeout();
                 long end = System.currentTimeMillis() + waitTime;
                 boolean wait = !realRemovingControllers.isEmpty() && !cancelled;
                 while (wait && waitTime > 0) {
-                    realRemovingControllers.wait(waitTime);
+                    removalCompleted.await(waitTime, TimeUnit.MILLISECONDS);
                     wait = !realRemovingControllers.isEmpty() && !cancelled;
                     waitTime = end - System.currentTimeMillis();
                 }
@@ -541,6 +559,8 @@ final class OperationContextImpl extends AbstractOperationContext {
                     getBlockingTimeout().timeoutDetected();
                     throw new TimeoutException();
                 }
+            } finally {
+                removalLock.unlock();
             }
         }
     }
@@ -639,7 +659,7 @@ final class OperationContextImpl extends AbstractOperationContext {
         } else {
             assertNotComplete(currentStage);
         }
-        authorize(false, modify ? READ_WRITE_RUNTIME : READ_RUNTIME);
+        authorize(activeStep, false, modify ? READ_WRITE_RUNTIME : READ_RUNTIME);
         if (modify) {
             ensureWriteLockForRuntime();
         }
@@ -648,6 +668,22 @@ final class OperationContextImpl extends AbstractOperationContext {
         return registry;
     }
 
+    /**
+     * Gets a service registry for reading the runtime state on behalf of a step of a {@link ReadOnlyContext}
+     * executing concurrently with this context, authorizing the read for the operation of that step.
+     *
+     * @param step the step reading the runtime state
+     * @return the service registry
+     */
+    ServiceRegistry getServiceRegistryForRead(final Step step) {
+        assert isControllingThread();
+        assertNotComplete(currentStage);
+        authorize(step, false, READ_RUNTIME);
+        OperationContextServiceRegistry registry = new OperationContextServiceRegistry(modelController.getServiceRegistry(), this.activeStep);
+        serviceRegistries.add(registry);
+        return registry;
+    }
+
     @Override
     public ServiceController<?> removeService(final ServiceName name) throws UnsupportedOperationException {
 
@@ -717,22 +753,28 @@ final class OperationContextImpl extends AbstractOperationContext {
             public void handleEvent(final ServiceController<?> controller, final LifecycleEvent event) {
                 latch.awaitUninterruptibly();
                 if (event == LifecycleEvent.REMOVED) {
-                    synchronized (realRemovingControllers) {
+                    removalLock.lock();
+                    try {
                         if (realRemovingControllers.remove(controller)) {
                             for (ServiceName sn : controller.provides()) {
                                 removalSteps.put(sn, removalStep);
                             }
-                            realRemovingControllers.notifyAll();
+                            removalCompleted.signalAll();
                         }
+                    } finally {
+                        removalLock.unlock();
                     }
                 }
             }
         });
         try {
             final ServiceController<?> realController = unwrap(controller);
-            synchronized (realRemovingControllers) {
+            removalLock.lock();
+            try {
                 realRemovingControllers.add(realController);
                 realController.setMode(ServiceController.Mode.REMOVE);
+            } finally {
+                removalLock.unlock();
             }
         } finally {
             latch.countDown();
@@ -919,8 +961,20 @@ final class OperationContextImpl extends AbstractOperationContext {
     public Resource readResourceFromRoot(final PathAddress address, final boolean recursive) {
         assert isControllingThread();
         assertNotComplete(currentStage);
+        authorizeReadResource(activeStep, address);
+        return readResourceFromRoot(managementModel, address, recursive);
+    }
+
+    /**
+     * Authorizes the read of a resource by a step, which may be a step of a {@link ReadOnlyContext} executing
+     * concurrently with this context.
+     *
+     * @param step the step reading the resource
+     * @param address the address of the resource
+     */
+    void authorizeReadResource(final Step step, final PathAddress address) {
         //Clone the operation to preserve all the headers
-        ModelNode operation = activeStep.operation.clone();
+        ModelNode operation = step.operation.clone();
         operation.get(OP).set(ReadResourceHandler.DEFINITION.getName());
         operation.get(OP_ADDR).set(address.toModelNode());
         OperationId opId = new OperationId(operation);
@@ -929,11 +983,10 @@ final class OperationContextImpl extends AbstractOperationContext {
             // See if the problem was addressability
             AuthorizationResult addressResult = authorize(opId, operation, false, ADDRESS);
             if (addressResult.getDecision() == AuthorizationResult.Decision.DENY) {
-                throw new ResourceNotAddressableException(activeStep.address);
+                throw new ResourceNotAddressableException(step.address);
             }
-            throw ControllerLogger.ROOT_LOGGER.unauthorized(activeStep.operationId.name, activeStep.address, authResult.getExplanation());
+            throw ControllerLogger.ROOT_LOGGER.unauthorized(step.operationId.name, step.address, authResult.getExplanation());
         }
-        return readResourceFromRoot(managementModel, address, recursive);
     }
 
     @Override
@@ -1360,11 +1413,28 @@ final class OperationContextImpl extends AbstractOperationContext {
 
     @Override
     public AuthorizationResponseImpl authorizeResource(boolean attributes, boolean isDefaultResponse) {
+        return authorizeResource(activeStep, attributes, isDefaultResponse);
+    }
+
+    /**
+     * Authorizes access to the resource targeted by a step of a {@link ReadOnlyContext} executing concurrently with
+     * this context.
+     *
+     * @param step the step
+     * @param attributes {@code true} if the result should include attribute authorizations
+     * @param isDefaultResponse {@code true} if the default response is required
+     * @return the authorization response, or {@code null} for a non-existent resource type
+     */
+    ResourceAuthorization authorizeResourceForStep(Step step, boolean attributes, boolean isDefaultResponse) {
+        return authorizeResource(step, attributes, isDefaultResponse);
+    }
+
+    private AuthorizationResponseImpl authorizeResource(Step step, boolean attributes, boolean isDefaultResponse) {
         ModelNode op = new ModelNode();
         op.get(OP).set(isDefaultResponse ? GlobalOperationHandlers.CHECK_DEFAULT_RESOURCE_ACCESS : GlobalOperationHandlers.CHECK_RESOURCE_ACCESS);
-        op.get(OP_ADDR).set(activeStep.operation.get(OP_ADDR));
-        if (activeStep.operation.hasDefined(OPERATION_HEADERS)) {
-            op.get(OPERATION_HEADERS).set(activeStep.operation.get(OPERATION_HEADERS));
+        op.get(OP_ADDR).set(step.operation.get(OP_ADDR));
+        if (step.operation.hasDefined(OPERATION_HEADERS)) {
+            op.get(OPERATION_HEADERS).set(step.operation.get(OPERATION_HEADERS));
         }
         OperationId opId = new OperationId(op);
         AuthorizationResponseImpl authResp = authorizations.get(opId);
@@ -1757,18 +1827,22 @@ final class OperationContextImpl extends AbstractOperationContext {
     }
 
     private void authorize(boolean allAttributes, Set<Action.ActionEffect> actionEffects) {
-        AuthorizationResult accessResult = authorize(activeStep.operationId, activeStep.operation, false, ADDRESS);
+        authorize(activeStep, allAttributes, actionEffects);
+    }
+
+    private void authorize(Step step, boolean allAttributes, Set<Action.ActionEffect> actionEffects) {
+        AuthorizationResult accessResult = authorize(step.operationId, step.operation, false, ADDRESS);
         if (accessResult.getDecision() == AuthorizationResult.Decision.DENY) {
-            if (activeStep.address.size() > 0) {
-                throw new ResourceNotAddressableException(activeStep.address);
+            if (step.address.size() > 0) {
+                throw new ResourceNotAddressableException(step.address);
             } else {
                 // WFLY-2037 -- the root resource isn't hidden; if we hit this it means the user isn't authorized
-                throw ControllerLogger.ROOT_LOGGER.unauthorized(activeStep.operationId.name, activeStep.address, accessResult.getExplanation());
+                throw ControllerLogger.ROOT_LOGGER.unauthorized(step.operationId.name, step.address, accessResult.getExplanation());
             }
         }
-        AuthorizationResult authResult = authorize(activeStep.operationId, activeStep.operation, allAttributes, actionEffects);
+        AuthorizationResult authResult = authorize(step.operationId, step.operation, allAttributes, actionEffects);
         if (authResult.getDecision() == AuthorizationResult.Decision.DENY) {
-            throw ControllerLogger.ROOT_LOGGER.unauthorized(activeStep.operationId.name, activeStep.address, authResult.getExplanation());
+            throw ControllerLogger.ROOT_LOGGER.unauthorized(step.operationId.name, step.address, authResult.getExplanation());
         }
     }
 
@@ -2032,7 +2106,8 @@ final class OperationContextImpl extends AbstractOperationContext {
 
     private <T> ServiceController<T> installService(ServiceBuilder<T> builder, Step step) throws ServiceRegistryException, IllegalStateException {
 
-        synchronized (realRemovingControllers) {
+        removalLock.lock();
+        try {
             boolean intr = false;
             try {
                 Set<ServiceName> providedValues = providedValues(builder);
@@ -2042,7 +2117,7 @@ final class OperationContextImpl extends AbstractOperationContext {
                 long end = System.currentTimeMillis() + waitTime;
                 while (controller != null && waitTime > 0) {
                     try {
-                        realRemovingControllers.wait(waitTime);
+                        removalCompleted.await(waitTime, TimeUnit.MILLISECONDS);
                     } catch (InterruptedException e) {
                         intr = true;
                         if (respectInterruption) {
@@ -2073,17 +2148,19 @@ final class OperationContextImpl extends AbstractOperationContext {
                     Thread.currentThread().interrupt();
                 }
             }
+        } finally {
+            removalLock.unlock();
         }
     }
 
     private Set<ServiceName> providedValues(final ServiceBuilder<?> sb) {
-        assert Thread.holdsLock(realRemovingControllers);
+        assert removalLock.isHeldByCurrentThread();
         final ContextServiceTarget.ProvidedValuesTrackingServiceBuilder trackingSB = (ContextServiceTarget.ProvidedValuesTrackingServiceBuilder)sb;
         return trackingSB.getProvidedValues();
     }
 
     private ServiceController<?> contains(final Set<ServiceName> providedValues) {
-        assert Thread.holdsLock(realRemovingControllers);
+        assert removalLock.isHeldByCurrentThread();
         for (ServiceName sn : providedValues) {
             for (ServiceController sc : realRemovingControllers) {
                 if (sc.provides().contains(sn)) return sc;
@@ -2269,8 +2346,8 @@ final class OperationContextImpl extends AbstractOperationContext {
 
 
             final Map<Step, Map<ServiceName, Set<ServiceName>>> missingByStep = new HashMap<Step, Map<ServiceName, Set<ServiceName>>>();
-            // The realRemovingControllers map acts as the guard for the removalSteps map
-            synchronized (realRemovingControllers) {
+            removalLock.lock();
+            try {
                 for (Map.Entry<ServiceName, ContainerStateMonitor.MissingDependencyInfo> entry : containerStateChangeReport.getMissingServices().entrySet()) {
                     ContainerStateMonitor.MissingDependencyInfo missingDependencyInfo = entry.getValue();
                     Step removalStep = removalSteps.get(entry.getKey());
@@ -2283,6 +2360,8 @@ final class OperationContextImpl extends AbstractOperationContext {
                         stepBadRemovals.put(entry.getKey(), missingDependencyInfo.getDependents());
                     }
                 }
+            } finally {
+                removalLock.unlock();
             }
 
             for (Map.Entry<Step, Map<ServiceName, Set<ServiceName>>> entry : missingByStep.entrySet()) {
@@ -2427,9 +2506,10 @@ final class OperationContextImpl extends AbstractOperationContext {
 
     private class AuthorizationResponseImpl implements ResourceAuthorization {
 
-        private Map<Action.ActionEffect, AuthorizationResult> resourceResults = new HashMap<Action.ActionEffect, AuthorizationResult>();
-        private Map<String, Map<Action.ActionEffect, AuthorizationResult>> attributeResults = new HashMap<String, Map<Action.ActionEffect, AuthorizationResult>>();
-        private Map<String, AuthorizationResult> operationResults = new HashMap<String, AuthorizationResult>();
+        // Concurrent, as read-only contexts executing concurrently with this context delegate their authorizations to it
+        private Map<Action.ActionEffect, AuthorizationResult> resourceResults = new ConcurrentHashMap<Action.ActionEffect, AuthorizationResult>();
+        private Map<String, Map<Action.ActionEffect, AuthorizationResult>> attributeResults = new ConcurrentHashMap<String, Map<Action.ActionEffect, AuthorizationResult>>();
+        private Map<String, AuthorizationResult> operationResults = new ConcurrentHashMap<String, AuthorizationResult>();
         private final TargetResource targetResource;
         private final Action standardAction;
         private volatile boolean attributesComplete = false;
@@ -2457,12 +2537,8 @@ final class OperationContextImpl extends AbstractOperationContext {
         }
 
         private void addAttributeResult(String attribute, Action.ActionEffect actionEffect, AuthorizationResult result) {
-            Map<Action.ActionEffect, AuthorizationResult> attrResults = attributeResults.get(attribute);
-            if (attrResults == null) {
-                attrResults = new HashMap<Action.ActionEffect, AuthorizationResult>();
-                attributeResults.put(attribute, attrResults);
-            }
-            attrResults.put(actionEffect, result);
+            attributeResults.computeIfAbsent(attribute, key -> new ConcurrentHashMap<Action.ActionEffect, AuthorizationResult>())
+                    .put(actionEffect, result);
         }
 
         private void addOperationResult(String operationName, AuthorizationResult result) {
@@ -0,0 +1,154 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE_SERVICE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PARALLEL_READ_MAX_THREADS;
+
+import java.net.InetAddress;
+import java.security.PrivilegedAction;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.logging.ControllerLogger;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.core.security.AccessMechanism;
+import org.jboss.dmr.ModelNode;
+import org.wildfly.security.auth.server.SecurityIdentity;
+
+/**
+ * Executes steps of a read-only operation concurrently rather than one after the other in the context of the
+ * operation, e.g. the reads of each of the targets of a wildcard address.
+ * <p>
+ * Each step is executed in a {@link ReadOnlyContext} of its own, which reads the model of the context of the operation
+ * and has it authorize the step as if it were one of its own. The thread executing the operation executes steps as
+ * well, along with a bounded number of threads of the management executor, so that the steps complete even if the
+ * executor has no thread available. The number of threads is set by the {@code parallel-read-max-threads} attribute
+ * of the management resource, read each time an operation executes steps so that changes apply to the next operation.
+ */
+public final class ParallelReadExecutor {
+
+    /** The maximum number of threads executing the steps of an operation if the management resource doesn't set it. */
+    public static final int DEFAULT_MAX_THREADS = 4;
+
+    private static final PathElement MANAGEMENT_PATH = PathElement.pathElement(CORE_SERVICE, MANAGEMENT);
+
+    private ParallelReadExecutor() {
+    }
+
+    /**
+     * Gets whether steps can be executed concurrently for an operation, which is the case for operations executed by
+     * a server after boot, if the server has a management executor.
+     *
+     * @param context the context of the operation
+     * @return {@code true} if the steps can be executed concurrently
+     */
+    public static boolean isAvailable(final OperationContext context) {
+        if (!(context instanceof OperationContextImpl) || context.isBooting() || !context.getProcessType().isServer()) {
+            return false;
+        }
+        final OperationContextImpl primaryContext = (OperationContextImpl) context;
+        return primaryContext.getOperationId() != null && primaryContext.getModelController().getExecutorService() != null;
+    }
+
+    /**
+     * Executes read-only steps concurrently.
+     *
+     * @param context the context of the operation, for which {@link #isAvailable(OperationContext)} is {@code true}
+     * @param operations the operations of the steps, addressed to their targets
+     * @param handlers the handlers of the steps, one per operation
+     * @return the responses of the steps, in the order of their operations
+     * @throws OperationFailedException if the maximum number of threads set by the management resource can't be resolved
+     */
+    @SuppressWarnings("deprecation")
+    public static List<ModelNode> execute(final OperationContext context, final List<ModelNode> operations,
+                                          final List<OperationStepHandler> handlers) throws OperationFailedException {
+        assert isAvailable(context);
+        assert operations.size() == handlers.size();
+        final OperationContextImpl primaryContext = (OperationContextImpl) context;
+        final ModelControllerImpl controller = primaryContext.getModelController();
+        final Integer operationId = primaryContext.getOperationId();
+        final SecurityIdentity securityIdentity = primaryContext.getSecurityIdentity();
+        final AccessAuditContext accessAuditContext = SecurityActions.currentAccessAuditContext();
+        final InetAddress remoteAddress = accessAuditContext != null ? accessAuditContext.getRemoteAddress() : null;
+        final AccessMechanism accessMechanism = accessAuditContext != null ? accessAuditContext.getAccessMechanism() : null;
+
+        final int maxThreads = getMaxThreads(primaryContext);
+        final int count = operations.size();
+        final ModelNode[] responses = new ModelNode[count];
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        final CountDownLatch completed = new CountDownLatch(count);
+        final Runnable steps = () -> {
+            int index;
+            while (!cancelled.get() && (index = next.getAndIncrement()) < count) {
+                try {
+                    responses[index] = controller.executeConcurrentReadOnlyStep(operations.get(index), handlers.get(index), primaryContext, securityIdentity);
+                } catch (RuntimeException | Error e) {
+                    ControllerLogger.MGMT_OP_LOGGER.tracef(e, "Failed executing %s concurrently", operations.get(index));
+                    final ModelNode response = new ModelNode();
+                    response.get(OUTCOME).set(FAILED);
+                    response.get(FAILURE_DESCRIPTION).set(e.toString());
+                    responses[index] = response;
+                } finally {
+                    completed.countDown();
+                }
+            }
+        };
+
+        final ExecutorService executor = controller.getExecutorService();
+        for (int i = 1; i < Math.min(maxThreads, count); i++) {
+            try {
+                executor.execute(() -> {
+                    final Integer previousOperationId = CurrentOperationIdHolder.getCurrentOperationID();
+                    CurrentOperationIdHolder.setCurrentOperationID(operationId);
+                    try {
+                        AccessAuditContext.doAs(true, securityIdentity, remoteAddress, (PrivilegedAction<Void>) () -> {
+                            final AccessAuditContext workerContext = SecurityActions.currentAccessAuditContext();
+                            if (accessMechanism != null) {
+                                workerContext.setAccessMechanism(accessMechanism);
+                            }
+                            steps.run();
+                            return null;
+                        });
+                    } finally {
+                        CurrentOperationIdHolder.setCurrentOperationID(previousOperationId);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // The remaining steps are executed by this thread
+                break;
+            }
+        }
+        steps.run();
+        try {
+            completed.await();
+        } catch (InterruptedException e) {
+            cancelled.set(true);
+            Thread.currentThread().interrupt();
+            throw ControllerLogger.ROOT_LOGGER.operationCancelledAsynchronously();
+        }
+        return Arrays.asList(responses);
+    }
+
+    private static int getMaxThreads(final OperationContextImpl context) throws OperationFailedException {
+        // Read past authorization, the caller may not be allowed to read the management resource
+        final Resource management = context.getManagementModel().getRootResource().getChild(MANAGEMENT_PATH);
+        if (management == null || !management.getModel().hasDefined(PARALLEL_READ_MAX_THREADS)) {
+            return DEFAULT_MAX_THREADS;
+        }
+        return context.resolveExpressions(management.getModel().get(PARALLEL_READ_MAX_THREADS)).asInt();
+    }
+}
@@ -74,7 +74,7 @@ public class PathAddress implements Iterable<PathElement> {
                 for (final Property prop : props) {
                     final String name = prop.getName();
                     if (seen.add(name)) {
-                        values.add(new PathElement(name, prop.getValue().asString()));
+                        values.add(PathElement.pathElement(name, prop.getValue().asString()));
                     } else {
                         throw duplicateElement(name);
                     }
@@ -194,6 +194,8 @@ public class PathAddress implements Iterable<PathElement> {
     }
 
     private final List<PathElement> pathAddressList;
+    /** Cached hash code, computed on first use like {@link String#hashCode()} as the elements are immutable */
+    private int hashCode;
 
     PathAddress(final List<PathElement> pathAddressList) {
         Assert.assertNotNull(pathAddressList);
@@ -343,7 +345,12 @@ public class PathAddress implements Iterable<PathElement> {
 
     @Override
     public int hashCode() {
-        return pathAddressList.hashCode();
+        int result = hashCode;
+        if (result == 0) {
+            result = pathAddressList.hashCode();
+            hashCode = result;
+        }
+        return result;
     }
 
     /**
@@ -364,7 +371,16 @@ public class PathAddress implements Iterable<PathElement> {
      * @return {@code true} if they are equal, {@code false} otherwise
      */
     public boolean equals(PathAddress other) {
-        return this == other || other != null && pathAddressList.equals(other.pathAddressList);
+        if (this == other) {
+            return true;
+        }
+        if (other == null) {
+            return false;
+        }
+        // Addresses whose hash codes are known to differ can't be equal
+        final int thisHash = hashCode;
+        final int otherHash = other.hashCode;
+        return (thisHash == 0 || otherHash == 0 || thisHash == otherHash) && pathAddressList.equals(other.pathAddressList);
     }
 
     @Override
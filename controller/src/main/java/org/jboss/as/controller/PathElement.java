@@ -5,6 +5,9 @@
 
 package org.jboss.as.controller;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.Property;
@@ -18,6 +21,13 @@ public class PathElement {
 
     public static final String WILDCARD_VALUE = "*";
 
+    /**
+     * The wildcard elements, which registrations and operation handlers create over and over, by key. Bounded as keys
+     * may come from clients.
+     */
+    private static final Map<String, PathElement> WILDCARD_ELEMENTS = new ConcurrentHashMap<>();
+    private static final int MAX_WILDCARD_ELEMENTS = 1024;
+
     private final String key;
     private final String value;
     private final boolean multiTarget;
@@ -29,7 +39,17 @@ public class PathElement {
      * @return the new path element
      */
     public static PathElement pathElement(final String key) {
-        return new PathElement(key);
+        PathElement result = key != null ? WILDCARD_ELEMENTS.get(key) : null;
+        if (result == null) {
+            result = new PathElement(key);
+            if (WILDCARD_ELEMENTS.size() < MAX_WILDCARD_ELEMENTS) {
+                final PathElement existing = WILDCARD_ELEMENTS.putIfAbsent(result.key, result);
+                if (existing != null) {
+                    result = existing;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -39,7 +59,12 @@ public class PathElement {
      * @return the new path element
      */
     public static PathElement pathElement(final String key, final String value) {
-        return new PathElement(key, value);
+        if (WILDCARD_VALUE.equals(value)) {
+            return pathElement(key);
+        }
+        // Share the key of the wildcard element, so that comparing keys is mostly comparing references
+        final PathElement wildcard = key != null ? WILDCARD_ELEMENTS.get(key) : null;
+        return new PathElement(wildcard != null ? wildcard.key : key, value);
     }
 
     /**
@@ -81,7 +106,7 @@ public class PathElement {
             this.value = value;
         }
         this.multiTarget = multiTarget;
-        hashCode = key.hashCode() * 19 + value.hashCode();
+        hashCode = this.key.hashCode() * 19 + this.value.hashCode();
     }
 
     /**
@@ -212,7 +237,7 @@ public class PathElement {
      * @return {@code true} if they are equal, {@code false} otherwise
      */
     public boolean equals(PathElement other) {
-        return this == other || other != null && other.key.equals(key) && other.value.equals(value);
+        return this == other || other != null && other.hashCode == hashCode && other.key.equals(key) && other.value.equals(value);
     }
 
     @Override
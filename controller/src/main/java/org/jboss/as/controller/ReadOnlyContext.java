@@ -37,6 +37,10 @@ import org.wildfly.security.auth.server.SecurityIdentity;
  * A read-only {@linkplain OperationContext}, allowing read-only access to the current write model from a different
  * operation, preventing any writes from this context. Operations can acquire a controller lock to prevent other
  * writes happen until this operation is done.
+ * <p>
+ * A read-only context may also execute a step of its primary context concurrently with other such contexts, e.g. the
+ * read of one of the targets of a wildcard address. Authorizations are then checked for its own steps rather than
+ * for the active step of the primary context.
  *
  * @author Emanuel Muckenhuber
  */
@@ -46,12 +50,21 @@ class ReadOnlyContext extends AbstractOperationContext {
     private final ModelControllerImpl controller;
     private final AbstractOperationContext primaryContext;
     private final ModelControllerImpl.ManagementModelImpl managementModel;
+    /** The primary context, if this context executes concurrently with others for it */
+    private final OperationContextImpl concurrentPrimaryContext;
 
     private final ConcurrentMap<AttachmentKey<?>, Object> valueAttachments = new ConcurrentHashMap<AttachmentKey<?>, Object>();
 
     ReadOnlyContext(final ProcessType processType, Stability stability, final RunningMode runningMode, final ModelController.OperationTransactionControl transactionControl,
                     final ControlledProcessState processState, final boolean booting, final ModelControllerImpl.ManagementModelImpl managementModel,
                     final AbstractOperationContext primaryContext, final ModelControllerImpl controller, final int operationId, final Supplier<SecurityIdentity> securityIdentitySupplier) {
+        this(processType, stability, runningMode, transactionControl, processState, booting, managementModel, primaryContext, controller, operationId, securityIdentitySupplier, false);
+    }
+
+    ReadOnlyContext(final ProcessType processType, Stability stability, final RunningMode runningMode, final ModelController.OperationTransactionControl transactionControl,
+                    final ControlledProcessState processState, final boolean booting, final ModelControllerImpl.ManagementModelImpl managementModel,
+                    final AbstractOperationContext primaryContext, final ModelControllerImpl controller, final int operationId, final Supplier<SecurityIdentity> securityIdentitySupplier,
+                    final boolean concurrent) {
         super(processType, stability, runningMode, transactionControl, processState,
                 booting, controller.getAuditLogger(), controller.getNotificationSupport(),
                 controller, true, null, null, securityIdentitySupplier);
@@ -59,6 +72,7 @@ class ReadOnlyContext extends AbstractOperationContext {
         this.controller = controller;
         this.operationId = operationId;
         this.managementModel = managementModel;
+        this.concurrentPrimaryContext = concurrent ? (OperationContextImpl) primaryContext : null;
     }
 
     @Override
@@ -157,6 +171,9 @@ class ReadOnlyContext extends AbstractOperationContext {
         if (modify) {
             throw readOnlyContext();
         }
+        if (concurrentPrimaryContext != null) {
+            return concurrentPrimaryContext.getServiceRegistryForRead(activeStep);
+        }
         return primaryContext.getServiceRegistry(false);
     }
 
@@ -227,6 +244,9 @@ class ReadOnlyContext extends AbstractOperationContext {
     }
 
     public Resource readResourceFromRoot(final PathAddress address, final boolean recursive) {
+        if (concurrentPrimaryContext != null) {
+            concurrentPrimaryContext.authorizeReadResource(activeStep, address);
+        }
         return readResourceFromRoot(managementModel, address, recursive);
     }
 
@@ -347,6 +367,9 @@ class ReadOnlyContext extends AbstractOperationContext {
 
     @Override
     public ResourceAuthorization authorizeResource(boolean attributes, boolean isDefaultResource) {
+        if (concurrentPrimaryContext != null) {
+            return concurrentPrimaryContext.authorizeResourceForStep(activeStep, attributes, isDefaultResource);
+        }
         return primaryContext.authorizeResource(attributes, isDefaultResource);
     }
 
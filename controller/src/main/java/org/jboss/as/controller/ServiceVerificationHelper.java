@@ -14,6 +14,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.dmr.ModelNode;
@@ -36,12 +37,23 @@ class ServiceVerificationHelper implements OperationStepHandler {
     static final OperationContext.AttachmentKey<Boolean> DEFFERED_ROLLBACK_ATTACHMENT = OperationContext.AttachmentKey.create(Boolean.class);
 
     private final StabilityMonitor monitor = new StabilityMonitor();
+    // A lock rather than a monitor, so a thread waiting for another one verifying doesn't pin the carrier of a virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
 
     StabilityMonitor getMonitor() {
         return monitor;
     }
 
-    public synchronized void execute(final OperationContext context, final ModelNode operation) {
+    public void execute(final OperationContext context, final ModelNode operation) {
+        lock.lock();
+        try {
+            verify(context);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void verify(final OperationContext context) {
         final Set<ServiceController<?>> failed = new HashSet<ServiceController<?>>();
         final Set<ServiceController<?>> problems = new HashSet<ServiceController<?>>();
 
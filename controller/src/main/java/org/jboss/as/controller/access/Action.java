@@ -10,6 +10,7 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 
+import org.jboss.as.controller.access.constraint.AccessConstraintClassifications;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.dmr.ModelNode;
@@ -98,6 +99,10 @@ public final class Action {
         return operationEntry != null ? operationEntry.getAccessConstraints() : NO_CONSTRAINTS;
     }
 
+    public AccessConstraintClassifications getAccessConstraintClassifications() {
+        return operationEntry != null ? operationEntry.getAccessConstraintClassifications() : AccessConstraintClassifications.NONE;
+    }
+
     public Action limitAction(ActionEffect requiredEffect) {
         if (actionEffects.contains(requiredEffect) && actionEffects.size() == 1) {
             return this;
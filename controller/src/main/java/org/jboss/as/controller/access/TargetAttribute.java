@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.access.constraint.AccessConstraintClassifications;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.dmr.ModelNode;
@@ -93,4 +94,9 @@ public final class TargetAttribute {
         AttributeDefinition def = getAttributeDefinition();
         return def != null ? def.getAccessConstraints() : NO_CONSTRAINTS;
     }
+
+    public AccessConstraintClassifications getAccessConstraintClassifications() {
+        AttributeDefinition def = getAttributeDefinition();
+        return def != null ? def.getAccessConstraintClassifications() : AccessConstraintClassifications.NONE;
+    }
 }
@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.access.constraint.AccessConstraintClassifications;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
@@ -26,6 +27,7 @@ public final class TargetResource {
     private final ServerGroupEffect serverGroupEffect;
     private final HostEffect hostEffect;
     private final List<AccessConstraintDefinition> accessConstraintDefinitions;
+    private final AccessConstraintClassifications accessConstraintClassifications;
 
 
     public static TargetResource forStandalone(PathAddress address, ImmutableManagementResourceRegistration resourceRegistration, Resource resource) {
@@ -46,8 +48,10 @@ public final class TargetResource {
         this.hostEffect = hostEffect;
         if(resourceRegistration == null) {
             this.accessConstraintDefinitions = Collections.emptyList();
+            this.accessConstraintClassifications = AccessConstraintClassifications.NONE;
         } else {
             this.accessConstraintDefinitions = resourceRegistration.getAccessConstraints();
+            this.accessConstraintClassifications = resourceRegistration.getAccessConstraintClassifications();
         }
     }
 
@@ -67,6 +71,10 @@ public final class TargetResource {
         return accessConstraintDefinitions;
     }
 
+    public AccessConstraintClassifications getAccessConstraintClassifications() {
+        return accessConstraintClassifications;
+    }
+
     public Resource getResource() {
         return resource;
     }
@@ -62,6 +62,7 @@ public class AbstractSensitivity {
 
     public void setConfiguredRequiresAccessPermission(Boolean requiresAccessPermission) {
         this.configuredRequiresAccessPermission = requiresAccessPermission;
+        AccessConstraintClassifications.configurationChanged();
     }
 
     public boolean getRequiresReadPermission() {
@@ -75,6 +76,7 @@ public class AbstractSensitivity {
 
     public void setConfiguredRequiresReadPermission(Boolean requiresReadPermission) {
         this.configuredRequiresReadPermission = requiresReadPermission;
+        AccessConstraintClassifications.configurationChanged();
     }
 
     public boolean getRequiresWritePermission() {
@@ -99,6 +101,7 @@ public class AbstractSensitivity {
 
     public void setConfiguredRequiresWritePermission(Boolean requiresWritePermission) {
         this.configuredRequiresWritePermission = requiresWritePermission;
+        AccessConstraintClassifications.configurationChanged();
     }
 
     protected boolean isCompatibleWith(AbstractSensitivity other) {
@@ -0,0 +1,196 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.access.constraint;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.as.controller.access.Action;
+import org.jboss.as.controller.access.management.AccessConstraintDefinition;
+import org.jboss.as.controller.access.management.ApplicationTypeAccessConstraintDefinition;
+import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
+
+/**
+ * The {@link SensitivityClassification sensitivity classifications} and {@link ApplicationTypeConfig application types}
+ * applicable to a resource, attribute or operation, computed once from its {@link AccessConstraintDefinition}s.
+ * <p>
+ * Each classification and application type is given a bit, so that checking whether any of those applicable to a
+ * target is sensitive for an action, or is an application type, is a test of the bits against masks of the currently
+ * sensitive classifications and application types. The masks are recomputed when the configuration of a
+ * classification or application type changes.
+ */
+public final class AccessConstraintClassifications {
+
+    private static final long[] NO_BITS = new long[0];
+
+    /** For targets without any classification or application type */
+    public static final AccessConstraintClassifications NONE = new AccessConstraintClassifications(NO_BITS, NO_BITS);
+
+    private static final Map<AbstractSensitivity, Integer> sensitivityIndexes = new IdentityHashMap<>();
+    private static final List<AbstractSensitivity> sensitivities = new ArrayList<>();
+    private static final Map<ApplicationTypeConfig, Integer> applicationTypeIndexes = new IdentityHashMap<>();
+    private static final List<ApplicationTypeConfig> applicationTypes = new ArrayList<>();
+    private static volatile Masks masks;
+
+    private final long[] sensitivityBits;
+    private final long[] applicationTypeBits;
+
+    private AccessConstraintClassifications(long[] sensitivityBits, long[] applicationTypeBits) {
+        this.sensitivityBits = sensitivityBits;
+        this.applicationTypeBits = applicationTypeBits;
+    }
+
+    /**
+     * Computes the classifications of a target.
+     *
+     * @param constraintDefinitions the access constraint definitions of the target. May be {@code null}
+     * @return the classifications. Will not be {@code null}
+     */
+    public static AccessConstraintClassifications of(List<AccessConstraintDefinition> constraintDefinitions) {
+        if (constraintDefinitions == null || constraintDefinitions.isEmpty()) {
+            return NONE;
+        }
+        long[] sensitivityBits = NO_BITS;
+        long[] applicationTypeBits = NO_BITS;
+        for (AccessConstraintDefinition constraintDefinition : constraintDefinitions) {
+            if (constraintDefinition instanceof SensitiveTargetAccessConstraintDefinition) {
+                SensitivityClassification sensitivity = ((SensitiveTargetAccessConstraintDefinition) constraintDefinition).getSensitivity();
+                sensitivityBits = set(sensitivityBits, indexOf(sensitivity));
+            } else if (constraintDefinition instanceof ApplicationTypeAccessConstraintDefinition) {
+                ApplicationTypeConfig applicationType = ((ApplicationTypeAccessConstraintDefinition) constraintDefinition).getApplicationTypeConfig();
+                applicationTypeBits = set(applicationTypeBits, indexOf(applicationType));
+            }
+        }
+        return sensitivityBits == NO_BITS && applicationTypeBits == NO_BITS ? NONE
+                : new AccessConstraintClassifications(sensitivityBits, applicationTypeBits);
+    }
+
+    /**
+     * Gets whether any of the classifications is currently sensitive for an action effect.
+     *
+     * @param actionEffect the action effect
+     * @return {@code true} if a classification is sensitive
+     */
+    public boolean isSensitive(Action.ActionEffect actionEffect) {
+        if (sensitivityBits.length == 0) {
+            return false;
+        }
+        final Masks current = getMasks();
+        final long[] mask;
+        if (actionEffect == Action.ActionEffect.ADDRESS) {
+            mask = current.access;
+        } else if (actionEffect == Action.ActionEffect.READ_CONFIG || actionEffect == Action.ActionEffect.READ_RUNTIME) {
+            mask = current.read;
+        } else {
+            mask = current.write;
+        }
+        return intersects(sensitivityBits, mask);
+    }
+
+    /**
+     * Gets whether any of the application types is currently considered an application.
+     *
+     * @return {@code true} if an application type is an application
+     */
+    public boolean isApplicationType() {
+        return applicationTypeBits.length != 0 && intersects(applicationTypeBits, getMasks().application);
+    }
+
+    /**
+     * Notification that the configuration of a sensitivity classification or of an application type changed.
+     */
+    static synchronized void configurationChanged() {
+        masks = null;
+    }
+
+    private static synchronized int indexOf(AbstractSensitivity sensitivity) {
+        Integer index = sensitivityIndexes.get(sensitivity);
+        if (index == null) {
+            index = sensitivities.size();
+            sensitivities.add(sensitivity);
+            sensitivityIndexes.put(sensitivity, index);
+            masks = null;
+        }
+        return index;
+    }
+
+    private static synchronized int indexOf(ApplicationTypeConfig applicationType) {
+        Integer index = applicationTypeIndexes.get(applicationType);
+        if (index == null) {
+            index = applicationTypes.size();
+            applicationTypes.add(applicationType);
+            applicationTypeIndexes.put(applicationType, index);
+            masks = null;
+        }
+        return index;
+    }
+
+    private static Masks getMasks() {
+        Masks result = masks;
+        if (result == null) {
+            synchronized (AccessConstraintClassifications.class) {
+                result = masks;
+                if (result == null) {
+                    result = new Masks();
+                    masks = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static long[] set(long[] bits, int index) {
+        final int word = index >>> 6;
+        long[] result = bits;
+        if (word >= bits.length) {
+            result = new long[word + 1];
+            System.arraycopy(bits, 0, result, 0, bits.length);
+        }
+        result[word] |= 1L << index;
+        return result;
+    }
+
+    private static boolean intersects(long[] bits, long[] mask) {
+        final int length = Math.min(bits.length, mask.length);
+        for (int i = 0; i < length; i++) {
+            if ((bits[i] & mask[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** The classifications and application types in effect, only created holding the class lock */
+    private static final class Masks {
+
+        private long[] access = NO_BITS;
+        private long[] read = NO_BITS;
+        private long[] write = NO_BITS;
+        private long[] application = NO_BITS;
+
+        private Masks() {
+            for (int i = 0; i < sensitivities.size(); i++) {
+                AbstractSensitivity sensitivity = sensitivities.get(i);
+                if (sensitivity.getRequiresAccessPermission()) {
+                    access = set(access, i);
+                }
+                if (sensitivity.getRequiresReadPermission()) {
+                    read = set(read, i);
+                }
+                if (sensitivity.getRequiresWritePermission()) {
+                    write = set(write, i);
+                }
+            }
+            for (int i = 0; i < applicationTypes.size(); i++) {
+                if (applicationTypes.get(i).isApplicationType()) {
+                    application = set(application, i);
+                }
+            }
+        }
+    }
+}
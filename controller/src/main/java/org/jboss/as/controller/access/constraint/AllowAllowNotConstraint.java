@@ -62,4 +62,9 @@ public abstract class AllowAllowNotConstraint extends AbstractConstraint {
         }
         return false;
     }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
 }
@@ -15,8 +15,6 @@ import org.jboss.as.controller.access.JmxAction;
 import org.jboss.as.controller.access.JmxTarget;
 import org.jboss.as.controller.access.TargetAttribute;
 import org.jboss.as.controller.access.TargetResource;
-import org.jboss.as.controller.access.management.AccessConstraintDefinition;
-import org.jboss.as.controller.access.management.ApplicationTypeAccessConstraintDefinition;
 import org.jboss.as.controller.access.rbac.StandardRole;
 
 /**
@@ -67,42 +65,15 @@ public class ApplicationTypeConstraint extends AllowAllowNotConstraint {
         }
 
         private boolean isApplicationType(Action action) {
-            for (AccessConstraintDefinition constraintDefinition : action.getAccessConstraints()) {
-                if (constraintDefinition instanceof ApplicationTypeAccessConstraintDefinition) {
-                    ApplicationTypeAccessConstraintDefinition atcd = (ApplicationTypeAccessConstraintDefinition) constraintDefinition;
-                    ApplicationTypeConfig atc = atcd.getApplicationTypeConfig();
-                    if (atc.isApplicationType()) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return action.getAccessConstraintClassifications().isApplicationType();
         }
 
         private boolean isApplicationType(TargetAttribute target) {
-            for (AccessConstraintDefinition constraintDefinition : target.getAccessConstraints()) {
-                if (constraintDefinition instanceof ApplicationTypeAccessConstraintDefinition) {
-                    ApplicationTypeAccessConstraintDefinition atcd = (ApplicationTypeAccessConstraintDefinition) constraintDefinition;
-                    ApplicationTypeConfig atc = atcd.getApplicationTypeConfig();
-                    if (atc.isApplicationType()) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return target.getAccessConstraintClassifications().isApplicationType();
         }
 
         private boolean isApplicationType(TargetResource target) {
-            for (AccessConstraintDefinition constraintDefinition : target.getAccessConstraints()) {
-                if (constraintDefinition instanceof ApplicationTypeAccessConstraintDefinition) {
-                    ApplicationTypeAccessConstraintDefinition atcd = (ApplicationTypeAccessConstraintDefinition) constraintDefinition;
-                    ApplicationTypeConfig atc = atcd.getApplicationTypeConfig();
-                    if (atc.isApplicationType()) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return target.getAccessConstraintClassifications().isApplicationType();
         }
 
         /**
@@ -32,4 +32,15 @@ public interface Constraint {
      * @return {@code true} if replacement is valid
      */
     boolean replaces(Constraint other);
+
+    /**
+     * Gets whether this constraint is immutable and shared by the targets it applies to, in which case the outcome
+     * of {@link #violates(Constraint, Action.ActionEffect)} between it and another cacheable constraint is always
+     * the same and authorization decisions involving it may be cached.
+     *
+     * @return {@code true} if decisions involving this constraint may be cached
+     */
+    default boolean isCacheable() {
+        return false;
+    }
 }
@@ -156,6 +156,12 @@ public class HostEffectConstraint extends AbstractConstraint implements Constrai
         return other instanceof HostEffectConstraint && (readOnly || readOnlyConstraint != null);
     }
 
+    @Override
+    public boolean isCacheable() {
+        // The hosts of scoped roles can be changed and those of other targets are specific to the target
+        return global;
+    }
+
     // Scoping Constraint
 
     @Override
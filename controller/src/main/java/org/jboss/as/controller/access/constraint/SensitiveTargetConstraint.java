@@ -15,8 +15,6 @@ import org.jboss.as.controller.access.JmxAction;
 import org.jboss.as.controller.access.JmxTarget;
 import org.jboss.as.controller.access.TargetAttribute;
 import org.jboss.as.controller.access.TargetResource;
-import org.jboss.as.controller.access.management.AccessConstraintDefinition;
-import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
 import org.jboss.as.controller.access.rbac.StandardRole;
 
 /**
@@ -73,43 +71,17 @@ public class SensitiveTargetConstraint extends AllowAllowNotConstraint {
         }
 
         private boolean isSensitiveAction(Action action, Action.ActionEffect effect) {
-            for (AccessConstraintDefinition constraintDefinition : action.getAccessConstraints()) {
-                if (constraintDefinition instanceof SensitiveTargetAccessConstraintDefinition) {
-                    SensitiveTargetAccessConstraintDefinition stcd = (SensitiveTargetAccessConstraintDefinition) constraintDefinition;
-                    SensitivityClassification sensitivity = stcd.getSensitivity();
-                    if (sensitivity.isSensitive(effect)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return action.getAccessConstraintClassifications().isSensitive(effect);
         }
 
         private boolean isSensitiveAttribute(TargetAttribute target, Action.ActionEffect effect) {
-            for (AccessConstraintDefinition constraintDefinition : target.getAccessConstraints()) {
-                if (constraintDefinition instanceof SensitiveTargetAccessConstraintDefinition) {
-                    SensitiveTargetAccessConstraintDefinition stcd = (SensitiveTargetAccessConstraintDefinition) constraintDefinition;
-                    SensitivityClassification sensitivity = stcd.getSensitivity();
-                    if (sensitivity.isSensitive(effect)) {
-                        return true;
-                    }
-                }
-            }
-            // Check the resource
-            return isSensitiveResource(target.getTargetResource(), effect);
+            // Check the resource as well
+            return target.getAccessConstraintClassifications().isSensitive(effect)
+                    || isSensitiveResource(target.getTargetResource(), effect);
         }
 
         private boolean isSensitiveResource(TargetResource target, Action.ActionEffect effect) {
-            for (AccessConstraintDefinition constraintDefinition : target.getAccessConstraints()) {
-                if (constraintDefinition instanceof SensitiveTargetAccessConstraintDefinition) {
-                    SensitiveTargetAccessConstraintDefinition stcd = (SensitiveTargetAccessConstraintDefinition) constraintDefinition;
-                    SensitivityClassification sensitivity = stcd.getSensitivity();
-                    if (sensitivity.isSensitive(effect)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return target.getAccessConstraintClassifications().isSensitive(effect);
         }
 
         /**
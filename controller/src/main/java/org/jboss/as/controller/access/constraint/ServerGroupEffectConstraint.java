@@ -205,6 +205,12 @@ public class ServerGroupEffectConstraint extends AbstractConstraint implements C
         return other instanceof ServerGroupEffectConstraint && (readOnly || readOnlyConstraint != null);
     }
 
+    @Override
+    public boolean isCacheable() {
+        // The groups of scoped roles can be changed and those of other targets are specific to the target
+        return global || unassigned;
+    }
+
     // Scoping Constraint
 
     @Override
@@ -0,0 +1,179 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.access.permission;
+
+import java.security.Permission;
+import java.security.PermissionCollection;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.jboss.as.controller.access.AuthorizationResult;
+import org.jboss.as.controller.access.constraint.Constraint;
+
+/**
+ * Cache of the decisions of a {@link ManagementPermissionAuthorizer}.
+ * <p>
+ * A decision only depends on the permissions of the user, which the {@link PermissionFactory} provides for each set of
+ * roles, and on the constraints of the required permissions, which many targets share, e.g. the attributes of a
+ * resource without access constraints. Decisions are thus cached by user permission collection and required
+ * constraints, as long as all the constraints involved are {@link Constraint#isCacheable() cacheable}. As neither can
+ * change once created, a change to the access control configuration results in new keys rather than stale decisions;
+ * the cache is bounded and cleared when full, which discards the decisions of permissions no longer in use.
+ */
+final class AuthorizationDecisionCache {
+
+    private static final int MAX_USER_PERMISSIONS = 64;
+    private static final int MAX_DECISIONS = 4096;
+
+    private final Map<PermissionCollection, Decisions> decisionsByUserPermissions = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Gets the cached decision, or makes it and caches it if possible.
+     *
+     * @param userPermissions the permissions of the user
+     * @param requiredPermissions the permissions required by the action on the target
+     * @param decision the making of the decision
+     * @return the decision
+     */
+    AuthorizationResult getDecision(PermissionCollection userPermissions, PermissionCollection requiredPermissions,
+                                    Supplier<AuthorizationResult> decision) {
+        final Decisions decisions = getDecisions(userPermissions);
+        final Key key = decisions != Decisions.NOT_CACHEABLE ? Key.of(requiredPermissions) : null;
+        if (key == null) {
+            return decision.get();
+        }
+        AuthorizationResult result = decisions.results.get(key);
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+        misses.increment();
+        result = decision.get();
+        if (decisions.results.size() >= MAX_DECISIONS) {
+            decisions.results.clear();
+        }
+        decisions.results.put(key, result);
+        return result;
+    }
+
+    void clear() {
+        decisionsByUserPermissions.clear();
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    private Decisions getDecisions(PermissionCollection userPermissions) {
+        Decisions decisions = decisionsByUserPermissions.get(userPermissions);
+        if (decisions == null) {
+            decisions = isCacheable(userPermissions) ? new Decisions() : Decisions.NOT_CACHEABLE;
+            if (decisionsByUserPermissions.size() >= MAX_USER_PERMISSIONS) {
+                decisionsByUserPermissions.clear();
+            }
+            final Decisions existing = decisionsByUserPermissions.putIfAbsent(userPermissions, decisions);
+            if (existing != null) {
+                decisions = existing;
+            }
+        }
+        return decisions;
+    }
+
+    private static boolean isCacheable(PermissionCollection userPermissions) {
+        if (!(userPermissions instanceof ManagementPermissionCollection)) {
+            return false;
+        }
+        final Enumeration<Permission> enumeration = userPermissions.elements();
+        while (enumeration.hasMoreElements()) {
+            final Permission permission = enumeration.nextElement();
+            if (!(permission instanceof ManagementPermission) || !((ManagementPermission) permission).isCacheable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** The decisions for a user permission collection */
+    private static final class Decisions {
+
+        private static final Decisions NOT_CACHEABLE = new Decisions();
+
+        private final Map<Key, AuthorizationResult> results = new ConcurrentHashMap<>();
+    }
+
+    /** The action effects and constraints of required permissions, compared by identity */
+    private static final class Key {
+
+        private final Object[] parts;
+        private final int hash;
+
+        private Key(Object[] parts) {
+            this.parts = parts;
+            int hash = 1;
+            for (Object part : parts) {
+                hash = 31 * hash + System.identityHashCode(part);
+            }
+            this.hash = hash;
+        }
+
+        /**
+         * Creates the key of required permissions.
+         *
+         * @return the key, or {@code null} if the decisions for the permissions can't be cached
+         */
+        static Key of(PermissionCollection requiredPermissions) {
+            final List<Object> parts = new ArrayList<>();
+            final Enumeration<Permission> enumeration = requiredPermissions.elements();
+            while (enumeration.hasMoreElements()) {
+                final Permission permission = enumeration.nextElement();
+                if (!(permission instanceof SimpleManagementPermission)) {
+                    return null;
+                }
+                final SimpleManagementPermission required = (SimpleManagementPermission) permission;
+                parts.add(required.getActionEffect());
+                for (Constraint constraint : required.getConstraints()) {
+                    if (!constraint.isCacheable()) {
+                        return null;
+                    }
+                    parts.add(constraint);
+                }
+            }
+            return new Key(parts.toArray());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key other = (Key) o;
+            if (hash != other.hash || parts.length != other.parts.length) {
+                return false;
+            }
+            for (int i = 0; i < parts.length; i++) {
+                if (parts[i] != other.parts[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
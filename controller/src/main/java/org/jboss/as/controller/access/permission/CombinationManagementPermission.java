@@ -91,6 +91,16 @@ public class CombinationManagementPermission extends ManagementPermission {
         }
     }
 
+    @Override
+    boolean isCacheable() {
+        for (ManagementPermission underlying : underlyingPermissions.values()) {
+            if (!underlying.isCacheable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
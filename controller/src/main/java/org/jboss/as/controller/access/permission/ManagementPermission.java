@@ -56,4 +56,15 @@ public abstract class ManagementPermission extends Permission {
     public Action.ActionEffect getActionEffect() {
         return actionEffect;
     }
+
+    /**
+     * Gets whether this permission and the constraints it is made of are immutable, in which case whether it implies
+     * a permission only made of {@link org.jboss.as.controller.access.constraint.Constraint#isCacheable() cacheable}
+     * constraints is always the same.
+     *
+     * @return {@code true} if decisions involving this permission may be cached
+     */
+    boolean isCacheable() {
+        return false;
+    }
 }
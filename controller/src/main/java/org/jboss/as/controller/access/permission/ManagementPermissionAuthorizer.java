@@ -33,6 +33,7 @@ import org.wildfly.security.auth.server.SecurityIdentity;
  */
 public class ManagementPermissionAuthorizer implements Authorizer {
     private final PermissionFactory permissionFactory;
+    private final AuthorizationDecisionCache decisionCache = new AuthorizationDecisionCache();
 
     public ManagementPermissionAuthorizer(PermissionFactory permissionFactory) {
         this.permissionFactory = permissionFactory;
@@ -61,8 +62,11 @@ public class ManagementPermissionAuthorizer implements Authorizer {
             return AuthorizationResult.PERMITTED;
         }
         PermissionCollection userPerms = permissionFactory.getUserPermissions(identity, callEnvironment, action, target);
+        if (userPerms == AllPermissionsCollection.INSTANCE) {
+            return AuthorizationResult.PERMITTED;
+        }
         PermissionCollection requiredPerms = permissionFactory.getRequiredPermissions(action, target);
-        return authorize(userPerms, requiredPerms);
+        return decisionCache.getDecision(userPerms, requiredPerms, () -> authorize(userPerms, requiredPerms));
     }
 
     @Override
@@ -76,7 +80,32 @@ public class ManagementPermissionAuthorizer implements Authorizer {
             return AuthorizationResult.PERMITTED;
         }
         PermissionCollection requiredPerms = permissionFactory.getRequiredPermissions(action, target);
-        return authorize(userPerms, requiredPerms);
+        return decisionCache.getDecision(userPerms, requiredPerms, () -> authorize(userPerms, requiredPerms));
+    }
+
+    /**
+     * Discards the cached authorization decisions, e.g. once the permissions they were made for are no longer in use.
+     */
+    protected void clearCachedDecisions() {
+        decisionCache.clear();
+    }
+
+    /**
+     * Gets the number of authorization decisions found in the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getCachedDecisionHits() {
+        return decisionCache.getHits();
+    }
+
+    /**
+     * Gets the number of cacheable authorization decisions which were not found in the cache.
+     *
+     * @return the number of cache misses
+     */
+    public long getCachedDecisionMisses() {
+        return decisionCache.getMisses();
     }
 
     private static boolean assertSameAddress(Action action, TargetResource target) {
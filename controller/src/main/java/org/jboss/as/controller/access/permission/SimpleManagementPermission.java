@@ -54,6 +54,20 @@ public class SimpleManagementPermission extends ManagementPermission {
         return false;
     }
 
+    @Override
+    boolean isCacheable() {
+        for (Constraint constraint : constraints) {
+            if (!constraint.isCacheable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Constraint[] getConstraints() {
+        return constraints;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -16,6 +16,7 @@ import java.util.Set;
 import org.jboss.as.controller.access.AuthorizerConfiguration;
 import org.jboss.as.controller.access.Environment;
 import org.jboss.as.controller.access.permission.ManagementPermissionAuthorizer;
+import org.jboss.as.controller.logging.ControllerLogger;
 import org.wildfly.security.auth.server.SecurityIdentity;
 
 /**
@@ -68,6 +69,18 @@ public final class StandardRBACAuthorizer extends ManagementPermissionAuthorizer
     private final DefaultPermissionFactory permissionFactory;
     private final RoleMapper roleMapper;
     private final Map<String, String> mappedToOfficialForm = Collections.synchronizedMap(new HashMap<String, String>());
+    // The permissions are recreated when the scoped roles change, discard the decisions made for the previous ones
+    private final AuthorizerConfiguration.ScopedRoleListener decisionCacheCleaner = new AuthorizerConfiguration.ScopedRoleListener() {
+        @Override
+        public void scopedRoleAdded(AuthorizerConfiguration.ScopedRole added) {
+            clearCachedDecisions();
+        }
+
+        @Override
+        public void scopedRoleRemoved(AuthorizerConfiguration.ScopedRole removed) {
+            clearCachedDecisions();
+        }
+    };
 
     private StandardRBACAuthorizer(final AuthorizerConfiguration configuration,
                                    final DefaultPermissionFactory permissionFactory, final RoleMapper roleMapper) {
@@ -75,6 +88,7 @@ public final class StandardRBACAuthorizer extends ManagementPermissionAuthorizer
         this.configuration = configuration;
         this.permissionFactory = permissionFactory;
         configuration.registerScopedRoleListener(permissionFactory);
+        configuration.registerScopedRoleListener(decisionCacheCleaner);
         this.roleMapper = roleMapper;
         for (StandardRole std : StandardRole.values()) {
             mappedToOfficialForm.put(std.toString(), std.getFormalName());
@@ -129,5 +143,8 @@ public final class StandardRBACAuthorizer extends ManagementPermissionAuthorizer
 
     public void shutdown() {
         configuration.unregisterScopedRoleListener(permissionFactory);
+        configuration.unregisterScopedRoleListener(decisionCacheCleaner);
+        ControllerLogger.ACCESS_LOGGER.debugf("Authorization decision cache hits: %d, misses: %d",
+                getCachedDecisionHits(), getCachedDecisionMisses());
     }
 }
@@ -235,6 +235,7 @@ public class ModelDescriptionConstants {
     public static final String HOST_SCOPED_ROLE = "host-scoped-role";
     public static final String HOST_SCOPED_ROLES = "host-scoped-roles";
     public static final String HOST_STATE = "host-state";
+    public static final String HTTP2 = "http2";
     public static final String HTTP_AUTHENTICATION_FACTORY = "http-authentication-factory";
     public static final String HTTP_UPGRADE = "http-upgrade";
     public static final String HTTP_UPGRADE_ENABLED = "http-upgrade-enabled";
@@ -277,6 +278,7 @@ public class ModelDescriptionConstants {
     public static final String LEVEL = "level";
     public static final String LDAP = "ldap";
     public static final String LDAP_CONNECTION = "ldap-connection";
+    public static final String LIMIT = "limit";
     public static final String LIST_SNAPSHOTS_OPERATION = "list-snapshots";
     public static final String LIST_MODULES = "list-modules";
     public static final String LOCAL = "local";
@@ -300,6 +302,7 @@ public class ModelDescriptionConstants {
     public static final String MASK = "mask";
     public static final String MAX = "max";
     public static final String MAX_BACKUP_INDEX = "max-backup-index";
+    public static final String MAX_CONCURRENT_SERVER_STARTS = "max-concurrent-server-starts";
     public static final String MAX_FAILED_SERVERS = "max-failed-servers";
     public static final String MAX_FAILURE_COUNT = "max-failure-count";
     public static final String MAX_FAILURE_PERCENTAGE = "max-failure-percentage";
@@ -337,10 +340,12 @@ public class ModelDescriptionConstants {
     public static final String NOTIFICATION_TYPE = "notification-type";
     public static final String NOTIFICATIONS = "notifications";
     public static final String NO_SERVICES = "no-services";
+    public static final String OFFSET = "offset";
     /** Use this as the standard operation name field in the operation *request* ModelNode */
     public static final String OP = "operation";
     /** Use this standard operation address field in the operation *request* ModelNode */
     public static final String OP_ADDR = "address";
+    public static final String ORDER_BY = "order-by";
     public static final String ORGANIZATION = "organization";
     public static final String OPERATION_DATE = "operation-date";
     public static final String OPERATION_HEADERS = "operation-headers";
@@ -359,6 +364,8 @@ public class ModelDescriptionConstants {
     public static final String OWNER = "owner";
     public static final String PACKAGE = "package";
     public static final String PACKAGES = "packages";
+    public static final String PARALLEL = "parallel";
+    public static final String PARALLEL_READ_MAX_THREADS = "parallel-read-max-threads";
     public static final String PARAMS = "params";
     public static final String PARSE_ROLES_FROM_DN = "parse-group-name-from-dn";
     public static final String PASSIVE = "passive";
@@ -610,6 +617,7 @@ public class ModelDescriptionConstants {
     public static final String VAULT_OPTION = "vault-option";
     public static final String VAULT_OPTIONS = "vault-options";
     public static final String VERBOSE = "verbose";
+    public static final String VIRTUAL_THREADS = "virtual-threads";
     public static final String WARNING = "warning";
     public static final String WARNINGS = "warnings";
     public static final String WARNING_LEVEL = "warning-level";
@@ -53,6 +53,7 @@ import org.jboss.as.controller.access.JmxAction;
 import org.jboss.as.controller.access.JmxTarget;
 import org.jboss.as.controller.access.TargetAttribute;
 import org.jboss.as.controller.access.TargetResource;
+import org.jboss.as.controller.access.constraint.AccessConstraintClassifications;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.access.management.JmxAuthorizer;
 import org.jboss.as.controller.audit.AuditLogger;
@@ -1167,6 +1168,11 @@ public final class ExtensionRegistry implements FeatureRegistry {
             return deployments.getAccessConstraints();
         }
 
+        @Override
+        public AccessConstraintClassifications getAccessConstraintClassifications() {
+            return deployments.getAccessConstraintClassifications();
+        }
+
         @Override
         public ManagementResourceRegistration registerSubModel(ResourceDefinition resourceDefinition) {
             ManagementResourceRegistration depl = deployments.registerSubModel(resourceDefinition);
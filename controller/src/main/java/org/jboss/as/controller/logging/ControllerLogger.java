@@ -3881,4 +3881,20 @@ public interface ControllerLogger extends BasicLogger {
 
     @Message(id = 536, value = "Value for parameter '%1$s' must be less than or equal to '%3$s': '%2$s'")
     OperationFailedException inclusiveUpperBoundExceeded(String name, Object value, Object upperBound);
+
+    @LogMessage(level = WARN)
+    @Message(id = 537, value = "Virtual threads are not supported by this Java runtime, handling management requests on platform threads")
+    void virtualThreadsNotSupported();
+
+    @LogMessage(level = DEBUG)
+    @Message(id = 538, value = "Executor '%s' using %s threads handled %d management requests, which waited %d microseconds on average and %d at most before being handled, %d requests were rejected")
+    void managementRequestQueueTimes(String name, String threadType, long requests, long averageMicros, long maxMicros, long rejected);
+
+    @LogMessage(level = DEBUG)
+    @Message(id = 539, value = "Marshalled the configuration in %d ms, %d subsystems were written and %d unchanged subsystems were reused")
+    void configurationMarshalled(long millis, int writtenSubsystems, int reusedSubsystems);
+
+    @LogMessage(level = DEBUG)
+    @Message(id = 540, value = "Stored the configuration in %s in %d ms")
+    void configurationStored(String fileName, long millis);
 }
@@ -112,6 +112,7 @@ public abstract class BaseHttpInterfaceAddStepHandler extends ManagementInterfac
         final int noRequestTimeout = resolveIntProperty(NO_REQUEST_TIMEOUT_PROPERTY, BaseHttpInterfaceResourceDefinition.NO_REQUEST_TIMEOUT, context, model);
         final int connectionHighWater = resolveIntProperty(CONNECTION_HIGH_WATER_PROPERTY, BaseHttpInterfaceResourceDefinition.CONNECTION_HIGH_WATER, context, model);
         final int connectionLowWater = resolveIntProperty(CONNECTION_LOW_WATER_PROPERTY, BaseHttpInterfaceResourceDefinition.CONNECTION_LOW_WATER, context, model);
+        final boolean http2Enabled = BaseHttpInterfaceResourceDefinition.HTTP2.resolveModelAttribute(context, model).asBoolean();
         List<ServiceName> requiredServices = installServices(context, new HttpInterfaceCommonPolicy() {
 
             @Override
@@ -174,6 +175,11 @@ public abstract class BaseHttpInterfaceAddStepHandler extends ManagementInterfac
                 return connectionLowWater;
             }
 
+            @Override
+            public boolean isHttp2Enabled() {
+                return http2Enabled;
+            }
+
 
 
 
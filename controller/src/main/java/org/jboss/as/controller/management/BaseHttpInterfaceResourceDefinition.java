@@ -212,9 +212,16 @@ public abstract class BaseHttpInterfaceResourceDefinition extends SimpleResource
             .setStability(Stability.COMMUNITY)
             .build();
 
+    public static final SimpleAttributeDefinition HTTP2 = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.HTTP2, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+            .setStability(Stability.COMMUNITY)
+            .build();
+
     protected static final AttributeDefinition[] COMMON_ATTRIBUTES = new AttributeDefinition[] { HTTP_AUTHENTICATION_FACTORY, SSL_CONTEXT, CONSOLE_ENABLED, HTTP_UPGRADE_ENABLED,
                                                                                                      HTTP_UPGRADE, SASL_PROTOCOL, SERVER_NAME, ALLOWED_ORIGINS, CONSTANT_HEADERS,
-                                                                                                     BACKLOG, NO_REQUEST_TIMEOUT, CONNECTION_HIGH_WATER, CONNECTION_LOW_WATER };
+                                                                                                     BACKLOG, NO_REQUEST_TIMEOUT, CONNECTION_HIGH_WATER, CONNECTION_LOW_WATER, HTTP2 };
 
     /**
      * @param parameters
@@ -105,6 +105,13 @@ public interface HttpInterfaceCommonPolicy {
      */
     int getConnectionLowWater();
 
+    /**
+     * Is HTTP/2 enabled on the interface, h2 negotiated using ALPN on the secure socket and h2c on the plain socket.
+     *
+     * @return {@code true} if HTTP/2 is enabled, {@code false} otherwise.
+     */
+    boolean isHttp2Enabled();
+
     static class Header {
         final String name;
         final String value;
@@ -0,0 +1,245 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.management;
+
+import static org.jboss.as.controller.logging.ControllerLogger.MGMT_OP_LOGGER;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executors handling the requests received by the management interfaces.
+ * <p>
+ * By default requests are handled by a bounded pool of platform threads, which requests blocked waiting for the
+ * controller lock or for services to stabilize hold while other requests wait in the queue. If the
+ * {@code virtual-threads} attribute of the management resource is {@code true} and the runtime supports them, each
+ * request is handled by a virtual thread of its own instead, as many at a time as the pool would have run or queued.
+ * The attribute is applied when the process boots, before the executors of its management interfaces are created.
+ * <p>
+ * In both cases the time requests wait before being handled is recorded and logged when the executor is shut down.
+ * <p>
+ * Virtual threads are off by default. The controller waits for service removals and for the verification of services
+ * using locks, but the stability monitors of the service container wait in object monitors, which pin the carrier
+ * thread of a virtual thread on Java runtimes before 24. A virtual thread waiting for services to stabilize on such
+ * a runtime therefore still holds a platform thread, of the common carrier pool rather than of the management pool.
+ */
+public final class ManagementRequestExecutors {
+
+    private static final MethodHandle VIRTUAL_THREAD_FACTORY = virtualThreadFactory();
+    private static final MethodHandle THREAD_PER_TASK_EXECUTOR = threadPerTaskExecutor();
+    private static volatile boolean virtualThreadsEnabled;
+
+    private ManagementRequestExecutors() {
+    }
+
+    /**
+     * Gets whether management requests are to be handled by virtual threads by the executors created from now on.
+     *
+     * @return {@code true} if virtual threads were enabled and the runtime supports them
+     */
+    public static boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Sets whether management requests are to be handled by virtual threads by the executors created from now on,
+     * which is ignored with a warning if the runtime doesn't support them. Executors already created are unaffected.
+     *
+     * @param enabled {@code true} to handle requests by virtual threads
+     */
+    public static void setVirtualThreadsEnabled(final boolean enabled) {
+        if (enabled && (VIRTUAL_THREAD_FACTORY == null || THREAD_PER_TASK_EXECUTOR == null)) {
+            MGMT_OP_LOGGER.virtualThreadsNotSupported();
+            virtualThreadsEnabled = false;
+        } else {
+            virtualThreadsEnabled = enabled;
+        }
+    }
+
+    /**
+     * Creates an executor starting a virtual thread per request.
+     *
+     * @param name the prefix of the names of the threads
+     * @param maxConcurrentRequests the number of requests which may be handled or waiting at a time, beyond which
+     *                              requests are rejected
+     * @return the executor, which records the time requests wait
+     * @throws IllegalStateException if virtual threads are not supported, see {@link #isVirtualThreadsEnabled()}
+     */
+    public static ExecutorService createVirtualThreadExecutor(final String name, final int maxConcurrentRequests) {
+        if (VIRTUAL_THREAD_FACTORY == null || THREAD_PER_TASK_EXECUTOR == null) {
+            throw new IllegalStateException();
+        }
+        final ExecutorService delegate;
+        try {
+            final ThreadFactory threadFactory = (ThreadFactory) VIRTUAL_THREAD_FACTORY.invoke(name + " -- ");
+            delegate = (ExecutorService) THREAD_PER_TASK_EXECUTOR.invoke(threadFactory);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+        return new RequestExecutor(name, delegate, new Semaphore(maxConcurrentRequests), true);
+    }
+
+    /**
+     * Wraps a pool of platform threads, recording the time requests wait in its queue.
+     *
+     * @param name the name of the pool
+     * @param delegate the pool
+     * @return the executor
+     */
+    public static ExecutorService track(final String name, final ExecutorService delegate) {
+        return new RequestExecutor(name, delegate, null, false);
+    }
+
+    private static MethodHandle virtualThreadFactory() {
+        // Thread.ofVirtual().name(prefix, 0).factory(), which requires Java 21
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            final MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+            final MethodHandle name = lookup.findVirtual(ofVirtualClass, "name", MethodType.methodType(ofVirtualClass, String.class, long.class));
+            final MethodHandle factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+            // (String) -> ThreadFactory
+            MethodHandle result = MethodHandles.insertArguments(name, 2, 0L);
+            result = MethodHandles.collectArguments(result, 0, ofVirtual);
+            result = MethodHandles.filterReturnValue(result, factory.asType(MethodType.methodType(ThreadFactory.class, ofVirtualClass)));
+            return result;
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle threadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Executor recording the time between the submission of a request and the start of its handling.
+     */
+    static final class RequestExecutor extends AbstractExecutorService {
+
+        private final String name;
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+        private final boolean virtual;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder totalQueueNanos = new LongAdder();
+        private final LongAccumulator maxQueueNanos = new LongAccumulator(Math::max, 0L);
+        private final AtomicLong rejected = new AtomicLong();
+
+        private RequestExecutor(final String name, final ExecutorService delegate, final Semaphore permits, final boolean virtual) {
+            this.name = name;
+            this.delegate = delegate;
+            this.permits = permits;
+            this.virtual = virtual;
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            if (permits != null && !permits.tryAcquire()) {
+                rejected.incrementAndGet();
+                throw new RejectedExecutionException();
+            }
+            final long submitted = System.nanoTime();
+            final Runnable task = () -> {
+                final long queued = System.nanoTime() - submitted;
+                requests.increment();
+                totalQueueNanos.add(queued);
+                maxQueueNanos.accumulate(queued);
+                try {
+                    command.run();
+                } finally {
+                    if (permits != null) {
+                        permits.release();
+                    }
+                }
+            };
+            try {
+                delegate.execute(task);
+            } catch (RejectedExecutionException e) {
+                if (permits != null) {
+                    permits.release();
+                }
+                rejected.incrementAndGet();
+                throw e;
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+            logStatistics();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            final List<Runnable> result = delegate.shutdownNow();
+            logStatistics();
+            return result;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+
+        long getRequestCount() {
+            return requests.sum();
+        }
+
+        long getAverageQueueNanos() {
+            final long count = requests.sum();
+            return count == 0 ? 0 : totalQueueNanos.sum() / count;
+        }
+
+        long getMaxQueueNanos() {
+            return maxQueueNanos.get();
+        }
+
+        long getRejectedCount() {
+            return rejected.get();
+        }
+
+        private void logStatistics() {
+            MGMT_OP_LOGGER.managementRequestQueueTimes(name, virtual ? "virtual" : "platform", getRequestCount(),
+                    TimeUnit.NANOSECONDS.toMicros(getAverageQueueNanos()), TimeUnit.NANOSECONDS.toMicros(getMaxQueueNanos()),
+                    getRejectedCount());
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
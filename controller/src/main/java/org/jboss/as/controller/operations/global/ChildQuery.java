@@ -0,0 +1,230 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.operations.global;
+
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.LIMIT;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.OFFSET;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.ORDER_BY;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * The parameters of the operations reading the children of a resource selecting which children are read, i.e.
+ * {@code offset} and {@code limit}, plus {@code where}, {@code order-by} and {@code select} for
+ * {@code read-children-resources}.
+ * <p>
+ * When the children are filtered and ordered by configuration attributes, these are evaluated against the persistent
+ * models of the children, so that only the selected children are read. Otherwise the selection is applied to the
+ * result of reading all the children.
+ */
+final class ChildQuery {
+
+    private final int offset;
+    private final int limit;
+    private final String orderBy;
+    private final ModelNode where;
+    private final ModelNode select;
+
+    private ChildQuery(int offset, int limit, String orderBy, ModelNode where, ModelNode select) {
+        this.offset = offset;
+        this.limit = limit;
+        this.orderBy = orderBy;
+        this.where = where;
+        this.select = select;
+    }
+
+    /**
+     * Creates the query of an operation only supporting the {@code offset} and {@code limit} parameters.
+     */
+    static ChildQuery page(OperationContext context, ModelNode operation) throws OperationFailedException {
+        return new ChildQuery(OFFSET.resolveModelAttribute(context, operation).asInt(),
+                LIMIT.resolveModelAttribute(context, operation).asInt(Integer.MAX_VALUE), null, new ModelNode(), new ModelNode());
+    }
+
+    /**
+     * Creates the query of an operation supporting all the parameters.
+     */
+    static ChildQuery create(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final ModelNode orderBy = ORDER_BY.resolveModelAttribute(context, operation);
+        return new ChildQuery(OFFSET.resolveModelAttribute(context, operation).asInt(),
+                LIMIT.resolveModelAttribute(context, operation).asInt(Integer.MAX_VALUE),
+                orderBy.isDefined() ? orderBy.asString() : null,
+                QueryOperationHandler.WHERE_ATT.validateOperation(operation),
+                QueryOperationHandler.SELECT_ATT.validateOperation(operation));
+    }
+
+    /**
+     * Gets whether the query selects a subset of the children, or returns them in another order than by name.
+     */
+    boolean isSelective() {
+        return offset > 0 || limit < Integer.MAX_VALUE || orderBy != null || where.isDefined();
+    }
+
+    boolean isProjected() {
+        return select.isDefined();
+    }
+
+    /**
+     * Gets whether any of the projected attributes is a runtime attribute of the children.
+     */
+    boolean isRuntimeProjected(ImmutableManagementResourceRegistration childRegistration) {
+        if (childRegistration == null) {
+            return true;
+        }
+        for (ModelNode attribute : select.asList()) {
+            final AttributeAccess access = childRegistration.getAttributeAccess(PathAddress.EMPTY_ADDRESS, attribute.asString());
+            if (access == null || access.getStorageType() != AttributeAccess.Storage.CONFIGURATION) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the definitions of the attributes the children are filtered and ordered by, if they can be evaluated
+     * against the persistent models of the children, i.e. they are configuration attributes whose access is not
+     * constrained.
+     *
+     * @param childRegistration the registration of the children, may be {@code null}
+     * @return the definitions, or {@code null} if the attributes cannot be evaluated against the persistent models
+     */
+    Map<String, AttributeDefinition> getModelAttributes(ImmutableManagementResourceRegistration childRegistration) {
+        if (childRegistration == null || childRegistration.isRemote() || childRegistration.isRuntimeOnly()
+                || !childRegistration.getAccessConstraints().isEmpty()) {
+            return null;
+        }
+        final List<String> names = new ArrayList<>();
+        if (where.isDefined()) {
+            names.addAll(where.keys());
+        }
+        if (orderBy != null) {
+            names.add(orderBy);
+        }
+        final Map<String, AttributeDefinition> attributes = new LinkedHashMap<>();
+        for (String name : names) {
+            final AttributeAccess access = childRegistration.getAttributeAccess(PathAddress.EMPTY_ADDRESS, name);
+            if (access == null || access.getStorageType() != AttributeAccess.Storage.CONFIGURATION
+                    || !access.getAttributeDefinition().getAccessConstraints().isEmpty()) {
+                return null;
+            }
+            attributes.put(name, access.getAttributeDefinition());
+        }
+        return attributes;
+    }
+
+    /**
+     * Gets the values of the attributes the children are filtered and ordered by from the persistent model of a child.
+     */
+    static ModelNode readModelAttributes(Resource child, Map<String, AttributeDefinition> attributes, boolean includeDefaults) {
+        final ModelNode model = child.getModel();
+        final ModelNode values = new ModelNode().setEmptyObject();
+        for (Map.Entry<String, AttributeDefinition> entry : attributes.entrySet()) {
+            final String name = entry.getKey();
+            if (model.hasDefined(name)) {
+                values.get(name).set(model.get(name));
+            } else if (includeDefaults && entry.getValue().getDefaultValue() != null) {
+                values.get(name).set(entry.getValue().getDefaultValue());
+            } else {
+                values.get(name);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Gets whether the attributes of a child match the {@code where} parameter.
+     */
+    boolean matches(ModelNode attributes) throws OperationFailedException {
+        return !where.isDefined() || QueryOperationHandler.FilterReduceHandler.matchesFilter(attributes, where, QueryOperationHandler.Operator.AND);
+    }
+
+    /**
+     * Orders the children matching the query by the {@code order-by} parameter.
+     *
+     * @param children the matching children, by name, along with the attributes they are ordered by
+     */
+    List<Map.Entry<String, ModelNode>> order(Map<String, ModelNode> children) {
+        final List<Map.Entry<String, ModelNode>> ordered = new ArrayList<>(children.entrySet());
+        if (orderBy != null) {
+            ordered.sort(Comparator.<Map.Entry<String, ModelNode>, ModelNode>comparing(entry -> entry.getValue().get(orderBy), ChildQuery::compareValues)
+                    .thenComparing(Map.Entry::getKey));
+        }
+        return ordered;
+    }
+
+    int getOffset() {
+        return offset;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Applies the query to the results of reading the children.
+     *
+     * @param children the results of reading the children, by name
+     * @return the selected results, in order
+     */
+    Map<String, ModelNode> apply(Map<String, ModelNode> children) throws OperationFailedException {
+        final Map<String, ModelNode> matching = new LinkedHashMap<>();
+        for (Map.Entry<String, ModelNode> entry : children.entrySet()) {
+            if (matches(entry.getValue())) {
+                matching.put(entry.getKey(), entry.getValue());
+            }
+        }
+        final Map<String, ModelNode> selected = new LinkedHashMap<>();
+        final List<Map.Entry<String, ModelNode>> ordered = order(matching);
+        for (int i = offset; i < ordered.size() && selected.size() < limit; i++) {
+            selected.put(ordered.get(i).getKey(), ordered.get(i).getValue());
+        }
+        return selected;
+    }
+
+    /**
+     * Reduces the result of reading a child to the attributes of the {@code select} parameter.
+     */
+    ModelNode project(ModelNode result) throws OperationFailedException {
+        return select.isDefined() && result.isDefined() ? QueryOperationHandler.FilterReduceHandler.reduce(result, select) : result;
+    }
+
+    private static int compareValues(ModelNode value, ModelNode other) {
+        if (!value.isDefined() || !other.isDefined()) {
+            // undefined values last
+            return Boolean.compare(!value.isDefined(), !other.isDefined());
+        }
+        if (isNumber(value) && isNumber(other)) {
+            return value.asBigDecimal().compareTo(other.asBigDecimal());
+        }
+        return value.asString().compareTo(other.asString());
+    }
+
+    private static boolean isNumber(ModelNode value) {
+        switch (value.getType()) {
+            case INT:
+            case LONG:
+            case DOUBLE:
+            case BIG_INTEGER:
+            case BIG_DECIMAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -73,6 +73,22 @@ class GlobalOperationAttributes {
     .setRequired(true)
     .build();
 
+    static final SimpleAttributeDefinition OFFSET = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.OFFSET, ModelType.INT)
+    .setRequired(false)
+    .setDefaultValue(ModelNode.ZERO)
+    .setValidator(new IntRangeValidator(0, true))
+    .build();
+
+    static final SimpleAttributeDefinition LIMIT = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.LIMIT, ModelType.INT)
+    .setRequired(false)
+    .setValidator(new IntRangeValidator(0, true))
+    .build();
+
+    static final SimpleAttributeDefinition ORDER_BY = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.ORDER_BY, ModelType.STRING)
+    .setValidator(new StringLengthValidator(1, true))
+    .setRequired(false)
+    .build();
+
     static final SimpleAttributeDefinition VALUE = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.VALUE, ModelType.STRING)
     .setValidator(new StringLengthValidator(1))
     .setRequired(false)
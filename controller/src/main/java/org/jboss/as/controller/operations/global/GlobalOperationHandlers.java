@@ -7,13 +7,16 @@ package org.jboss.as.controller.operations.global;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_CONTROL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PARALLEL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
@@ -36,11 +39,13 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.ParallelReadExecutor;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ProcessType;
@@ -224,11 +229,15 @@ public class GlobalOperationHandlers {
                         doExecute(context, operation, localFilteredData, true);
                     }
                 };
+                // Or, if requested, to read the targets concurrently, each with filtered data of its own
+                final Function<FilteredData, OperationStepHandler> parallelStepHandler = !registryOnly && isParallelRead(context, operation)
+                        ? targetFilteredData -> (ctx, op) -> doExecute(ctx, op, targetFilteredData, true)
+                        : null;
                 final ModelNode fakeOperationResponse = new ModelNode();
                 context.addStep(fakeOperationResponse, FAKE_OPERATION.clone(),
                         registryOnly ?
                             new RegistrationAddressResolver(operation, result, delegateStepHandler) :
-                            new ModelAddressResolver(operation, result, localFilteredData, delegateStepHandler, predicate),
+                            new ModelAddressResolver(operation, result, localFilteredData, delegateStepHandler, predicate, parallelStepHandler),
                         OperationContext.Stage.MODEL, true
                 );
                 context.completeStep(new MultiTargetResultHandler(fakeOperationResponse, localFilteredData, result));
@@ -252,6 +261,15 @@ public class GlobalOperationHandlers {
          */
         abstract void doExecute(OperationContext context, ModelNode operation, FilteredData filteredData, boolean ignoreMissingResource) throws OperationFailedException;
 
+        /**
+         * Gets whether the targets of a read-only operation should be read concurrently, as requested by its
+         * {@code parallel} header.
+         */
+        private static boolean isParallelRead(OperationContext context, ModelNode operation) {
+            return operation.hasDefined(OPERATION_HEADERS, PARALLEL) && operation.get(OPERATION_HEADERS, PARALLEL).asBoolean()
+                    && STD_READ_OPS.contains(operation.require(OP).asString()) && ParallelReadExecutor.isAvailable(context);
+        }
+
         private static class MultiTargetResultHandler implements OperationContext.ResultHandler {
 
             private final FilteredData localFilteredData;
@@ -319,16 +337,28 @@ public class GlobalOperationHandlers {
         private final FilteredData filteredData;
         private final FilterPredicate predicate;
         private final OperationStepHandler handler; // handler bypassing further wildcard resolution
+        // creates the handlers of targets read concurrently, null if they are read one after the other
+        private final Function<FilteredData, OperationStepHandler> parallelHandler;
+        private final List<ParallelTarget> parallelTargets = new ArrayList<>();
 
         public AbstractAddressResolver(final ModelNode operation, final ModelNode result,
                                     final OperationStepHandler delegate,
                                     final FilteredData filteredData,
                                     final FilterPredicate predicate) {
+            this(operation, result, delegate, filteredData, predicate, null);
+        }
+
+        AbstractAddressResolver(final ModelNode operation, final ModelNode result,
+                                final OperationStepHandler delegate,
+                                final FilteredData filteredData,
+                                final FilterPredicate predicate,
+                                final Function<FilteredData, OperationStepHandler> parallelHandler) {
             this.operation = operation;
             this.result = result;
             this.handler = delegate;
             this.predicate = predicate == null ? DEFAULT_PREDICATE : predicate;
             this.filteredData = filteredData;
+            this.parallelHandler = parallelHandler;
         }
 
         /**
@@ -342,6 +372,9 @@ public class GlobalOperationHandlers {
             final PathAddress address = aliasAddr == null ? addr : aliasAddr;
 
             execute(PathAddress.EMPTY_ADDRESS, address, context, context.getRootResourceRegistration(), true);
+            if (!parallelTargets.isEmpty()) {
+                context.addStep(this::executeParallelTargets, OperationContext.Stage.MODEL, true);
+            }
             context.completeStep(new OperationContext.ResultHandler() {
                 @Override
                 public void handleResult(OperationContext.ResultAction resultAction, OperationContext context, ModelNode operation) {
@@ -450,7 +483,14 @@ public class GlobalOperationHandlers {
 
                 final ModelNode resultItem = this.result.add();
                 ControllerLogger.MGMT_OP_LOGGER.tracef("Added ModelAddressResolver result item for %s", base);
-                final ModelNode resultAddress = resultItem.get(OP_ADDR);
+                // the address is set once there is a result, but comes first in the result item
+                resultItem.get(OP_ADDR);
+
+                if (parallelHandler != null) {
+                    // Read along with the other targets once all are resolved
+                    parallelTargets.add(new ParallelTarget(base, newOp, resultItem));
+                    return;
+                }
 
                 final OperationStepHandler wrapper = new OperationStepHandler() {
                     @Override
@@ -460,20 +500,7 @@ public class GlobalOperationHandlers {
                             context.completeStep(new OperationContext.ResultHandler() {
                                 @Override
                                 public void handleResult(OperationContext.ResultAction resultAction, OperationContext context, ModelNode operation) {
-                                    ControllerLogger.MGMT_OP_LOGGER.tracef("ModelAddressResolver result for %s is %s", base, resultItem);
-                                    if (resultItem.hasDefined(RESULT)) {
-                                        resultAddress.set(base.toModelNode());
-                                        if (resultItem.hasDefined(RESPONSE_HEADERS, ACCESS_CONTROL)) {
-                                            ModelNode headers = resultItem.get(RESPONSE_HEADERS);
-                                            ModelNode acc = headers.remove(ACCESS_CONTROL);
-                                            if (headers.asInt() == 0) {
-                                                resultItem.remove(RESPONSE_HEADERS);
-                                            }
-                                            filteredData.populate(acc, PathAddress.EMPTY_ADDRESS);
-                                        }
-                                    } else {
-                                        resultItem.clear();
-                                    }
+                                    recordResult(base, resultItem);
                                 }
                             });
                         } catch (Resource.NoSuchResourceException e) {
@@ -485,6 +512,73 @@ public class GlobalOperationHandlers {
             }
         }
 
+        private void recordResult(PathAddress base, ModelNode resultItem) {
+            ControllerLogger.MGMT_OP_LOGGER.tracef("ModelAddressResolver result for %s is %s", base, resultItem);
+            if (resultItem.hasDefined(RESULT)) {
+                resultItem.get(OP_ADDR).set(base.toModelNode());
+                if (resultItem.hasDefined(RESPONSE_HEADERS, ACCESS_CONTROL)) {
+                    ModelNode headers = resultItem.get(RESPONSE_HEADERS);
+                    ModelNode acc = headers.remove(ACCESS_CONTROL);
+                    if (headers.asInt() == 0) {
+                        resultItem.remove(RESPONSE_HEADERS);
+                    }
+                    filteredData.populate(acc, PathAddress.EMPTY_ADDRESS);
+                }
+            } else {
+                resultItem.clear();
+            }
+        }
+
+        /**
+         * Reads the resolved targets concurrently, then records their results as if each target had been read in a
+         * step of its own. Such steps are added first, so they execute in the reverse order of resolution and the
+         * operation fails with the failure of the first one failing in that order, without the results of the later ones.
+         */
+        private void executeParallelTargets(OperationContext context, ModelNode ignored) throws OperationFailedException {
+            final List<ModelNode> operations = new ArrayList<>(parallelTargets.size());
+            final List<OperationStepHandler> handlers = new ArrayList<>(parallelTargets.size());
+            final List<FilteredData> targetFilteredData = new ArrayList<>(parallelTargets.size());
+            for (ParallelTarget target : parallelTargets) {
+                final FilteredData targetFiltered = new FilteredData(PathAddress.EMPTY_ADDRESS);
+                final OperationStepHandler targetHandler = parallelHandler.apply(targetFiltered);
+                operations.add(target.operation);
+                targetFilteredData.add(targetFiltered);
+                handlers.add((ctx, op) -> {
+                    try {
+                        targetHandler.execute(ctx, op);
+                    } catch (Resource.NoSuchResourceException e) {
+                        // just discard the result to avoid leaking the inaccessible address
+                    }
+                });
+            }
+            final List<ModelNode> responses = ParallelReadExecutor.execute(context, operations, handlers);
+            // Steps execute in the reverse order of resolution until one fails
+            int executed = parallelTargets.size();
+            ModelNode failureDescription = null;
+            while (executed > 0 && failureDescription == null) {
+                final ModelNode response = responses.get(--executed);
+                if (FAILED.equals(response.get(OUTCOME).asString())) {
+                    failureDescription = response.get(FAILURE_DESCRIPTION);
+                    executed++;
+                } else {
+                    final ParallelTarget target = parallelTargets.get(executed);
+                    for (String key : response.keys()) {
+                        target.resultItem.get(key).set(response.get(key));
+                    }
+                    if (targetFilteredData.get(executed).hasFilteredData()) {
+                        filteredData.populate(targetFilteredData.get(executed).toModelNode(), PathAddress.EMPTY_ADDRESS);
+                    }
+                }
+            }
+            // while their result handlers run in the order of resolution
+            for (int i = executed; i < parallelTargets.size(); i++) {
+                recordResult(parallelTargets.get(i).address, parallelTargets.get(i).resultItem);
+            }
+            if (failureDescription != null) {
+                throw new OperationFailedException(failureDescription.asString(), failureDescription);
+            }
+        }
+
         protected abstract void executeSingleTargetChild(PathAddress base, PathElement currentElement,
                                                          PathAddress newRemaining, OperationContext context, boolean ignoreMissing);
 
@@ -670,11 +764,30 @@ public class GlobalOperationHandlers {
 
     }
 
+    /** A resolved target of a multi-target operation, read concurrently with the others */
+    private static final class ParallelTarget {
+
+        private final PathAddress address;
+        private final ModelNode operation;
+        private final ModelNode resultItem;
+
+        private ParallelTarget(PathAddress address, ModelNode operation, ModelNode resultItem) {
+            this.address = address;
+            this.operation = operation;
+            this.resultItem = resultItem;
+        }
+    }
+
     private static final class ModelAddressResolver extends AbstractAddressResolver {
         public ModelAddressResolver(ModelNode operation, ModelNode result, FilteredData filteredData, OperationStepHandler delegate, FilterPredicate predicate) {
             super(operation, result, delegate, filteredData, predicate);
         }
 
+        ModelAddressResolver(ModelNode operation, ModelNode result, FilteredData filteredData, OperationStepHandler delegate,
+                             FilterPredicate predicate, Function<FilteredData, OperationStepHandler> parallelHandler) {
+            super(operation, result, delegate, filteredData, predicate, parallelHandler);
+        }
+
         protected void executeMultiTargetChildren(PathAddress base, PathElement currentElement, PathAddress newRemaining, OperationContext context, ImmutableManagementResourceRegistration registration, boolean ignoreMissing) {
             final Resource resource = context.readResource(base, false);
             final String childType = currentElement.getKey().equals("*") ? null : currentElement.getKey();
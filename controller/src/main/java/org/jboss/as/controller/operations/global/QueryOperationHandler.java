@@ -67,7 +67,7 @@ public final class QueryOperationHandler extends GlobalOperationHandlers.Abstrac
             .setValidator(EnumValidator.create(Operator.class))
             .build();
 
-    private static final AttributeDefinition SELECT_ATT = new PrimitiveListAttributeDefinition.Builder(ModelDescriptionConstants.SELECT, ModelType.STRING)
+    static final AttributeDefinition SELECT_ATT = new PrimitiveListAttributeDefinition.Builder(ModelDescriptionConstants.SELECT, ModelType.STRING)
             .setRequired(false)
             .build();
 
@@ -173,7 +173,7 @@ public final class QueryOperationHandler extends GlobalOperationHandlers.Abstrac
 
         }
 
-        private static boolean matchesFilter(final ModelNode resource, final ModelNode filter, final Operator operator) throws OperationFailedException {
+        static boolean matchesFilter(final ModelNode resource, final ModelNode filter, final Operator operator) throws OperationFailedException {
             boolean isMatching = false;
             List<Property> filterProperties = filter.asPropertyList();
             List<Boolean> matches = new ArrayList<>(filterProperties.size());
@@ -250,7 +250,7 @@ public final class QueryOperationHandler extends GlobalOperationHandlers.Abstrac
             return isMatching;
         }
 
-        private static ModelNode reduce(final ModelNode payload, final ModelNode attributes) throws OperationFailedException {
+        static ModelNode reduce(final ModelNode payload, final ModelNode attributes) throws OperationFailedException {
 
             ModelNode outcome = new ModelNode();
 
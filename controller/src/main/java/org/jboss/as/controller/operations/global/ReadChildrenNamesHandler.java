@@ -12,6 +12,8 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REA
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.CHILD_TYPE;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.INCLUDE_SINGLETONS;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.LIMIT;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.OFFSET;
 
 import java.util.EnumSet;
 import java.util.Map;
@@ -43,7 +45,7 @@ import org.jboss.dmr.ModelType;
 public class ReadChildrenNamesHandler implements OperationStepHandler {
 
     public static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(READ_CHILDREN_NAMES_OPERATION, ControllerResolver.getResolver("global"))
-            .setParameters(CHILD_TYPE, INCLUDE_SINGLETONS)
+            .setParameters(CHILD_TYPE, INCLUDE_SINGLETONS, OFFSET, LIMIT)
             .setReadOnly()
             .setReplyType(ModelType.LIST)
             .setReplyValueType(ModelType.STRING)
@@ -56,6 +58,7 @@ public class ReadChildrenNamesHandler implements OperationStepHandler {
 
         final PathAddress address = context.getCurrentAddress();
         final String childType = CHILD_TYPE.resolveModelAttribute(context, operation).asString();
+        final ChildQuery query = ChildQuery.page(context, operation);
         final Resource resource = context.readResource(PathAddress.EMPTY_ADDRESS, false);
         ImmutableManagementResourceRegistration registry = context.getResourceRegistration();
         Map<String, Set<String>> childAddresses = GlobalOperationHandlers.getChildAddresses(context, address, registry, resource, childType);
@@ -85,10 +88,21 @@ public class ReadChildrenNamesHandler implements OperationStepHandler {
         ModelNode childProperty = opAddr.require(address.size());
         Set<Action.ActionEffect> actionEffects = EnumSet.of(Action.ActionEffect.ADDRESS);
         FilteredData fd = null;
+        // Page over the addressable children, so that the children after the page are not authorized
+        int skipped = 0;
+        int added = 0;
         for (String childName : childNames) {
+            if (added == query.getLimit()) {
+                break;
+            }
             childProperty.set(childType, new ModelNode(childName));
             if (context.authorize(op, actionEffects).getDecision() == AuthorizationResult.Decision.PERMIT) {
-                result.add(childName);
+                if (skipped < query.getOffset()) {
+                    skipped++;
+                } else {
+                    result.add(childName);
+                    added++;
+                }
             } else {
                 if (fd == null) {
                     fd = new FilteredData(address);
@@ -8,6 +8,7 @@ package org.jboss.as.controller.operations.global;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_CONTROL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
@@ -15,15 +16,24 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RES
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.CHILD_TYPE;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.INCLUDE_DEFAULTS;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.INCLUDE_RUNTIME;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.LIMIT;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.OFFSET;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.ORDER_BY;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.PROXIES;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.RECURSIVE;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.RECURSIVE_DEPTH;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationDefinition;
 import org.jboss.as.controller.OperationFailedException;
@@ -31,8 +41,11 @@ import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.access.Action;
+import org.jboss.as.controller.access.AuthorizationResult;
 import org.jboss.as.controller.descriptions.common.ControllerResolver;
 import org.jboss.as.controller.logging.ControllerLogger;
+import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
@@ -47,7 +60,8 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
 
 
     public static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(READ_CHILDREN_RESOURCES_OPERATION, ControllerResolver.getResolver("global"))
-            .setParameters(CHILD_TYPE, RECURSIVE, RECURSIVE_DEPTH, PROXIES, INCLUDE_RUNTIME, INCLUDE_DEFAULTS)
+            .setParameters(CHILD_TYPE, RECURSIVE, RECURSIVE_DEPTH, PROXIES, INCLUDE_RUNTIME, INCLUDE_DEFAULTS,
+                    OFFSET, LIMIT, ORDER_BY, QueryOperationHandler.WHERE_ATT, QueryOperationHandler.SELECT_ATT)
             .setReadOnly()
             .setReplyType(ModelType.LIST)
             .setReplyValueType(ModelType.OBJECT)
@@ -60,6 +74,7 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
 
         final PathAddress address = context.getCurrentAddress();
         final String childType = CHILD_TYPE.resolveModelAttribute(context, operation).asString();
+        final ChildQuery query = ChildQuery.create(context, operation);
 
         // Build up the op we're going to repeatedly execute
         final ModelNode readOp = new ModelNode();
@@ -70,7 +85,8 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
         PROXIES.validateAndSet(operation, readOp);
         INCLUDE_DEFAULTS.validateAndSet(operation, readOp);
 
-        final Map<PathElement, ModelNode> resources = new HashMap<PathElement, ModelNode>();
+        // Children are added in the order they are returned in if selected up front
+        final Map<PathElement, ModelNode> resources = new LinkedHashMap<PathElement, ModelNode>();
 
         final Resource resource = context.readResource(PathAddress.EMPTY_ADDRESS, false);
         final ImmutableManagementResourceRegistration registry = context.getResourceRegistration();
@@ -83,14 +99,28 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
         // Track any excluded items
         FilteredData filteredData = new FilteredData(address);
 
+        final ImmutableManagementResourceRegistration childRegistration = registry.getSubModel(PathAddress.pathAddress(PathElement.pathElement(childType)));
+        if (query.isProjected() && readOp.get(INCLUDE_RUNTIME.getName()).asBoolean(false) && !query.isRuntimeProjected(childRegistration)) {
+            // No need to read the runtime attributes only to drop them
+            readOp.get(INCLUDE_RUNTIME.getName()).set(false);
+        }
+        Collection<String> selectedNames = null;
+        if (query.isSelective()) {
+            final Map<String, AttributeDefinition> attributes = query.getModelAttributes(childRegistration);
+            if (attributes != null) {
+                selectedNames = selectChildren(context, operation, address, resource, childType, childNames, query, attributes, filteredData);
+            }
+        }
+
         // We're going to add a bunch of steps that should immediately follow this one. We are going to add them
         // in reverse order of how they should execute, building up a stack.
 
         // Last to execute is the handler that assembles the overall response from the pieces created by all the other steps
-        final ReadChildrenResourcesAssemblyHandler assemblyHandler = new ReadChildrenResourcesAssemblyHandler(resources, filteredData, address, childType);
+        final ReadChildrenResourcesAssemblyHandler assemblyHandler = new ReadChildrenResourcesAssemblyHandler(resources, filteredData,
+                address, childType, query, selectedNames != null);
         context.addStep(assemblyHandler, OperationContext.Stage.MODEL, true);
 
-        for (final String key : childNames) {
+        for (final String key : selectedNames != null ? selectedNames : childNames) {
             final PathElement childPath = PathElement.pathElement(childType, key);
             final PathAddress childAddress = PathAddress.EMPTY_ADDRESS.append(PathElement.pathElement(childType, key));
 
@@ -112,6 +142,53 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
         }
     }
 
+    /**
+     * Selects the children to read by evaluating the query against their persistent models.
+     *
+     * @return the names of the selected children, in the order they are returned in, or {@code null} if a child has
+     *         no persistent model to evaluate the query against
+     */
+    private static List<String> selectChildren(OperationContext context, ModelNode operation, PathAddress address, Resource resource,
+                                               String childType, Set<String> childNames, ChildQuery query,
+                                               Map<String, AttributeDefinition> attributes, FilteredData filteredData) throws OperationFailedException {
+        final boolean includeDefaults = INCLUDE_DEFAULTS.resolveModelAttribute(context, operation).asBoolean();
+        final Map<String, ModelNode> matching = new TreeMap<String, ModelNode>();
+        for (String name : new TreeSet<String>(childNames)) {
+            final PathElement childPath = PathElement.pathElement(childType, name);
+            if (resource.getChild(childPath) == null) {
+                return null;
+            }
+            // The children of the resource read non recursively are placeholders without a model
+            final Resource child = context.readResource(PathAddress.pathAddress(childPath), false);
+            final ModelNode values = ChildQuery.readModelAttributes(child, attributes, includeDefaults);
+            if (query.matches(values)) {
+                matching.put(name, values);
+            }
+        }
+
+        // Page over the addressable children, as the others are not returned anyway
+        final ModelNode op = Util.createEmptyOperation(READ_RESOURCE_OPERATION, address.append(PathElement.pathElement(childType)));
+        op.get(OPERATION_HEADERS).set(operation.get(OPERATION_HEADERS));
+        final ModelNode childProperty = op.get(OP_ADDR).require(address.size());
+        final Set<Action.ActionEffect> actionEffects = EnumSet.of(Action.ActionEffect.ADDRESS);
+        final List<String> selected = new ArrayList<String>();
+        int skipped = 0;
+        for (Map.Entry<String, ModelNode> entry : query.order(matching)) {
+            if (selected.size() == query.getLimit()) {
+                break;
+            }
+            childProperty.set(childType, new ModelNode(entry.getKey()));
+            if (context.authorize(op, actionEffects).getDecision() != AuthorizationResult.Decision.PERMIT) {
+                filteredData.addAccessRestrictedResource(address.append(PathElement.pathElement(childType, entry.getKey())));
+            } else if (skipped < query.getOffset()) {
+                skipped++;
+            } else {
+                selected.add(entry.getKey());
+            }
+        }
+        return selected;
+    }
+
     /**
      * Assembles the response to a read-resource request from the components gathered by earlier steps.
      */
@@ -121,6 +198,8 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
         private final FilteredData filteredData;
         private final PathAddress address;
         private final String childType;
+        private final ChildQuery query;
+        private final boolean selected;
 
         /**
          * Creates a ReadResourceAssemblyHandler that will assemble the response using the contents
@@ -132,13 +211,17 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
          * @param filteredData record of any excluded data
          * @param address    the address of the targeted resource
          * @param childType  the type of child being read
+         * @param query      the query of the children
+         * @param selected   {@code true} if the query was already applied to select the children that were read
          */
         private ReadChildrenResourcesAssemblyHandler(final Map<PathElement, ModelNode> resources, FilteredData filteredData,
-                                                     PathAddress address, String childType) {
+                                                     PathAddress address, String childType, ChildQuery query, boolean selected) {
             this.resources = resources;
             this.filteredData = filteredData;
             this.address = address;
             this.childType = childType;
+            this.query = query;
+            this.selected = selected;
         }
 
         @Override
@@ -147,7 +230,8 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
             context.addStep(new OperationStepHandler() {
                 @Override
                 public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
-                    Map<String, ModelNode> sortedChildren = new TreeMap<String, ModelNode>();
+                    // Children selected up front were read in the order they are returned in
+                    Map<String, ModelNode> sortedChildren = selected ? new LinkedHashMap<String, ModelNode>() : new TreeMap<String, ModelNode>();
                     boolean failed = false;
                     for (Map.Entry<PathElement, ModelNode> entry : resources.entrySet()) {
                         PathElement path = entry.getKey();
@@ -178,11 +262,18 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
                         final ModelNode result = context.getResult();
                         result.setEmptyObject();
 
+                        Map<String, ModelNode> children = new LinkedHashMap<String, ModelNode>();
                         for (Map.Entry<String, ModelNode> entry : sortedChildren.entrySet()) {
                             if (!hasFilteredData || !filteredData.isAddressFiltered(address, PathElement.pathElement(childType, entry.getKey()))) {
-                                result.get(entry.getKey()).set(entry.getValue());
+                                children.put(entry.getKey(), entry.getValue());
                             }
                         }
+                        if (!selected && query.isSelective()) {
+                            children = query.apply(children);
+                        }
+                        for (Map.Entry<String, ModelNode> entry : children.entrySet()) {
+                            result.get(entry.getKey()).set(query.project(entry.getValue()));
+                        }
 
                         if (hasFilteredData) {
                             context.getResponseHeaders().get(ACCESS_CONTROL).set(filteredData.toModelNode());
@@ -89,6 +89,7 @@ public enum Attribute {
     HEADER("header"),
     HOST("host"),
     HTTP("http"),
+    HTTP2("http2"),
     HTTP_AUTHENTICATION_FACTORY("http-authentication-factory"),
     HTTP_UPGRADE_ENABLED("http-upgrade-enabled"),
     HTTPS("https"),
@@ -112,6 +113,7 @@ public enum Attribute {
     MAX_HISTORY("max-history"),
     MAX_BACKUP_INDEX("max-backup-index"),
     MAX_CACHE_SIZE("max-cache-size"),
+    MAX_CONCURRENT_SERVER_STARTS("max-concurrent-server-starts"),
     MAX_FAILURE_COUNT("max-failure-count"),
     MAX_LENGTH("max-length"),
     MAX_SIZE("max-size"),
@@ -127,6 +129,7 @@ public enum Attribute {
     NATIVE("native"),
     NO_REQUEST_TIMEOUT("no-request-timeout"),
     ORGANIZATION("organization"),
+    PARALLEL_READ_MAX_THREADS("parallel-read-max-threads"),
     PARSE_ROLES_FROM_DN("parse-group-name-from-dn"),
     PASSWORD("password"),
     PATH("path"),
@@ -197,6 +200,7 @@ public enum Attribute {
     USERNAME_ATTRIBUTE("username-attribute"),
     USERNAME_LOAD("username-load"),
     VALUE("value"),
+    VIRTUAL_THREADS("virtual-threads"),
     WILDCARD("wildcard")
     ;
 
@@ -12,6 +12,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamWriter;
@@ -30,6 +31,7 @@ public abstract class AbstractConfigurationPersister implements ExtensibleConfig
 
     private final XMLElementWriter<ModelMarshallingContext> rootDeparser;
     private final ConcurrentHashMap<String, Supplier<XMLElementWriter<SubsystemMarshallingContext>>> subsystemWriterSuppliers = new ConcurrentHashMap<>();
+    private final SubsystemXmlCache subsystemXmlCache = new SubsystemXmlCache();
 
     /**
      * Construct a new instance.
@@ -48,6 +50,7 @@ public abstract class AbstractConfigurationPersister implements ExtensibleConfig
     @Override
     public void unregisterSubsystemWriter(String name) {
         subsystemWriterSuppliers.remove(name);
+        subsystemXmlCache.remove(name);
     }
 
     /** {@inheritDoc} */
@@ -55,6 +58,9 @@ public abstract class AbstractConfigurationPersister implements ExtensibleConfig
     public void marshallAsXml(final ModelNode model, final OutputStream output) throws ConfigurationPersistenceException {
         final XMLMapper mapper = XMLMapper.Factory.create();
         final Map<String, XMLElementWriter<SubsystemMarshallingContext>> localSubsystemWriters = new HashMap<>();
+        final Map<String, Integer> subsystemOccurrences = new HashMap<>();
+        final SubsystemXmlCache.Statistics statistics = new SubsystemXmlCache.Statistics();
+        final long start = System.nanoTime();
         try {
             XMLStreamWriter streamWriter = null;
             try {
@@ -70,18 +76,23 @@ public abstract class AbstractConfigurationPersister implements ExtensibleConfig
                     public XMLElementWriter<SubsystemMarshallingContext> getSubsystemWriter(String extensionName) {
                         //lazy create writer, but only once per config serialization
                         XMLElementWriter<SubsystemMarshallingContext> result = localSubsystemWriters.get(extensionName);
+                        Supplier<XMLElementWriter<SubsystemMarshallingContext>> supplier = subsystemWriterSuppliers.get(extensionName);
+                        if (result == null && supplier != null) {
+                            result = supplier.get();
+                            localSubsystemWriters.put(extensionName, result);
+                        }
                         if (result == null) {
-                            Supplier<XMLElementWriter<SubsystemMarshallingContext>> supplier = subsystemWriterSuppliers.get(extensionName);
-                            if (supplier != null) {
-                                result = supplier.get();
-                                localSubsystemWriters.put(extensionName, result);
-                            }
+                            return null;
                         }
-                        return result;
+                        // a domain configuration holds the subsystem once per profile
+                        final int occurrence = subsystemOccurrences.merge(extensionName, 1, Integer::sum) - 1;
+                        return subsystemXmlCache.wrap(extensionName, occurrence, supplier, result, statistics);
                     }
                 };
                 mapper.deparseDocument(rootDeparser, extensibleModel, streamWriter);
                 streamWriter.close();
+                ROOT_LOGGER.configurationMarshalled(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                        statistics.written, statistics.reused);
             } finally {
                 safeClose(streamWriter);
             }
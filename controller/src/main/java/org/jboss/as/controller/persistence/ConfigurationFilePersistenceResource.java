@@ -10,6 +10,7 @@ import static org.jboss.as.controller.logging.ControllerLogger.MGMT_OP_LOGGER;
 import java.io.File;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.dmr.ModelNode;
 
@@ -34,6 +35,7 @@ public class ConfigurationFilePersistenceResource extends AbstractFilePersistenc
 
     @Override
     protected void doCommit(InputStream in) {
+        final long start = System.nanoTime();
         final File tempFileName;
 
         if ( FilePersistenceUtils.isParentFolderWritable(fileName) ){
@@ -57,6 +59,7 @@ public class ConfigurationFilePersistenceResource extends AbstractFilePersistenc
                 configurationFile.commitTempFile(tempFileName);
             }
             configurationFile.fileWritten();
+            MGMT_OP_LOGGER.configurationStored(fileName.getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         } catch (ConfigurationPersistenceException e) {
            MGMT_OP_LOGGER.errorf(e, e.toString());
         } finally {
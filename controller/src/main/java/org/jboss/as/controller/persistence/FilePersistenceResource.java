@@ -9,6 +9,7 @@ import static org.jboss.as.controller.logging.ControllerLogger.MGMT_OP_LOGGER;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.dmr.ModelNode;
 
@@ -29,10 +30,12 @@ public class FilePersistenceResource extends AbstractFilePersistenceResource {
 
     @Override
     protected void doCommit(InputStream in) {
+        final long start = System.nanoTime();
         final File tempFileName = FilePersistenceUtils.createTempFile(fileName);
         try {
             FilePersistenceUtils.writeToTempFile(in, tempFileName, fileName);
             FilePersistenceUtils.moveTempFileToMain(tempFileName, fileName);
+            MGMT_OP_LOGGER.configurationStored(fileName.getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         } catch (Exception e) {
             MGMT_OP_LOGGER.failedToStoreConfiguration(e, fileName.getName());
         } finally {
@@ -0,0 +1,215 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.persistence;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLElementWriter;
+import org.jboss.staxmapper.XMLExtendedStreamWriter;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Cache of the XML written by the subsystem writers, so that marshalling the configuration only runs the writers of
+ * the subsystems whose model changed since the configuration was last marshalled.
+ * <p>
+ * A subsystem writer writes to the stream writer of the whole document, whose indentation and namespace state depend
+ * on what was written before. So rather than bytes, what is cached for a subsystem is the sequence of calls its writer
+ * made to the stream writer, which is replayed when the model of the subsystem is equal to the one it was recorded for.
+ * <p>
+ * The cache is disabled unless the {@value #ENABLED_PROPERTY} system property is {@code true}. The configuration file
+ * is still written whole, so what it saves is the time spent in the subsystem writers, at the cost of holding the
+ * model and the recorded output of every subsystem. It must not be enabled if a subsystem writer writes anything which
+ * isn't derived from the model of its subsystem, as its output would then be reused although it changed.
+ */
+final class SubsystemXmlCache {
+
+    /** System property enabling the cache, {@code false} by default. */
+    static final String ENABLED_PROPERTY = "org.wildfly.management.persister.subsystem-xml-cache";
+
+    private final boolean enabled = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "false"));
+    private final Map<String, Segment> segments = new ConcurrentHashMap<>();
+
+    /**
+     * Wraps a subsystem writer so that its output is cached.
+     *
+     * @param subsystemName the name of the subsystem
+     * @param occurrence the number of times the subsystem was already written in the document, as a domain
+     *                   configuration holds a subsystem per profile
+     * @param supplier the supplier of the subsystem writer
+     * @param writer the subsystem writer
+     * @param statistics the statistics of the marshalling of the document
+     * @return the writer to use
+     */
+    XMLElementWriter<SubsystemMarshallingContext> wrap(final String subsystemName, final int occurrence,
+                                                       final Supplier<XMLElementWriter<SubsystemMarshallingContext>> supplier,
+                                                       final XMLElementWriter<SubsystemMarshallingContext> writer,
+                                                       final Statistics statistics) {
+        if (!enabled) {
+            return writer;
+        }
+        final String key = subsystemName + '#' + occurrence;
+        return (streamWriter, context) -> {
+            final ModelNode model = context.getModelNode();
+            final String defaultNamespace = streamWriter.getNamespaceContext().getNamespaceURI(XMLConstants.DEFAULT_NS_PREFIX);
+            final Segment cached = segments.get(key);
+            if (cached != null && cached.supplier == supplier && Objects.equals(cached.defaultNamespace, defaultNamespace)
+                    && cached.model.equals(model)) {
+                cached.replay(streamWriter);
+                statistics.reused++;
+                return;
+            }
+            final Recorder recorder = new Recorder(streamWriter);
+            final XMLExtendedStreamWriter recordingWriter = (XMLExtendedStreamWriter) Proxy.newProxyInstance(
+                    XMLExtendedStreamWriter.class.getClassLoader(), new Class<?>[] {XMLExtendedStreamWriter.class}, recorder);
+            writer.writeContent(recordingWriter, new SubsystemMarshallingContext(model, recordingWriter));
+            statistics.written++;
+            // The model is read from the resources for each marshalling and not modified afterwards
+            segments.put(key, new Segment(supplier, defaultNamespace, model, recorder.calls));
+        };
+    }
+
+    /**
+     * Discards the cached output of a subsystem, whose writer is unregistered.
+     *
+     * @param subsystemName the name of the subsystem
+     */
+    void remove(final String subsystemName) {
+        final String prefix = subsystemName + '#';
+        segments.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /** Counts of the subsystems written and reused during the marshalling of a document */
+    static final class Statistics {
+        int written;
+        int reused;
+    }
+
+    /** The output of a subsystem writer for a model */
+    private static final class Segment {
+
+        private final Supplier<XMLElementWriter<SubsystemMarshallingContext>> supplier;
+        private final String defaultNamespace;
+        private final ModelNode model;
+        private final Call[] calls;
+
+        private Segment(final Supplier<XMLElementWriter<SubsystemMarshallingContext>> supplier, final String defaultNamespace,
+                        final ModelNode model, final List<Call> calls) {
+            this.supplier = supplier;
+            this.defaultNamespace = defaultNamespace;
+            this.model = model;
+            this.calls = calls.toArray(new Call[0]);
+        }
+
+        void replay(final XMLExtendedStreamWriter streamWriter) throws XMLStreamException {
+            for (Call call : calls) {
+                call.invoke(streamWriter);
+            }
+        }
+    }
+
+    /** A call to a method of the stream writer changing what is written */
+    private static final class Call {
+
+        private final Method method;
+        private final Object[] args;
+
+        private Call(final Method method, final Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+
+        void invoke(final XMLExtendedStreamWriter streamWriter) throws XMLStreamException {
+            try {
+                method.invoke(streamWriter, args);
+            } catch (InvocationTargetException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof XMLStreamException) {
+                    throw (XMLStreamException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new XMLStreamException(cause);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Forwards the calls to the stream writer of the document, recording those changing what is written, i.e.
+     * {@code write*} and {@code set*}.
+     */
+    private static final class Recorder implements InvocationHandler {
+
+        private final XMLExtendedStreamWriter delegate;
+        private final List<Call> calls = new ArrayList<>();
+
+        private Recorder(final XMLExtendedStreamWriter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "Recording " + delegate;
+                }
+            }
+            final String name = method.getName();
+            if (name.startsWith("write") || name.startsWith("set")) {
+                calls.add(new Call(method, copy(args)));
+            }
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private static Object[] copy(final Object[] args) {
+            if (args == null) {
+                return null;
+            }
+            final Object[] result = args.clone();
+            for (int i = 0; i < result.length; i++) {
+                final Object arg = result[i];
+                if (arg instanceof char[]) {
+                    result[i] = ((char[]) arg).clone();
+                } else if (arg instanceof Object[]) {
+                    result[i] = ((Object[]) arg).clone();
+                } else if (arg instanceof Iterable) {
+                    final List<Object> values = new ArrayList<>();
+                    for (Object value : (Iterable<?>) arg) {
+                        values.add(value);
+                    }
+                    result[i] = values;
+                }
+            }
+            return result;
+        }
+    }
+}
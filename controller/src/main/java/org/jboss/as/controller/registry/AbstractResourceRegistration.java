@@ -390,8 +390,18 @@ abstract class AbstractResourceRegistration implements ManagementResourceRegistr
             return ri.root.getSubRegistration(ri.pathAddress.append(address));
         }
         // else we are the root
-        return getResourceRegistration(address.iterator());
+        return resolveSubRegistration(address);
+
+    }
 
+    /**
+     * Resolves the registration of an address relative to this root registration.
+     *
+     * @param address the address
+     * @return the registration, or {@code null} if none matches the address
+     */
+    ManagementResourceRegistration resolveSubRegistration(PathAddress address) {
+        return getResourceRegistration(address.iterator());
     }
 
     abstract ManagementResourceRegistration getResourceRegistration(ListIterator<PathElement> iterator);
@@ -21,6 +21,7 @@ import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ProxyController;
 import org.jboss.as.controller.ResourceDefinition;
+import org.jboss.as.controller.access.constraint.AccessConstraintClassifications;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
@@ -91,6 +92,11 @@ final class AliasResourceRegistration extends AbstractResourceRegistration imple
         return target.getAccessConstraints();
     }
 
+    @Override
+    public AccessConstraintClassifications getAccessConstraintClassifications() {
+        return target.getAccessConstraintClassifications();
+    }
+
     @Override
     public boolean isFeature() {
         return target.isFeature();
@@ -14,8 +14,11 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -35,18 +38,33 @@ import org.jboss.as.controller.ProvidedResourceDefinition;
 import org.jboss.as.controller.ProxyController;
 import org.jboss.as.controller.ResourceDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.access.constraint.AccessConstraintClassifications;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.access.management.AccessConstraintUtilizationRegistry;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.descriptions.DefaultResourceDescriptionProvider;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.registry.AttributeAccess.AccessType;
 import org.jboss.as.controller.registry.AttributeAccess.Storage;
 import org.jboss.as.version.Stability;
+import org.jboss.dmr.ModelNode;
 import org.wildfly.common.Assert;
 
 final class ConcreteResourceRegistration extends AbstractResourceRegistration {
 
+    /**
+     * Incremented on any change to a registration affecting descriptions. As the description of a resource depends on
+     * other registrations, e.g. those of its children or of the wildcard registration it overrides, cached descriptions
+     * are discarded on any change rather than tracking which ones it affects; registrations seldom change after boot.
+     */
+    private static final AtomicLong REGISTRATION_CHANGES = new AtomicLong();
+
+    /** Placeholder for the resolution of an address no registration matches */
+    private static final Object NOT_REGISTERED = new Object();
+    /** Bound of the resolved addresses cached by a root registration, which include the values of clients' addresses */
+    private static final int MAX_RESOLVED_ADDRESSES = 4096;
+
     private Map<String, NodeSubregistry> children;
 
     private Map<String, OperationEntry> operations;
@@ -55,6 +73,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
 
     private final ResourceDefinition resourceDefinition;
     private final List<AccessConstraintDefinition> accessConstraintDefinitions;
+    private final AccessConstraintClassifications accessConstraintClassifications;
 
     // We assume at least 2 attrs, so just instantiate a hash map
     private final Map<String, AttributeAccess> attributes = new HashMap<>();
@@ -77,6 +96,10 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
 
     private Map<String, RuntimePackageDependency> additionalPackages;
 
+    private volatile CachedDescriptions cachedDescriptions;
+
+    private volatile ResolvedAddresses resolvedAddresses;
+
     /** Constructor for a root MRR */
     ConcreteResourceRegistration(final ResourceDefinition definition,
                                  final AccessConstraintUtilizationRegistry constraintUtilizationRegistry,
@@ -89,6 +112,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         this.resourceDefinition = definition;
         this.runtimeOnly = definition.isRuntime(); // TODO can this ever correctly be true?
         this.accessConstraintDefinitions = buildAccessConstraints();
+        this.accessConstraintClassifications = AccessConstraintClassifications.of(accessConstraintDefinitions);
         this.ordered = false;
         // For a root MRR we expect concurrent reads in critical performance code, i.e. boot
         // So we use a read-write lock
@@ -108,6 +132,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         // If our parent is runtime-only, so are we, otherwise follow the definition
         this.runtimeOnly = parent.isRuntimeOnly() || definition.isRuntime();
         this.accessConstraintDefinitions = buildAccessConstraints();
+        this.accessConstraintClassifications = AccessConstraintClassifications.of(accessConstraintDefinitions);
         this.ordered = ordered;
         // For non-root MRRs we don't expect much in the way of concurrent reads in performance
         // critical situations, so we want lock/unlock to be as simple and fast as possible
@@ -186,6 +211,12 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         return accessConstraintDefinitions;
     }
 
+    @Override
+    public AccessConstraintClassifications getAccessConstraintClassifications() {
+        checkPermission();
+        return accessConstraintClassifications;
+    }
+
     private List<AccessConstraintDefinition> buildAccessConstraints() {
         AbstractResourceRegistration reg = this;
         List<AccessConstraintDefinition> list = new ArrayList<AccessConstraintDefinition>();
@@ -218,12 +249,14 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         Stability childStability = resourceDefinition.getStability();
         Stability parentStability = this.resourceDefinition.getStability();
         // Propagate parent stability-level to child, if necessary
-        return child.registerChild(address.getValue(), (childStability != parentStability) && !childStability.enables(parentStability) ? new ProvidedResourceDefinition(resourceDefinition) {
+        final ManagementResourceRegistration result = child.registerChild(address.getValue(), (childStability != parentStability) && !childStability.enables(parentStability) ? new ProvidedResourceDefinition(resourceDefinition) {
             @Override
             public Stability getStability() {
                 return parentStability;
             }
         } : resourceDefinition);
+        registrationChanged();
+        return result;
     }
 
     @Override
@@ -296,6 +329,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             if (constraintUtilizationRegistry != null) {
                 constraintUtilizationRegistry.unregisterAccessConstraintUtilizations(getPathAddress().append(address));
             }
+            registrationChanged();
         } finally {
             writeLock.unlock();
         }
@@ -440,6 +474,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         writeLock.lock();
         try {
             attributes.remove(attributeName);
+            registrationChanged();
         } finally {
             writeLock.unlock();
         }
@@ -529,6 +564,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             }
             attributes.put(attributeName, aa);
             registerAttributeAccessConstraints(definition);
+            registrationChanged();
         } finally {
             writeLock.unlock();
         }
@@ -670,6 +706,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             throw ControllerLogger.ROOT_LOGGER.nodeAlreadyRegistered(existing.getPathAddress().toCLIStyleString());
         }
         getOrCreateSubregistry(address.getKey()).registerProxyController(address.getValue(), controller);
+        registrationChanged();
     }
 
     @Override
@@ -677,12 +714,14 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         final NodeSubregistry subregistry = getSubregistry(address.getKey());
         if (subregistry != null) {
             subregistry.unregisterProxyController(address.getValue());
+            registrationChanged();
         }
     }
 
     @Override
     public void registerAlias(PathElement address, AliasEntry alias, AbstractResourceRegistration target) {
         getOrCreateSubregistry(address.getKey()).registerAlias(address.getValue(), alias, target);
+        registrationChanged();
     }
 
     @Override
@@ -690,6 +729,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
         final NodeSubregistry subregistry = getSubregistry(address.getKey());
         if (subregistry != null) {
             subregistry.unregisterAlias(address.getValue());
+            registrationChanged();
         }
     }
 
@@ -705,6 +745,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
                 if (capabilityRegistry != null) {
                     capabilityRegistry.registerPossibleCapability(capability, getPathAddress());
                 }
+                registrationChanged();
             } finally {
                 writeLock.unlock();
             }
@@ -736,6 +777,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             } else {
                 this.requirements = requirements.stream().filter(this::enables).collect(Collectors.toUnmodifiableSet());
             }
+            registrationChanged();
         } finally {
             writeLock.unlock();
         }
@@ -779,6 +821,7 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
                     }
                     children.put(key, newRegistry);
                 }
+                registrationChanged();
                 return newRegistry;
             }
         } finally {
@@ -797,10 +840,48 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
             return subregistry.getModelDescription(iterator, next.getValue());
         } else {
             checkPermission();
-            return resourceDefinition.getDescriptionProvider(this);
+            final DescriptionProvider provider = resourceDefinition.getDescriptionProvider(this);
+            // The description of a DefaultResourceDescriptionProvider only depends on the registrations
+            return provider != null && provider.getClass() == DefaultResourceDescriptionProvider.class ? new CachingDescriptionProvider(provider) : provider;
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The resolution of an address walks the registrations element by element, trying the registration of the value of
+     * each element then the wildcard registration. As most operations target a small set of addresses, the resolutions
+     * are cached until a registration changes.
+     */
+    @Override
+    ManagementResourceRegistration resolveSubRegistration(final PathAddress address) {
+        if (address.size() == 0) {
+            return super.resolveSubRegistration(address);
+        }
+        // Read before resolving, so that a resolution made during a change is discarded
+        final long changes = REGISTRATION_CHANGES.get();
+        ResolvedAddresses resolved = resolvedAddresses;
+        if (resolved == null || resolved.registrationChanges != changes) {
+            resolved = new ResolvedAddresses(changes);
+            resolvedAddresses = resolved;
+        }
+        final Object cached = resolved.registrations.get(address);
+        if (cached != null) {
+            checkPermission();
+            return cached == NOT_REGISTERED ? null : (ManagementResourceRegistration) cached;
+        }
+        final ManagementResourceRegistration result = super.resolveSubRegistration(address);
+        if (resolved.registrations.size() >= MAX_RESOLVED_ADDRESSES) {
+            resolved.registrations.clear();
+        }
+        resolved.registrations.put(address, result == null ? NOT_REGISTERED : result);
+        return result;
+    }
+
+    private static void registrationChanged() {
+        REGISTRATION_CHANGES.incrementAndGet();
+    }
+
     @Override
     Set<String> getAttributeNames(final ListIterator<PathElement> iterator) {
         if (iterator.hasNext()) {
@@ -1042,4 +1123,63 @@ final class ConcreteResourceRegistration extends AbstractResourceRegistration {
     public Stability getStability() {
         return this.resourceDefinition.getStability();
     }
+
+    /** The descriptions of the resource computed since the last change to the registrations, by locale */
+    private static final class CachedDescriptions {
+
+        private final long registrationChanges;
+        private final Map<Locale, ModelNode> descriptions = new ConcurrentHashMap<>();
+        private volatile ModelNode defaultLocaleDescription;
+
+        private CachedDescriptions(final long registrationChanges) {
+            this.registrationChanges = registrationChanges;
+        }
+    }
+
+    /**
+     * Provides copies of the descriptions computed by the description provider of the resource, which are only computed
+     * again once a registration changed. Callers, e.g. read-resource-description which augments a description with
+     * the access control of the caller, may modify the copies.
+     */
+    private final class CachingDescriptionProvider implements DescriptionProvider {
+
+        private final DescriptionProvider provider;
+
+        private CachingDescriptionProvider(final DescriptionProvider provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public ModelNode getModelDescription(final Locale locale) {
+            // Read before computing, so that a description computed during a change is discarded
+            final long changes = REGISTRATION_CHANGES.get();
+            CachedDescriptions cached = cachedDescriptions;
+            if (cached == null || cached.registrationChanges != changes) {
+                cached = new CachedDescriptions(changes);
+                cachedDescriptions = cached;
+            }
+            ModelNode description = locale == null ? cached.defaultLocaleDescription : cached.descriptions.get(locale);
+            if (description == null) {
+                description = provider.getModelDescription(locale);
+                description.protect();
+                if (locale == null) {
+                    cached.defaultLocaleDescription = description;
+                } else {
+                    cached.descriptions.put(locale, description);
+                }
+            }
+            return description.clone();
+        }
+    }
+
+    /** The registrations resolved by a root registration since the last change to the registrations, by address */
+    private static final class ResolvedAddresses {
+
+        private final long registrationChanges;
+        private final Map<PathAddress, Object> registrations = new ConcurrentHashMap<>();
+
+        private ResolvedAddresses(final long registrationChanges) {
+            this.registrationChanges = registrationChanges;
+        }
+    }
 }
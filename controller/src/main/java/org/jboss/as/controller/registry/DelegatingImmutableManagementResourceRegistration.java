@@ -15,6 +15,7 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ProcessType;
 import org.jboss.as.controller.ProxyController;
+import org.jboss.as.controller.access.constraint.AccessConstraintClassifications;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
@@ -181,6 +182,11 @@ public class DelegatingImmutableManagementResourceRegistration implements Immuta
         return delegate.getAccessConstraints();
     }
 
+    @Override
+    public AccessConstraintClassifications getAccessConstraintClassifications() {
+        return delegate.getAccessConstraintClassifications();
+    }
+
     @Override
     public AliasEntry getAliasEntry() {
         return delegate.getAliasEntry();
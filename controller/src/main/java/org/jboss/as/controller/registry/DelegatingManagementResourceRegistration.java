@@ -20,6 +20,7 @@ import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ProcessType;
 import org.jboss.as.controller.ProxyController;
 import org.jboss.as.controller.ResourceDefinition;
+import org.jboss.as.controller.access.constraint.AccessConstraintClassifications;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
@@ -316,6 +317,11 @@ public class DelegatingManagementResourceRegistration implements ManagementResou
         return getDelegate().getAccessConstraints();
     }
 
+    @Override
+    public AccessConstraintClassifications getAccessConstraintClassifications() {
+        return getDelegate().getAccessConstraintClassifications();
+    }
+
     @Override
     public AliasEntry getAliasEntry() {
         return getDelegate().getAliasEntry();
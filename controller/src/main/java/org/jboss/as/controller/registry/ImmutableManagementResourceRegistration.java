@@ -23,6 +23,7 @@ import org.jboss.as.controller.ProcessType;
 import org.jboss.as.controller.ProxyController;
 import org.jboss.as.controller.ResourceDefinition;
 import org.jboss.as.controller.FeatureRegistry;
+import org.jboss.as.controller.access.constraint.AccessConstraintClassifications;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
@@ -301,6 +302,16 @@ public interface ImmutableManagementResourceRegistration extends FeatureRegistry
 
     List<AccessConstraintDefinition> getAccessConstraints();
 
+    /**
+     * Gets the sensitivity classifications and application types of the {@link #getAccessConstraints() access constraints}
+     * of this resource.
+     *
+     * @return the classifications. Will not be {@code null}
+     */
+    default AccessConstraintClassifications getAccessConstraintClassifications() {
+        return AccessConstraintClassifications.of(getAccessConstraints());
+    }
+
 
     /**
      * Return @code true} if a child resource registration was registered using
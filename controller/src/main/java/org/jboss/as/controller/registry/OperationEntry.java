@@ -13,6 +13,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.controller.OperationDefinition;
 import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.access.constraint.AccessConstraintClassifications;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
 
@@ -81,11 +82,13 @@ public class OperationEntry {
     private final OperationDefinition operationDefinition;
     private final OperationStepHandler operationHandler;
     private final boolean inherited;
+    private final AccessConstraintClassifications accessConstraintClassifications;
 
     OperationEntry(final OperationDefinition definition, final OperationStepHandler operationHandler, final boolean inherited) {
         this.operationDefinition = definition;
         this.operationHandler = operationHandler;
         this.inherited = inherited;
+        this.accessConstraintClassifications = AccessConstraintClassifications.of(definition.getAccessConstraints());
     }
 
     public OperationDefinition getOperationDefinition() {
@@ -117,4 +120,14 @@ public class OperationEntry {
         return accessConstraints == null ? Collections.emptyList() : accessConstraints;
     }
 
+    /**
+     * Gets the sensitivity classifications and application types of the {@link #getAccessConstraints() access constraints}
+     * of the operation.
+     *
+     * @return the classifications. Will not be {@code null}
+     */
+    public AccessConstraintClassifications getAccessConstraintClassifications() {
+        return accessConstraintClassifications;
+    }
+
 }
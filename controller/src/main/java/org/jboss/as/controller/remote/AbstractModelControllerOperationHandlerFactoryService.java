@@ -19,6 +19,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.management.ManagementRequestExecutors;
 import org.jboss.as.protocol.mgmt.support.ManagementChannelInitialization;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceName;
@@ -42,6 +43,7 @@ public abstract class AbstractModelControllerOperationHandlerFactoryService impl
     private static final int WORK_QUEUE_SIZE = 512;
     private static final int POOL_CORE_SIZE = 4;
     private static final int POOL_MAX_SIZE = 4;
+    private static final String EXECUTOR_NAME = "management-handler-thread";
 
     private final Consumer<AbstractModelControllerOperationHandlerFactoryService> serviceConsumer;
     private final Supplier<ModelController> modelControllerSupplier;
@@ -69,6 +71,14 @@ public abstract class AbstractModelControllerOperationHandlerFactoryService impl
         MGMT_OP_LOGGER.debugf("Starting operation handler service %s", context.getController().provides());
         responseAttachmentSupport = new ResponseAttachmentInputStreamSupport(scheduledExecutorSupplier.get());
 
+        if (ManagementRequestExecutors.isVirtualThreadsEnabled()) {
+            // Requests blocked e.g. waiting for services to stabilize don't hold a pool thread, accept as many
+            // requests as the pool would have run or queued
+            this.clientRequestExecutor = ManagementRequestExecutors.createVirtualThreadExecutor(EXECUTOR_NAME,
+                    POOL_MAX_SIZE + WORK_QUEUE_SIZE);
+            serviceConsumer.accept(this);
+            return;
+        }
         final ThreadFactory threadFactory = doPrivileged(new PrivilegedAction<JBossThreadFactory>() {
             public JBossThreadFactory run() {
                 return new JBossThreadFactory(ThreadGroupHolder.THREAD_GROUP, Boolean.FALSE, null, "%G - %t", null, null);
@@ -80,16 +90,16 @@ public abstract class AbstractModelControllerOperationHandlerFactoryService impl
                 threadFactory);
             // Allow the core threads to time out as well
             executor.allowCoreThreadTimeOut(true);
-            this.clientRequestExecutor = executor;
+            this.clientRequestExecutor = ManagementRequestExecutors.track(EXECUTOR_NAME, executor);
         } else {
-            this.clientRequestExecutor = new EnhancedQueueExecutor.Builder()
+            this.clientRequestExecutor = ManagementRequestExecutors.track(EXECUTOR_NAME, new EnhancedQueueExecutor.Builder()
             .setCorePoolSize(POOL_CORE_SIZE)
             .setMaximumPoolSize(POOL_MAX_SIZE)
             .setKeepAliveTime(600L, TimeUnit.SECONDS)
             .setMaximumQueueSize(WORK_QUEUE_SIZE)
             .setThreadFactory(threadFactory)
             .allowCoreThreadTimeOut(true)
-            .build();
+            .build());
         }
         serviceConsumer.accept(this);
     }
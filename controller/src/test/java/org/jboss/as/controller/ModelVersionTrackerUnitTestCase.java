@@ -0,0 +1,143 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link ModelVersionTracker}.
+ */
+public class ModelVersionTrackerUnitTestCase {
+
+    private static final PathAddress SUBSYSTEM = PathAddress.pathAddress("subsystem", "test");
+    private static final PathAddress CHILD = SUBSYSTEM.append("child", "one");
+    private static final PathAddress OTHER_CHILD = SUBSYSTEM.append("child", "two");
+    private static final PathAddress OTHER_SUBSYSTEM = PathAddress.pathAddress("subsystem", "other");
+
+    @Test
+    public void testChangeAdvancesAncestors() {
+        ModelVersionTracker tracker = new ModelVersionTracker();
+        long root = tracker.getVersion(PathAddress.EMPTY_ADDRESS);
+        long subsystem = tracker.getVersion(SUBSYSTEM);
+        long otherChild = tracker.getVersion(OTHER_CHILD);
+        long otherSubsystem = tracker.getVersion(OTHER_SUBSYSTEM);
+
+        tracker.modified(Collections.singleton(CHILD), false);
+
+        assertNotEquals(root, tracker.getVersion(PathAddress.EMPTY_ADDRESS));
+        assertNotEquals(subsystem, tracker.getVersion(SUBSYSTEM));
+        assertEquals(otherChild, tracker.getVersion(OTHER_CHILD));
+        assertEquals(otherSubsystem, tracker.getVersion(OTHER_SUBSYSTEM));
+    }
+
+    @Test
+    public void testChangeAdvancesDescendants() {
+        ModelVersionTracker tracker = new ModelVersionTracker();
+        tracker.modified(Collections.singleton(CHILD), false);
+        long child = tracker.getVersion(CHILD);
+
+        // e.g. removing the parent removes the child
+        tracker.modified(Collections.singleton(SUBSYSTEM), false);
+
+        assertNotEquals(child, tracker.getVersion(CHILD));
+    }
+
+    @Test
+    public void testMultipleAffectedResources() {
+        ModelVersionTracker tracker = new ModelVersionTracker();
+        long otherSubsystem = tracker.getVersion(OTHER_SUBSYSTEM);
+        Set<PathAddress> affected = Set.of(CHILD, OTHER_CHILD);
+
+        tracker.modified(affected, false);
+
+        assertEquals(tracker.getVersion(CHILD), tracker.getVersion(OTHER_CHILD));
+        assertEquals(tracker.getVersion(CHILD), tracker.getVersion(SUBSYSTEM));
+        assertEquals(otherSubsystem, tracker.getVersion(OTHER_SUBSYSTEM));
+    }
+
+    @Test
+    public void testRegistrationChangeAdvancesAll() {
+        ModelVersionTracker tracker = new ModelVersionTracker();
+        long otherSubsystem = tracker.getVersion(OTHER_SUBSYSTEM);
+
+        tracker.modified(Collections.singleton(CHILD), true);
+
+        assertNotEquals(otherSubsystem, tracker.getVersion(OTHER_SUBSYSTEM));
+    }
+
+    @Test
+    public void testMultiTargetAddress() {
+        ModelVersionTracker tracker = new ModelVersionTracker();
+        long wildcard = tracker.getVersion(SUBSYSTEM.append(PathElement.pathElement("child")));
+
+        tracker.modified(Collections.singleton(OTHER_CHILD), false);
+
+        assertNotEquals(wildcard, tracker.getVersion(SUBSYSTEM.append(PathElement.pathElement("child"))));
+    }
+
+    @Test
+    public void testRemovalDiscardsVersions() {
+        ModelVersionTracker tracker = new ModelVersionTracker();
+        tracker.modified(Collections.singleton(CHILD.append("grandchild", "one")), false);
+        tracker.modified(Collections.singleton(OTHER_CHILD), false);
+        long child = tracker.getVersion(CHILD);
+        long otherChild = tracker.getVersion(OTHER_CHILD);
+        int size = tracker.size();
+
+        tracker.modified(Collections.singleton(CHILD), Collections.singleton(CHILD), false);
+
+        // The child and the grandchild are no longer tracked
+        assertEquals(size - 2, tracker.size());
+        assertEquals(otherChild, tracker.getVersion(OTHER_CHILD));
+
+        // Adding the child again gives it a later version than before the removal
+        tracker.modified(Collections.singleton(CHILD), false);
+        assertTrue(tracker.getVersion(CHILD) > child);
+    }
+
+    @Test
+    public void testRemovalOfParentAndChild() {
+        ModelVersionTracker tracker = new ModelVersionTracker();
+        Set<PathAddress> removed = Set.of(SUBSYSTEM, CHILD);
+        tracker.modified(removed, false);
+        long root = tracker.getVersion(PathAddress.EMPTY_ADDRESS);
+
+        tracker.modified(removed, removed, false);
+
+        // Only the root is still tracked
+        assertEquals(1, tracker.size());
+        assertNotEquals(root, tracker.getVersion(PathAddress.EMPTY_ADDRESS));
+    }
+
+    @Test
+    public void testConcurrentChanges() throws Exception {
+        ModelVersionTracker tracker = new ModelVersionTracker();
+        long root = tracker.getVersion(PathAddress.EMPTY_ADDRESS);
+        // Proxies are registered outside of any operation, so concurrently with the operations
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final PathAddress address = PathAddress.pathAddress("host", "host-" + t);
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    tracker.modified(Collections.singleton(address.append("server", "server-" + i)), false);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // The latest change is recorded against the root, whichever thread recorded it first
+        assertEquals(root + 4000, tracker.getVersion(PathAddress.EMPTY_ADDRESS));
+    }
+}
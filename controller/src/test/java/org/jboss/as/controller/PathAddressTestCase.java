@@ -196,4 +196,22 @@ public class PathAddressTestCase {
         Assert.assertFalse(PathAddress.parseCLIStyleAddress("/subsystem=[toto1,toto2]/ext=[foo1,foo2]").matches(
                 PathAddress.parseCLIStyleAddress("/subsystem=toto2/ext=foo3")));
     }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        PathAddress address = PathAddress.pathAddress(PathElement.pathElement("subsystem", "test"), PathElement.pathElement("child", "a"));
+        PathAddress sameAddress = PathAddress.pathAddress(new ModelNode().add("subsystem", "test").add("child", "a"));
+        PathAddress otherAddress = PathAddress.pathAddress(PathElement.pathElement("subsystem", "test"), PathElement.pathElement("child", "b"));
+
+        // Before and after the hash codes are computed and cached
+        Assert.assertEquals(address, sameAddress);
+        Assert.assertNotEquals(address, otherAddress);
+        Assert.assertEquals(address.hashCode(), sameAddress.hashCode());
+        Assert.assertEquals(address.hashCode(), address.hashCode());
+        Assert.assertNotEquals(address.hashCode(), otherAddress.hashCode());
+        Assert.assertEquals(address, sameAddress);
+        Assert.assertNotEquals(address, otherAddress);
+        Assert.assertEquals(address.getParent(), otherAddress.getParent());
+        Assert.assertEquals(address.getParent().hashCode(), otherAddress.subAddress(0, 1).hashCode());
+    }
 }
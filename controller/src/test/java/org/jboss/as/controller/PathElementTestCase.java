@@ -5,6 +5,8 @@
 package org.jboss.as.controller;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import org.junit.Test;
@@ -75,4 +77,20 @@ public class PathElementTestCase {
             }
         }
     }
+
+    @Test
+    public void wildcardElementsAreShared() {
+        assertSame(PathElement.pathElement("shared"), PathElement.pathElement("shared"));
+        assertSame(PathElement.pathElement("shared"), PathElement.pathElement("shared", PathElement.WILDCARD_VALUE));
+        assertSame(PathElement.pathElement("shared").getKey(), PathElement.pathElement(new String("shared"), "value").getKey());
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        assertEquals(PathElement.pathElement("key", "value"), PathElement.pathElement("key", "value"));
+        assertEquals(PathElement.pathElement("key", "value"), PathElement.pathElement("key", "[value]"));
+        assertEquals(PathElement.pathElement("key", "value").hashCode(), PathElement.pathElement("key", "[value]").hashCode());
+        assertNotEquals(PathElement.pathElement("key", "value"), PathElement.pathElement("key", "other"));
+        assertNotEquals(PathElement.pathElement("key", "value"), PathElement.pathElement("other", "value"));
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REMOVE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.jboss.as.controller.client.OperationAttachments;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.controller.test.AbstractControllerTestBase;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Tests that registering and unregistering proxies outside of an operation changes the
+ * {@link ModelController#getModelVersion(PathAddress) model versions} the HTTP management API builds its ETags from,
+ * and that removed resources have no version.
+ */
+public class ProxyRegistrationModelVersionTestCase extends AbstractControllerTestBase {
+
+    private static final PathAddress LOCAL_HOST = PathAddress.pathAddress("host", "primary");
+    private static final PathAddress REMOTE_HOST = PathAddress.pathAddress("host", "secondary");
+    private static final PathAddress SERVER = LOCAL_HOST.append("server", "one");
+    private static final PathAddress PROFILE = PathAddress.pathAddress("profile", "default");
+
+    private volatile ManagementResourceRegistration rootRegistration;
+    private volatile ProxyModelControllerService service;
+
+    @Override
+    protected void initModel(ManagementModel managementModel) {
+        rootRegistration = managementModel.getRootResourceRegistration();
+        rootRegistration.registerSubModel(ResourceBuilder.Factory.create(LOCAL_HOST.getLastElement(), NonResolvingResourceDescriptionResolver.INSTANCE).build());
+        rootRegistration.registerSubModel(ResourceBuilder.Factory.create(PROFILE.getLastElement(), NonResolvingResourceDescriptionResolver.INSTANCE)
+                .setAddOperation(new ModelOnlyAddStepHandler())
+                .setRemoveOperation(ModelOnlyRemoveStepHandler.INSTANCE)
+                .build());
+        managementModel.getRootResource().registerChild(LOCAL_HOST.getLastElement(), Resource.Factory.create());
+        managementModel.getRootResource().registerChild(PROFILE.getLastElement(), Resource.Factory.create());
+    }
+
+    @Override
+    protected ModelControllerService createModelControllerService(ProcessType processType) {
+        service = new ProxyModelControllerService(processType);
+        return service;
+    }
+
+    @Test
+    public void testRemoteHostRegistration() {
+        long root = controller.getModelVersion(PathAddress.EMPTY_ADDRESS);
+        long profile = controller.getModelVersion(PROFILE);
+
+        service.registerProxy(REMOTE_HOST);
+        long registered = controller.getModelVersion(PathAddress.EMPTY_ADDRESS);
+        assertNotEquals(root, registered);
+        assertEquals(profile, controller.getModelVersion(PROFILE));
+        // The proxied resources are not versioned
+        assertEquals(-1, controller.getModelVersion(REMOTE_HOST));
+
+        service.unregisterProxy(REMOTE_HOST);
+        assertNotEquals(registered, controller.getModelVersion(PathAddress.EMPTY_ADDRESS));
+        assertEquals(profile, controller.getModelVersion(PROFILE));
+    }
+
+    @Test
+    public void testRunningServerRegistration() {
+        long host = controller.getModelVersion(LOCAL_HOST);
+        long profile = controller.getModelVersion(PROFILE);
+
+        service.registerProxy(SERVER);
+        long registered = controller.getModelVersion(LOCAL_HOST);
+        assertNotEquals(host, registered);
+        assertEquals(profile, controller.getModelVersion(PROFILE));
+
+        service.unregisterProxy(SERVER);
+        assertNotEquals(registered, controller.getModelVersion(LOCAL_HOST));
+        assertEquals(profile, controller.getModelVersion(PROFILE));
+    }
+
+    @Test
+    public void testRemovedResource() throws OperationFailedException {
+        long profile = controller.getModelVersion(PROFILE);
+
+        executeCheckNoFailure(createOperation(REMOVE, PROFILE));
+        // The versions of the removed resource are discarded, so it must not be given one
+        assertEquals(-1, controller.getModelVersion(PROFILE));
+
+        executeCheckNoFailure(createOperation(ADD, PROFILE));
+        assertNotEquals(profile, controller.getModelVersion(PROFILE));
+        assertNotEquals(-1, controller.getModelVersion(PROFILE));
+    }
+
+    private static ProxyController proxy(final PathAddress address) {
+        return new ProxyController() {
+            @Override
+            public PathAddress getProxyNodeAddress() {
+                return address;
+            }
+
+            @Override
+            public void execute(ModelNode operation, OperationMessageHandler handler, ProxyOperationControl control,
+                                OperationAttachments attachments, BlockingTimeout blockingTimeout) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private class ProxyModelControllerService extends ModelControllerService {
+
+        ProxyModelControllerService(ProcessType processType) {
+            super(processType);
+        }
+
+        /**
+         * Registers a proxy the way the host controller registers remote hosts and running servers.
+         */
+        void registerProxy(PathAddress address) {
+            rootRegistration.getSubModel(address.getParent()).registerProxyController(address.getLastElement(), proxy(address));
+            proxyRegistrationChanged(address);
+        }
+
+        void unregisterProxy(PathAddress address) {
+            rootRegistration.getSubModel(address.getParent()).unregisterProxyController(address.getLastElement());
+            proxyRegistrationChanged(address);
+        }
+    }
+}
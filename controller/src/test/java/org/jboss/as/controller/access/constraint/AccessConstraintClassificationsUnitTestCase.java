@@ -0,0 +1,87 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.access.constraint;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.as.controller.access.Action;
+import org.jboss.as.controller.access.management.AccessConstraintDefinition;
+import org.jboss.as.controller.access.management.ApplicationTypeAccessConstraintDefinition;
+import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
+import org.junit.Test;
+
+/**
+ * Unit test of {@link AccessConstraintClassifications}.
+ */
+public class AccessConstraintClassificationsUnitTestCase {
+
+    @Test
+    public void testNoClassifications() {
+        assertSame(AccessConstraintClassifications.NONE, AccessConstraintClassifications.of(null));
+        assertSame(AccessConstraintClassifications.NONE, AccessConstraintClassifications.of(Collections.emptyList()));
+        for (Action.ActionEffect effect : Action.ActionEffect.values()) {
+            assertFalse(AccessConstraintClassifications.NONE.isSensitive(effect));
+        }
+        assertFalse(AccessConstraintClassifications.NONE.isApplicationType());
+    }
+
+    @Test
+    public void testSensitivityConfigurationChange() {
+        SensitivityClassification sensitivity = new SensitivityClassification("classifications-test", "change", false, false, true);
+        AccessConstraintClassifications classifications = AccessConstraintClassifications.of(
+                Collections.singletonList(new SensitiveTargetAccessConstraintDefinition(sensitivity)));
+
+        assertFalse(classifications.isSensitive(Action.ActionEffect.ADDRESS));
+        assertFalse(classifications.isSensitive(Action.ActionEffect.READ_CONFIG));
+        assertFalse(classifications.isSensitive(Action.ActionEffect.READ_RUNTIME));
+        assertTrue(classifications.isSensitive(Action.ActionEffect.WRITE_CONFIG));
+        assertTrue(classifications.isSensitive(Action.ActionEffect.WRITE_RUNTIME));
+
+        sensitivity.setConfiguredRequiresReadPermission(true);
+        assertTrue(classifications.isSensitive(Action.ActionEffect.READ_CONFIG));
+        assertTrue(classifications.isSensitive(Action.ActionEffect.READ_RUNTIME));
+        assertFalse(classifications.isSensitive(Action.ActionEffect.ADDRESS));
+
+        sensitivity.setConfiguredRequiresReadPermission(null);
+        assertFalse(classifications.isSensitive(Action.ActionEffect.READ_CONFIG));
+    }
+
+    @Test
+    public void testApplicationTypeConfigurationChange() {
+        ApplicationTypeConfig applicationType = new ApplicationTypeConfig("classifications-test", "change", false);
+        AccessConstraintClassifications classifications = AccessConstraintClassifications.of(
+                Collections.singletonList(new ApplicationTypeAccessConstraintDefinition(applicationType)));
+
+        assertFalse(classifications.isApplicationType());
+        applicationType.setConfiguredApplication(true);
+        assertTrue(classifications.isApplicationType());
+        applicationType.setConfiguredApplication(null);
+        assertFalse(classifications.isApplicationType());
+    }
+
+    @Test
+    public void testManyClassifications() {
+        List<AccessConstraintDefinition> definitions = new ArrayList<>();
+        SensitivityClassification last = null;
+        for (int i = 0; i < 130; i++) {
+            last = new SensitivityClassification("classifications-test", "many-" + i, false, false, false);
+            definitions.add(new SensitiveTargetAccessConstraintDefinition(last));
+        }
+        AccessConstraintClassifications all = AccessConstraintClassifications.of(definitions);
+        AccessConstraintClassifications first = AccessConstraintClassifications.of(definitions.subList(0, 1));
+
+        assertFalse(all.isSensitive(Action.ActionEffect.WRITE_CONFIG));
+        last.setConfiguredRequiresWritePermission(true);
+        assertTrue(all.isSensitive(Action.ActionEffect.WRITE_CONFIG));
+        assertFalse(first.isSensitive(Action.ActionEffect.WRITE_CONFIG));
+    }
+}
@@ -24,6 +24,7 @@ import org.jboss.as.controller.access.JmxAction;
 import org.jboss.as.controller.access.JmxTarget;
 import org.jboss.as.controller.access.TargetAttribute;
 import org.jboss.as.controller.access.TargetResource;
+import org.jboss.as.controller.access.constraint.AllowAllowNotConstraint;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -101,8 +102,116 @@ public class ManagementPermissionAuthorizerTestCase {
         assertEquals(AuthorizationResult.Decision.DENY, result.getDecision());
     }
 
+    @Test
+    public void testCachedDecisions() {
+        CacheableTestPermissionFactory permissionFactory = new CacheableTestPermissionFactory();
+        ManagementPermissionAuthorizer cachingAuthorizer = new ManagementPermissionAuthorizer(permissionFactory);
+        Action action = new Action(null, null, EnumSet.of(Action.ActionEffect.ADDRESS,
+                Action.ActionEffect.READ_CONFIG));
+        TargetResource targetResource = TargetResource.forStandalone(PathAddress.EMPTY_ADDRESS, ROOT_RR, null);
+        TargetAttribute targetAttribute = new TargetAttribute("test", null, new ModelNode(), targetResource);
+
+        assertEquals(AuthorizationResult.Decision.PERMIT, cachingAuthorizer.authorize(identity, environment, action, targetResource).getDecision());
+        assertEquals(AuthorizationResult.Decision.PERMIT, cachingAuthorizer.authorize(identity, environment, action, targetAttribute).getDecision());
+        assertEquals(1, cachingAuthorizer.getCachedDecisionMisses());
+        assertEquals(1, cachingAuthorizer.getCachedDecisionHits());
+
+        // Different required constraints are a different decision
+        permissionFactory.sensitive = true;
+        assertEquals(AuthorizationResult.Decision.DENY, cachingAuthorizer.authorize(identity, environment, action, targetResource).getDecision());
+        assertEquals(AuthorizationResult.Decision.DENY, cachingAuthorizer.authorize(identity, environment, action, targetResource).getDecision());
+        assertEquals(2, cachingAuthorizer.getCachedDecisionMisses());
+        assertEquals(2, cachingAuthorizer.getCachedDecisionHits());
+
+        permissionFactory.sensitive = false;
+        assertEquals(AuthorizationResult.Decision.PERMIT, cachingAuthorizer.authorize(identity, environment, action, targetResource).getDecision());
+        assertEquals(3, cachingAuthorizer.getCachedDecisionHits());
+
+        cachingAuthorizer.clearCachedDecisions();
+        assertEquals(AuthorizationResult.Decision.PERMIT, cachingAuthorizer.authorize(identity, environment, action, targetResource).getDecision());
+        assertEquals(3, cachingAuthorizer.getCachedDecisionMisses());
+    }
+
+    @Test
+    public void testNonCacheableDecisions() {
+        Action action = new Action(null, null, EnumSet.of(Action.ActionEffect.ADDRESS,
+                Action.ActionEffect.READ_CONFIG));
+        TargetResource targetResource = TargetResource.forStandalone(PathAddress.EMPTY_ADDRESS, ROOT_RR, null);
+        authorizer.authorize(identity, environment, action, targetResource);
+        authorizer.authorize(identity, environment, action, targetResource);
+
+        assertEquals(0, authorizer.getCachedDecisionHits());
+        assertEquals(0, authorizer.getCachedDecisionMisses());
+    }
+
     // ---
 
+    private static final class CacheableTestPermissionFactory implements PermissionFactory {
+        private final PermissionCollection userPermissions;
+        private volatile boolean sensitive;
+
+        private CacheableTestPermissionFactory() {
+            ManagementPermissionCollection mpc = new ManagementPermissionCollection("test", SimpleManagementPermission.class);
+            for (Action.ActionEffect actionEffect : Action.ActionEffect.values()) {
+                mpc.add(new SimpleManagementPermission(actionEffect, TestConstraint.DISALLOWS_SENSITIVE));
+            }
+            userPermissions = mpc;
+        }
+
+        private PermissionCollection getRequiredPermissions(Action action) {
+            ManagementPermissionCollection mpc = new ManagementPermissionCollection(SimpleManagementPermission.class);
+            for (Action.ActionEffect actionEffect : action.getActionEffects()) {
+                mpc.add(new SimpleManagementPermission(actionEffect, sensitive ? TestConstraint.SENSITIVE : TestConstraint.NOT_SENSITIVE));
+            }
+            return mpc;
+        }
+
+        @Override
+        public PermissionCollection getUserPermissions(SecurityIdentity identity, Environment callEnvironment, Action action, TargetAttribute target) {
+            return userPermissions;
+        }
+
+        @Override
+        public PermissionCollection getUserPermissions(SecurityIdentity identity, Environment callEnvironment, Action action, TargetResource target) {
+            return userPermissions;
+        }
+
+        @Override
+        public PermissionCollection getRequiredPermissions(Action action, TargetAttribute target) {
+            return getRequiredPermissions(action);
+        }
+
+        @Override
+        public PermissionCollection getRequiredPermissions(Action action, TargetResource target) {
+            return getRequiredPermissions(action);
+        }
+
+        @Override
+        public PermissionCollection getUserPermissions(SecurityIdentity identity, Environment callEnvironment, JmxAction action, JmxTarget target) {
+            return null;
+        }
+
+        @Override
+        public PermissionCollection getRequiredPermissions(JmxAction action, JmxTarget target) {
+            return null;
+        }
+    }
+
+    private static final class TestConstraint extends AllowAllowNotConstraint {
+        private static final TestConstraint SENSITIVE = new TestConstraint(true);
+        private static final TestConstraint NOT_SENSITIVE = new TestConstraint(false);
+        private static final TestConstraint DISALLOWS_SENSITIVE = new TestConstraint(false, true);
+
+        private TestConstraint(boolean is) {
+            super(is);
+        }
+
+        private TestConstraint(boolean allows, boolean allowsNot) {
+            super(allows, allowsNot);
+        }
+    }
+
+
     private static final class TestPermissionFactory implements PermissionFactory {
         private PermissionCollection getUserPermissions() {
             ManagementPermissionCollection mpc = new ManagementPermissionCollection("test", TestManagementPermission.class);
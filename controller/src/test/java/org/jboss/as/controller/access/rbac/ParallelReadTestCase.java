@@ -0,0 +1,303 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.access.rbac;
+
+import static org.jboss.as.controller.PathAddress.pathAddress;
+import static org.jboss.as.controller.PathElement.pathElement;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ABSOLUTE_ADDRESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_CONTROL;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE_SERVICE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FILTERED_CHILDREN_TYPES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PARALLEL;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PARALLEL_READ_MAX_THREADS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RECURSIVE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESPONSE_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLED_BACK;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.UNREADABLE_CHILDREN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AbstractRemoveStepHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ManagementModel;
+import org.jboss.as.controller.ModelOnlyWriteAttributeHandler;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ProcessType;
+import org.jboss.as.controller.RunningMode;
+import org.jboss.as.controller.RunningModeControl;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.access.constraint.SensitivityClassification;
+import org.jboss.as.controller.access.management.AccessConstraintDefinition;
+import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
+import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.operations.global.GlobalNotifications;
+import org.jboss.as.controller.operations.global.GlobalOperationHandlers;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.ValueExpression;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that reading the targets of a wildcard address concurrently, as requested by the {@code parallel} header,
+ * gives the same response as reading them one after the other.
+ */
+public class ParallelReadTestCase extends AbstractRbacTestBase {
+
+    private static final String RESOURCE = "resource";
+    private static final String SENSITIVE_RESOURCE = "sensitive-resource";
+    private static final String BROKEN = "broken";
+    private static final int CHILDREN = 12;
+
+    private static final SensitiveTargetAccessConstraintDefinition SENSITIVE_CONSTRAINT
+            = new SensitiveTargetAccessConstraintDefinition(new SensitivityClassification("test", "parallel-sensitivity", true, true, true));
+
+    private static final AttributeDefinition VALUE = SimpleAttributeDefinitionBuilder.create("value", ModelType.INT, true).build();
+    private static final AttributeDefinition RUNTIME = SimpleAttributeDefinitionBuilder.create("runtime", ModelType.STRING, true)
+            .setStorageRuntime().build();
+    private static final AttributeDefinition MAX_THREADS = SimpleAttributeDefinitionBuilder.create(PARALLEL_READ_MAX_THREADS, ModelType.INT, true)
+            .setAllowExpression(true).build();
+
+    private final Set<Thread> readers = ConcurrentHashMap.newKeySet();
+    private ExecutorService executor;
+
+    @Override
+    protected ModelControllerService createModelControllerService(ProcessType processType) {
+        executor = Executors.newCachedThreadPool();
+        return new ModelControllerService(processType, new RunningModeControl(RunningMode.NORMAL), () -> executor);
+    }
+
+    @Before
+    public void setup() {
+        for (int i = 0; i < CHILDREN; i++) {
+            final ModelNode operation = Util.createAddOperation(pathAddress(RESOURCE, "child-" + i));
+            operation.get(VALUE.getName()).set(i);
+            assertEquals(SUCCESS, executeWithRoles(operation, StandardRole.SUPERUSER).get(OUTCOME).asString());
+            final ModelNode sensitive = Util.createAddOperation(pathAddress(RESOURCE, "child-" + i).append(SENSITIVE_RESOURCE, "secret"));
+            assertEquals(SUCCESS, executeWithRoles(sensitive, StandardRole.SUPERUSER).get(OUTCOME).asString());
+        }
+        SENSITIVE_CONSTRAINT.getSensitivity().setConfiguredRequiresAccessPermission(true);
+        readers.clear();
+    }
+
+    @After
+    public void shutdownExecutor() throws InterruptedException {
+        SENSITIVE_CONSTRAINT.getSensitivity().setConfiguredRequiresAccessPermission(null);
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Executes an operation one target after the other then concurrently, checking the responses are the same.
+     *
+     * @return the response
+     */
+    private ModelNode executeSequentialAndParallel(final ModelNode operation, final StandardRole role) {
+        final ModelNode sequential = executeWithRoles(operation.clone(), role);
+        assertFalse(readConcurrently());
+        readers.clear();
+
+        final ModelNode parallelOperation = operation.clone();
+        parallelOperation.get(OPERATION_HEADERS, PARALLEL).set(true);
+        final ModelNode parallel = executeWithRoles(parallelOperation, role);
+        assertEquals(normalize(sequential), normalize(parallel));
+        return parallel;
+    }
+
+    /**
+     * Removes the undefined {@code rolled-back} left in the responses of the steps followed by other steps, which are
+     * not added when reading the targets concurrently.
+     */
+    private static ModelNode normalize(final ModelNode response) {
+        final ModelNode normalized = response.clone();
+        if (normalized.get(RESULT).getType() == ModelType.LIST) {
+            for (ModelNode item : normalized.get(RESULT).asList()) {
+                if (item.has(ROLLED_BACK) && !item.hasDefined(ROLLED_BACK)) {
+                    item.remove(ROLLED_BACK);
+                }
+            }
+        }
+        return normalized;
+    }
+
+    private boolean readConcurrently() {
+        for (Thread reader : readers) {
+            if (reader != Thread.currentThread()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void testResultsInResolutionOrder() {
+        final ModelNode operation = Util.createOperation(READ_RESOURCE_OPERATION, pathAddress(pathElement(RESOURCE)));
+        operation.get(INCLUDE_RUNTIME).set(true);
+        final ModelNode response = executeSequentialAndParallel(operation, StandardRole.SUPERUSER);
+        assertTrue(readConcurrently());
+
+        assertEquals(SUCCESS, response.get(OUTCOME).asString());
+        final List<ModelNode> results = response.get(RESULT).asList();
+        assertEquals(CHILDREN, results.size());
+        for (int i = 0; i < CHILDREN; i++) {
+            final ModelNode result = results.get(i);
+            assertEquals(pathAddress(RESOURCE, "child-" + i), PathAddress.pathAddress(result.get(OP_ADDR)));
+            assertEquals(i, result.get(RESULT, VALUE.getName()).asInt());
+            assertEquals("child-" + i, result.get(RESULT, RUNTIME.getName()).asString());
+        }
+    }
+
+    @Test
+    public void testReadAttribute() {
+        final ModelNode operation = Util.createOperation(READ_ATTRIBUTE_OPERATION, pathAddress(pathElement(RESOURCE)));
+        operation.get(NAME).set(RUNTIME.getName());
+        final ModelNode response = executeSequentialAndParallel(operation, StandardRole.MONITOR);
+        assertTrue(readConcurrently());
+        assertEquals(SUCCESS, response.get(OUTCOME).asString());
+        assertEquals(CHILDREN, response.get(RESULT).asInt());
+    }
+
+    @Test
+    public void testFilteredChildren() {
+        ModelNode operation = Util.createOperation(READ_RESOURCE_OPERATION, pathAddress(pathElement(RESOURCE)));
+        operation.get(RECURSIVE).set(true);
+        ModelNode response = executeSequentialAndParallel(operation, StandardRole.MONITOR);
+        assertEquals(SUCCESS, response.get(OUTCOME).asString());
+        assertEquals(CHILDREN, response.get(RESULT).asInt());
+        for (ModelNode result : response.get(RESULT).asList()) {
+            assertFalse(result.toString(), result.get(RESULT).hasDefined(SENSITIVE_RESOURCE));
+        }
+        final List<ModelNode> accessControl = response.get(RESPONSE_HEADERS, ACCESS_CONTROL).asList();
+        assertEquals(CHILDREN, accessControl.size());
+        for (int i = 0; i < CHILDREN; i++) {
+            assertEquals(pathAddress(RESOURCE, "child-" + i), PathAddress.pathAddress(accessControl.get(i).get(ABSOLUTE_ADDRESS)));
+            assertEquals(SENSITIVE_RESOURCE, accessControl.get(i).get(FILTERED_CHILDREN_TYPES).get(0).asString());
+        }
+
+        // Every target is filtered
+        SENSITIVE_CONSTRAINT.getSensitivity().setConfiguredRequiresAccessPermission(false);
+        operation = Util.createOperation(READ_RESOURCE_OPERATION, pathAddress(pathElement(RESOURCE)).append(pathElement(SENSITIVE_RESOURCE)));
+        response = executeSequentialAndParallel(operation, StandardRole.MONITOR);
+        assertEquals(SUCCESS, response.get(OUTCOME).asString());
+        assertEquals(0, response.get(RESULT).asInt());
+        final List<ModelNode> unreadable = response.get(RESPONSE_HEADERS, ACCESS_CONTROL).asList();
+        assertEquals(CHILDREN, unreadable.size());
+        for (int i = 0; i < CHILDREN; i++) {
+            assertEquals(pathAddress(RESOURCE, "child-" + i), PathAddress.pathAddress(unreadable.get(i).get(ABSOLUTE_ADDRESS)));
+            assertEquals(1, unreadable.get(i).get(UNREADABLE_CHILDREN).asInt());
+        }
+    }
+
+    @Test
+    public void testFailingChild() {
+        assertEquals(SUCCESS, executeWithRoles(Util.createAddOperation(pathAddress(RESOURCE, BROKEN)), StandardRole.SUPERUSER)
+                .get(OUTCOME).asString());
+
+        final ModelNode operation = Util.createOperation(READ_ATTRIBUTE_OPERATION, pathAddress(pathElement(RESOURCE)));
+        operation.get(NAME).set(RUNTIME.getName());
+        final ModelNode response = executeSequentialAndParallel(operation, StandardRole.SUPERUSER);
+        assertEquals(FAILED, response.get(OUTCOME).asString());
+        // The failure of the target fails the operation, as when reading the targets one after the other
+        assertEquals(BROKEN, response.get(FAILURE_DESCRIPTION).asString());
+    }
+
+    @Test
+    public void testMaxThreads() {
+        // Read although the caller isn't allowed to read the management resource
+        final ModelNode add = Util.createAddOperation(pathAddress(CORE_SERVICE, MANAGEMENT));
+        add.get(PARALLEL_READ_MAX_THREADS).set(new ValueExpression("${test.parallel-read.max-threads:1}"));
+        assertEquals(SUCCESS, executeWithRoles(add, StandardRole.SUPERUSER).get(OUTCOME).asString());
+
+        final ModelNode operation = Util.createOperation(READ_ATTRIBUTE_OPERATION, pathAddress(pathElement(RESOURCE)));
+        operation.get(NAME).set(RUNTIME.getName());
+        final ModelNode response = executeSequentialAndParallel(operation, StandardRole.MONITOR);
+        // The thread executing the operation is the only one
+        assertFalse(readConcurrently());
+        assertEquals(SUCCESS, response.get(OUTCOME).asString());
+        assertEquals(CHILDREN, response.get(RESULT).asInt());
+
+        // Changes apply to the next operation
+        readers.clear();
+        final ModelNode write = Util.getWriteAttributeOperation(pathAddress(CORE_SERVICE, MANAGEMENT), PARALLEL_READ_MAX_THREADS, 4);
+        assertEquals(SUCCESS, executeWithRoles(write, StandardRole.SUPERUSER).get(OUTCOME).asString());
+        executeSequentialAndParallel(operation, StandardRole.MONITOR);
+        assertTrue(readConcurrently());
+    }
+
+    @Override
+    protected void initModel(ManagementModel managementModel) {
+        ManagementResourceRegistration registration = managementModel.getRootResourceRegistration();
+        GlobalOperationHandlers.registerGlobalOperations(registration, ProcessType.EMBEDDED_SERVER);
+        GlobalNotifications.registerGlobalNotifications(registration, ProcessType.EMBEDDED_SERVER);
+
+        final ManagementResourceRegistration resource = registration.registerSubModel(new TestResourceDefinition(RESOURCE) {
+            @Override
+            public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+                resourceRegistration.registerReadWriteAttribute(VALUE, null, ModelOnlyWriteAttributeHandler.INSTANCE);
+                resourceRegistration.registerReadOnlyAttribute(RUNTIME, (context, operation) -> {
+                    readers.add(Thread.currentThread());
+                    final String name = context.getCurrentAddressValue();
+                    if (BROKEN.equals(name)) {
+                        throw new OperationFailedException(BROKEN);
+                    }
+                    try {
+                        // Give the other threads reading targets time to start
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    context.getResult().set(name);
+                });
+            }
+        });
+        resource.registerSubModel(new TestResourceDefinition(SENSITIVE_RESOURCE, SENSITIVE_CONSTRAINT));
+
+        registration.registerSubModel(new SimpleResourceDefinition(new SimpleResourceDefinition.Parameters(pathElement(CORE_SERVICE, MANAGEMENT), NonResolvingResourceDescriptionResolver.INSTANCE)
+                .setAddHandler(new AbstractAddStepHandler() {})
+                .setAccessConstraints(SENSITIVE_CONSTRAINT)) {
+            @Override
+            public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+                resourceRegistration.registerReadWriteAttribute(MAX_THREADS, null, ModelOnlyWriteAttributeHandler.INSTANCE);
+            }
+        });
+    }
+
+    private static class TestResourceDefinition extends SimpleResourceDefinition {
+
+        TestResourceDefinition(String path, AccessConstraintDefinition... constraintDefinitions) {
+            super(new Parameters(pathElement(path), NonResolvingResourceDescriptionResolver.INSTANCE)
+                    .setAddHandler(new AbstractAddStepHandler() {})
+                    .setRemoveHandler(new AbstractRemoveStepHandler() {})
+                    .setAccessConstraints(constraintDefinitions));
+        }
+    }
+}
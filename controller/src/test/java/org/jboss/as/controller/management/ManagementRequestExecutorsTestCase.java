@@ -0,0 +1,164 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.management;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Tests of the queue time statistics recorded by {@link ManagementRequestExecutors}.
+ */
+public class ManagementRequestExecutorsTestCase {
+
+    private static final long BLOCKED_MILLIS = 200;
+
+    private static ManagementRequestExecutors.RequestExecutor pool(final int queueSize) {
+        return (ManagementRequestExecutors.RequestExecutor) ManagementRequestExecutors.track("test",
+                new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize)));
+    }
+
+    /**
+     * Submits a request blocking the executor until released, followed by queued requests.
+     */
+    private static void execute(final ExecutorService executor, final int queued) throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(queued + 1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            completed.countDown();
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < queued; i++) {
+            executor.execute(completed::countDown);
+        }
+        Thread.sleep(BLOCKED_MILLIS);
+        release.countDown();
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testQueueTimes() throws InterruptedException {
+        final ManagementRequestExecutors.RequestExecutor executor = pool(10);
+        try {
+            assertEquals(0, executor.getRequestCount());
+            assertEquals(0, executor.getAverageQueueNanos());
+
+            execute(executor, 2);
+            assertEquals(3, executor.getRequestCount());
+            // The queued requests waited for the first one to complete
+            final long blocked = TimeUnit.MILLISECONDS.toNanos(BLOCKED_MILLIS);
+            assertTrue(String.valueOf(executor.getMaxQueueNanos()), executor.getMaxQueueNanos() >= blocked);
+            assertTrue(String.valueOf(executor.getAverageQueueNanos()), executor.getAverageQueueNanos() >= 2 * blocked / 3);
+            assertTrue(executor.getAverageQueueNanos() <= executor.getMaxQueueNanos());
+            assertEquals(0, executor.getRejectedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRejectedRequests() throws InterruptedException {
+        final ManagementRequestExecutors.RequestExecutor executor = pool(1);
+        try {
+            final CountDownLatch release = new CountDownLatch(1);
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> { });
+            try {
+                executor.execute(() -> { });
+                fail("The queue is full");
+            } catch (RejectedExecutionException expected) {
+                // expected
+            }
+            assertEquals(1, executor.getRejectedCount());
+            release.countDown();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        // The rejected request is not counted as handled
+        assertEquals(2, executor.getRequestCount());
+    }
+
+    @Test
+    public void testVirtualThreadsLimitConcurrentRequests() throws InterruptedException {
+        final ManagementRequestExecutors.RequestExecutor executor;
+        try {
+            executor = (ManagementRequestExecutors.RequestExecutor) ManagementRequestExecutors.createVirtualThreadExecutor("test", 2);
+        } catch (IllegalStateException e) {
+            Assume.assumeNoException("Virtual threads are not supported", e);
+            return;
+        }
+        try {
+            final CountDownLatch release = new CountDownLatch(1);
+            final CountDownLatch completed = new CountDownLatch(2);
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    completed.countDown();
+                });
+            }
+            try {
+                executor.execute(() -> { });
+                fail("Two requests are handled already");
+            } catch (RejectedExecutionException expected) {
+                // expected
+            }
+            assertEquals(1, executor.getRejectedCount());
+            release.countDown();
+            assertTrue(completed.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(2, executor.getRequestCount());
+    }
+
+    @Test
+    public void testEnableVirtualThreads() {
+        boolean supported;
+        try {
+            ManagementRequestExecutors.createVirtualThreadExecutor("test", 1).shutdown();
+            supported = true;
+        } catch (IllegalStateException e) {
+            supported = false;
+        }
+        try {
+            ManagementRequestExecutors.setVirtualThreadsEnabled(true);
+            // Ignored if the runtime doesn't support them
+            assertEquals(supported, ManagementRequestExecutors.isVirtualThreadsEnabled());
+        } finally {
+            ManagementRequestExecutors.setVirtualThreadsEnabled(false);
+        }
+        assertFalse(ManagementRequestExecutors.isVirtualThreadsEnabled());
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLElementWriter;
+import org.jboss.staxmapper.XMLExtendedStreamWriter;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the reuse of the XML of unchanged subsystems by {@link AbstractConfigurationPersister#marshallAsXml}.
+ */
+public class SubsystemXmlCacheUnitTestCase {
+
+    private static final String ROOT_NAMESPACE = "urn:test:root";
+
+    @Before
+    public void enableCache() {
+        System.setProperty(SubsystemXmlCache.ENABLED_PROPERTY, "true");
+    }
+
+    @After
+    public void clearProperty() {
+        System.clearProperty(SubsystemXmlCache.ENABLED_PROPERTY);
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        System.clearProperty(SubsystemXmlCache.ENABLED_PROPERTY);
+        final AtomicInteger fooWrites = new AtomicInteger();
+        final AbstractConfigurationPersister persister = new Persister();
+        persister.registerSubsystemWriter("foo", () -> new SubsystemWriter("urn:test:foo", fooWrites));
+
+        final ModelNode model = new ModelNode();
+        model.get("subsystem", "foo", "value").set("one");
+
+        Assert.assertEquals(marshall(persister, model), marshall(persister, model));
+        Assert.assertEquals(2, fooWrites.get());
+    }
+
+    @Test
+    public void testUnchangedSubsystemsAreReused() throws Exception {
+        final AtomicInteger fooWrites = new AtomicInteger();
+        final AtomicInteger barWrites = new AtomicInteger();
+        final AbstractConfigurationPersister persister = new Persister();
+        persister.registerSubsystemWriter("foo", () -> new SubsystemWriter("urn:test:foo", fooWrites));
+        persister.registerSubsystemWriter("bar", () -> new SubsystemWriter("urn:test:bar", barWrites));
+
+        final ModelNode model = new ModelNode();
+        model.get("subsystem", "foo", "value").set("one");
+        model.get("subsystem", "bar", "value").set("one");
+
+        final String first = marshall(persister, model);
+        Assert.assertEquals(1, fooWrites.get());
+        Assert.assertEquals(1, barWrites.get());
+
+        final String second = marshall(persister, model.clone());
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(1, fooWrites.get());
+        Assert.assertEquals(1, barWrites.get());
+
+        final ModelNode changed = model.clone();
+        changed.get("subsystem", "bar", "value").set("two");
+        final String third = marshall(persister, changed);
+        Assert.assertEquals(1, fooWrites.get());
+        Assert.assertEquals(2, barWrites.get());
+        Assert.assertEquals(first.replaceFirst("value=\"one\"", "value=\"two\""), third);
+
+        // A new writer must not reuse the output of the previous one
+        persister.unregisterSubsystemWriter("foo");
+        persister.registerSubsystemWriter("foo", () -> new SubsystemWriter("urn:test:foo", fooWrites));
+        Assert.assertEquals(third, marshall(persister, changed));
+        Assert.assertEquals(2, fooWrites.get());
+        Assert.assertEquals(2, barWrites.get());
+    }
+
+    @Test
+    public void testSubsystemPerProfile() throws Exception {
+        final AtomicInteger fooWrites = new AtomicInteger();
+        final AtomicInteger barWrites = new AtomicInteger();
+        final AbstractConfigurationPersister persister = new Persister();
+        persister.registerSubsystemWriter("foo", () -> new SubsystemWriter("urn:test:foo", fooWrites));
+        persister.registerSubsystemWriter("bar", () -> new SubsystemWriter("urn:test:bar", barWrites));
+
+        final ModelNode model = new ModelNode();
+        for (String profile : new String[] {"default", "full", "ha"}) {
+            model.get("profile", profile, "subsystem", "foo", "value").set(profile);
+            model.get("profile", profile, "subsystem", "bar", "value").set(profile);
+        }
+        // A profile without the foo subsystem shifts the position of the following ones
+        model.get("profile", "bare", "subsystem", "bar", "value").set("bare");
+
+        final String first = marshall(persister, model);
+        Assert.assertEquals(3, fooWrites.get());
+        Assert.assertEquals(4, barWrites.get());
+        Assert.assertEquals(first, marshall(persister, model.clone()));
+        Assert.assertEquals(3, fooWrites.get());
+        Assert.assertEquals(4, barWrites.get());
+
+        // Only the changed subsystem of the changed profile is written
+        final ModelNode changed = model.clone();
+        changed.get("profile", "full", "subsystem", "foo", "value").set("changed");
+        final String second = marshall(persister, changed);
+        Assert.assertEquals(4, fooWrites.get());
+        Assert.assertEquals(4, barWrites.get());
+        Assert.assertEquals(first.replace("\"urn:test:foo\" value=\"full\"", "\"urn:test:foo\" value=\"changed\""), second);
+        Assert.assertNotEquals(first, second);
+
+        // Removing a profile shifts the position of the subsystems of the following profiles, whose output must not
+        // be mistaken for that of the profile previously at their position
+        final ModelNode removed = changed.clone();
+        removed.get("profile").remove("default");
+        final String third = marshall(persister, removed);
+        Assert.assertFalse(third.contains("value=\"default\""));
+        Assert.assertTrue(third.contains("value=\"changed\""));
+        Assert.assertTrue(third.contains("value=\"ha\""));
+
+        // The output matches that of all the subsystem writers
+        clearProperty();
+        final AbstractConfigurationPersister uncached = new Persister();
+        uncached.registerSubsystemWriter("foo", () -> new SubsystemWriter("urn:test:foo", new AtomicInteger()));
+        uncached.registerSubsystemWriter("bar", () -> new SubsystemWriter("urn:test:bar", new AtomicInteger()));
+        Assert.assertEquals(third, marshall(uncached, removed));
+    }
+
+    private static String marshall(AbstractConfigurationPersister persister, ModelNode model) throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        persister.marshallAsXml(model, output);
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static class Persister extends AbstractConfigurationPersister {
+
+        Persister() {
+            super(Persister::writeRoot);
+        }
+
+        private static void writeRoot(XMLExtendedStreamWriter writer, ModelMarshallingContext context) throws XMLStreamException {
+            writer.writeStartDocument();
+            writer.writeStartElement("root");
+            writer.writeDefaultNamespace(ROOT_NAMESPACE);
+            writer.setDefaultNamespace(ROOT_NAMESPACE);
+            final ModelNode model = context.getModelNode();
+            if (model.hasDefined("profile")) {
+                for (String profile : new TreeSet<>(model.get("profile").keys())) {
+                    writer.writeStartElement("profile");
+                    writer.writeAttribute("name", profile);
+                    writeSubsystems(writer, context, model.get("profile", profile, "subsystem"));
+                    writer.writeEndElement();
+                }
+            } else {
+                writeSubsystems(writer, context, model.get("subsystem"));
+            }
+            writer.writeEndElement();
+            writer.writeEndDocument();
+        }
+
+        private static void writeSubsystems(XMLExtendedStreamWriter writer, ModelMarshallingContext context, ModelNode subsystems) throws XMLStreamException {
+            for (String name : new TreeSet<>(subsystems.keys())) {
+                final XMLElementWriter<SubsystemMarshallingContext> subsystemWriter = context.getSubsystemWriter(name);
+                try {
+                    subsystemWriter.writeContent(writer, new SubsystemMarshallingContext(subsystems.get(name), writer));
+                } finally {
+                    writer.setDefaultNamespace(ROOT_NAMESPACE);
+                }
+            }
+        }
+
+        @Override
+        public PersistenceResource store(ModelNode model, Set<PathAddress> affectedAddresses) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ModelNode> load() {
+            return Collections.emptyList();
+        }
+    }
+
+    private static class SubsystemWriter implements XMLElementWriter<SubsystemMarshallingContext> {
+
+        private final String namespace;
+        private final AtomicInteger writes;
+
+        SubsystemWriter(String namespace, AtomicInteger writes) {
+            this.namespace = namespace;
+            this.writes = writes;
+        }
+
+        @Override
+        public void writeContent(XMLExtendedStreamWriter writer, SubsystemMarshallingContext context) throws XMLStreamException {
+            writes.incrementAndGet();
+            context.startSubsystemElement(namespace, false);
+            writer.writeAttribute("value", context.getModelNode().get("value").asString());
+            writer.writeEmptyElement("child");
+            writer.writeEndElement();
+        }
+    }
+}
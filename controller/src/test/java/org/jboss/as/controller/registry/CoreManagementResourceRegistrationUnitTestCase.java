@@ -6,6 +6,7 @@
 package org.jboss.as.controller.registry;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
@@ -34,6 +35,7 @@ import org.jboss.as.controller.SimpleResourceDefinition.Parameters;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.access.management.ApplicationTypeAccessConstraintDefinition;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
 import org.jboss.as.controller.registry.AliasEntry.AliasContext;
 import org.jboss.as.version.Stability;
@@ -370,6 +372,50 @@ public class CoreManagementResourceRegistrationUnitTestCase {
         assertTrue(acds.contains(ApplicationTypeAccessConstraintDefinition.DEPLOYMENT));
     }
 
+    @Test
+    public void testCachedDescriptions() {
+        ManagementResourceRegistration child = rootRegistration.registerSubModel(new SimpleResourceDefinition(childElement, NonResolvingResourceDescriptionResolver.INSTANCE));
+
+        ModelNode description = child.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(null);
+        assertFalse(description.get(ModelDescriptionConstants.ATTRIBUTES).has("attr"));
+        assertFalse(description.get(ModelDescriptionConstants.CHILDREN).has(grandchildElement.getKey()));
+
+        // Callers may modify the description they get
+        description.get(ModelDescriptionConstants.ATTRIBUTES, "modified").set(true);
+        description = child.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(null);
+        assertFalse(description.get(ModelDescriptionConstants.ATTRIBUTES).has("modified"));
+
+        child.registerReadOnlyAttribute(new SimpleAttributeDefinitionBuilder("attr", ModelType.STRING).build(), null);
+        description = child.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(null);
+        assertTrue(description.get(ModelDescriptionConstants.ATTRIBUTES).has("attr"));
+
+        child.registerSubModel(new SimpleResourceDefinition(grandchildElement, NonResolvingResourceDescriptionResolver.INSTANCE));
+        description = rootRegistration.getModelDescription(childAddress).getModelDescription(null);
+        assertTrue(description.get(ModelDescriptionConstants.CHILDREN).has(grandchildElement.getKey()));
+
+        child.unregisterAttribute("attr");
+        description = child.getModelDescription(PathAddress.EMPTY_ADDRESS).getModelDescription(null);
+        assertFalse(description.get(ModelDescriptionConstants.ATTRIBUTES).has("attr"));
+    }
+
+    @Test
+    public void testResolvedAddresses() {
+        ManagementResourceRegistration wildcard = rootRegistration.registerSubModel(new SimpleResourceDefinition(childElement, NonResolvingResourceDescriptionResolver.INSTANCE));
+        assertSame(wildcard, rootRegistration.getSubModel(fullChildAddress));
+        assertSame(wildcard, rootRegistration.getSubModel(fullChildAddress));
+        assertNull(rootRegistration.getSubModel(fullGrandchildAddress.getParent().append(fullGrandchildElement)));
+
+        // A registration of the value takes precedence over the wildcard registration resolved before
+        ManagementResourceRegistration specific = rootRegistration.registerSubModel(new SimpleResourceDefinition(fullChildElement, NonResolvingResourceDescriptionResolver.INSTANCE));
+        assertSame(specific, rootRegistration.getSubModel(fullChildAddress));
+
+        ManagementResourceRegistration grandchild = wildcard.registerSubModel(new SimpleResourceDefinition(grandchildElement, NonResolvingResourceDescriptionResolver.INSTANCE));
+        assertSame(grandchild, rootRegistration.getSubModel(PathAddress.pathAddress(PathElement.pathElement("child", "other"), fullGrandchildElement)));
+
+        rootRegistration.unregisterSubModel(fullChildElement);
+        assertSame(wildcard, rootRegistration.getSubModel(fullChildAddress));
+    }
+
     @Test
     public void testFilteredOperationParameters() {
         OperationDefinition unstableOperation = SimpleOperationDefinitionBuilder.of("unstable-operation", NonResolvingResourceDescriptionResolver.INSTANCE).setStability(Stability.PREVIEW).build();
@@ -16,12 +16,15 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DYN
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_DEFAULTS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INHERITED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LIMIT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NOTIFICATIONS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NOTIFICATION_TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OFFSET;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATIONS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ORDER_BY;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
@@ -37,8 +40,10 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RES
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_ADDED_NOTIFICATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_REMOVED_NOTIFICATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNTIME_ONLY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SELECT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TYPE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WHERE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -48,7 +53,9 @@ import static org.junit.Assert.fail;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -472,6 +479,62 @@ public class GlobalOperationsTestCase extends AbstractGlobalOperationsTestCase {
         assertTrue(result.asList().isEmpty());
     }
 
+    @Test
+    public void testReadChildrenPaged() throws Exception {
+        ModelNode operation = createOperation(READ_CHILDREN_NAMES_OPERATION, "profile", "profileA");
+        operation.get(CHILD_TYPE).set("subsystem");
+        operation.get(OFFSET).set(1);
+        operation.get(LIMIT).set(1);
+        ModelNode result = executeForResult(operation);
+        assertEquals(1, result.asList().size());
+        assertEquals("subsystem2", result.get(0).asString());
+
+        operation.get(OFFSET).set(2);
+        result = executeForResult(operation);
+        assertTrue(result.asList().isEmpty());
+
+        operation = createOperation(READ_CHILDREN_RESOURCES_OPERATION, "profile", "profileA", "subsystem", "subsystem1");
+        operation.get(CHILD_TYPE).set("type1");
+        operation.get(ORDER_BY).set("name");
+        operation.get(LIMIT).set(1);
+        result = executeForResult(operation);
+        assertEquals(1, result.keys().size());
+        assertEquals("Name11", result.get("thing1", "name").asString());
+
+        operation.get(OFFSET).set(1);
+        result = executeForResult(operation);
+        assertEquals(1, result.keys().size());
+        assertEquals("Name12", result.get("thing2", "name").asString());
+
+        // "Profile B" sorts before "profileA", unlike the names of the profiles
+        operation = createOperation(READ_CHILDREN_RESOURCES_OPERATION);
+        operation.get(CHILD_TYPE).set("profile");
+        operation.get(ORDER_BY).set("name");
+        result = executeForResult(operation);
+        assertEquals(Arrays.asList("profileB", "profileA", "profileC"), new ArrayList<>(result.keys()));
+
+        operation.get(OFFSET).set(1);
+        operation.get(LIMIT).set(1);
+        result = executeForResult(operation);
+        assertEquals(Collections.singletonList("profileA"), new ArrayList<>(result.keys()));
+    }
+
+    @Test
+    public void testReadChildrenResourcesQuery() throws Exception {
+        ModelNode operation = createOperation(READ_CHILDREN_RESOURCES_OPERATION, "profile", "profileA", "subsystem", "subsystem1");
+        operation.get(CHILD_TYPE).set("type1");
+        operation.get(WHERE, "name").set("Name12");
+        operation.get(SELECT).add("name");
+        ModelNode result = executeForResult(operation);
+        assertEquals(1, result.keys().size());
+        assertEquals(1, result.get("thing2").keys().size());
+        assertEquals("Name12", result.get("thing2", "name").asString());
+
+        operation.get(WHERE, "name").set("missing");
+        result = executeForResult(operation);
+        assertTrue(result.keys().isEmpty());
+    }
+
     @Test
     public void testReadChildrenResourcesRecursive() throws Exception {
         ModelNode operation = createOperation(READ_CHILDREN_RESOURCES_OPERATION, "profile", "profileA");
@@ -11,6 +11,7 @@ import org.jboss.as.core.model.test.KernelServices;
 import org.jboss.as.core.model.test.TestModelType;
 import org.jboss.as.core.model.test.util.ServerConfigInitializers;
 import org.jboss.as.model.test.ModelTestUtils;
+import org.jboss.as.version.Stability;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -24,6 +25,11 @@ public class HostModelTestCase extends AbstractCoreModelTest {
         doHostXml("host.xml");
     }
 
+    @Test
+    public void testCommunityHostXml() throws Exception {
+        doHostXml("host-community.xml", Stability.COMMUNITY);
+    }
+
     @Test
     public void testDefaultHostXmlWithExpressions() throws Exception {
         doHostXml("host-with-expressions.xml");
@@ -50,7 +56,11 @@ public class HostModelTestCase extends AbstractCoreModelTest {
     }
 
     private void doHostXml(String hostXmlFile) throws Exception {
-        KernelServices kernelServices = createKernelServicesBuilder(TestModelType.HOST)
+        doHostXml(hostXmlFile, Stability.DEFAULT);
+    }
+
+    private void doHostXml(String hostXmlFile, Stability stability) throws Exception {
+        KernelServices kernelServices = createKernelServicesBuilder(TestModelType.HOST, stability)
                 .setXmlResource(hostXmlFile)
                 .setModelInitializer(ServerConfigInitializers.XML_MODEL_INITIALIZER, null)
                 .build();
@@ -36,6 +36,11 @@ public class HostMgmtInterfacesTestCase extends AbstractCoreModelTest {
         testConfiguration("host_resource_constraints_community.xml", Stability.COMMUNITY);
     }
 
+    @Test
+    public void testManagementAttributes_Community() throws Exception {
+        testConfiguration("host_management_attributes_community.xml", Stability.COMMUNITY);
+    }
+
     private void testConfiguration(String fileName) throws Exception {
         testConfiguration(fileName, Stability.DEFAULT);
     }
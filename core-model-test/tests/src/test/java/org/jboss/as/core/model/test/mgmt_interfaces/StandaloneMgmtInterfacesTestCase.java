@@ -36,6 +36,11 @@ public class StandaloneMgmtInterfacesTestCase extends AbstractCoreModelTest {
         testConfiguration("standalone_resource_constraints_community.xml", Stability.COMMUNITY);
     }
 
+    @Test
+    public void testManagementAttributes_Community() throws Exception {
+        testConfiguration("standalone_management_attributes_community.xml", Stability.COMMUNITY);
+    }
+
     public void testConfiguration(String fileName) throws Exception {
         testConfiguration(fileName, Stability.DEFAULT);
     }
@@ -4,6 +4,7 @@
  */
 package org.jboss.as.repository;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
@@ -16,12 +17,12 @@ import org.jboss.as.repository.logging.DeploymentRepositoryLogger;
  */
 public class TemporaryFileInputStream extends TypedInputStream {
     private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
-    private final InputStream delegate;
+    private final DeletingFileInputStream delegate;
     private final Path file;
 
     TemporaryFileInputStream(Path file) throws IOException {
         this.file = file;
-        this.delegate = Files.newInputStream(file);
+        this.delegate = new DeletingFileInputStream(file);
     }
 
     @Override
@@ -52,7 +53,6 @@ public class TemporaryFileInputStream extends TypedInputStream {
     @Override
     public void close() throws IOException {
         delegate.close();
-        Files.deleteIfExists(file);
     }
 
     @Override
@@ -74,6 +74,14 @@ public class TemporaryFileInputStream extends TypedInputStream {
         return file;
     }
 
+    /**
+     * Gets a stream over the temporary file which deletes the file on closing, like this stream.
+     */
+    @Override
+    public InputStream getResponseStream() {
+        return delegate;
+    }
+
     @Override
     public String getContentType() {
         String contentType;
@@ -88,4 +96,22 @@ public class TemporaryFileInputStream extends TypedInputStream {
         }
         return contentType;
     }
+
+    private static final class DeletingFileInputStream extends FileInputStream {
+        private final Path file;
+
+        DeletingFileInputStream(Path file) throws IOException {
+            super(file.toFile());
+            this.file = file;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
 }
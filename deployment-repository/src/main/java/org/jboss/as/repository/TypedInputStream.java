@@ -14,4 +14,14 @@ public abstract class TypedInputStream extends InputStream {
 
     public abstract String getContentType();
 
+    /**
+     * Gets the stream to attach to a management response to send the content. Content backed by a file is read from
+     * a {@link java.io.FileInputStream}, which the management interfaces can send without copying it.
+     *
+     * @return the stream, this stream unless overridden
+     */
+    public InputStream getResponseStream() {
+        return this;
+    }
+
 }
@@ -319,6 +319,25 @@ public class ContentRepositoryTest {
         }
     }
 
+    /**
+     * Test that read content is attached to management responses as a stream over its file, deleted once read.
+     */
+    @Test
+    public void testReadContentResponseStream() throws Exception {
+        byte[] archive = createArchive(Collections.singletonList("testfile.xhtml"));
+        try (ByteArrayInputStream stream = new ByteArrayInputStream(archive)) {
+            byte[] hash = repository.explodeContent(repository.addContent(stream));
+            TemporaryFileInputStream content = (TemporaryFileInputStream) repository.readContent(hash, "testfile.xhtml");
+            Path file = content.getFile();
+            InputStream responseStream = content.getResponseStream();
+            assertThat(responseStream, CoreMatchers.instanceOf(FileInputStream.class));
+            assertThat(readFileContent(responseStream), is(readFileContent(getResourceAsStream("testfile.xhtml"))));
+            assertTrue(Files.exists(file));
+            responseStream.close();
+            assertFalse(Files.exists(file));
+        }
+    }
+
     @Test
     public void testListContents() throws Exception {
         byte[] archive = createArchive(Collections.singletonList("testfile.xhtml"));
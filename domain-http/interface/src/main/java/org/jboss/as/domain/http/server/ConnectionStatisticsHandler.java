@@ -0,0 +1,100 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.http.server;
+
+import static org.jboss.as.domain.http.server.logging.HttpServerLogger.ROOT_LOGGER;
+
+import java.net.SocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.ServerConnection;
+import io.undertow.util.HttpString;
+
+/**
+ * Handler tracking the requests served over each connection, which with HTTP/2 are multiplexed as concurrent streams.
+ * The statistics of a connection are logged once it is closed, and aggregated in the {@link HttpConnectionStatistics}
+ * of the server.
+ */
+final class ConnectionStatisticsHandler implements HttpHandler {
+
+    private final Map<List<SocketAddress>, ConnectionStatistics> connections = new ConcurrentHashMap<>();
+    private final HttpConnectionStatistics totals;
+    private final HttpHandler next;
+
+    private ConnectionStatisticsHandler(final HttpConnectionStatistics totals, final HttpHandler next) {
+        this.totals = totals;
+        this.next = next;
+    }
+
+    @Override
+    public void handleRequest(final HttpServerExchange exchange) throws Exception {
+        // With HTTP/2 each stream has its own ServerConnection, the addresses are the ones of the underlying connection
+        final ServerConnection connection = exchange.getConnection();
+        final List<SocketAddress> channel = Arrays.asList(connection.getPeerAddress(), connection.getLocalAddress());
+        ConnectionStatistics statistics = connections.get(channel);
+        if (statistics == null) {
+            final ConnectionStatistics created = new ConnectionStatistics(exchange.getProtocol(), connection.getPeerAddress());
+            statistics = connections.putIfAbsent(channel, created);
+            if (statistics == null) {
+                statistics = created;
+                totals.connectionOpened();
+                connection.addCloseListener(c -> {
+                    connections.remove(channel);
+                    totals.connectionClosed();
+                    created.closed();
+                });
+            }
+        }
+        final ConnectionStatistics current = statistics;
+        totals.requestStarted(current.started());
+        exchange.addExchangeCompleteListener((ex, nextListener) -> {
+            current.completed();
+            nextListener.proceed();
+        });
+        next.handleRequest(exchange);
+    }
+
+    static HttpHandler wrap(final HttpConnectionStatistics totals, final HttpHandler next) {
+        return new ConnectionStatisticsHandler(totals, next);
+    }
+
+    private static final class ConnectionStatistics {
+
+        private final HttpString protocol;
+        private final SocketAddress peerAddress;
+        private final long opened = System.currentTimeMillis();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger maxActive = new AtomicInteger();
+
+        private ConnectionStatistics(final HttpString protocol, final SocketAddress peerAddress) {
+            this.protocol = protocol;
+            this.peerAddress = peerAddress;
+        }
+
+        int started() {
+            requests.incrementAndGet();
+            final int current = active.incrementAndGet();
+            maxActive.accumulateAndGet(current, Math::max);
+            return current;
+        }
+
+        void completed() {
+            active.decrementAndGet();
+        }
+
+        void closed() {
+            ROOT_LOGGER.connectionClosed(protocol.toString(), peerAddress, System.currentTimeMillis() - opened,
+                    requests.get(), maxActive.get());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.http.server;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_MECHANISM;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CALLER_TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DOMAIN_UUID;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.USER;
+import static org.jboss.as.controller.operations.global.GlobalOperationHandlers.STD_READ_OPS;
+import static org.jboss.as.domain.http.server.logging.HttpServerLogger.ROOT_LOGGER;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.PrivilegedAction;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import org.jboss.as.controller.AccessAuditContext;
+import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.core.security.AccessMechanism;
+import org.jboss.as.domain.http.server.security.ElytronIdentityHandler;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.wildfly.security.auth.server.SecurityIdentity;
+
+/**
+ * Handler for a POST of a JSON list of independent read-only operations, executed concurrently.
+ * <p>
+ * Unlike the steps of a {@code composite} operation, the operations succeed or fail on their own. The response is a
+ * JSON object streamed as the operations complete, whose {@code result} holds the response of each operation keyed
+ * {@code step-1}, {@code step-2}, ... in the order of the request. As the operations are not executed as a single
+ * operation, the response ends with {@code consistent}, which is {@code false} if the configuration changed while
+ * the operations were executed, in which case their results may reflect different versions of the configuration.
+ * <p>
+ * Only the standard read operations, e.g. {@code read-resource} or {@code read-attribute}, are accepted.
+ */
+class DomainApiBatchHandler implements HttpHandler {
+
+    private static final String CONSISTENT = "consistent";
+    private static final String STEP = "step-";
+    private static final int MAX_CONCURRENT_OPERATIONS = 4;
+
+    private final ModelController modelController;
+    private final Executor executor;
+
+    DomainApiBatchHandler(final ModelController modelController, final Executor executor) {
+        this.modelController = modelController;
+        this.executor = executor;
+    }
+
+    @Override
+    public void handleRequest(final HttpServerExchange exchange) throws Exception {
+        final List<ModelNode> operations;
+        try {
+            final ModelNode batch = ModelNode.fromJSONStream(exchange.getInputStream());
+            if (batch.getType() != ModelType.LIST) {
+                Common.sendError(exchange, false, ROOT_LOGGER.invalidBatch());
+                return;
+            }
+            operations = batch.asList();
+        } catch (Exception e) {
+            ROOT_LOGGER.debugf("Unable to construct ModelNode '%s'", e.getMessage());
+            Common.sendError(exchange, false, e.getLocalizedMessage());
+            return;
+        }
+
+        final SocketAddress peerSocketAddress = exchange.getConnection().getPeerAddress();
+        final InetAddress remoteAddress = peerSocketAddress instanceof InetSocketAddress ? ((InetSocketAddress) peerSocketAddress).getAddress() : null;
+        final SecurityIdentity identity = exchange.getAttachment(ElytronIdentityHandler.IDENTITY_KEY);
+
+        exchange.setStatusCode(200);
+        exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, Common.APPLICATION_JSON + "; charset=" + Common.UTF_8);
+        try (Writer writer = new OutputStreamWriter(exchange.getOutputStream(), StandardCharsets.UTF_8)) {
+            final long version = modelController.getModelVersion(PathAddress.EMPTY_ADDRESS);
+            final Batch execution = new Batch(operations, writer, identity, remoteAddress);
+            writer.write("{\"" + OUTCOME + "\" : \"success\", \"result\" : {");
+            execution.execute();
+            final boolean consistent = version >= 0 && version == modelController.getModelVersion(PathAddress.EMPTY_ADDRESS);
+            writer.write("}, \"" + CONSISTENT + "\" : " + consistent + "}");
+        }
+    }
+
+    /**
+     * The execution of the operations of a batch. The operations are taken in turn by the thread handling the request
+     * and by helper tasks submitted to the management executor. As the thread handling the request executes the
+     * operations no helper got to, the batch completes even if the executor is busy with other requests.
+     */
+    private final class Batch implements Runnable {
+
+        private final List<ModelNode> operations;
+        private final Writer writer;
+        private final SecurityIdentity identity;
+        private final InetAddress remoteAddress;
+        private final AtomicInteger next = new AtomicInteger();
+        private final CountDownLatch completed;
+        private boolean first = true;
+        private IOException writeFailure;
+
+        Batch(final List<ModelNode> operations, final Writer writer, final SecurityIdentity identity, final InetAddress remoteAddress) {
+            this.operations = operations;
+            this.writer = writer;
+            this.identity = identity;
+            this.remoteAddress = remoteAddress;
+            this.completed = new CountDownLatch(operations.size());
+        }
+
+        void execute() throws IOException, InterruptedException {
+            final int helpers = Math.min(operations.size(), MAX_CONCURRENT_OPERATIONS) - 1;
+            for (int i = 0; i < helpers; i++) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    break;
+                }
+            }
+            run();
+            completed.await();
+            synchronized (this) {
+                if (writeFailure != null) {
+                    throw writeFailure;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int index;
+            while ((index = next.getAndIncrement()) < operations.size()) {
+                try {
+                    final ModelNode response = execute(operations.get(index));
+                    write(index, response);
+                } finally {
+                    completed.countDown();
+                }
+            }
+        }
+
+        private ModelNode execute(final ModelNode operation) {
+            final String name = operation.hasDefined(OP) ? operation.get(OP).asString() : null;
+            if (!STD_READ_OPS.contains(name)) {
+                final ModelNode response = new ModelNode();
+                response.get(OUTCOME).set(FAILED);
+                response.get(FAILURE_DESCRIPTION).set(ROOT_LOGGER.notReadOnlyBatchOperation(name));
+                return response;
+            }
+            final ModelNode headers = operation.get(OPERATION_HEADERS);
+            headers.get(ACCESS_MECHANISM).set(AccessMechanism.HTTP.toString());
+            headers.get(CALLER_TYPE).set(USER);
+            // Don't allow a domain-uuid operation header from a user call
+            if (headers.hasDefined(DOMAIN_UUID)) {
+                headers.remove(DOMAIN_UUID);
+            }
+            try {
+                return AccessAuditContext.doAs(identity, remoteAddress, (PrivilegedAction<ModelNode>) () ->
+                        modelController.execute(operation, OperationMessageHandler.DISCARD, ModelController.OperationTransactionControl.COMMIT, null));
+            } catch (RuntimeException e) {
+                ROOT_LOGGER.modelRequestError(e);
+                final ModelNode response = new ModelNode();
+                response.get(OUTCOME).set(FAILED);
+                response.get(FAILURE_DESCRIPTION).set(e.getLocalizedMessage());
+                return response;
+            }
+        }
+
+        private synchronized void write(final int index, final ModelNode response) {
+            if (writeFailure != null) {
+                return;
+            }
+            try {
+                if (!first) {
+                    writer.write(", ");
+                }
+                first = false;
+                writer.write("\"" + STEP + (index + 1) + "\" : ");
+                writer.write(response.toJSONString(true));
+                writer.flush();
+            } catch (IOException e) {
+                // The client is gone, let the remaining operations complete without writing them
+                writeFailure = e;
+            }
+        }
+    }
+}
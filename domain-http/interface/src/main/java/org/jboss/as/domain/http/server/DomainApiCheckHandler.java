@@ -17,6 +17,7 @@ import io.undertow.util.Methods;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.Executor;
 
 import org.jboss.as.controller.ModelController;
 import org.jboss.as.domain.http.server.cors.CorsUtil;
@@ -30,19 +31,23 @@ class DomainApiCheckHandler implements HttpHandler {
     static final String PATH = "/management";
     static final String GENERIC_CONTENT_REQUEST = PATH + "-upload";
     private static final String ADD_CONTENT_REQUEST = PATH + "/add-content";
+    private static final String BATCH_REQUEST = PATH + "/batch";
 
     private final HttpHandler domainApiHandler;
     private final HttpHandler addContentHandler;
     private final HttpHandler genericOperationHandler;
+    private final HttpHandler batchHandler;
     private final Collection<String> allowedOrigins = new ArrayList<String>();
     private final ConsoleAvailability consoleAvailability;
 
 
-    DomainApiCheckHandler(final ModelController modelController, final Collection<String> allowedOrigins, final ConsoleAvailability consoleAvailability) {
+    DomainApiCheckHandler(final ModelController modelController, final Executor executor, final Collection<String> allowedOrigins,
+                          final ConsoleAvailability consoleAvailability) {
         this.consoleAvailability = consoleAvailability;
         domainApiHandler = new EncodingHandler.Builder().build(Collections.<String,Object>emptyMap()).wrap(new DomainApiHandler(modelController));
         addContentHandler = new DomainApiUploadHandler(modelController);
         genericOperationHandler = new EncodingHandler.Builder().build(Collections.<String,Object>emptyMap()).wrap(new DomainApiGenericOperationHandler(modelController));
+        batchHandler = new EncodingHandler.Builder().build(Collections.<String,Object>emptyMap()).wrap(new DomainApiBatchHandler(modelController, executor));
         if (allowedOrigins != null) {
             for (String allowedOrigin : allowedOrigins) {
                 this.allowedOrigins.add(CorsUtil.sanitizeDefaultPort(allowedOrigin));
@@ -69,6 +74,10 @@ class DomainApiCheckHandler implements HttpHandler {
             if (!checkPostContentType(exchange)) {
                 return;
             }
+            if (BATCH_REQUEST.equals(exchange.getRequestPath())) {
+                batchHandler.handleRequest(exchange);
+                return;
+            }
         }
 
         domainApiHandler.handleRequest(exchange);
@@ -4,21 +4,28 @@
  */
 package org.jboss.as.domain.http.server;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_MECHANISM;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTHORIZATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CALLER_TYPE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE_SERVICE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DOMAIN_UUID;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXECUTE_FOR_COORDINATOR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROXIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_OPERATION_DESCRIPTION_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_OPERATION_NAMES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOLVE_EXPRESSIONS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SYNC_REMOVED_FOR_READD;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.USER;
 import static org.jboss.as.domain.http.server.DomainUtil.getStreamIndex;
@@ -33,6 +40,7 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
@@ -40,6 +48,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
@@ -57,8 +67,10 @@ import org.jboss.as.controller.client.OperationResponse;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.core.security.AccessMechanism;
 import org.jboss.as.domain.http.server.logging.HttpServerLogger;
+import org.jboss.as.domain.http.server.security.ElytronIdentityHandler;
 import org.jboss.as.protocol.StreamUtils;
 import org.jboss.dmr.ModelNode;
+import org.wildfly.security.auth.server.SecurityIdentity;
 import org.xnio.IoUtils;
 import org.xnio.streams.ChannelInputStream;
 
@@ -104,7 +116,11 @@ class DomainApiHandler implements HttpHandler {
         }
     }
 
+    private static final PathAddress AUTHORIZATION_ADDRESS = PathAddress.pathAddress(CORE_SERVICE, MANAGEMENT).append(ACCESS, AUTHORIZATION);
+
     private final ModelController modelController;
+    private final AtomicLong conditionalRequests = new AtomicLong();
+    private final AtomicLong notModifiedResponses = new AtomicLong();
 
     DomainApiHandler(ModelController modelController) {
         this.modelController = modelController;
@@ -148,6 +164,22 @@ class DomainApiHandler implements HttpHandler {
             return;
         }
 
+        final ETag modelETag = get && streamIndex < 0 ? getModelETag(exchange, dmr) : null;
+        if (modelETag != null) {
+            operationParameterBuilder.etag(modelETag);
+            if (requestHeaders.contains(Headers.IF_NONE_MATCH)) {
+                final long conditional = conditionalRequests.incrementAndGet();
+                if (!ETagUtils.handleIfNoneMatch(exchange, modelETag, false)) {
+                    // The configuration is unchanged since the client read it, no need to read it again
+                    ROOT_LOGGER.configurationNotModified(exchange.getRelativePath(), notModifiedResponses.incrementAndGet(), conditional);
+                    exchange.setStatusCode(304);
+                    DomainUtil.writeCacheHeaders(exchange, 304, operationParameterBuilder.build());
+                    exchange.endExchange();
+                    return;
+                }
+            }
+        }
+
         final ResponseCallback callback = new ResponseCallback() {
             @Override
             void doSendResponse(final OperationResponse response) {
@@ -217,6 +249,69 @@ class DomainApiHandler implements HttpHandler {
         callback.sendResponse(response);
     }
 
+    /**
+     * Get a strong ETag for a read of the configuration of a resource, based on the version of the configuration
+     * tracked by the controller. Reads that may include runtime state or resolved expressions don't get one.
+     *
+     * @return the ETag or {@code null} if the result of the read can't be identified by the configuration version
+     */
+    private ETag getModelETag(final HttpServerExchange exchange, final ModelNode operation) {
+        if (!READ_RESOURCE_OPERATION.equals(operation.get(OP).asString())) {
+            return null;
+        }
+        final long version;
+        final long authorizationVersion;
+        final Set<String> roles;
+        try {
+            if (isSet(operation, INCLUDE_RUNTIME) || isSet(operation, RESOLVE_EXPRESSIONS) || isSet(operation, PROXIES)) {
+                return null;
+            }
+            version = modelController.getModelVersion(PathAddress.pathAddress(operation.get(OP_ADDR)));
+            if (version < 0) {
+                return null;
+            }
+            // What the caller is allowed to read depends on the access control configuration
+            authorizationVersion = modelController.getModelVersion(AUTHORIZATION_ADDRESS);
+            // The ETag is only matched by a caller mapped to the same roles as the caller the read was answered to
+            roles = modelController.getCallerRoles(operation);
+            if (roles == null) {
+                return null;
+            }
+        } catch (IllegalArgumentException e) {
+            // Leave reporting the invalid request to the operation
+            return null;
+        }
+        final MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(md, Long.toString(version));
+        update(md, Long.toString(authorizationVersion));
+        update(md, exchange.getRequestURI());
+        update(md, exchange.getQueryString());
+        update(md, exchange.getRequestHeaders().getFirst(Headers.ACCEPT));
+        update(md, exchange.getRequestHeaders().getFirst(Headers.ACCEPT_ENCODING));
+        final SecurityIdentity identity = exchange.getAttachment(ElytronIdentityHandler.IDENTITY_KEY);
+        if (identity != null) {
+            update(md, identity.getPrincipal().getName());
+        }
+        update(md, String.valueOf(new TreeSet<>(roles)));
+        return new ETag(false, HexConverter.convertToHexString(md.digest()));
+    }
+
+    private static boolean isSet(final ModelNode operation, final String parameter) {
+        return operation.hasDefined(parameter) && operation.get(parameter).asBoolean();
+    }
+
+    private static void update(final MessageDigest md, final String value) {
+        if (value != null) {
+            md.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        md.update((byte) 0);
+    }
+
     private GetOperation getOperation(HttpServerExchange exchange) {
         Map<String, Deque<String>> queryParameters = exchange.getQueryParameters();
 
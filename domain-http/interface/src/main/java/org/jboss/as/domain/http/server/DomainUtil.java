@@ -11,15 +11,30 @@ import static io.undertow.util.Headers.HOST;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
 
 import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Deque;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
 
 import io.undertow.attribute.ExchangeAttributes;
+import io.undertow.connector.PooledByteBuffer;
 import io.undertow.io.IoCallback;
 import io.undertow.io.Sender;
 import io.undertow.server.HttpServerExchange;
@@ -32,8 +47,10 @@ import io.undertow.util.HeaderValues;
 import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
 import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.domain.http.server.logging.HttpServerLogger;
 import org.jboss.dmr.ModelNode;
 import org.xnio.IoUtils;
+import org.xnio.channels.StreamSinkChannel;
 
 
 /**
@@ -49,6 +66,9 @@ public class DomainUtil {
     private static final String DEFAULT_RESOURCE = "/" + INDEX_HTML;
     private static final String USE_STREAM_AS_RESPONSE = "useStreamAsResponse";
     private static final HttpString USE_STREAM_AS_RESPONSE_HEADER = new HttpString("org.wildfly.useStreamAsResponse");
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+    private static final int COMPRESSION_BUFFER_SIZE = 8192;
 
     public static void writeResponse(final HttpServerExchange exchange, final int status, ModelNode response,
             OperationParameter operationParameter) {
@@ -66,13 +86,93 @@ public class DomainUtil {
             // is not send as part of the response but expressed with the HTTP status code.
             response = response.get(RESULT);
         }
-        try {
-            byte[] data = getResponseBytes(response, operationParameter);
-            responseHeaders.put(Headers.CONTENT_LENGTH, data.length);
-            exchange.getResponseSender().send(ByteBuffer.wrap(data));
+        if (exchange.isInIoThread()) {
+            // We can't block here, this is only the case for short responses such as rejected requests
+            try {
+                byte[] data = getResponseBytes(response, operationParameter);
+                responseHeaders.put(Headers.CONTENT_LENGTH, data.length);
+                exchange.getResponseSender().send(ByteBuffer.wrap(data));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return;
+        }
+
+        // Serialize the response straight into the connection's pooled buffers, unless it fits in a
+        // single buffer it is sent using chunked transfer encoding as it is written
+        final String contentEncoding = getContentEncoding(exchange);
+        if (contentEncoding != null) {
+            responseHeaders.put(Headers.CONTENT_ENCODING, contentEncoding);
+        }
+        responseHeaders.add(Headers.VARY, Headers.ACCEPT_ENCODING_STRING);
+        exchange.startBlocking();
+        try (OutputStream out = encode(exchange.getOutputStream(), contentEncoding)) {
+            writeResponseBody(response, operationParameter, out);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            // Most likely the client went away before the whole response was sent
+            HttpServerLogger.ROOT_LOGGER.debugf(e, "Failed to send the management response");
+        } finally {
+            exchange.endExchange();
+        }
+    }
+
+    /**
+     * Select the content coding of a response from the {@code Accept-Encoding} header of the request, {@code gzip} is
+     * preferred over {@code deflate}.
+     *
+     * @return the content coding or {@code null} if the response should not be compressed
+     */
+    private static String getContentEncoding(final HttpServerExchange exchange) {
+        final HeaderValues acceptEncoding = exchange.getRequestHeaders().get(Headers.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return null;
+        }
+        boolean deflate = false;
+        for (String value : acceptEncoding) {
+            for (String coding : value.split(",")) {
+                final String[] parts = coding.split(";");
+                final String name = parts[0].trim().toLowerCase(Locale.ENGLISH);
+                if (isAcceptable(parts)) {
+                    if (GZIP.equals(name)) {
+                        return GZIP;
+                    }
+                    deflate |= DEFLATE.equals(name);
+                }
+            }
         }
+        return deflate ? DEFLATE : null;
+    }
+
+    private static boolean isAcceptable(final String[] codingParts) {
+        for (int i = 1; i < codingParts.length; i++) {
+            final String param = codingParts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Float.parseFloat(param.substring(2)) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static OutputStream encode(final OutputStream out, final String contentEncoding) throws IOException {
+        if (GZIP.equals(contentEncoding)) {
+            return new GZIPOutputStream(out, COMPRESSION_BUFFER_SIZE);
+        } else if (DEFLATE.equals(contentEncoding)) {
+            return new DeflaterOutputStream(out, new Deflater(), COMPRESSION_BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        def.end();
+                    }
+                }
+            };
+        }
+        return out;
     }
 
 
@@ -93,19 +193,63 @@ public class DomainUtil {
         writeCacheHeaders(exchange, 200, operationParameter);
 
         final Sender sender = exchange.getResponseSender();
+        final InputStream inputStream = entry.getStream();
+        final long start = System.nanoTime();
+        final FileChannel fileChannel = getFileChannel(inputStream);
+        if (fileChannel != null) {
+            // The stream is backed by a file, let the connection transfer it without copying it through the heap.
+            // Only the size the file had when the response started is sent, a log file may grow meanwhile.
+            try {
+                final long position = fileChannel.position();
+                final long size = fileChannel.size() - position;
+                responseHeaders.put(Headers.CONTENT_LENGTH, size);
+                final StreamSinkChannel channel = exchange.getResponseChannel();
+                transferFile(fileChannel, position, size, channel);
+                channel.shutdownWrites();
+                while (!channel.flush()) {
+                    channel.awaitWritable();
+                }
+                logThroughput(entry, size, start, true);
+            } catch (IOException e) {
+                if (exchange.isResponseStarted()) {
+                    // Less than the announced length was sent, the connection can't be reused
+                    IoUtils.safeClose(exchange.getConnection());
+                } else {
+                    exchange.setStatusCode(500);
+                }
+                HttpServerLogger.ROOT_LOGGER.debugf(e, "Failed to send the response stream %s", entry.getUUID());
+            } finally {
+                IoUtils.safeClose(fileChannel);
+                IoUtils.safeClose(operationResponse);
+                exchange.endExchange();
+            }
+            return;
+        }
+
         class ServeTask implements IoCallback, Runnable {
-            private final byte[] buffer = new byte[1024];//TODO: we should be pooling these
+            private final PooledByteBuffer pooled = exchange.getConnection().getByteBufferPool().allocate();
+            private final ReadableByteChannel channel = Channels.newChannel(inputStream);
+            private long sent;
 
             public void run() {
                 try {
-                    final InputStream inputStream = entry.getStream();
-                    int res = inputStream.read(buffer);
-                    if (res == -1) {
+                    final ByteBuffer buffer = pooled.getBuffer();
+                    buffer.clear();
+                    // Fill the whole buffer to keep the number of sends down
+                    int res = 0;
+                    while (buffer.hasRemaining() && res != -1) {
+                        res = channel.read(buffer);
+                    }
+                    if (buffer.position() == 0) {
                         //we are done, clean up and return
+                        pooled.close();
                         IoUtils.safeClose(operationResponse);
+                        logThroughput(entry, sent, start, false);
                         return;
                     }
-                    sender.send(ByteBuffer.wrap(buffer, 0, res), this);
+                    buffer.flip();
+                    sent += buffer.remaining();
+                    sender.send(buffer, this);
                 } catch (IOException e) {
                     onException(exchange, sender, e);
                 }
@@ -119,6 +263,7 @@ public class DomainUtil {
 
             @Override
             public void onException(HttpServerExchange exchange, Sender sender, IOException exception) {
+                pooled.close();
                 IoUtils.safeClose(operationResponse);
                 if (!exchange.isResponseStarted()) {
                     exchange.setStatusCode(500);
@@ -129,6 +274,42 @@ public class DomainUtil {
         new ServeTask().run();
     }
 
+    /**
+     * Get the channel of the file backing a response stream, this is the case for deployment content read from the
+     * content repository and for log files.
+     *
+     * @return the channel or {@code null} if the stream is not a {@link FileInputStream}
+     */
+    private static FileChannel getFileChannel(final InputStream stream) {
+        return stream instanceof FileInputStream ? ((FileInputStream) stream).getChannel() : null;
+    }
+
+    /**
+     * Transfer exactly {@code count} bytes of a file to a channel, blocking until the channel accepts them.
+     *
+     * @throws EOFException if the file is shorter than expected, e.g. because it was truncated meanwhile
+     */
+    static void transferFile(final FileChannel file, long position, long count, final StreamSinkChannel channel) throws IOException {
+        while (count > 0) {
+            final long transferred = channel.transferFrom(file, position, count);
+            if (transferred > 0) {
+                position += transferred;
+                count -= transferred;
+            } else if (position >= file.size()) {
+                throw new EOFException();
+            } else {
+                channel.awaitWritable();
+            }
+        }
+    }
+
+    private static void logThroughput(final OperationResponse.StreamEntry entry, final long bytes, final long start, final boolean zeroCopy) {
+        if (HttpServerLogger.ROOT_LOGGER.isDebugEnabled()) {
+            final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            HttpServerLogger.ROOT_LOGGER.streamResponseSent(bytes, entry.getUUID(), millis, bytes * 1000 / 1024 / Math.max(millis, 1), zeroCopy);
+        }
+    }
+
     private static String determineMimeType(OperationResponse.StreamEntry entry, HttpServerExchange exchange) {
         // We see if the type provided by the response "matches" the ACCEPT header; if yes, use it
         // If not, use application/octet-stream to trigger the browser to treat it as a download
@@ -153,15 +334,25 @@ public class DomainUtil {
     }
 
     private static byte[] getResponseBytes(final ModelNode modelNode, final OperationParameter operationParameter) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeResponseBody(modelNode, operationParameter, baos);
+        return baos.toByteArray();
+    }
+
+    private static void writeResponseBody(final ModelNode modelNode, final OperationParameter operationParameter,
+                                          final OutputStream stream) throws IOException {
         if (operationParameter.isEncode()) {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            BufferedOutputStream out = new BufferedOutputStream(baos);
+            BufferedOutputStream out = new BufferedOutputStream(stream);
             modelNode.writeBase64(out);
             out.flush();
-            return baos.toByteArray();
         } else {
-            String json = modelNode.toJSONString(!operationParameter.isPretty());
-            return json.getBytes(StandardCharsets.UTF_8);
+            PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8)));
+            modelNode.writeJSONString(writer, !operationParameter.isPretty());
+            writer.flush();
+            if (writer.checkError()) {
+                // PrintWriter swallows the IOException
+                throw new IOException();
+            }
         }
     }
 
@@ -0,0 +1,62 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.http.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The statistics of the connections to a {@link ManagementHttpServer}, aggregated over all the connections.
+ */
+public final class HttpConnectionStatistics {
+
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+
+    HttpConnectionStatistics() {
+    }
+
+    void connectionOpened() {
+        openConnections.incrementAndGet();
+    }
+
+    void connectionClosed() {
+        openConnections.decrementAndGet();
+    }
+
+    void requestStarted(final int concurrentRequests) {
+        requestCount.incrementAndGet();
+        maxConcurrentRequests.accumulateAndGet(concurrentRequests, Math::max);
+    }
+
+    /**
+     * Get the number of connections currently open.
+     *
+     * @return the number of connections currently open.
+     */
+    public int getOpenConnections() {
+        return openConnections.get();
+    }
+
+    /**
+     * Get the number of requests received over all the connections.
+     *
+     * @return the number of requests received over all the connections.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Get the highest number of requests handled concurrently over a single connection, which with HTTP/2 are the
+     * concurrent streams of the connection.
+     *
+     * @return the highest number of requests handled concurrently over a single connection.
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests.get();
+    }
+}
@@ -26,6 +26,7 @@ import javax.net.ssl.SSLContext;
 
 import org.jboss.as.controller.ModelController;
 import org.jboss.as.controller.management.HttpInterfaceCommonPolicy.Header;
+import org.jboss.as.controller.notification.NotificationHandlerRegistry;
 import org.jboss.as.domain.http.server.cors.CorsHttpHandler;
 import org.jboss.as.domain.http.server.logging.HttpServerLogger;
 import org.jboss.as.domain.http.server.security.DmrFailureReadinessHandler;
@@ -62,6 +63,7 @@ import io.undertow.security.handlers.AuthenticationConstraintHandler;
 import io.undertow.security.handlers.SinglePortConfidentialityHandler;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.server.OpenListener;
 import io.undertow.server.handlers.BlockingHandler;
 import io.undertow.server.handlers.CanonicalPathHandler;
 import io.undertow.server.handlers.ChannelUpgradeHandler;
@@ -72,7 +74,10 @@ import io.undertow.server.handlers.cache.CacheHandler;
 import io.undertow.server.handlers.cache.DirectBufferCache;
 import io.undertow.server.handlers.error.SimpleErrorPageHandler;
 import io.undertow.server.handlers.resource.ResourceManager;
+import io.undertow.server.protocol.http.AlpnOpenListener;
 import io.undertow.server.protocol.http.HttpOpenListener;
+import io.undertow.server.protocol.http2.Http2OpenListener;
+import io.undertow.server.protocol.http2.Http2UpgradeHandler;
 import io.undertow.util.Headers;
 import io.undertow.util.Methods;
 
@@ -97,11 +102,13 @@ public class ManagementHttpServer {
         set.add(DomainApiCheckHandler.PATH);
         set.add(DomainApiCheckHandler.GENERIC_CONTENT_REQUEST);
         set.add(LogoutHandler.PATH);
+        set.add(NotificationStreamHandler.PATH);
         set.add(ErrorContextHandler.ERROR_CONTEXT);
         RESERVED_CONTEXTS = Collections.unmodifiableSet(set);
     }
 
     private final HttpOpenListener openListener;
+    private final OpenListener secureOpenListener;
     private final InetSocketAddress httpAddress;
     private final InetSocketAddress secureAddress;
     private final XnioWorker worker;
@@ -115,10 +122,13 @@ public class ManagementHttpServer {
     private final Integer backlog;
     private final Integer connectionHighWater;
     private final Integer connectionLowWater;
+    private final HttpConnectionStatistics connectionStatistics;
 
-    private ManagementHttpServer(HttpOpenListener openListener, Builder builder, SSLContext sslContext,
-                                 SslClientAuthMode sslClientAuthMode, ExtensionHandlers extensionExtensionHandlers) {
+    private ManagementHttpServer(HttpOpenListener openListener, OpenListener secureOpenListener, Builder builder,
+                                 SSLContext sslContext, SslClientAuthMode sslClientAuthMode, ExtensionHandlers extensionExtensionHandlers,
+                                 HttpConnectionStatistics connectionStatistics) {
         this.openListener = openListener;
+        this.secureOpenListener = secureOpenListener;
         this.httpAddress = builder.bindAddress;
         this.secureAddress = builder.secureBindAddress;
         this.sslContext = sslContext;
@@ -130,6 +140,7 @@ public class ManagementHttpServer {
         this.backlog = builder.backlog;
         this.connectionHighWater = builder.connectionHighWater;
         this.connectionLowWater = builder.connectionLowWater;
+        this.connectionStatistics = connectionStatistics;
     }
 
     public void start() {
@@ -159,7 +170,8 @@ public class ManagementHttpServer {
                 }
                 OptionMap secureOptions = serverOptionsBuilder.getMap();
                 XnioSsl xnioSsl = new UndertowXnioSsl(worker.getXnio(), secureOptions, sslContext);
-                secureServer = xnioSsl.createSslConnectionServer(worker, secureAddress, acceptListener, secureOptions);
+                secureServer = xnioSsl.createSslConnectionServer(worker, secureAddress,
+                        ChannelListeners.openListenerAdapter(secureOpenListener), secureOptions);
                 secureServer.resumeAccepts();
             }
         } catch (IOException e) {
@@ -172,6 +184,10 @@ public class ManagementHttpServer {
         IoUtils.safeClose(secureServer);
     }
 
+    public HttpConnectionStatistics getConnectionStatistics() {
+        return connectionStatistics;
+    }
+
     public synchronized void addStaticContext(String contextName, ResourceManager resourceManager) {
         Assert.checkNotNullParam("contextName", contextName);
         Assert.checkNotNullParam("resourceManager", resourceManager);
@@ -240,6 +256,12 @@ public class ManagementHttpServer {
         }
     }
 
+    /**
+     * The maximum number of concurrent streams of an HTTP/2 connection, a fraction of the requests the management
+     * executor queues so that a single client can't exhaust it.
+     */
+    private static final int HTTP2_MAX_CONCURRENT_STREAMS = 100;
+
     private static final ByteBufferSlicePool bufferPool = new ByteBufferSlicePool(BufferAllocator.DIRECT_BYTE_BUFFER_ALLOCATOR, 4096, 10 * 4096);
 
     private static ManagementHttpServer create(Builder builder) {
@@ -261,10 +283,26 @@ public class ManagementHttpServer {
         if (builder.noRequestTimeout != null) {
             optionsBuilder.set(UndertowOptions.NO_REQUEST_TIMEOUT, builder.noRequestTimeout);
         }
+        if (builder.http2) {
+            // Enables h2c, both with prior knowledge and by upgrade, see setupOpenListener
+            optionsBuilder.set(UndertowOptions.ENABLE_HTTP2, true)
+                    .set(UndertowOptions.HTTP2_SETTINGS_MAX_CONCURRENT_STREAMS, HTTP2_MAX_CONCURRENT_STREAMS);
+        }
 
         undertowOptions = optionsBuilder.getMap();
 
         HttpOpenListener openListener = new HttpOpenListener(bufferPool, undertowOptions);
+        final OpenListener secureOpenListener;
+        if (builder.http2) {
+            // h2 is negotiated using ALPN, falling back to HTTP/1.1
+            AlpnOpenListener alpnOpenListener = new AlpnOpenListener(bufferPool, undertowOptions, openListener);
+            Http2OpenListener http2OpenListener = new Http2OpenListener(bufferPool, undertowOptions);
+            alpnOpenListener.addProtocol(Http2OpenListener.HTTP2, http2OpenListener, 10);
+            alpnOpenListener.addProtocol(Http2OpenListener.HTTP2_14, http2OpenListener, 7);
+            secureOpenListener = alpnOpenListener;
+        } else {
+            secureOpenListener = openListener;
+        }
 
         int secureRedirectPort = builder.secureBindAddress != null ? builder.secureBindAddress.getPort() : -1;
         // WFLY-2870 -- redirect not supported if bindAddress and secureBindAddress are using different InetAddress
@@ -274,8 +312,13 @@ public class ManagementHttpServer {
             secureRedirectPort = -1;
         }
 
-        final ExtensionHandlers extensionHandlers = setupOpenListener(openListener, secureRedirectPort, builder);
-        return new ManagementHttpServer(openListener, builder, sslContext, sslClientAuthMode, extensionHandlers);
+        final HttpConnectionStatistics connectionStatistics = new HttpConnectionStatistics();
+        final ExtensionHandlers extensionHandlers = setupOpenListener(openListener, secureRedirectPort, builder, connectionStatistics);
+        if (secureOpenListener != openListener) {
+            secureOpenListener.setRootHandler(openListener.getRootHandler());
+        }
+        return new ManagementHttpServer(openListener, secureOpenListener, builder, sslContext, sslClientAuthMode, extensionHandlers,
+                connectionStatistics);
     }
 
     private static Function<HttpServerExchange, Boolean> createReadyFunction(Builder builder) {
@@ -301,6 +344,13 @@ public class ManagementHttpServer {
                 new LogoutHandler(DEFAULT_SECURITY_REALM), "X-Frame-Options", "SAMEORIGIN"), "X-Content-Type-Options", "nosniff"));
     }
 
+    private static void addNotificationStreamHandler(PathHandler pathHandler, Builder builder) {
+        HttpHandler notificationStreamHandler = secureDomainAccess(new NotificationStreamHandler(builder.modelController,
+                builder.notificationHandlerRegistry, builder.executor, builder.allowedOrigins, builder.consoleAvailability), builder);
+        pathHandler.addPrefixPath(NotificationStreamHandler.PATH, wrapHttpHeader(wrapHttpHeader(
+                notificationStreamHandler, "X-Frame-Options", "SAMEORIGIN"), "X-Content-Type-Options", "nosniff"));
+    }
+
     private static void addErrorContextHandler(PathHandler pathHandler, Builder builder) throws ModuleLoadException {
         HttpHandler errorContextHandler = (wrapHttpHeader(wrapHttpHeader(ErrorContextHandler.createErrorContext(builder.consoleSlot), "X-Frame-Options", "SAMEORIGIN"), "X-Content-Type-Options", "nosniff"));
         pathHandler.addPrefixPath(ErrorContextHandler.ERROR_CONTEXT, errorContextHandler);
@@ -328,12 +378,14 @@ public class ManagementHttpServer {
         }
     }
 
-    private static ExtensionHandlers setupOpenListener(HttpOpenListener listener, int secureRedirectPort, Builder builder) {
+    private static ExtensionHandlers setupOpenListener(HttpOpenListener listener, int secureRedirectPort, Builder builder,
+                                                       HttpConnectionStatistics connectionStatistics) {
         CanonicalPathHandler canonicalPathHandler = new CanonicalPathHandler();
 
         ManagementHttpRequestHandler managementHttpRequestHandler = new ManagementHttpRequestHandler(builder.managementHttpRequestProcessor, canonicalPathHandler);
         CorsHttpHandler corsHandler = new CorsHttpHandler(managementHttpRequestHandler, builder.allowedOrigins);
-        listener.setRootHandler(new UpgradeFixHandler(corsHandler));
+        HttpHandler rootHandler = ConnectionStatisticsHandler.wrap(connectionStatistics, new UpgradeFixHandler(corsHandler));
+        listener.setRootHandler(builder.http2 ? new Http2UpgradeHandler(rootHandler) : rootHandler);
 
         PathHandler pathHandler = new PathHandler();
         HttpHandler current = pathHandler;
@@ -385,7 +437,7 @@ public class ManagementHttpServer {
         HttpHandler domainApiHandler = StreamReadLimitHandler.wrap(CorrelationHandler.wrap(
                 InExecutorHandler.wrap(
                     builder.executor,
-                    associateIdentity(new DomainApiCheckHandler(builder.modelController,
+                    associateIdentity(new DomainApiCheckHandler(builder.modelController, builder.executor,
                         builder.allowedOrigins, builder.consoleAvailability))
                 )));
 
@@ -398,6 +450,9 @@ public class ManagementHttpServer {
         domainApiHandler = secureDomainAccess(domainApiHandler, builder);
         HttpHandler readinessHandler = addDmrRedinessHandler(pathHandler, domainApiHandler, readyFunction);
         addLogoutHandler(pathHandler, builder);
+        if (builder.notificationHandlerRegistry != null) {
+            addNotificationStreamHandler(pathHandler, builder);
+        }
 
         return new ExtensionHandlers(pathHandler, readinessHandler, readyFunction, consoleHandler);
     }
@@ -472,6 +527,7 @@ public class ManagementHttpServer {
         private InetSocketAddress bindAddress;
         private InetSocketAddress secureBindAddress;
         private ModelController modelController;
+        private NotificationHandlerRegistry notificationHandlerRegistry;
         private SSLContext sslContext;
         private SslClientAuthMode sslClientAuthMode;
         private HttpAuthenticationFactory httpAuthenticationFactory;
@@ -489,6 +545,7 @@ public class ManagementHttpServer {
         private Integer connectionLowWater;
         private Integer noRequestTimeout;
         private Long uploadLimit;
+        private boolean http2;
 
         private Builder() {
         }
@@ -514,6 +571,13 @@ public class ManagementHttpServer {
             return this;
         }
 
+        public Builder setNotificationHandlerRegistry(NotificationHandlerRegistry notificationHandlerRegistry) {
+            assertNotBuilt();
+            this.notificationHandlerRegistry = notificationHandlerRegistry;
+
+            return this;
+        }
+
         public Builder setSSLContext(SSLContext sslContext) {
             assertNotBuilt();
             this.sslContext = sslContext;
@@ -636,6 +700,18 @@ public class ManagementHttpServer {
             return this;
         }
 
+        /**
+         * Set whether HTTP/2 is enabled, negotiated using ALPN (h2) on the secure socket and by upgrade or prior
+         * knowledge (h2c) on the plain socket. Requests sent as concurrent streams of a connection are handled
+         * concurrently by the management executor.
+         */
+        public Builder setHttp2(boolean http2) {
+            assertNotBuilt();
+            this.http2 = http2;
+
+            return this;
+        }
+
         public ManagementHttpServer build() {
             assertNotBuilt();
 
@@ -0,0 +1,344 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.http.server;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_CONTROL;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_MECHANISM;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTE_VALUE_WRITTEN_NOTIFICATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTHORIZATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CALLER_TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE_SERVICE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEFAULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXCEPTIONS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATIONS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.USER;
+import static org.jboss.as.controller.notification.Notification.DATA;
+import static org.jboss.as.controller.notification.Notification.MESSAGE;
+import static org.jboss.as.domain.http.server.cors.CorsUtil.matchOrigin;
+import static org.jboss.as.domain.http.server.logging.HttpServerLogger.ROOT_LOGGER;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.as.controller.AccessAuditContext;
+import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.notification.Notification;
+import org.jboss.as.controller.notification.NotificationFilter;
+import org.jboss.as.controller.notification.NotificationHandler;
+import org.jboss.as.controller.notification.NotificationHandlerRegistry;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.operations.global.GlobalNotifications;
+import org.jboss.as.core.security.AccessMechanism;
+import org.jboss.as.domain.http.server.cors.CorsUtil;
+import org.jboss.as.domain.http.server.security.ElytronIdentityHandler;
+import org.jboss.dmr.ModelNode;
+import org.wildfly.security.auth.server.SecurityIdentity;
+import org.wildfly.security.manager.WildFlySecurityManager;
+import org.xnio.IoUtils;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.sse.ServerSentEventConnection;
+import io.undertow.server.handlers.sse.ServerSentEventConnectionCallback;
+import io.undertow.server.handlers.sse.ServerSentEventHandler;
+import io.undertow.util.HeaderMap;
+import io.undertow.util.Headers;
+import io.undertow.util.Methods;
+
+/**
+ * Streams the notifications emitted by the management resources as server-sent events, so clients watching the model
+ * for changes can subscribe to them instead of polling.
+ * <p>
+ * A {@code GET} request may restrict the stream using the {@code address} query parameter, the CLI style address of
+ * the subtree whose notifications are streamed which may contain wildcards, and the repeatable {@code type} query
+ * parameter, the types of the notifications streamed. Each event is named after the type of its notification and has
+ * the JSON encoded notification as its data.
+ * <p>
+ * Notifications of resources the caller is not allowed to read are not streamed, and notifications of written
+ * attributes the caller is not allowed to read don't include the values. The notifications which have not been sent
+ * yet are buffered per subscriber, up to the number set by the {@value #BUFFER_SIZE_PROP} system property. If a client
+ * can't keep up, the notifications which don't fit are dropped and a {@value #DROPPED_EVENT} event with their count
+ * is sent before the next event.
+ */
+class NotificationStreamHandler implements HttpHandler {
+
+    static final String PATH = "/management-events";
+    static final String BUFFER_SIZE_PROP = "org.wildfly.management.http.notification-buffer-size";
+
+    private static final String ADDRESS_PARAM = "address";
+    private static final String TYPE_PARAM = "type";
+    private static final String DROPPED_EVENT = "notifications-dropped";
+    private static final int DEFAULT_BUFFER_SIZE = 1000;
+    private static final long KEEP_ALIVE_MILLIS = 30000;
+    private static final int MAX_CACHED_ACCESS = 256;
+    private static final PathAddress AUTHORIZATION_ADDRESS = PathAddress.pathAddress(CORE_SERVICE, MANAGEMENT).append(ACCESS, AUTHORIZATION);
+
+    private static final ServerSentEventConnection.EventCallback IGNORE = new ServerSentEventConnection.EventCallback() {
+        @Override
+        public void done(ServerSentEventConnection connection, String data, String event, String id) {
+        }
+
+        @Override
+        public void failed(ServerSentEventConnection connection, String data, String event, String id, IOException e) {
+        }
+    };
+
+    private final ModelController modelController;
+    private final NotificationHandlerRegistry notificationRegistry;
+    private final Executor executor;
+    private final Collection<String> allowedOrigins = new ArrayList<>();
+    private final ConsoleAvailability consoleAvailability;
+    private final int bufferSize;
+
+    NotificationStreamHandler(final ModelController modelController, final NotificationHandlerRegistry notificationRegistry,
+                              final Executor executor, final Collection<String> allowedOrigins, final ConsoleAvailability consoleAvailability) {
+        this.modelController = modelController;
+        this.notificationRegistry = notificationRegistry;
+        this.executor = executor;
+        if (allowedOrigins != null) {
+            for (String allowedOrigin : allowedOrigins) {
+                this.allowedOrigins.add(CorsUtil.sanitizeDefaultPort(allowedOrigin));
+            }
+        }
+        this.consoleAvailability = consoleAvailability;
+        this.bufferSize = Integer.parseInt(WildFlySecurityManager.getPropertyPrivileged(BUFFER_SIZE_PROP, Integer.toString(DEFAULT_BUFFER_SIZE)));
+    }
+
+    @Override
+    public void handleRequest(final HttpServerExchange exchange) throws Exception {
+        if (!consoleAvailability.isAvailable()) {
+            exchange.getResponseHeaders().add(Headers.RETRY_AFTER, "2");
+            Common.SERVICE_UNAVAIABLE.handleRequest(exchange);
+            return;
+        }
+        if (!Methods.GET.equals(exchange.getRequestMethod())) {
+            Common.METHOD_NOT_ALLOWED_HANDLER.handleRequest(exchange);
+            return;
+        }
+        final HeaderMap headers = exchange.getRequestHeaders();
+        if (headers.contains(Headers.ORIGIN) && matchOrigin(exchange, allowedOrigins) == null) {
+            return;
+        }
+
+        final Map<String, Deque<String>> parameters = exchange.getQueryParameters();
+        final PathAddress address;
+        try {
+            address = parameters.containsKey(ADDRESS_PARAM)
+                    ? PathAddress.parseCLIStyleAddress(parameters.get(ADDRESS_PARAM).getFirst())
+                    : PathAddress.EMPTY_ADDRESS;
+        } catch (IllegalArgumentException e) {
+            Common.sendPlainTextError(exchange, e.getMessage(), 400);
+            return;
+        }
+        final Set<String> types = parameters.containsKey(TYPE_PARAM)
+                ? new HashSet<>(parameters.get(TYPE_PARAM))
+                : Collections.emptySet();
+
+        final SocketAddress peerSocketAddress = exchange.getConnection().getPeerAddress();
+        final InetAddress remoteAddress = peerSocketAddress instanceof InetSocketAddress ? ((InetSocketAddress) peerSocketAddress).getAddress() : null;
+        final Subscriber subscriber = new Subscriber(address, types, exchange.getAttachment(ElytronIdentityHandler.IDENTITY_KEY), remoteAddress);
+        new ServerSentEventHandler(subscriber).handleRequest(exchange);
+    }
+
+    /**
+     * The notification handler of a client. Notifications are queued by the thread emitting them and sent by the
+     * management executor one at a time, the next notification being sent once the previous one has been written.
+     */
+    private final class Subscriber implements ServerSentEventConnectionCallback, ServerSentEventConnection.EventCallback,
+            NotificationHandler, NotificationFilter {
+
+        private final PathAddress address;
+        private final Set<String> types;
+        private final SecurityIdentity identity;
+        private final InetAddress remoteAddress;
+        private final BlockingQueue<Notification> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicLong dropped = new AtomicLong();
+        /** Only used by the thread sending, see {@link #sending}. */
+        private final Map<PathAddress, ModelNode> accessControl = new LinkedHashMap<PathAddress, ModelNode>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PathAddress, ModelNode> eldest) {
+                return size() > MAX_CACHED_ACCESS;
+            }
+        };
+        private long accessControlVersion = -1;
+        private long eventId;
+        private volatile ServerSentEventConnection connection;
+
+        Subscriber(final PathAddress address, final Set<String> types, final SecurityIdentity identity, final InetAddress remoteAddress) {
+            this.address = address;
+            this.types = types;
+            this.identity = identity;
+            this.remoteAddress = remoteAddress;
+        }
+
+        @Override
+        public void connected(final ServerSentEventConnection connection, final String lastEventId) {
+            this.connection = connection;
+            connection.setKeepAliveTime(KEEP_ALIVE_MILLIS);
+            connection.addCloseTask(c -> notificationRegistry.unregisterNotificationHandler(NotificationHandlerRegistry.ANY_ADDRESS, this, this));
+            notificationRegistry.registerNotificationHandler(NotificationHandlerRegistry.ANY_ADDRESS, this, this);
+        }
+
+        @Override
+        public boolean isNotificationEnabled(final Notification notification) {
+            if (!types.isEmpty() && !types.contains(notification.getType())) {
+                return false;
+            }
+            final PathAddress source = notification.getSource();
+            if (source.size() < address.size()) {
+                return false;
+            }
+            for (int i = 0; i < address.size(); i++) {
+                if (!address.getElement(i).matches(source.getElement(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void handleNotification(final Notification notification) {
+            if (!queue.offer(notification)) {
+                dropped.incrementAndGet();
+            }
+            if (sending.compareAndSet(false, true)) {
+                sendNext();
+            }
+        }
+
+        @Override
+        public void done(final ServerSentEventConnection connection, final String data, final String event, final String id) {
+            sendNext();
+        }
+
+        @Override
+        public void failed(final ServerSentEventConnection connection, final String data, final String event, final String id, final IOException e) {
+            ROOT_LOGGER.debugf(e, "Failed to send notification to %s", remoteAddress);
+            IoUtils.safeClose(connection);
+        }
+
+        private void sendNext() {
+            try {
+                executor.execute(this::send);
+            } catch (RejectedExecutionException e) {
+                // Retried with the next notification
+                sending.set(false);
+            }
+        }
+
+        private void send() {
+            final ServerSentEventConnection connection = this.connection;
+            if (!connection.isOpen()) {
+                return;
+            }
+            Notification notification;
+            while ((notification = queue.poll()) != null) {
+                final ModelNode event = toEvent(notification);
+                if (event != null) {
+                    final long dropped = this.dropped.getAndSet(0);
+                    if (dropped > 0) {
+                        ROOT_LOGGER.notificationsDropped(dropped, remoteAddress);
+                        connection.send(Long.toString(dropped), DROPPED_EVENT, null, IGNORE);
+                    }
+                    connection.send(event.toJSONString(true), notification.getType(), Long.toString(++eventId), this);
+                    return;
+                }
+            }
+            sending.set(false);
+            // Pick up a notification queued after the queue was found empty
+            if (!queue.isEmpty() && sending.compareAndSet(false, true)) {
+                sendNext();
+            }
+        }
+
+        /**
+         * Convert a notification to the data of an event, removing what the caller is not allowed to read.
+         *
+         * @return the event data or {@code null} if the caller is not allowed to read the source of the notification
+         */
+        private ModelNode toEvent(final Notification notification) {
+            final ModelNode access = getAccessControl(notification.getSource());
+            if (!access.get(READ).asBoolean(false)) {
+                return null;
+            }
+            // The node of the notification is shared by all the handlers and protected
+            final ModelNode event = notification.toModelNode().clone();
+            if (ATTRIBUTE_VALUE_WRITTEN_NOTIFICATION.equals(notification.getType()) && event.hasDefined(DATA, NAME)) {
+                final String attribute = event.get(DATA, NAME).asString();
+                if (!access.hasDefined(ATTRIBUTES, attribute, READ) || !access.get(ATTRIBUTES, attribute, READ).asBoolean()) {
+                    event.get(DATA).remove(GlobalNotifications.OLD_VALUE);
+                    event.get(DATA).remove(GlobalNotifications.NEW_VALUE);
+                    // The message includes the values
+                    event.remove(MESSAGE);
+                }
+            }
+            return event;
+        }
+
+        /**
+         * Get what the caller is allowed to do with a resource, as reported by the access control of the description
+         * of the resource. The results are cached until the access control configuration changes.
+         */
+        private ModelNode getAccessControl(final PathAddress source) {
+            final long version = modelController.getModelVersion(AUTHORIZATION_ADDRESS);
+            if (version != accessControlVersion || version < 0) {
+                accessControl.clear();
+                accessControlVersion = version;
+            }
+            ModelNode result = accessControl.get(source);
+            if (result == null) {
+                result = readAccessControl(source);
+                accessControl.put(source, result);
+            }
+            return result;
+        }
+
+        private ModelNode readAccessControl(final PathAddress source) {
+            final ModelNode operation = Util.createEmptyOperation(READ_RESOURCE_DESCRIPTION_OPERATION, source);
+            operation.get(ACCESS_CONTROL).set("trim-descriptions");
+            operation.get(OPERATIONS).set(false);
+            operation.get(OPERATION_HEADERS, ACCESS_MECHANISM).set(AccessMechanism.HTTP.toString());
+            operation.get(OPERATION_HEADERS, CALLER_TYPE).set(USER);
+            final ModelNode response = AccessAuditContext.doAs(identity, remoteAddress, (PrivilegedAction<ModelNode>)
+                    () -> modelController.execute(operation, null, ModelController.OperationTransactionControl.COMMIT, null));
+            if (!SUCCESS.equals(response.get(OUTCOME).asString())) {
+                // Not addressable by the caller, or removed along with its registration
+                return new ModelNode();
+            }
+            final ModelNode accessControl = response.get(RESULT, ACCESS_CONTROL);
+            final String key = source.toModelNode().asString();
+            return accessControl.hasDefined(EXCEPTIONS, key) ? accessControl.get(EXCEPTIONS, key) : accessControl.get(DEFAULT);
+        }
+    }
+}
@@ -4,12 +4,14 @@
  */
 package org.jboss.as.domain.http.server.logging;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.ERROR;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
 import java.lang.invoke.MethodHandles;
 import java.net.InetAddress;
+import java.net.SocketAddress;
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
@@ -93,4 +95,26 @@ public interface HttpServerLogger extends BasicLogger {
 
     @Message(id = 17, value = "The context name conflicts with an already registered context: %s")
     IllegalStateException conflictingContextNames(String contextName);
+
+    @LogMessage(level = DEBUG)
+    @Message(id = 18, value = "Sent %d bytes of response stream %s in %dms (%d KB/s, zero-copy: %b)")
+    void streamResponseSent(long bytes, String uuid, long millis, long kbPerSecond, boolean zeroCopy);
+
+    @LogMessage(level = DEBUG)
+    @Message(id = 19, value = "Configuration at %s not modified, %d of %d conditional requests answered without a read")
+    void configurationNotModified(String path, long notModified, long conditionalRequests);
+
+    @LogMessage(level = DEBUG)
+    @Message(id = 20, value = "Dropped %d notifications the subscriber at %s could not keep up with")
+    void notificationsDropped(long dropped, InetAddress subscriber);
+
+    @LogMessage(level = DEBUG)
+    @Message(id = 21, value = "%s connection from %s closed after %dms, served %d requests with at most %d concurrent streams")
+    void connectionClosed(String protocol, SocketAddress peer, long millis, long requests, int maxConcurrentStreams);
+
+    @Message(id = 22, value = "A batch must be a list of operations")
+    String invalidBatch();
+
+    @Message(id = 23, value = "Operation '%s' is not a read-only operation and can't be executed as part of a batch")
+    String notReadOnlyBatchOperation(String operation);
 }
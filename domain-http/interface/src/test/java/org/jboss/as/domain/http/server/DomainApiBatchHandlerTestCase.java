@@ -0,0 +1,205 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.http.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.undertow.Undertow;
+import io.undertow.server.handlers.BlockingHandler;
+import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationAttachments;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link DomainApiBatchHandler}.
+ */
+public class DomainApiBatchHandlerTestCase {
+
+    private static final String FAILING = "failing";
+    private static final String THROWING = "throwing";
+    private static final String CHANGING = "changing";
+
+    private final TestController controller = new TestController();
+    private ExecutorService executor;
+    private Undertow server;
+    private int port;
+
+    @Before
+    public void startServer() {
+        executor = Executors.newCachedThreadPool();
+        server = Undertow.builder()
+                .addHttpListener(0, "localhost")
+                .setHandler(new BlockingHandler(new DomainApiBatchHandler(controller, executor)))
+                .build();
+        server.start();
+        port = ((InetSocketAddress) server.getListenerInfo().get(0).getAddress()).getPort();
+    }
+
+    @After
+    public void stopServer() throws InterruptedException {
+        server.stop();
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private static ModelNode operation(final String name, final String resource) {
+        final ModelNode operation = new ModelNode();
+        operation.get(OP).set(name);
+        operation.get(OP_ADDR).set(PathAddress.pathAddress("subsystem", resource).toModelNode());
+        operation.get(NAME).set("attribute");
+        return operation;
+    }
+
+    private ModelNode post(final ModelNode batch) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(batch.toJSONString(true).getBytes(UTF_8));
+        }
+        assertEquals(200, connection.getResponseCode());
+        try (InputStream in = connection.getInputStream()) {
+            return ModelNode.fromJSONString(new String(DomainUtilTestCase.readAll(in), UTF_8));
+        }
+    }
+
+    private static void assertSuccess(final ModelNode step, final String resource) {
+        assertEquals(step.toString(), SUCCESS, step.get(OUTCOME).asString());
+        assertEquals(resource, step.get(RESULT).asString());
+    }
+
+    private static void assertFailed(final ModelNode step) {
+        assertEquals(step.toString(), FAILED, step.get(OUTCOME).asString());
+        assertTrue(step.toString(), step.hasDefined(FAILURE_DESCRIPTION));
+    }
+
+    @Test
+    public void testFailingStep() throws IOException {
+        final ModelNode batch = new ModelNode();
+        batch.add(operation(READ_ATTRIBUTE_OPERATION, "one"));
+        batch.add(operation(READ_ATTRIBUTE_OPERATION, FAILING));
+        batch.add(operation(READ_RESOURCE_OPERATION, THROWING));
+        batch.add(operation(WRITE_ATTRIBUTE_OPERATION, "two"));
+        batch.add(operation(READ_RESOURCE_OPERATION, "three"));
+
+        final ModelNode response = post(batch);
+        // The failed steps don't fail the batch nor the other steps
+        assertEquals(SUCCESS, response.get(OUTCOME).asString());
+        final ModelNode result = response.get(RESULT);
+        assertEquals(result.toString(), 5, result.keys().size());
+        assertSuccess(result.get("step-1"), "one");
+        assertFailed(result.get("step-2"));
+        assertFailed(result.get("step-3"));
+        // Only read operations are executed
+        assertFailed(result.get("step-4"));
+        assertEquals(0, controller.executed("two"));
+        assertSuccess(result.get("step-5"), "three");
+        assertTrue(response.get("consistent").asBoolean());
+    }
+
+    @Test
+    public void testConfigurationChanged() throws IOException {
+        final ModelNode batch = new ModelNode();
+        batch.add(operation(READ_ATTRIBUTE_OPERATION, "one"));
+        batch.add(operation(READ_ATTRIBUTE_OPERATION, CHANGING));
+
+        final ModelNode response = post(batch);
+        assertSuccess(response.get(RESULT, "step-1"), "one");
+        assertSuccess(response.get(RESULT, "step-2"), CHANGING);
+        assertFalse(response.get("consistent").asBoolean());
+    }
+
+    @Test
+    public void testInvalidBatch() throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(operation(READ_ATTRIBUTE_OPERATION, "one").toJSONString(true).getBytes(UTF_8));
+        }
+        assertEquals(500, connection.getResponseCode());
+        assertEquals(0, controller.executed("one"));
+    }
+
+    /**
+     * Returns the name of the addressed resource as the result, unless the resource is one of the failure cases.
+     */
+    private static final class TestController implements ModelController {
+
+        private final AtomicLong version = new AtomicLong();
+        private final Map<String, AtomicLong> executed = new ConcurrentHashMap<>();
+
+        long executed(final String resource) {
+            return executed.getOrDefault(resource, new AtomicLong()).get();
+        }
+
+        @Override
+        public ModelNode execute(ModelNode operation, OperationMessageHandler handler, OperationTransactionControl control, OperationAttachments attachments) {
+            final String resource = PathAddress.pathAddress(operation.get(OP_ADDR)).getLastElement().getValue();
+            executed.computeIfAbsent(resource, r -> new AtomicLong()).incrementAndGet();
+            final ModelNode response = new ModelNode();
+            switch (resource) {
+                case FAILING:
+                    response.get(OUTCOME).set(FAILED);
+                    response.get(FAILURE_DESCRIPTION).set("failed");
+                    return response;
+                case THROWING:
+                    throw new IllegalStateException("thrown");
+                case CHANGING:
+                    version.incrementAndGet();
+                    break;
+                default:
+                    break;
+            }
+            response.get(OUTCOME).set(SUCCESS);
+            response.get(RESULT).set(resource);
+            return response;
+        }
+
+        @Override
+        public OperationResponse execute(Operation operation, OperationMessageHandler handler, OperationTransactionControl control) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getModelVersion(final PathAddress address) {
+            return version.get();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.http.server;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.undertow.Undertow;
+import io.undertow.server.handlers.BlockingHandler;
+import io.undertow.util.Headers;
+import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationAttachments;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the ETags {@link DomainApiHandler} answers reads of the configuration with.
+ */
+public class DomainApiHandlerTestCase {
+
+    private final TestController controller = new TestController();
+    private Undertow server;
+    private int port;
+
+    @Before
+    public void startServer() {
+        server = Undertow.builder()
+                .addHttpListener(0, "localhost")
+                .setHandler(new BlockingHandler(new DomainApiHandler(controller)))
+                .build();
+        server.start();
+        port = ((InetSocketAddress) server.getListenerInfo().get(0).getAddress()).getPort();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop();
+    }
+
+    private HttpURLConnection get(final String etag) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/subsystem/test?operation=resource").openConnection();
+        if (etag != null) {
+            connection.setRequestProperty(Headers.IF_NONE_MATCH_STRING, etag);
+        }
+        if (connection.getResponseCode() == 200) {
+            try (InputStream in = connection.getInputStream()) {
+                DomainUtilTestCase.readAll(in);
+            }
+        }
+        return connection;
+    }
+
+    @Test
+    public void testNotModified() throws IOException {
+        final String etag = get(null).getHeaderField(Headers.ETAG_STRING);
+        assertNotNull(etag);
+        assertEquals(1, controller.executed.get());
+
+        assertEquals(304, get(etag).getResponseCode());
+        assertEquals(1, controller.executed.get());
+
+        // A change to the configuration changes the ETag
+        controller.version.incrementAndGet();
+        final HttpURLConnection changed = get(etag);
+        assertEquals(200, changed.getResponseCode());
+        assertNotEquals(etag, changed.getHeaderField(Headers.ETAG_STRING));
+        assertEquals(2, controller.executed.get());
+    }
+
+    @Test
+    public void testCallerRolesChanged() throws IOException {
+        final String etag = get(null).getHeaderField(Headers.ETAG_STRING);
+
+        // A caller now mapped to other roles may not be allowed to read the same configuration
+        controller.roles = Collections.singleton("Monitor");
+        final HttpURLConnection changed = get(etag);
+        assertEquals(200, changed.getResponseCode());
+        assertNotEquals(etag, changed.getHeaderField(Headers.ETAG_STRING));
+        assertEquals(2, controller.executed.get());
+    }
+
+    @Test
+    public void testUnknownCallerRoles() throws IOException {
+        controller.roles = null;
+        final HttpURLConnection connection = get(null);
+        assertEquals(200, connection.getResponseCode());
+        assertNull(connection.getHeaderField(Headers.ETAG_STRING));
+    }
+
+    /**
+     * Answers every operation with an empty result, with the configuration version and caller roles set by the test.
+     */
+    private static final class TestController implements ModelController {
+
+        private final AtomicLong version = new AtomicLong();
+        private final AtomicLong executed = new AtomicLong();
+        private volatile Set<String> roles = Collections.singleton("SuperUser");
+
+        @Override
+        public ModelNode execute(ModelNode operation, OperationMessageHandler handler, OperationTransactionControl control, OperationAttachments attachments) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public OperationResponse execute(Operation operation, OperationMessageHandler handler, OperationTransactionControl control) {
+            executed.incrementAndGet();
+            final ModelNode response = new ModelNode();
+            response.get(OUTCOME).set(SUCCESS);
+            response.get(RESULT).setEmptyObject();
+            return OperationResponse.Factory.createSimple(response);
+        }
+
+        @Override
+        public long getModelVersion(final PathAddress address) {
+            return version.get();
+        }
+
+        @Override
+        public Set<String> getCallerRoles(final ModelNode operation) {
+            return roles;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.http.server;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import io.undertow.Undertow;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.BlockingHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the responses written by {@link DomainUtil}.
+ */
+public class DomainUtilTestCase {
+
+    private Undertow server;
+    private int port;
+    private Path dir;
+    private volatile Consumer<HttpServerExchange> response;
+
+    @Before
+    public void startServer() throws IOException {
+        dir = Files.createTempDirectory("domain-util");
+        server = Undertow.builder()
+                .addHttpListener(0, "localhost")
+                // As the management handlers, the responses are written blocking from a worker thread
+                .setHandler(new BlockingHandler(exchange -> response.accept(exchange)))
+                .build();
+        server.start();
+        port = ((InetSocketAddress) server.getListenerInfo().get(0).getAddress()).getPort();
+    }
+
+    @After
+    public void stopServer() throws IOException {
+        server.stop();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    private void setResponseStream(final Callable<InputStream> stream) {
+        response = exchange -> {
+            final OperationResponse operationResponse;
+            try {
+                operationResponse = streamResponse(stream.call());
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            DomainUtil.writeStreamResponse(exchange, operationResponse, 0, new OperationParameter.Builder(true).build());
+        };
+    }
+
+    static OperationResponse streamResponse(final InputStream stream) {
+        final OperationResponse.StreamEntry entry = new OperationResponse.StreamEntry() {
+            @Override
+            public String getUUID() {
+                return "test-stream";
+            }
+
+            @Override
+            public String getMimeType() {
+                return "text/plain";
+            }
+
+            @Override
+            public InputStream getStream() {
+                return stream;
+            }
+
+            @Override
+            public void close() throws IOException {
+                stream.close();
+            }
+        };
+        return new OperationResponse() {
+            @Override
+            public ModelNode getResponseNode() {
+                return new ModelNode();
+            }
+
+            @Override
+            public List<StreamEntry> getInputStreams() {
+                return Collections.singletonList(entry);
+            }
+
+            @Override
+            public StreamEntry getInputStream(String uuid) {
+                return entry;
+            }
+
+            @Override
+            public void close() throws IOException {
+                entry.close();
+            }
+        };
+    }
+
+    private static byte[] content(int size) {
+        final byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) ('a' + i % 26);
+        }
+        return content;
+    }
+
+    @Test
+    public void testFileSentWithLength() throws Exception {
+        final Path file = dir.resolve("server.log");
+        final byte[] content = content(100_000);
+        Files.write(file, content);
+        setResponseStream(() -> new FileInputStream(file.toFile()));
+
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/").openConnection();
+        assertEquals(200, connection.getResponseCode());
+        assertEquals(content.length, connection.getContentLengthLong());
+        try (InputStream in = connection.getInputStream()) {
+            assertArrayEquals(content, readAll(in));
+        }
+    }
+
+    @Test
+    public void testFileSentFromItsPosition() throws Exception {
+        final Path file = dir.resolve("server.log");
+        final byte[] content = content(10_000);
+        Files.write(file, content);
+        setResponseStream(() -> {
+            final FileInputStream in = new FileInputStream(file.toFile());
+            assertEquals(1000, in.skip(1000));
+            return in;
+        });
+
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/").openConnection();
+        assertEquals(9000, connection.getContentLengthLong());
+        try (InputStream in = connection.getInputStream()) {
+            assertArrayEquals(Arrays.copyOfRange(content, 1000, content.length), readAll(in));
+        }
+    }
+
+    @Test
+    public void testGrowingFileSentUpToItsLength() throws Exception {
+        final Path file = dir.resolve("server.log");
+        final byte[] content = content(4 * 1024 * 1024);
+        Files.write(file, content);
+        final AtomicBoolean append = new AtomicBoolean(true);
+        // Log records keep being written to the file while it is sent
+        final Thread writer = new Thread(() -> {
+            try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.APPEND)) {
+                while (append.get()) {
+                    out.write("more log\n".getBytes(UTF_8));
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        setResponseStream(() -> {
+            final FileInputStream in = new FileInputStream(file.toFile());
+            writer.start();
+            return in;
+        });
+
+        try (Socket socket = new Socket("localhost", port)) {
+            final OutputStream out = socket.getOutputStream();
+            final DataInputStream in = new DataInputStream(socket.getInputStream());
+            out.write("GET / HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(ISO_8859_1));
+            out.flush();
+            final Map<String, String> headers = readHeaders(in);
+            final long length = Long.parseLong(headers.get("content-length"));
+            assertTrue(length >= content.length);
+            final byte[] body = new byte[(int) length];
+            in.readFully(body);
+            assertArrayEquals(content, Arrays.copyOf(body, content.length));
+            append.set(false);
+            writer.join();
+
+            // Nothing was sent past the announced length, the connection can be reused
+            setResponseStream(() -> new ByteArrayInputStream("second".getBytes(UTF_8)));
+            out.write("GET / HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(ISO_8859_1));
+            out.flush();
+            assertEquals("200", readHeaders(in).get(":status"));
+        } finally {
+            append.set(false);
+        }
+    }
+
+    @Test
+    public void testStreamCopied() throws Exception {
+        final byte[] content = content(50_000);
+        setResponseStream(() -> new ByteArrayInputStream(content));
+
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/").openConnection();
+        assertEquals(200, connection.getResponseCode());
+        try (InputStream in = connection.getInputStream()) {
+            assertArrayEquals(content, readAll(in));
+        }
+    }
+
+    private static ModelNode largeResponse() {
+        final ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(SUCCESS);
+        final ModelNode result = response.get(RESULT);
+        for (int i = 0; i < 2000; i++) {
+            result.get("child-" + i, "attribute").set("value of child " + i);
+        }
+        return response;
+    }
+
+    private HttpURLConnection requestModel(final ModelNode model, final String acceptEncoding) throws IOException {
+        response = exchange -> DomainUtil.writeResponse(exchange, 200, model, new OperationParameter.Builder(false).build());
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/").openConnection();
+        if (acceptEncoding != null) {
+            connection.setRequestProperty("Accept-Encoding", acceptEncoding);
+        }
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(connection.getHeaderField("Vary"), connection.getHeaderField("Vary").contains("Accept-Encoding"));
+        return connection;
+    }
+
+    @Test
+    public void testGzipResponse() throws Exception {
+        final ModelNode model = largeResponse();
+        final HttpURLConnection connection = requestModel(model, "deflate, gzip");
+        assertEquals("gzip", connection.getContentEncoding());
+        try (InputStream in = new GZIPInputStream(connection.getInputStream())) {
+            assertEquals(model, ModelNode.fromJSONString(new String(readAll(in), UTF_8)));
+        }
+    }
+
+    @Test
+    public void testDeflateResponse() throws Exception {
+        final ModelNode model = largeResponse();
+        final HttpURLConnection connection = requestModel(model, "gzip;q=0, deflate");
+        assertEquals("deflate", connection.getContentEncoding());
+        try (InputStream in = new InflaterInputStream(connection.getInputStream())) {
+            assertEquals(model, ModelNode.fromJSONString(new String(readAll(in), UTF_8)));
+        }
+    }
+
+    @Test
+    public void testUncompressedResponse() throws Exception {
+        final ModelNode model = largeResponse();
+        for (String acceptEncoding : new String[] {null, "identity", "br, gzip;q=0"}) {
+            final HttpURLConnection connection = requestModel(model, acceptEncoding);
+            assertNull(acceptEncoding, connection.getContentEncoding());
+            try (InputStream in = connection.getInputStream()) {
+                assertEquals(model, ModelNode.fromJSONString(new String(readAll(in), UTF_8)));
+            }
+        }
+    }
+
+    static byte[] readAll(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int count;
+        while ((count = in.read(buffer)) != -1) {
+            out.write(buffer, 0, count);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads the status line and headers of a response, the status code is mapped to {@code :status}.
+     */
+    private static Map<String, String> readHeaders(final InputStream in) throws IOException {
+        final Map<String, String> headers = new HashMap<>();
+        String line = readLine(in);
+        headers.put(":status", line.split(" ")[1]);
+        while (!(line = readLine(in)).isEmpty()) {
+            final int colon = line.indexOf(':');
+            headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ENGLISH), line.substring(colon + 1).trim());
+        }
+        return headers;
+    }
+
+    private static String readLine(final InputStream in) throws IOException {
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b == -1) {
+                throw new IOException("Connection closed");
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return new String(line.toByteArray(), ISO_8859_1);
+    }
+}
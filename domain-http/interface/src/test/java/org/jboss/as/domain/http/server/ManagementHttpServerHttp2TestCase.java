@@ -0,0 +1,103 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.http.server;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.xnio.OptionMap;
+import org.xnio.Xnio;
+import org.xnio.XnioWorker;
+
+/**
+ * Tests of the HTTP/2 option of the {@link ManagementHttpServer}.
+ */
+public class ManagementHttpServerHttp2TestCase {
+
+    private XnioWorker worker;
+    private ExecutorService executor;
+    private ManagementHttpServer server;
+
+    @Before
+    public void createWorker() throws IOException {
+        worker = Xnio.getInstance().createWorker(OptionMap.EMPTY);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void stopServer() throws InterruptedException {
+        if (server != null) {
+            server.stop();
+        }
+        executor.shutdownNow();
+        worker.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        worker.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private HttpClient.Version requestVersion(final boolean http2) throws Exception {
+        return request(http2, HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build());
+    }
+
+    private HttpClient.Version request(final boolean http2, final HttpClient client) throws Exception {
+        if (server == null) {
+            startServer(http2);
+        }
+        final int port = server.getLocalAddress(InetSocketAddress.class).getPort();
+
+        // The client asks for an upgrade to h2c with the first request
+        final HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/")).build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.version();
+    }
+
+    private void startServer(final boolean http2) {
+        server = ManagementHttpServer.builder()
+                .setBindAddress(new InetSocketAddress("localhost", 0))
+                .setConsoleMode(ConsoleMode.NO_CONSOLE)
+                .setManagementHttpRequestProcessor(new ManagementHttpRequestProcessor())
+                .setWorker(worker)
+                .setExecutor(executor)
+                .setUploadLimit(10_000L)
+                .setHttp2(http2)
+                .build();
+        server.start();
+    }
+
+    @Test
+    public void testHttp2Enabled() throws Exception {
+        assertEquals(HttpClient.Version.HTTP_2, requestVersion(true));
+    }
+
+    @Test
+    public void testHttp2Disabled() throws Exception {
+        assertEquals(HttpClient.Version.HTTP_1_1, requestVersion(false));
+    }
+
+    @Test
+    public void testConnectionStatistics() throws Exception {
+        final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+        assertEquals(HttpClient.Version.HTTP_2, request(true, client));
+        assertEquals(HttpClient.Version.HTTP_2, request(true, client));
+
+        // Both requests were sent over the connection kept open by the client
+        final HttpConnectionStatistics statistics = server.getConnectionStatistics();
+        assertEquals(2, statistics.getRequestCount());
+        assertEquals(1, statistics.getOpenConnections());
+        assertEquals(1, statistics.getMaxConcurrentRequests());
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.http.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_CONTROL;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTE_VALUE_WRITTEN_NOTIFICATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEFAULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_ADDED_NOTIFICATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_REMOVED_NOTIFICATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.as.controller.notification.Notification.DATA;
+import static org.jboss.as.controller.notification.Notification.MESSAGE;
+import static org.jboss.as.controller.notification.Notification.SOURCE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.undertow.Undertow;
+import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationAttachments;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.controller.notification.Notification;
+import org.jboss.as.controller.notification.NotificationFilter;
+import org.jboss.as.controller.notification.NotificationHandler;
+import org.jboss.as.controller.notification.NotificationHandlerRegistry;
+import org.jboss.as.controller.notification.NotificationSupport;
+import org.jboss.as.controller.operations.global.GlobalNotifications;
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link NotificationStreamHandler}.
+ */
+public class NotificationStreamHandlerTestCase {
+
+    private static final PathAddress RESOURCE = PathAddress.pathAddress("subsystem", "test").append("resource", "one");
+    private static final PathAddress SECRET = PathAddress.pathAddress("subsystem", "test").append("resource", "secret");
+    private static final PathAddress OTHER = PathAddress.pathAddress("subsystem", "other");
+
+    private final NotificationSupport notificationSupport = NotificationSupport.Factory.create(null);
+    private final CountingRegistry registry = new CountingRegistry();
+    private final AccessControlController controller = new AccessControlController();
+    private ExecutorService executor;
+    private Undertow server;
+    private int port;
+
+    @Before
+    public void startServer() {
+        executor = Executors.newCachedThreadPool();
+        server = Undertow.builder()
+                .addHttpListener(0, "localhost")
+                .setHandler(new NotificationStreamHandler(controller, registry, executor, null, new ConsoleAvailability() {
+                    @Override
+                    public boolean isAvailable() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setAvailable() {
+                    }
+                }))
+                .build();
+        server.start();
+        port = ((InetSocketAddress) server.getListenerInfo().get(0).getAddress()).getPort();
+    }
+
+    @After
+    public void stopServer() throws InterruptedException {
+        server.stop();
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private EventStream subscribe(final String query) throws IOException, InterruptedException {
+        final int handlers = registry.handlers.size();
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port
+                + NotificationStreamHandler.PATH + query).openConnection();
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(connection.getContentType(), connection.getContentType().startsWith("text/event-stream"));
+        awaitHandlers(handlers + 1);
+        return new EventStream(connection);
+    }
+
+    private void awaitHandlers(final int count) throws InterruptedException {
+        final long end = System.currentTimeMillis() + 10000;
+        while (registry.handlers.size() != count) {
+            assertTrue("Expected " + count + " handlers but got " + registry.handlers.size(), System.currentTimeMillis() < end);
+            Thread.sleep(10);
+        }
+    }
+
+    private void emit(final String type, final PathAddress source) {
+        notificationSupport.emit(new Notification(type, source, type + " of " + source));
+    }
+
+    @Test
+    public void testNotificationsStreamed() throws Exception {
+        try (EventStream events = subscribe("")) {
+            emit(RESOURCE_ADDED_NOTIFICATION, RESOURCE);
+            emit(RESOURCE_REMOVED_NOTIFICATION, OTHER);
+
+            Event event = events.next();
+            assertEquals(RESOURCE_ADDED_NOTIFICATION, event.name);
+            assertEquals("1", event.id);
+            assertEquals(RESOURCE, PathAddress.pathAddress(event.data.get(SOURCE)));
+            assertEquals(RESOURCE_ADDED_NOTIFICATION + " of " + RESOURCE, event.data.get(MESSAGE).asString());
+
+            event = events.next();
+            assertEquals(RESOURCE_REMOVED_NOTIFICATION, event.name);
+            assertEquals("2", event.id);
+            assertEquals(OTHER, PathAddress.pathAddress(event.data.get(SOURCE)));
+        }
+    }
+
+    @Test
+    public void testAddressAndTypeFilters() throws Exception {
+        try (EventStream events = subscribe("?address=/subsystem=test/resource=*&type=" + RESOURCE_REMOVED_NOTIFICATION)) {
+            emit(RESOURCE_REMOVED_NOTIFICATION, OTHER);
+            emit(RESOURCE_ADDED_NOTIFICATION, RESOURCE);
+            emit(RESOURCE_REMOVED_NOTIFICATION, RESOURCE);
+
+            final Event event = events.next();
+            assertEquals(RESOURCE_REMOVED_NOTIFICATION, event.name);
+            assertEquals(RESOURCE, PathAddress.pathAddress(event.data.get(SOURCE)));
+        }
+    }
+
+    @Test
+    public void testInvalidAddress() throws Exception {
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port
+                + NotificationStreamHandler.PATH + "?address=not-an-address").openConnection();
+        assertEquals(400, connection.getResponseCode());
+        assertEquals(0, registry.handlers.size());
+    }
+
+    @Test
+    public void testMethodNotAllowed() throws Exception {
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port
+                + NotificationStreamHandler.PATH).openConnection();
+        connection.setRequestMethod("POST");
+        assertEquals(405, connection.getResponseCode());
+        assertEquals(0, registry.handlers.size());
+    }
+
+    @Test
+    public void testAccessControl() throws Exception {
+        controller.setReadable(SECRET, false);
+        controller.setReadableAttribute(RESOURCE, "password", false);
+        controller.setReadableAttribute(RESOURCE, "name", true);
+        try (EventStream events = subscribe("")) {
+            emit(RESOURCE_ADDED_NOTIFICATION, SECRET);
+            notificationSupport.emit(written(RESOURCE, "password"), written(RESOURCE, "name"));
+
+            // The notification of the resource which can't be read is skipped
+            Event event = events.next();
+            assertEquals(ATTRIBUTE_VALUE_WRITTEN_NOTIFICATION, event.name);
+            assertEquals(RESOURCE, PathAddress.pathAddress(event.data.get(SOURCE)));
+            assertEquals("password", event.data.get(DATA, NAME).asString());
+            assertFalse(event.data.toString(), event.data.get(DATA).has(GlobalNotifications.OLD_VALUE));
+            assertFalse(event.data.toString(), event.data.get(DATA).has(GlobalNotifications.NEW_VALUE));
+            assertFalse(event.data.toString(), event.data.has(MESSAGE));
+
+            event = events.next();
+            assertEquals("name", event.data.get(DATA, NAME).asString());
+            assertEquals("old", event.data.get(DATA, GlobalNotifications.OLD_VALUE).asString());
+            assertEquals("new", event.data.get(DATA, GlobalNotifications.NEW_VALUE).asString());
+        }
+    }
+
+    @Test
+    public void testAccessControlCachedUntilChanged() throws Exception {
+        try (EventStream events = subscribe("")) {
+            emit(RESOURCE_ADDED_NOTIFICATION, RESOURCE);
+            emit(RESOURCE_REMOVED_NOTIFICATION, RESOURCE);
+            events.next();
+            events.next();
+            assertEquals(1, controller.reads(RESOURCE));
+
+            // e.g. a role mapping is changed
+            controller.setReadable(RESOURCE, false);
+            emit(RESOURCE_ADDED_NOTIFICATION, RESOURCE);
+            emit(RESOURCE_ADDED_NOTIFICATION, OTHER);
+            final Event event = events.next();
+            assertEquals(OTHER, PathAddress.pathAddress(event.data.get(SOURCE)));
+            assertEquals(2, controller.reads(RESOURCE));
+        }
+    }
+
+    @Test
+    public void testHandlerUnregisteredOnClose() throws Exception {
+        final EventStream events = subscribe("");
+        emit(RESOURCE_ADDED_NOTIFICATION, RESOURCE);
+        assertNotNull(events.next());
+        events.close();
+
+        // The closed connection is noticed at the latest when sending to it fails
+        final long end = System.currentTimeMillis() + 10000;
+        while (!registry.handlers.isEmpty() && System.currentTimeMillis() < end) {
+            emit(RESOURCE_ADDED_NOTIFICATION, RESOURCE);
+            Thread.sleep(10);
+        }
+        assertEquals(0, registry.handlers.size());
+    }
+
+    private static Notification written(final PathAddress source, final String attribute) {
+        final ModelNode data = new ModelNode();
+        data.get(NAME).set(attribute);
+        data.get(GlobalNotifications.OLD_VALUE).set("old");
+        data.get(GlobalNotifications.NEW_VALUE).set("new");
+        return new Notification(ATTRIBUTE_VALUE_WRITTEN_NOTIFICATION, source, attribute + " written from old to new", data);
+    }
+
+    /**
+     * Registers the handlers with the registry of the notification support, keeping track of them.
+     */
+    private final class CountingRegistry implements NotificationHandlerRegistry {
+
+        private final Set<NotificationHandler> handlers = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void registerNotificationHandler(PathAddress source, NotificationHandler handler, NotificationFilter filter) {
+            notificationSupport.getNotificationRegistry().registerNotificationHandler(source, handler, filter);
+            handlers.add(handler);
+        }
+
+        @Override
+        public void unregisterNotificationHandler(PathAddress source, NotificationHandler handler, NotificationFilter filter) {
+            notificationSupport.getNotificationRegistry().unregisterNotificationHandler(source, handler, filter);
+            handlers.remove(handler);
+        }
+    }
+
+    /**
+     * Answers the read-resource-description operations of the handler with the configured access control. Changing the
+     * access control changes the model version of the access control configuration.
+     */
+    private static final class AccessControlController implements ModelController {
+
+        private final Map<PathAddress, ModelNode> accessControl = new ConcurrentHashMap<>();
+        private final Map<PathAddress, AtomicInteger> reads = new ConcurrentHashMap<>();
+        private final AtomicLong version = new AtomicLong();
+
+        void setReadable(final PathAddress address, final boolean readable) {
+            accessControl.computeIfAbsent(address, a -> new ModelNode()).get(READ).set(readable);
+            version.incrementAndGet();
+        }
+
+        void setReadableAttribute(final PathAddress address, final String attribute, final boolean readable) {
+            accessControl.computeIfAbsent(address, a -> new ModelNode()).get(ATTRIBUTES, attribute, READ).set(readable);
+            version.incrementAndGet();
+        }
+
+        int reads(final PathAddress address) {
+            return reads.getOrDefault(address, new AtomicInteger()).get();
+        }
+
+        @Override
+        public ModelNode execute(ModelNode operation, OperationMessageHandler handler, OperationTransactionControl control, OperationAttachments attachments) {
+            final PathAddress address = PathAddress.pathAddress(operation.get(OP_ADDR));
+            reads.computeIfAbsent(address, a -> new AtomicInteger()).incrementAndGet();
+            final ModelNode access = new ModelNode();
+            access.get(READ).set(true);
+            final ModelNode configured = accessControl.get(address);
+            if (configured != null) {
+                for (String key : configured.keys()) {
+                    access.get(key).set(configured.get(key));
+                }
+            }
+            final ModelNode response = new ModelNode();
+            response.get(OUTCOME).set(SUCCESS);
+            response.get(RESULT, ACCESS_CONTROL, DEFAULT).set(access);
+            return response;
+        }
+
+        @Override
+        public OperationResponse execute(Operation operation, OperationMessageHandler handler, OperationTransactionControl control) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getModelVersion(final PathAddress address) {
+            return version.get();
+        }
+    }
+
+    private static final class Event {
+        private String name;
+        private String id;
+        private ModelNode data;
+    }
+
+    /**
+     * Reads the server-sent events of a subscription.
+     */
+    private static final class EventStream implements AutoCloseable {
+
+        private final HttpURLConnection connection;
+        private final BufferedReader reader;
+
+        EventStream(final HttpURLConnection connection) throws IOException {
+            this.connection = connection;
+            this.reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), UTF_8));
+        }
+
+        Event next() throws IOException {
+            final Event event = new Event();
+            final Map<String, StringBuilder> fields = new HashMap<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    if (fields.containsKey("data")) {
+                        break;
+                    }
+                    continue;
+                }
+                if (line.startsWith(":")) {
+                    // Keep alive
+                    continue;
+                }
+                final int colon = line.indexOf(':');
+                final String value = line.substring(colon + 1).startsWith(" ") ? line.substring(colon + 2) : line.substring(colon + 1);
+                fields.computeIfAbsent(line.substring(0, colon), k -> new StringBuilder()).append(value);
+            }
+            assertNotNull("The stream ended", line);
+            event.name = fields.containsKey("event") ? fields.get("event").toString() : null;
+            event.id = fields.containsKey("id") ? fields.get("id").toString() : null;
+            event.data = ModelNode.fromJSONString(fields.get("data").toString());
+            return event;
+        }
+
+        @Override
+        public void close() {
+            connection.disconnect();
+        }
+    }
+}
@@ -13,14 +13,24 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.jboss.as.controller.AbstractWriteAttributeHandler;
 import org.jboss.as.controller.BootErrorCollector;
+import org.jboss.as.controller.ModelOnlyWriteAttributeHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.ParallelReadExecutor;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ResourceDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.access.management.AccessConstraintUtilizationRegistry;
 import org.jboss.as.controller.access.management.DelegatingConfigurableAuthorizer;
 import org.jboss.as.controller.access.management.ManagementSecurityIdentitySupplier;
 import org.jboss.as.controller.audit.ManagedAuditLogger;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.management.ManagementRequestExecutors;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.services.path.PathManagerService;
@@ -30,6 +40,9 @@ import org.jboss.as.domain.management.access.AccessIdentityResourceDefinition;
 import org.jboss.as.domain.management.audit.AccessAuditResourceDefinition;
 import org.jboss.as.domain.management.audit.EnvironmentNameReader;
 import org.jboss.as.domain.management.controller.ManagementControllerResourceDefinition;
+import org.jboss.as.version.Stability;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 
 /**
  * A {@link org.jboss.as.controller.ResourceDefinition} for the the core management resource.
@@ -43,6 +56,21 @@ public class CoreManagementResourceDefinition extends SimpleResourceDefinition {
 
     public static final PathElement PATH_ELEMENT = PathElement.pathElement(CORE_SERVICE, MANAGEMENT);
 
+    public static final SimpleAttributeDefinition VIRTUAL_THREADS = SimpleAttributeDefinitionBuilder.create(ModelDescriptionConstants.VIRTUAL_THREADS, ModelType.BOOLEAN, true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    public static final SimpleAttributeDefinition PARALLEL_READ_MAX_THREADS = SimpleAttributeDefinitionBuilder.create(ModelDescriptionConstants.PARALLEL_READ_MAX_THREADS, ModelType.INT, true)
+            .setDefaultValue(new ModelNode(ParallelReadExecutor.DEFAULT_MAX_THREADS))
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setAllowExpression(true)
+            .setFlags(AttributeAccess.Flag.RESTART_NONE)
+            .setStability(Stability.COMMUNITY)
+            .build();
+
     public static void registerDomainResource(Resource parent, AccessConstraintUtilizationRegistry registry) {
         Resource coreManagement = Resource.Factory.create();
         coreManagement.registerChild(AccessAuthorizationResourceDefinition.PATH_ELEMENT,
@@ -74,6 +102,18 @@ public class CoreManagementResourceDefinition extends SimpleResourceDefinition {
         this.bootErrorCollector = bootErrorCollector;
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        if (environment == Environment.STANDALONE_SERVER || environment == Environment.HOST_CONTROLLER) {
+            resourceRegistration.registerReadWriteAttribute(VIRTUAL_THREADS, null, new VirtualThreadsWriteHandler());
+        }
+        if (environment == Environment.STANDALONE_SERVER) {
+            // Read by each operation reading its targets concurrently, which only servers do
+            resourceRegistration.registerReadWriteAttribute(PARALLEL_READ_MAX_THREADS, null, ModelOnlyWriteAttributeHandler.INSTANCE);
+        }
+    }
+
     @Override
     public void registerChildren(ManagementResourceRegistration resourceRegistration) {
         if (environment != Environment.DOMAIN) {
@@ -136,4 +176,32 @@ public class CoreManagementResourceDefinition extends SimpleResourceDefinition {
         return new CoreManagementResourceDefinition(Environment.STANDALONE_SERVER, authorizer, securityIdentitySupplier, auditLogger, pathManager, environmentReader, Arrays.asList(interfaces), bootErrorCollector);
     }
 
+    /**
+     * Applies {@link #VIRTUAL_THREADS} when the process boots, before the executors of the management interfaces are
+     * created. Once they are, changes require a reload.
+     */
+    private static class VirtualThreadsWriteHandler extends AbstractWriteAttributeHandler<Void> {
+
+        @Override
+        protected boolean requiresRuntime(OperationContext context) {
+            // Management interfaces are also started in admin-only mode
+            return true;
+        }
+
+        @Override
+        protected boolean applyUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName, ModelNode resolvedValue, ModelNode currentValue, HandbackHolder<Void> handbackHolder) {
+            if (context.isBooting()) {
+                ManagementRequestExecutors.setVirtualThreadsEnabled(resolvedValue.asBoolean());
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        protected void revertUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName, ModelNode valueToRestore, ModelNode valueToRevert, Void handback) {
+            if (context.isBooting()) {
+                ManagementRequestExecutors.setVirtualThreadsEnabled(valueToRestore.asBoolean());
+            }
+        }
+    }
 }
@@ -30,6 +30,19 @@ import org.jboss.staxmapper.XMLExtendedStreamWriter;
  */
 public interface ManagementXmlDelegate {
 
+    /**
+     * Parse the attributes of the {@link Element#MANAGEMENT} element.
+     *
+     * @param reader the xml reader
+     * @param address the address of the management resource
+     * @param operationsList list to which any operations should be added
+     * @return {@code true} if the attributes have been handled
+     * @throws XMLStreamException
+     */
+    default boolean parseManagementAttributes(XMLExtendedStreamReader reader, ModelNode address, List<ModelNode> operationsList) throws XMLStreamException {
+        return false;
+    }
+
     /**
      * Parse {@link Element#MANAGEMENT_INTERFACES} content.
      * <p>This default implementation throws {@code UnsupportedOperationException}; override to support.</p>
@@ -65,6 +78,18 @@ public interface ManagementXmlDelegate {
      * Write Methods
      */
 
+    /**
+     * Write the attributes of the {@link Element#MANAGEMENT} element.
+     *
+     * @param writer  the xml writer
+     * @param management the management configuration
+     * @return {@code true} if the attributes have been written
+     * @throws XMLStreamException
+     */
+    default boolean writeManagementAttributes(XMLExtendedStreamWriter writer, ModelNode management) throws XMLStreamException {
+        return false;
+    }
+
     /**
      * Write the {@link Element#NATIVE_INTERFACE} element.
      * <p>This default implementation throws {@code UnsupportedOperationException}; override to support.</p>
@@ -18,8 +18,10 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAN
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_INTERFACE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NATIVE_INTERFACE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NATIVE_REMOTING_INTERFACE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PARALLEL_READ_MAX_THREADS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLE_MAPPING;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_GROUP_SCOPED_ROLE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VIRTUAL_THREADS;
 import static org.jboss.as.controller.parsing.ParseUtils.isNoNamespaceAttribute;
 import static org.jboss.as.controller.parsing.ParseUtils.missingRequiredElement;
 import static org.jboss.as.controller.parsing.ParseUtils.requireNamespace;
@@ -74,6 +76,7 @@ final class ManagementXml_18 implements ManagementXml {
         int managementInterfacesCount = 0;
 
         final ModelNode managementAddress = address.clone().add(CORE_SERVICE, MANAGEMENT);
+        delegate.parseManagementAttributes(reader, managementAddress, list);
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
             requireNamespace(reader, namespace);
             final Element element = Element.forName(reader.getLocalName());
@@ -209,14 +212,16 @@ final class ManagementXml_18 implements ManagementXml {
         ModelNode auditLog = management.hasDefined(ACCESS) ? management.get(ACCESS, AUDIT) : new ModelNode();
         ModelNode identity = management.hasDefined(ACCESS) ? management.get(ACCESS, IDENTITY) : new ModelNode();
 
+        boolean hasAttributes = management.hasDefined(VIRTUAL_THREADS) || management.hasDefined(PARALLEL_READ_MAX_THREADS);
+
         if (!hasInterface && !hasServerGroupRoles
               && !hasHostRoles && !hasRoleMapping && configuredAccessConstraints.size() == 0
-                && !hasProvider && !hasCombinationPolicy && !auditLog.isDefined() && !identity.isDefined()) {
+                && !hasProvider && !hasCombinationPolicy && !auditLog.isDefined() && !identity.isDefined() && !hasAttributes) {
             return;
         }
 
         writer.writeStartElement(Element.MANAGEMENT.getLocalName());
-
+        delegate.writeManagementAttributes(writer, management);
 
 
         if(hasConfigurationChanges) {
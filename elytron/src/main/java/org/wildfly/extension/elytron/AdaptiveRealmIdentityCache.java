@@ -0,0 +1,297 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
+
+import java.security.Principal;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.wildfly.security.auth.SupportLevel;
+import org.wildfly.security.auth.realm.CacheableSecurityRealm;
+import org.wildfly.security.auth.server.ModifiableRealmIdentity;
+import org.wildfly.security.auth.server.ModifiableRealmIdentityIterator;
+import org.wildfly.security.auth.server.ModifiableSecurityRealm;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+import org.wildfly.security.auth.server.SecurityRealm;
+import org.wildfly.security.auth.server.event.RealmEvent;
+import org.wildfly.security.cache.LRURealmIdentityCache;
+import org.wildfly.security.cache.RealmIdentityCache;
+import org.wildfly.security.credential.Credential;
+import org.wildfly.security.credential.PasswordCredential;
+import org.wildfly.security.evidence.Evidence;
+
+/**
+ * A {@link RealmIdentityCache} of a caching realm, decorating a {@link LRURealmIdentityCache} with:
+ * <ul>
+ *     <li>the count of the identities found in the cache,</li>
+ *     <li>the caching of the principals the cached realm has no identity for, used by a
+ *     {@link NegativeCachingSecurityRealm} decorating the cached realm,</li>
+ *     <li>the asynchronous reload of the identities found in the cache after a part of their maximum age, so that the
+ *     identities which are used often are not reloaded by the callers when they expire.</li>
+ * </ul>
+ * <p>
+ * A reload replaces the cached identity with a new one, which loads the authorization identity and the password
+ * credential of the identity in advance. Any other credential is loaded on its first use, as for any identity of the
+ * cache.
+ */
+final class AdaptiveRealmIdentityCache implements RealmIdentityCache {
+
+    private final LRURealmIdentityCache delegate;
+    private final int maxEntries;
+    private final long negativeMaxAge;
+    private final long refreshAfter;
+    private final Executor executor;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    // The expiry times of the principals without identity
+    private final Map<Principal, Long> nonExistent = new ConcurrentHashMap<>();
+    // The load times of the cached identities, weak so that the identities evicted from the cache are not retained
+    private final Map<RealmIdentity, Long> loadTimes = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Set<Principal> refreshing = ConcurrentHashMap.newKeySet();
+    // The principal whose identity is reloaded by the current thread, until it is put in the cache
+    private final ThreadLocal<Principal> reloading = new ThreadLocal<>();
+    private volatile SecurityRealm realm;
+
+    /**
+     * @param maxEntries the maximum number of identities, and of principals without identity, in the cache
+     * @param maxAge the time in milliseconds identities stay in the cache, or {@code -1} to keep them until evicted
+     * @param negativeMaxAge the time in milliseconds principals without identity stay in the cache, or {@code 0} not
+     *                       to cache them
+     * @param refreshAhead the percentage of the maximum age after which identities found in the cache are reloaded, or
+     *                     {@code 0} not to reload them
+     * @param executor the executor reloading the identities, may be {@code null} if they are not reloaded
+     */
+    AdaptiveRealmIdentityCache(int maxEntries, long maxAge, long negativeMaxAge, int refreshAhead, Executor executor) {
+        this.delegate = new LRURealmIdentityCache(maxEntries, maxAge);
+        this.maxEntries = maxEntries;
+        this.negativeMaxAge = negativeMaxAge;
+        this.refreshAfter = maxAge > 0 && refreshAhead > 0 && refreshAhead < 100 && executor != null ? maxAge * refreshAhead / 100 : -1;
+        this.executor = executor;
+    }
+
+    /**
+     * Sets the caching realm reloading the identities of the cache through the cache.
+     */
+    void setRealm(SecurityRealm realm) {
+        this.realm = realm;
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getNegativeHits() {
+        return negativeHits.sum();
+    }
+
+    @Override
+    public void put(Principal principal, RealmIdentity realmIdentity) {
+        if (principal.equals(reloading.get())) {
+            // Replaces the identity being reloaded
+            reloading.remove();
+            delegate.remove(principal);
+        }
+        delegate.put(principal, realmIdentity);
+        if (refreshAfter > 0) {
+            loadTimes.put(realmIdentity, System.currentTimeMillis());
+        }
+    }
+
+    @Override
+    public RealmIdentity get(Principal principal) {
+        if (principal.equals(reloading.get())) {
+            return null;
+        }
+        final RealmIdentity realmIdentity = delegate.get(principal);
+        if (realmIdentity != null) {
+            hits.increment();
+            if (refreshAfter > 0) {
+                final Long loadTime = loadTimes.get(realmIdentity);
+                if (loadTime != null && System.currentTimeMillis() - loadTime >= refreshAfter) {
+                    reload(principal);
+                }
+            }
+        }
+        return realmIdentity;
+    }
+
+    @Override
+    public void remove(Principal principal) {
+        nonExistent.remove(principal);
+        delegate.remove(principal);
+    }
+
+    @Override
+    public void clear() {
+        nonExistent.clear();
+        delegate.clear();
+    }
+
+    private void reload(Principal principal) {
+        final SecurityRealm realm = this.realm;
+        if (realm == null || !refreshing.add(principal)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                reloading.set(principal);
+                try {
+                    final RealmIdentity realmIdentity = realm.getRealmIdentity(principal);
+                    try {
+                        if (reloading.get() != null) {
+                            // The identity no longer exists
+                            delegate.remove(principal);
+                        } else {
+                            // The caching realm loads them on their first use, i.e. by a caller otherwise
+                            realmIdentity.getAuthorizationIdentity();
+                            realmIdentity.getCredential(PasswordCredential.class);
+                        }
+                    } finally {
+                        realmIdentity.dispose();
+                    }
+                } catch (RealmUnavailableException | RuntimeException e) {
+                    ROOT_LOGGER.debugf(e, "Unable to reload the cached identity of '%s'", principal);
+                } finally {
+                    reloading.remove();
+                    refreshing.remove(principal);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(principal);
+        }
+    }
+
+    private boolean isNonExistent(Principal principal) {
+        final Long expiry = nonExistent.get(principal);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry > System.currentTimeMillis()) {
+            negativeHits.increment();
+            return true;
+        }
+        nonExistent.remove(principal, expiry);
+        return false;
+    }
+
+    private void putNonExistent(Principal principal) {
+        if (negativeMaxAge <= 0) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        if (nonExistent.size() >= maxEntries) {
+            nonExistent.values().removeIf(expiry -> expiry <= now);
+            if (nonExistent.size() >= maxEntries) {
+                return;
+            }
+        }
+        nonExistent.put(principal, now + negativeMaxAge);
+    }
+
+    /**
+     * A {@link CacheableSecurityRealm} decorating the realm cached by a caching realm, which caches the principals the
+     * decorated realm has no identity for in an {@link AdaptiveRealmIdentityCache}, if the cache caches them.
+     */
+    static class NegativeCachingSecurityRealm implements CacheableSecurityRealm {
+
+        final SecurityRealm delegate;
+        private final CacheableSecurityRealm cacheable;
+        private final AdaptiveRealmIdentityCache cache;
+
+        /**
+         * @param delegate the realm to delegate to
+         * @param cacheable the realm notifying the changes of identities, i.e. the decorated realm
+         * @param cache the cache of the caching realm
+         */
+        NegativeCachingSecurityRealm(SecurityRealm delegate, CacheableSecurityRealm cacheable, AdaptiveRealmIdentityCache cache) {
+            this.delegate = delegate;
+            this.cacheable = cacheable;
+            this.cache = cache;
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+            if (cache.isNonExistent(principal)) {
+                return RealmIdentity.NON_EXISTENT;
+            }
+            final RealmIdentity realmIdentity = delegate.getRealmIdentity(principal);
+            if (!realmIdentity.exists()) {
+                cache.putNonExistent(principal);
+            }
+            return realmIdentity;
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Evidence evidence) throws RealmUnavailableException {
+            return delegate.getRealmIdentity(evidence);
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Evidence evidence, Function<Principal, Principal> principalTransformer) throws RealmUnavailableException {
+            return delegate.getRealmIdentity(evidence, principalTransformer);
+        }
+
+        @Override
+        public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName) throws RealmUnavailableException {
+            return delegate.getCredentialAcquireSupport(credentialType, algorithmName);
+        }
+
+        @Override
+        public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec) throws RealmUnavailableException {
+            return delegate.getCredentialAcquireSupport(credentialType, algorithmName, parameterSpec);
+        }
+
+        @Override
+        public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) throws RealmUnavailableException {
+            return delegate.getEvidenceVerifySupport(evidenceType, algorithmName);
+        }
+
+        @Override
+        public void handleRealmEvent(RealmEvent event) {
+            delegate.handleRealmEvent(event);
+        }
+
+        @Override
+        public void registerIdentityChangeListener(Consumer<Principal> listener) {
+            cacheable.registerIdentityChangeListener(listener);
+        }
+    }
+
+    /**
+     * A {@link NegativeCachingSecurityRealm} decorating a {@link ModifiableSecurityRealm}.
+     * <p>
+     * The principals an identity is created for are removed from the cache by the caching realm, as for any identity
+     * modified through the caching realm.
+     */
+    static class NegativeCachingModifiableSecurityRealm extends NegativeCachingSecurityRealm implements ModifiableSecurityRealm {
+
+        NegativeCachingModifiableSecurityRealm(ModifiableSecurityRealm delegate, CacheableSecurityRealm cacheable, AdaptiveRealmIdentityCache cache) {
+            super(delegate, cacheable, cache);
+        }
+
+        @Override
+        public ModifiableRealmIdentity getRealmIdentityForUpdate(Principal principal) throws RealmUnavailableException {
+            return ((ModifiableSecurityRealm) delegate).getRealmIdentityForUpdate(principal);
+        }
+
+        @Override
+        public ModifiableRealmIdentityIterator getRealmIdentityIterator() throws RealmUnavailableException {
+            return ((ModifiableSecurityRealm) delegate).getRealmIdentityIterator();
+        }
+    }
+}
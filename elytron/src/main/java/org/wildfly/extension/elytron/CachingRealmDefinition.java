@@ -4,15 +4,20 @@
  */
 package org.wildfly.extension.elytron;
 
+import static org.wildfly.extension.elytron.Capabilities.SCHEDULED_EXECUTOR_RUNTIME_CAPABILITY;
 import static org.wildfly.extension.elytron.Capabilities.SECURITY_REALM_CAPABILITY;
 import static org.wildfly.extension.elytron.Capabilities.SECURITY_REALM_RUNTIME_CAPABILITY;
 import static org.wildfly.extension.elytron.ElytronDefinition.commonDependencies;
+import static org.wildfly.extension.elytron.ElytronExtension.isServerOrHostController;
 import static org.wildfly.extension.elytron.RealmDefinitions.createBruteForceRealmTransformer;
+import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jboss.as.controller.AbstractAddStepHandler;
 import org.jboss.as.controller.AttributeDefinition;
@@ -27,8 +32,11 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -39,14 +47,16 @@ import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.value.InjectedValue;
+import org.wildfly.extension.elytron.AdaptiveRealmIdentityCache.NegativeCachingModifiableSecurityRealm;
+import org.wildfly.extension.elytron.AdaptiveRealmIdentityCache.NegativeCachingSecurityRealm;
+import org.wildfly.extension.elytron.RealmIdentityMetrics.MeasuredModifiableSecurityRealm;
+import org.wildfly.extension.elytron.RealmIdentityMetrics.MeasuredSecurityRealm;
 import org.wildfly.extension.elytron._private.ElytronSubsystemMessages;
 import org.wildfly.security.auth.realm.CacheableSecurityRealm;
 import org.wildfly.security.auth.realm.CachingModifiableSecurityRealm;
 import org.wildfly.security.auth.realm.CachingSecurityRealm;
 import org.wildfly.security.auth.server.ModifiableSecurityRealm;
 import org.wildfly.security.auth.server.SecurityRealm;
-import org.wildfly.security.cache.LRURealmIdentityCache;
-import org.wildfly.security.cache.RealmIdentityCache;
 
 /**
  * A {@link ResourceDefinition} for a {@link SecurityRealm} which enables caching to another realm.
@@ -75,11 +85,39 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
             .setRestartAllServices()
             .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] {REALM_NAME, MAXIMUM_ENTRIES, MAXIMUM_AGE};
+    static final SimpleAttributeDefinition NEGATIVE_MAXIMUM_AGE = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.NEGATIVE_MAXIMUM_AGE, ModelType.LONG, true)
+            .setDefaultValue(ModelNode.ZERO_LONG)
+            .setValidator(new LongRangeValidator(0, Long.MAX_VALUE, true, true))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
+    static final SimpleAttributeDefinition REFRESH_AHEAD = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.REFRESH_AHEAD, ModelType.INT, true)
+            .setDefaultValue(ModelNode.ZERO)
+            .setValidator(new IntRangeValidator(0, 99, true, true))
+            .setMeasurementUnit(MeasurementUnit.PERCENTAGE)
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] {REALM_NAME, MAXIMUM_ENTRIES, MAXIMUM_AGE, NEGATIVE_MAXIMUM_AGE, REFRESH_AHEAD};
+
+    static final SimpleAttributeDefinition CACHE_HITS = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.CACHE_HITS, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    static final SimpleAttributeDefinition NEGATIVE_CACHE_HITS = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.NEGATIVE_CACHE_HITS, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
 
     // Callers are expected to just use a single method get / put / remove not multiple calls so we don't
     // need complex locking beyond the Map itself..
     private static final Map<String, CachingSecurityRealm> REALMS = new ConcurrentHashMap<>();
+    private static final Map<String, AdaptiveRealmIdentityCache> CACHES = new ConcurrentHashMap<>();
+    private static final Map<String, RealmIdentityMetrics> METRICS = new ConcurrentHashMap<>();
 
     private static final AbstractAddStepHandler ADD = new RealmAddHandler();
     private static final OperationStepHandler REMOVE = new TrivialCapabilityServiceRemoveHandler(ADD, SECURITY_REALM_RUNTIME_CAPABILITY);
@@ -98,6 +136,11 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
         for (AttributeDefinition current : ATTRIBUTES) {
             resourceRegistration.registerReadWriteAttribute(current, null, ElytronReloadRequiredWriteAttributeHandler.INSTANCE);
         }
+        if (isServerOrHostController(resourceRegistration)) {
+            resourceRegistration.registerMetric(CACHE_HITS, new CacheMetricsHandler(AdaptiveRealmIdentityCache::getHits));
+            resourceRegistration.registerMetric(NEGATIVE_CACHE_HITS, new CacheMetricsHandler(AdaptiveRealmIdentityCache::getNegativeHits));
+            RealmIdentityMetrics.registerMetrics(resourceRegistration, METRICS);
+        }
     }
 
     @Override
@@ -120,22 +163,31 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
             ServiceName realmName = runtimeCapability.getCapabilityServiceName(SecurityRealm.class);
             String cacheableRealm = REALM_NAME.resolveModelAttribute(context, model).asString();
             int maxEntries = MAXIMUM_ENTRIES.resolveModelAttribute(context, model).asInt();
-            long maxAge = MAXIMUM_AGE.resolveModelAttribute(context, model).asInt();
+            long maxAge = MAXIMUM_AGE.resolveModelAttribute(context, model).asLong();
+            long negativeMaxAge = NEGATIVE_MAXIMUM_AGE.resolveModelAttribute(context, model).asLong();
+            int refreshAhead = REFRESH_AHEAD.resolveModelAttribute(context, model).asInt();
             InjectedValue<SecurityRealm> cacheableRealmValue = new InjectedValue<>();
 
             ServiceBuilder<?> serviceBuilder = serviceTarget.addService();
             Consumer<SecurityRealm> valueConsumer = serviceBuilder.provides(realmName);
 
+            final Supplier<ScheduledExecutorService> executorSupplier = maxAge > 0 && refreshAhead > 0 ?
+                serviceBuilder.requires(SCHEDULED_EXECUTOR_RUNTIME_CAPABILITY.getCapabilityServiceName()) : () -> null;
+            ROOT_LOGGER.tracef("Caching the identities of '%s' security realm. negativeMaxAge=%d, refreshAhead=%d",
+                context.getCurrentAddressValue(), negativeMaxAge, refreshAhead);
+
             final Function<SecurityRealm, SecurityRealm> realmTransformer =
                 createBruteForceRealmTransformer(context.getCurrentAddressValue(), SecurityRealm.class, serviceBuilder);
 
-            serviceBuilder.setInstance(createService(context.getCurrentAddressValue(), cacheableRealm, maxEntries, maxAge, cacheableRealmValue, realmTransformer, valueConsumer));
+            serviceBuilder.setInstance(createService(context.getCurrentAddressValue(), cacheableRealm, maxEntries, maxAge, negativeMaxAge, refreshAhead,
+                executorSupplier, cacheableRealmValue, realmTransformer, valueConsumer));
 
             addRealmDependency(context, serviceBuilder, cacheableRealm, cacheableRealmValue);
             commonDependencies(serviceBuilder).setInitialMode(context.getRunningMode() == RunningMode.ADMIN_ONLY ? ServiceController.Mode.LAZY : ServiceController.Mode.ACTIVE).install();
         }
 
         private TrivialService<SecurityRealm> createService(String ourRealmName, String wrappedRealmName, int maxEntries, long maxAge,
+            long negativeMaxAge, int refreshAhead, Supplier<ScheduledExecutorService> executorSupplier,
             InjectedValue<SecurityRealm> injector, Function<SecurityRealm, SecurityRealm> realmTransformer, Consumer<SecurityRealm> valueConsumer) {
             return new TrivialService<>(new TrivialService.ValueSupplier<SecurityRealm>() {
 
@@ -144,13 +196,22 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
                     SecurityRealm securityRealm = injector.getValue();
 
                     if (securityRealm instanceof CacheableSecurityRealm) {
-                        RealmIdentityCache cache = createRealmIdentityCache(maxEntries, maxAge);
+                        AdaptiveRealmIdentityCache cache = new AdaptiveRealmIdentityCache(maxEntries, maxAge, negativeMaxAge, refreshAhead, executorSupplier.get());
                         CacheableSecurityRealm cacheableRealm = CacheableSecurityRealm.class.cast(securityRealm);
+                        RealmIdentityMetrics metrics = new RealmIdentityMetrics();
 
+                        // The identities not found in the cache are loaded from the cached realm through the
+                        // negative cache, and measured
                         CachingSecurityRealm cachingRealm = securityRealm instanceof ModifiableSecurityRealm ?
-                            new CachingModifiableSecurityRealm(cacheableRealm, cache) : new CachingSecurityRealm(cacheableRealm, cache);
+                            new CachingModifiableSecurityRealm(new NegativeCachingModifiableSecurityRealm(
+                                    new MeasuredModifiableSecurityRealm((ModifiableSecurityRealm) securityRealm, cacheableRealm, metrics), cacheableRealm, cache), cache) :
+                            new CachingSecurityRealm(new NegativeCachingSecurityRealm(
+                                    new MeasuredSecurityRealm(securityRealm, metrics), cacheableRealm, cache), cache);
+                        cache.setRealm(cachingRealm);
 
                         REALMS.put(ourRealmName, cachingRealm);
+                        CACHES.put(ourRealmName, cache);
+                        METRICS.put(ourRealmName, metrics);
 
                         return realmTransformer.apply(cachingRealm);
                     }
@@ -161,15 +222,13 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
                 @Override
                 public void dispose() {
                     REALMS.remove(ourRealmName);
+                    CACHES.remove(ourRealmName);
+                    METRICS.remove(ourRealmName);
                 }
 
             }, valueConsumer);
         }
 
-        private LRURealmIdentityCache createRealmIdentityCache(int maxEntries, long maxAge) {
-            return new LRURealmIdentityCache(maxEntries, maxAge);
-        }
-
         private void addRealmDependency(OperationContext context, ServiceBuilder<?> serviceBuilder, String realmName, Injector<SecurityRealm> securityRealmInjector) {
             String runtimeCapability = RuntimeCapability.buildDynamicCapabilityName(SECURITY_REALM_CAPABILITY, realmName);
             ServiceName realmServiceName = context.getCapabilityServiceName(runtimeCapability, SecurityRealm.class);
@@ -178,6 +237,25 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
 
     }
 
+    private static class CacheMetricsHandler extends ElytronRuntimeOnlyHandler {
+
+        private final Function<AdaptiveRealmIdentityCache, Long> metric;
+
+        private CacheMetricsHandler(Function<AdaptiveRealmIdentityCache, Long> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            AdaptiveRealmIdentityCache cache = CACHES.get(context.getCurrentAddressValue());
+            if (cache == null) {
+                throw ROOT_LOGGER.realmMetricsNotAvailable(context.getCurrentAddressValue());
+            }
+
+            context.getResult().set(metric.apply(cache));
+        }
+    }
+
     private static class ClearCacheHandler extends ElytronRuntimeOnlyHandler {
 
         static void register(ManagementResourceRegistration resourceRegistration, ResourceDescriptionResolver descriptionResolver) {
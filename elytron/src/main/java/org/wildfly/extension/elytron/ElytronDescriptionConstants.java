@@ -67,12 +67,17 @@ interface ElytronDescriptionConstants {
     String AUTH_METHOD = "auth-method";
     String AUTOFLUSH = "autoflush";
     String AVAILABLE_MECHANISMS = "available-mechanisms";
+    String AVERAGE_EXECUTION_TIME = "average-execution-time";
+    String AVERAGE_FILE_RELOAD_TIME = "average-file-reload-time";
+    String AVERAGE_HANDSHAKE_TIME = "average-handshake-time";
+    String AVERAGE_IDENTITY_LOOKUP_TIME = "average-identity-lookup-time";
 
     String BASE64 = "base64";
     String BCRYPT = "bcrypt";
     String BCRYPT_MAPPER = "bcrypt-mapper";
 
     String CAA_IDENTITIES = "caa-identities";
+    String CACHE_HITS = "cache-hits";
     String CACHING_REALM = "caching-realm";
     String CASE_PRINCIPAL_TRANSFORMER = "case-principal-transformer";
     String CALLBACK_HANDLER = "callback-handler";
@@ -186,6 +191,7 @@ interface ElytronDescriptionConstants {
     String ENTRY_TYPE = "entry-type";
     String EVIDENCE_DECODER = "evidence-decoder";
     String EVIDENCE_DECODERS = "evidence-decoders";
+    String EXECUTIONS = "executions";
     String EXPIRATION = "expiration";
     String EXPORT_CERTIFICATE = "export-certificate";
     String EXPORT_SECRET_KEY = "export-secret-key";
@@ -201,6 +207,7 @@ interface ElytronDescriptionConstants {
     String FAILOVER_REALM = "failover-realm";
     String FILE = "file";
     String FILE_AUDIT_LOG = "file-audit-log";
+    String FILE_RELOADS = "file-reloads";
     String FILESYSTEM_REALM = "filesystem-realm";
     String FILTER = "filter";
     String FILTER_ALIAS = "filter-alias";
@@ -234,6 +241,8 @@ interface ElytronDescriptionConstants {
     String HOST_NAME_VERIFICATION_POLICY = "host-name-verification-policy";
     String HASH_CHARSET = "hash-charset";
     String HASH_ENCODING = "hash-encoding";
+    String HANDSHAKE_METRICS = "handshake-metrics";
+    String HANDSHAKES = "handshakes";
     String HASH_FROM = "hash-from";
     String HEX = "hex";
     String HTTP = "http";
@@ -243,6 +252,9 @@ interface ElytronDescriptionConstants {
     String HTTP_SERVER_MECHANISM_FACTORIES = "http-server-mechanism-factories";
 
     String IDENTITY = "identity";
+    String IDENTITY_CACHE_MAXIMUM_AGE = "identity-cache-maximum-age";
+    String IDENTITY_CACHE_MAXIMUM_ENTRIES = "identity-cache-maximum-entries";
+    String IDENTITY_LOOKUPS = "identity-lookups";
     String IDENTITY_MAPPING = "identity-mapping";
     String IDENTITY_REALM = "identity-realm";
     String IGNORE_UNAVAILABLE_REALMS = "ignore-unavailable-realms";
@@ -327,6 +339,10 @@ interface ElytronDescriptionConstants {
     String MAXIMUM_AGE = "maximum-age";
     String MAXIMUM_CERT_PATH = "maximum-cert-path";
     String MAXIMUM_ENTRIES = "maximum-entries";
+    String MAXIMUM_EXECUTION_TIME = "maximum-execution-time";
+    String MAXIMUM_FILE_RELOAD_TIME = "maximum-file-reload-time";
+    String MAXIMUM_HANDSHAKE_TIME = "maximum-handshake-time";
+    String MAXIMUM_IDENTITY_LOOKUP_TIME = "maximum-identity-lookup-time";
     String MAXIMUM_SEGMENTS = "maximum-segments";
     String MAXIMUM_SESSION_CACHE_SIZE = "maximum-session-cache-size";
     String MAX_BACKUP_INDEX = "max-backup-index";
@@ -352,6 +368,8 @@ interface ElytronDescriptionConstants {
 
     String NAME = "name";
     String NEED_CLIENT_AUTH = "need-client-auth";
+    String NEGATIVE_CACHE_HITS = "negative-cache-hits";
+    String NEGATIVE_MAXIMUM_AGE = "negative-maximum-age";
     String NEW_ALIAS = "new-alias";
     String NEW_IDENTITY_ATTRIBUTES = "new-identity-attributes";
     String NEW_IDENTITY_PARENT_DN = "new-identity-parent-dn";
@@ -415,6 +433,7 @@ interface ElytronDescriptionConstants {
     String PRINCIPAL_TRANSFORMER = "principal-transformer";
     String PRINCIPAL_TRANSFORMERS = "principal-transformers";
     String PRINCIPAL_QUERY = "principal-query";
+    String PRINCIPAL_QUERY_METRICS = "principal-query-metrics";
     String PROPERTIES = "properties";
     String PROPERTIES_REALM = "properties-realm";
     String PROPERTY = "property";
@@ -447,6 +466,7 @@ interface ElytronDescriptionConstants {
     String RECURSIVE = "recursive";
     String REFERENCE = "reference";
     String REFERRAL_MODE = "referral-mode";
+    String REFRESH_AHEAD = "refresh-ahead";
     String REGISTER_JASPI_FACTORY = "register-jaspi-factory";
     String REGEX_PRINCIPAL_TRANSFORMER = "regex-principal-transformer";
     String REGEX_ROLE_MAPPER = "regex-role-mapper";
@@ -467,6 +487,7 @@ interface ElytronDescriptionConstants {
     String RESPONDER = "responder";
     String RESPONDER_CERTIFICATE = "responder-certificate";
     String RESPONDER_KEYSTORE = "responder-keystore";
+    String RESUMED_HANDSHAKES = "resumed-handshakes";
     String REVERSE = "reverse";
     String REVOKE_CERTIFICATE = "revoke-certificate";
     String RIGHT = "right";
@@ -605,6 +626,7 @@ interface ElytronDescriptionConstants {
     String VIRTUAL_SECURITY_DOMAIN_CREATION = "virtual-security-domain-creation";
 
     String WANT_CLIENT_AUTH = "want-client-auth";
+    String WATCH_INTERVAL = "watch-interval";
     String WEBSITE = "website";
     String WRAP = "wrap";
     String WRAP_GSS_CREDENTIAL = "wrap-gss-credential";
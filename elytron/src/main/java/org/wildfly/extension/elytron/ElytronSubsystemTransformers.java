@@ -55,6 +55,7 @@ import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_16_0_0;
 import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_17_0_0;
 import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_18_0_0;
 import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_19_0_0;
+import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_20_0_0;
 import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_1_2_0;
 import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_2_0_0;
 import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_3_0_0;
@@ -106,6 +107,8 @@ public final class ElytronSubsystemTransformers implements ExtensionTransformerR
     public void registerTransformers(SubsystemTransformerRegistration registration) {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
 
+        // 20.0.0 (WildFly 34) to 19.0.0 (WildFly 32)
+        from20(chainedBuilder);
         // 19.0.0 (WildFly 32) to 18.0.0 (WildFly 29)
         from19(chainedBuilder);
         // 18.0.0 (WildFly 29) to 17.0.0 (WildFly 28)
@@ -145,10 +148,35 @@ public final class ElytronSubsystemTransformers implements ExtensionTransformerR
         // 2.0.0 (WildFly 12) to 1.2.0, (WildFly 11 and EAP 7.1.0)
         from2(chainedBuilder);
 
-        chainedBuilder.buildAndRegister(registration, new ModelVersion[] { ELYTRON_19_0_0, ELYTRON_18_0_0, ELYTRON_17_0_0, ELYTRON_16_0_0, ELYTRON_15_1_0, ELYTRON_15_0_0, ELYTRON_14_0_0, ELYTRON_13_0_0, ELYTRON_12_0_0, ELYTRON_11_0_0, ELYTRON_10_0_0, ELYTRON_9_0_0,
+        chainedBuilder.buildAndRegister(registration, new ModelVersion[] { ELYTRON_20_0_0, ELYTRON_19_0_0, ELYTRON_18_0_0, ELYTRON_17_0_0, ELYTRON_16_0_0, ELYTRON_15_1_0, ELYTRON_15_0_0, ELYTRON_14_0_0, ELYTRON_13_0_0, ELYTRON_12_0_0, ELYTRON_11_0_0, ELYTRON_10_0_0, ELYTRON_9_0_0,
                 ELYTRON_8_0_0, ELYTRON_7_0_0, ELYTRON_6_0_0, ELYTRON_5_0_0, ELYTRON_4_0_0, ELYTRON_3_0_0, ELYTRON_2_0_0, ELYTRON_1_2_0 });
     }
 
+    private static void from20(ChainedTransformationDescriptionBuilder chainedBuilder) {
+        ResourceTransformationDescriptionBuilder builder = chainedBuilder.createBuilder(ELYTRON_20_0_0, ELYTRON_19_0_0);
+
+        builder.addChildResource(PathElement.pathElement(FILESYSTEM_REALM))
+                .getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, FileSystemRealmDefinition.IDENTITY_CACHE_MAXIMUM_ENTRIES, FileSystemRealmDefinition.IDENTITY_CACHE_MAXIMUM_AGE)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, FileSystemRealmDefinition.IDENTITY_CACHE_MAXIMUM_ENTRIES, FileSystemRealmDefinition.IDENTITY_CACHE_MAXIMUM_AGE)
+                .end();
+        builder.addChildResource(PathElement.pathElement(ElytronDescriptionConstants.CACHING_REALM))
+                .getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, CachingRealmDefinition.NEGATIVE_MAXIMUM_AGE, CachingRealmDefinition.REFRESH_AHEAD)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, CachingRealmDefinition.NEGATIVE_MAXIMUM_AGE, CachingRealmDefinition.REFRESH_AHEAD)
+                .end();
+        builder.addChildResource(PathElement.pathElement(ElytronDescriptionConstants.SERVER_SSL_CONTEXT))
+                .getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, SSLDefinitions.HANDSHAKE_METRICS)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, SSLDefinitions.HANDSHAKE_METRICS)
+                .end();
+        builder.addChildResource(PathElement.pathElement(ElytronDescriptionConstants.KEY_STORE))
+                .getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, KeyStoreDefinition.WATCH_INTERVAL)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, KeyStoreDefinition.WATCH_INTERVAL)
+                .end();
+    }
+
     private static void from19(ChainedTransformationDescriptionBuilder chainedBuilder) {
         ResourceTransformationDescriptionBuilder builder = chainedBuilder.createBuilder(ELYTRON_19_0_0, ELYTRON_18_0_0);
 
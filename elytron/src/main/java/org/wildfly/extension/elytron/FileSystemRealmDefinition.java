@@ -32,6 +32,8 @@ import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.UnrecoverableKeyException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -52,8 +54,11 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.operations.validation.CharsetValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.StringAllowedValuesValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -73,12 +78,17 @@ import org.jboss.msc.value.InjectedValue;
 import org.wildfly.common.function.ExceptionFunction;
 import org.wildfly.common.function.ExceptionSupplier;
 import org.wildfly.extension.elytron.FileAttributeDefinitions.PathResolver;
+import org.wildfly.extension.elytron.RealmIdentityMetrics.MeasuredModifiableSecurityRealm;
+import org.wildfly.security.auth.realm.CacheableSecurityRealm;
+import org.wildfly.security.auth.realm.CachingModifiableSecurityRealm;
+import org.wildfly.security.auth.realm.CachingSecurityRealm;
 import org.wildfly.security.auth.realm.FileSystemSecurityRealm;
 import org.wildfly.security.auth.realm.FileSystemSecurityRealmBuilder;
 import org.wildfly.security.auth.server.ModifiableSecurityRealm;
 import org.wildfly.security.auth.server.NameRewriter;
 import org.wildfly.security.auth.server.RealmUnavailableException;
 import org.wildfly.security.auth.server.SecurityRealm;
+import org.wildfly.security.cache.LRURealmIdentityCache;
 import org.wildfly.security.credential.SecretKeyCredential;
 import org.wildfly.security.credential.source.CredentialSource;
 import org.wildfly.security.credential.store.CredentialStore;
@@ -171,12 +181,38 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
                     .setRestartAllServices()
                     .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[]{PATH, RELATIVE_TO, LEVELS, ENCODED, HASH_ENCODING, HASH_CHARSET};
+    /*
+     * The cache of the identities loaded from the files of the realm is disabled by default, as the files of cached
+     * identities are only read again if the identities are modified through the realm.
+     */
+    static final SimpleAttributeDefinition IDENTITY_CACHE_MAXIMUM_ENTRIES =
+            new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.IDENTITY_CACHE_MAXIMUM_ENTRIES, ModelType.INT, true)
+                    .setDefaultValue(ModelNode.ZERO)
+                    .setValidator(new IntRangeValidator(0, true, true))
+                    .setAllowExpression(true)
+                    .setRestartAllServices()
+                    .build();
+
+    static final SimpleAttributeDefinition IDENTITY_CACHE_MAXIMUM_AGE =
+            new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.IDENTITY_CACHE_MAXIMUM_AGE, ModelType.LONG, true)
+                    .setDefaultValue(new ModelNode(-1L))
+                    .setValidator(new LongRangeValidator(-1, Long.MAX_VALUE, true, true))
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                    .setAllowExpression(true)
+                    .setRestartAllServices()
+                    .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[]{PATH, RELATIVE_TO, LEVELS, ENCODED, HASH_ENCODING, HASH_CHARSET, IDENTITY_CACHE_MAXIMUM_ENTRIES, IDENTITY_CACHE_MAXIMUM_AGE};
     static final AttributeDefinition[] INTEGRITY_ATTRIBUTES = new AttributeDefinition[]{KEY_STORE, KEY_STORE_ALIAS};
     static final AttributeDefinition[] ENCRYPTION_ATTRIBUTES = new AttributeDefinition[]{CREDENTIAL_STORE, SECRET_KEY};
     static final AttributeDefinition[] ALL_ATTRIBUTES = Stream.of(ATTRIBUTES, INTEGRITY_ATTRIBUTES, ENCRYPTION_ATTRIBUTES)
             .flatMap(Stream::of).toArray(AttributeDefinition[]::new);
 
+    // The metrics of the started realms, by realm name
+    private static final Map<String, RealmIdentityMetrics> METRICS = new ConcurrentHashMap<>();
+    // The identity caches of the started realms, by realm name
+    private static final Map<String, CachingSecurityRealm> CACHES = new ConcurrentHashMap<>();
+
     private static final AbstractAddStepHandler ADD = new RealmAddHandler();
     private static final OperationStepHandler REMOVE = new TrivialCapabilityServiceRemoveHandler(ADD, MODIFIABLE_SECURITY_REALM_RUNTIME_CAPABILITY, SECURITY_REALM_RUNTIME_CAPABILITY);
 
@@ -204,6 +240,9 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
         for (AttributeDefinition attr : ENCRYPTION_ATTRIBUTES) {
             resourceRegistration.registerReadWriteAttribute(attr, null, encryptionHandler);
         }
+        if (isServerOrHostController(resourceRegistration)) {
+            RealmIdentityMetrics.registerMetrics(resourceRegistration, METRICS);
+        }
     }
 
     @Override
@@ -235,6 +274,8 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
                     throw ROOT_LOGGER.filesystemMissingKeypair();
                 }
                 fileSystemRealm.updateRealmKeyPair();
+                // The cached identities are still signed with the previous key pair
+                removeAllFromCache(context);
             } catch (IOException e) {
                 throw ROOT_LOGGER.unableToVerifyIntegrity(e, e.getLocalizedMessage());
             }
@@ -260,6 +301,8 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
                     throw ROOT_LOGGER.filesystemMissingKeypair();
                 }
                 FileSystemSecurityRealm.IntegrityResult result = fileSystemRealm.verifyRealmIntegrity();
+                // Subsequent lookups read the verified files
+                removeAllFromCache(context);
                 if(!result.isValid()) {
                     throw ROOT_LOGGER.filesystemIntegrityInvalid(result.getIdentityNames());
                 }
@@ -319,6 +362,8 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
             final String secretKey = SECRET_KEY.resolveModelAttribute(context, model).asStringOrNull();
             final String keyStoreName = KEY_STORE.resolveModelAttribute(context, model).asStringOrNull();
             final String keyPairAlias = KEY_STORE_ALIAS.resolveModelAttribute(context, model).asStringOrNull();
+            final int maximumEntries = IDENTITY_CACHE_MAXIMUM_ENTRIES.resolveModelAttribute(context, model).asInt();
+            final long maximumAge = IDENTITY_CACHE_MAXIMUM_AGE.resolveModelAttribute(context, model).asLong();
 
             final InjectedValue<KeyStore> keyStoreInjector = new InjectedValue<>();
             final InjectedValue<PathManager> pathManagerInjector = new InjectedValue<>();
@@ -396,7 +441,19 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
                                 fileSystemRealmBuilder.setPublicKey(publicKey);
                             }
                             ModifiableSecurityRealm modifiable = fileSystemRealmBuilder.build();
-                            ModifiableSecurityRealm wrapped = realmTransformer.apply(modifiable);
+                            ModifiableSecurityRealm cached = modifiable;
+                            if (maximumEntries > 0) {
+                                ROOT_LOGGER.tracef("Caching the identities of '%s' filesystem realm. maximumEntries=%d, maximumAge=%d",
+                                        address, maximumEntries, maximumAge);
+                                CachingModifiableSecurityRealm cachingRealm = new CachingModifiableSecurityRealm((CacheableSecurityRealm) modifiable,
+                                        new LRURealmIdentityCache(maximumEntries, maximumAge));
+                                CACHES.put(address, cachingRealm);
+                                cached = cachingRealm;
+                            }
+                            RealmIdentityMetrics metrics = new RealmIdentityMetrics();
+                            METRICS.put(address, metrics);
+                            ModifiableSecurityRealm wrapped = realmTransformer.apply(
+                                    new MeasuredModifiableSecurityRealm(cached, (CacheableSecurityRealm) modifiable, metrics));
                             modifiableConsumer.accept(wrapped);
                             standardConsumer.accept(wrapped);
 
@@ -405,6 +462,8 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
 
                         @Override
                         public void dispose() {
+                            METRICS.remove(address);
+                            CACHES.remove(address);
                             if (pathResolver != null) {
                                 pathResolver.clear();
                                 pathResolver = null;
@@ -431,6 +490,13 @@ class FileSystemRealmDefinition extends SimpleResourceDefinition {
 
     }
 
+    private static void removeAllFromCache(OperationContext context) {
+        CachingSecurityRealm cachingRealm = CACHES.get(context.getCurrentAddressValue());
+        if (cachingRealm != null) {
+            cachingRealm.removeAllFromCache();
+        }
+    }
+
     private static Service getFileSystemService(OperationContext context) throws OperationFailedException {
         ServiceRegistry serviceRegistry = context.getServiceRegistry(true);
         PathAddress currentAddress = context.getCurrentAddress();
@@ -16,15 +16,18 @@ import static org.wildfly.extension.elytron.ElytronDescriptionConstants.SALTED_S
 import static org.wildfly.extension.elytron.ElytronDescriptionConstants.SCRAM_MAPPER;
 import static org.wildfly.extension.elytron.ElytronDescriptionConstants.SIMPLE_DIGEST_MAPPER;
 import static org.wildfly.extension.elytron.ElytronDescriptionConstants.UTF_8;
+import static org.wildfly.extension.elytron.ElytronExtension.isServerOrHostController;
 import static org.wildfly.extension.elytron.RealmDefinitions.createBruteForceRealmTransformer;
 import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
 
 import java.nio.charset.Charset;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -46,6 +49,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.CharsetValidator;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.StringAllowedValuesValidator;
@@ -61,6 +65,7 @@ import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartException;
 import org.wildfly.security.auth.realm.jdbc.JdbcSecurityRealm;
 import org.wildfly.security.auth.realm.jdbc.JdbcSecurityRealmBuilder;
 import org.wildfly.security.auth.realm.jdbc.KeyMapper;
@@ -571,6 +576,37 @@ class JdbcRealmDefinition extends SimpleResourceDefinition {
 
     static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] {PrincipalQueryAttributes.PRINCIPAL_QUERIES_7_0, HASH_CHARSET};
 
+    /**
+     * The runtime attribute reporting the executions of each principal query, in the order of the queries.
+     */
+    static class PrincipalQueryMetricsAttributes {
+        static final SimpleAttributeDefinition SQL = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.SQL, ModelType.STRING)
+                .build();
+
+        static final SimpleAttributeDefinition EXECUTIONS = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.EXECUTIONS, ModelType.LONG)
+                .build();
+
+        static final SimpleAttributeDefinition AVERAGE_EXECUTION_TIME = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.AVERAGE_EXECUTION_TIME, ModelType.LONG)
+                .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+                .build();
+
+        static final SimpleAttributeDefinition MAXIMUM_EXECUTION_TIME = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.MAXIMUM_EXECUTION_TIME, ModelType.LONG)
+                .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+                .build();
+
+        static final ObjectTypeAttributeDefinition PRINCIPAL_QUERY_METRIC = new ObjectTypeAttributeDefinition.Builder(ElytronDescriptionConstants.PRINCIPAL_QUERY,
+                SQL, EXECUTIONS, AVERAGE_EXECUTION_TIME, MAXIMUM_EXECUTION_TIME)
+                .build();
+
+        static final ObjectListAttributeDefinition PRINCIPAL_QUERY_METRICS = new ObjectListAttributeDefinition.Builder(ElytronDescriptionConstants.PRINCIPAL_QUERY_METRICS, PRINCIPAL_QUERY_METRIC)
+                .setStorageRuntime()
+                .setRequired(false)
+                .build();
+    }
+
+    // The metrics of the principal queries of the started realms, by realm name, each with the SQL of its query
+    private static final Map<String, List<Map.Entry<String, RealmIdentityMetrics>>> QUERY_METRICS = new ConcurrentHashMap<>();
+
     private static final AbstractAddStepHandler ADD = new RealmAddHandler();
     private static final OperationStepHandler REMOVE = new TrivialCapabilityServiceRemoveHandler(ADD, SECURITY_REALM_RUNTIME_CAPABILITY);
 
@@ -588,6 +624,9 @@ class JdbcRealmDefinition extends SimpleResourceDefinition {
         for (AttributeDefinition current : ATTRIBUTES) {
             resourceRegistration.registerReadWriteAttribute(current, null, ElytronReloadRequiredWriteAttributeHandler.INSTANCE);
         }
+        if (isServerOrHostController(resourceRegistration)) {
+            resourceRegistration.registerReadOnlyAttribute(PrincipalQueryMetricsAttributes.PRINCIPAL_QUERY_METRICS, new PrincipalQueryMetricsHandler());
+        }
     }
 
     private static class RealmAddHandler extends BaseAddHandler {
@@ -621,10 +660,27 @@ class JdbcRealmDefinition extends SimpleResourceDefinition {
             Function<SecurityRealm, SecurityRealm> realmTransformer =
                 createBruteForceRealmTransformer(context.getCurrentAddressValue(), SecurityRealm.class, serviceBuilder);
 
-            TrivialService<SecurityRealm> service = new TrivialService<SecurityRealm>(() -> realmTransformer.apply(builder.build()), valueConsumer);
+            final String name = context.getCurrentAddressValue();
+            final List<Map.Entry<String, RealmIdentityMetrics>> queryMetrics = new ArrayList<>();
+            TrivialService<SecurityRealm> service = new TrivialService<SecurityRealm>(new TrivialService.ValueSupplier<SecurityRealm>() {
+
+                @Override
+                public SecurityRealm get() throws StartException {
+                    QUERY_METRICS.put(name, queryMetrics);
+                    return realmTransformer.apply(builder.build());
+                }
+
+                @Override
+                public void dispose() {
+                    QUERY_METRICS.remove(name);
+                }
+
+            }, valueConsumer);
 
             for (ModelNode query : principalQueries.asList()) {
                 String authenticationQuerySql = PrincipalQueryAttributes.SQL.resolveModelAttribute(context, query).asString();
+                RealmIdentityMetrics metrics = new RealmIdentityMetrics();
+                queryMetrics.add(new SimpleImmutableEntry<>(authenticationQuerySql, metrics));
                 QueryBuilder queryBuilder = builder.principalQuery(authenticationQuerySql)
                         .withMapper(resolveAttributeMappers(context, query))
                         .withMapper(resolveKeyMappers(context, query));
@@ -637,7 +693,7 @@ class JdbcRealmDefinition extends SimpleResourceDefinition {
 
                     @Override
                     public void inject(DataSource value) throws InjectionException {
-                        queryBuilder.from(value);
+                        queryBuilder.from(new MeasuredDataSource(value, metrics));
                     }
 
                     @Override
@@ -671,6 +727,27 @@ class JdbcRealmDefinition extends SimpleResourceDefinition {
         }
     }
 
+    private static class PrincipalQueryMetricsHandler extends ElytronRuntimeOnlyHandler {
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            List<Map.Entry<String, RealmIdentityMetrics>> queryMetrics = QUERY_METRICS.get(context.getCurrentAddressValue());
+            if (queryMetrics == null) {
+                throw ROOT_LOGGER.realmMetricsNotAvailable(context.getCurrentAddressValue());
+            }
+
+            ModelNode result = context.getResult().setEmptyList();
+            for (Map.Entry<String, RealmIdentityMetrics> entry : queryMetrics) {
+                ModelNode queryNode = new ModelNode();
+                queryNode.get(ElytronDescriptionConstants.SQL).set(entry.getKey());
+                queryNode.get(ElytronDescriptionConstants.EXECUTIONS).set(entry.getValue().getLookups());
+                queryNode.get(ElytronDescriptionConstants.AVERAGE_EXECUTION_TIME).set(entry.getValue().getAverageTime());
+                queryNode.get(ElytronDescriptionConstants.MAXIMUM_EXECUTION_TIME).set(entry.getValue().getMaximumTime());
+                result.add(queryNode);
+            }
+        }
+    }
+
     private static class JdbcRealmDefinitionValidation implements OperationStepHandler {
 
         @Override
@@ -11,6 +11,7 @@ import static org.jboss.as.controller.security.CredentialReference.rollbackCrede
 import static org.wildfly.extension.elytron.Capabilities.KEY_STORE_CAPABILITY;
 import static org.wildfly.extension.elytron.Capabilities.KEY_STORE_RUNTIME_CAPABILITY;
 import static org.wildfly.extension.elytron.Capabilities.PROVIDERS_CAPABILITY;
+import static org.wildfly.extension.elytron.Capabilities.SCHEDULED_EXECUTOR_RUNTIME_CAPABILITY;
 import static org.wildfly.extension.elytron.ElytronDefinition.commonDependencies;
 import static org.wildfly.extension.elytron.ElytronExtension.ISO_8601_FORMAT;
 import static org.wildfly.extension.elytron.ElytronExtension.getRequiredService;
@@ -29,11 +30,13 @@ import java.security.KeyStoreException;
 import java.security.Provider;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.OperationContext;
-import org.jboss.as.controller.OperationContext.RollbackHandler;
+import org.jboss.as.controller.OperationContext.ResultAction;
+import org.jboss.as.controller.OperationContext.ResultHandler;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathElement;
@@ -44,7 +47,9 @@ import org.jboss.as.controller.SimpleOperationDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.StandardResourceDescriptionResolver;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.registry.Resource;
@@ -107,6 +112,16 @@ final class KeyStoreDefinition extends SimpleResourceDefinition {
         .setRestartAllServices()
         .build();
 
+    static final SimpleAttributeDefinition WATCH_INTERVAL = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.WATCH_INTERVAL, ModelType.LONG, true)
+        .setDefaultValue(ModelNode.ZERO_LONG)
+        .setValidator(new LongRangeValidator(0, Long.MAX_VALUE, true, true))
+        .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+        .setAllowExpression(true)
+        .setAttributeGroup(ElytronDescriptionConstants.FILE)
+        .setRequires(ElytronDescriptionConstants.PATH)
+        .setRestartAllServices()
+        .build();
+
     // Resource Resolver
 
     private static final StandardResourceDescriptionResolver RESOURCE_RESOLVER = ElytronExtension.getResourceDescriptionResolver(ElytronDescriptionConstants.KEY_STORE);
@@ -125,6 +140,23 @@ final class KeyStoreDefinition extends SimpleResourceDefinition {
         .setStorageRuntime()
         .build();
 
+    private static final SimpleAttributeDefinition FILE_RELOADS = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.FILE_RELOADS, ModelType.LONG)
+        .setStorageRuntime()
+        .setUndefinedMetricValue(new ModelNode(0L))
+        .build();
+
+    private static final SimpleAttributeDefinition AVERAGE_FILE_RELOAD_TIME = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.AVERAGE_FILE_RELOAD_TIME, ModelType.LONG)
+        .setStorageRuntime()
+        .setUndefinedMetricValue(new ModelNode(0L))
+        .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+        .build();
+
+    private static final SimpleAttributeDefinition MAXIMUM_FILE_RELOAD_TIME = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.MAXIMUM_FILE_RELOAD_TIME, ModelType.LONG)
+        .setStorageRuntime()
+        .setUndefinedMetricValue(new ModelNode(0L))
+        .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+        .build();
+
     // Operations
 
     private static final SimpleOperationDefinition LOAD = new SimpleOperationDefinitionBuilder(ElytronDescriptionConstants.LOAD, RESOURCE_RESOLVER)
@@ -135,7 +167,7 @@ final class KeyStoreDefinition extends SimpleResourceDefinition {
         .setRuntimeOnly()
         .build();
 
-    private static final AttributeDefinition[] CONFIG_ATTRIBUTES = new AttributeDefinition[] { TYPE, PROVIDER_NAME, PROVIDERS, CREDENTIAL_REFERENCE, PATH, RELATIVE_TO, REQUIRED, ALIAS_FILTER };
+    private static final AttributeDefinition[] CONFIG_ATTRIBUTES = new AttributeDefinition[] { TYPE, PROVIDER_NAME, PROVIDERS, CREDENTIAL_REFERENCE, PATH, RELATIVE_TO, REQUIRED, ALIAS_FILTER, WATCH_INTERVAL };
 
     private static final KeyStoreAddHandler ADD = new KeyStoreAddHandler();
     private static final OperationStepHandler REMOVE = new TrivialCapabilityServiceRemoveHandler(ADD, KEY_STORE_RUNTIME_CAPABILITY);
@@ -205,6 +237,30 @@ final class KeyStoreDefinition extends SimpleResourceDefinition {
                     populateProvider(result, keyStoreService.getValue().getProvider(), false);
                 }
             });
+
+            resourceRegistration.registerMetric(FILE_RELOADS, new KeyStoreRuntimeOnlyHandler(false) {
+
+                @Override
+                protected void performRuntime(ModelNode result, ModelNode operation, KeyStoreService keyStoreService) throws OperationFailedException {
+                    result.set(keyStoreService.getFileReloads());
+                }
+            });
+
+            resourceRegistration.registerMetric(AVERAGE_FILE_RELOAD_TIME, new KeyStoreRuntimeOnlyHandler(false) {
+
+                @Override
+                protected void performRuntime(ModelNode result, ModelNode operation, KeyStoreService keyStoreService) throws OperationFailedException {
+                    result.set(keyStoreService.getAverageFileReloadTime());
+                }
+            });
+
+            resourceRegistration.registerMetric(MAXIMUM_FILE_RELOAD_TIME, new KeyStoreRuntimeOnlyHandler(false) {
+
+                @Override
+                protected void performRuntime(ModelNode result, ModelNode operation, KeyStoreService keyStoreService) throws OperationFailedException {
+                    result.set(keyStoreService.getMaximumFileReloadTime());
+                }
+            });
         }
     }
 
@@ -239,12 +295,14 @@ final class KeyStoreDefinition extends SimpleResourceDefinition {
             String relativeTo = null;
             boolean required;
             String aliasFilter = ALIAS_FILTER.resolveModelAttribute(context, model).asStringOrNull();
+            long watchInterval = 0;
 
             final KeyStoreService keyStoreService;
             if (path != null) {
                 relativeTo = RELATIVE_TO.resolveModelAttribute(context, model).asStringOrNull();
                 required = REQUIRED.resolveModelAttribute(context, model).asBoolean();
-                keyStoreService = KeyStoreService.createFileBasedKeyStoreService(providerName, type, relativeTo, path, required, aliasFilter);
+                watchInterval = WATCH_INTERVAL.resolveModelAttribute(context, model).asLong();
+                keyStoreService = KeyStoreService.createFileBasedKeyStoreService(providerName, type, relativeTo, path, required, aliasFilter, watchInterval);
             } else {
                 if (type == null) {
                     throw ROOT_LOGGER.filelessKeyStoreMissingType();
@@ -261,6 +319,10 @@ final class KeyStoreDefinition extends SimpleResourceDefinition {
             if (relativeTo != null) {
                 serviceBuilder.requires(pathName(relativeTo));
             }
+            if (watchInterval > 0) {
+                serviceBuilder.addDependency(SCHEDULED_EXECUTOR_RUNTIME_CAPABILITY.getCapabilityServiceName(), ScheduledExecutorService.class,
+                        keyStoreService.getScheduledExecutorInjector());
+            }
 
             if (providers != null) {
                 String providersCapabilityName = RuntimeCapability.buildDynamicCapabilityName(PROVIDERS_CAPABILITY, providers);
@@ -337,11 +399,15 @@ final class KeyStoreDefinition extends SimpleResourceDefinition {
             switch (operationName) {
                 case ElytronDescriptionConstants.LOAD:
                     final LoadKey loadKey = keyStoreService.load();
-                    context.completeStep(new RollbackHandler() {
+                    context.completeStep(new ResultHandler() {
 
                         @Override
-                        public void handleRollback(OperationContext context, ModelNode operation) {
-                            keyStoreService.revertLoad(loadKey);
+                        public void handleResult(ResultAction resultAction, OperationContext context, ModelNode operation) {
+                            if (resultAction == ResultAction.ROLLBACK) {
+                                keyStoreService.revertLoad(loadKey);
+                            } else {
+                                keyStoreService.fileReloaded();
+                            }
                         }
                     });
                     break;
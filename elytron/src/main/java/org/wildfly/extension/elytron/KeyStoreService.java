@@ -26,7 +26,14 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.Enumeration;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import javax.security.auth.x500.X500Principal;
@@ -40,6 +47,7 @@ import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.jboss.msc.value.InjectedValue;
+import org.wildfly.common.function.ExceptionRunnable;
 import org.wildfly.common.function.ExceptionSupplier;
 import org.wildfly.common.iteration.ByteIterator;
 import org.wildfly.extension.elytron.FileAttributeDefinitions.PathResolver;
@@ -75,34 +83,53 @@ class KeyStoreService implements ModifiableKeyStoreService {
     private final String relativeTo;
     private final boolean required;
     private final String aliasFilter;
+    private final long watchInterval;
 
     private final InjectedValue<PathManager> pathManager = new InjectedValue<>();
     private final InjectedValue<Provider[]> providers = new InjectedValue<>();
     private final InjectedValue<ExceptionSupplier<CredentialSource, Exception>> credentialSourceSupplier = new InjectedValue<>();
+    private final InjectedValue<ScheduledExecutorService> scheduledExecutor = new InjectedValue<>();
+
+    private final Set<ExceptionRunnable<Exception>> fileReloadListeners = new CopyOnWriteArraySet<>();
+    private final LongAdder fileReloads = new LongAdder();
+    private final LongAdder totalFileReloadTime = new LongAdder();
+    private final AtomicLong maximumFileReloadTime = new AtomicLong();
 
     private PathResolver pathResolver;
     private File resolvedPath;
+    private ScheduledFuture<?> fileWatch;
+    // The last modification time and length of the file when it was last loaded or saved
+    private long fileLastModified;
+    private long fileLength;
+    // The last modification time and length of the file when it last failed to be reloaded
+    private long failedFileLastModified;
+    private long failedFileLength;
 
     private volatile long synched;
     private volatile AtomicLoadKeyStore keyStore = null;
     private volatile ModifyTrackingKeyStore trackingKeyStore = null;
     private volatile KeyStore unmodifiableKeyStore = null;
 
-    private KeyStoreService(String provider, String type, String relativeTo, String path, boolean required, String aliasFilter) {
+    private KeyStoreService(String provider, String type, String relativeTo, String path, boolean required, String aliasFilter, long watchInterval) {
         this.provider = provider;
         this.type = type;
         this.relativeTo = relativeTo;
         this.path = path;
         this.required = required;
         this.aliasFilter = aliasFilter;
+        this.watchInterval = watchInterval;
     }
 
     static KeyStoreService createFileLessKeyStoreService(String provider, String type, String aliasFilter) {
-        return new KeyStoreService(provider, type, null, null, false, aliasFilter);
+        return new KeyStoreService(provider, type, null, null, false, aliasFilter, 0);
     }
 
-    static KeyStoreService createFileBasedKeyStoreService(String provider, String type, String relativeTo, String path, boolean required, String aliasFilter) {
-        return new KeyStoreService(provider, type, relativeTo, path, required, aliasFilter);
+    /**
+     * @param watchInterval the interval in milliseconds at which the file is checked for changes, the KeyStore being
+     *                      reloaded when it changed, or {@code 0} not to check it
+     */
+    static KeyStoreService createFileBasedKeyStoreService(String provider, String type, String relativeTo, String path, boolean required, String aliasFilter, long watchInterval) {
+        return new KeyStoreService(provider, type, relativeTo, path, required, aliasFilter, watchInterval);
     }
 
     /*
@@ -125,6 +152,7 @@ class KeyStoreService implements ModifiableKeyStoreService {
             }
 
             synched = System.currentTimeMillis();
+            updateFileStamp();
             if (resolvedPath != null && ! resolvedPath.exists()) {
                 if (required) {
                     if (type == null) {
@@ -186,6 +214,12 @@ class KeyStoreService implements ModifiableKeyStoreService {
         } catch (Exception e) {
             throw ROOT_LOGGER.unableToStartService(e);
         }
+
+        ScheduledExecutorService executor = scheduledExecutor.getOptionalValue();
+        if (resolvedPath != null && watchInterval > 0 && executor != null) {
+            ROOT_LOGGER.tracef("watching KeyStore file [%s] every %d ms", resolvedPath, watchInterval);
+            fileWatch = executor.scheduleWithFixedDelay(this::reloadIfFileChanged, watchInterval, watchInterval, TimeUnit.MILLISECONDS);
+        }
     }
 
     private Provider resolveProvider() throws StartException {
@@ -229,9 +263,15 @@ class KeyStoreService implements ModifiableKeyStoreService {
                 "stopping:  keyStore = %s  unmodifiableKeyStore = %s  trackingKeyStore = %s  pathResolver = %s",
                 keyStore, unmodifiableKeyStore, trackingKeyStore, pathResolver
         );
-        keyStore = null;
-        unmodifiableKeyStore = null;
-        trackingKeyStore = null;
+        if (fileWatch != null) {
+            fileWatch.cancel(false);
+            fileWatch = null;
+        }
+        synchronized (this) {
+            keyStore = null;
+            unmodifiableKeyStore = null;
+            trackingKeyStore = null;
+        }
         if (pathResolver != null) {
             pathResolver.clear();
             pathResolver = null;
@@ -259,6 +299,10 @@ class KeyStoreService implements ModifiableKeyStoreService {
         return credentialSourceSupplier;
     }
 
+    Injector<ScheduledExecutorService> getScheduledExecutorInjector() {
+        return scheduledExecutor;
+    }
+
     String getResolvedAbsolutePath() {
         return resolvedPath != null ? resolvedPath.getAbsolutePath() : null;
     }
@@ -271,10 +315,14 @@ class KeyStoreService implements ModifiableKeyStoreService {
         return synched;
     }
 
-    LoadKey load() throws OperationFailedException {
+    synchronized LoadKey load() throws OperationFailedException {
         try {
             ROOT_LOGGER.tracef("reloading KeyStore from file [%s]", resolvedPath);
+            final long lastModified = resolvedPath != null ? resolvedPath.lastModified() : 0;
+            final long length = resolvedPath != null ? resolvedPath.length() : 0;
             AtomicLoadKeyStore.LoadKey loadKey = load(keyStore);
+            fileLastModified = lastModified;
+            fileLength = length;
             long originalSynced = synched;
             synched = System.currentTimeMillis();
             boolean originalModified = trackingKeyStore.isModified();
@@ -285,14 +333,14 @@ class KeyStoreService implements ModifiableKeyStoreService {
         }
     }
 
-    void revertLoad(final LoadKey loadKey) {
+    synchronized void revertLoad(final LoadKey loadKey) {
         ROOT_LOGGER.trace("reverting load of KeyStore");
         keyStore.revert(loadKey.loadKey);
         synched = loadKey.modifiedTime;
         trackingKeyStore.setModified(loadKey.modified);
     }
 
-    void save() throws OperationFailedException {
+    synchronized void save() throws OperationFailedException {
         if (resolvedPath == null) {
             throw ROOT_LOGGER.cantSaveWithoutFile(path);
         }
@@ -304,12 +352,108 @@ class KeyStoreService implements ModifiableKeyStoreService {
         } catch (Exception e) {
             throw ROOT_LOGGER.unableToCompleteOperation(e, e.getLocalizedMessage());
         }
+        updateFileStamp();
     }
 
     boolean isModified() {
         return trackingKeyStore.isModified();
     }
 
+    /*
+     * File Watch Related Methods
+     */
+
+    /**
+     * Registers a listener called after the KeyStore has been reloaded from its file, following a change of the file or
+     * by the {@code load} operation, e.g. to update the key managers using the KeyStore.
+     */
+    void addFileReloadListener(ExceptionRunnable<Exception> listener) {
+        fileReloadListeners.add(listener);
+    }
+
+    void removeFileReloadListener(ExceptionRunnable<Exception> listener) {
+        fileReloadListeners.remove(listener);
+    }
+
+    long getFileReloads() {
+        return fileReloads.sum();
+    }
+
+    long getAverageFileReloadTime() {
+        final long count = fileReloads.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalFileReloadTime.sum() / count);
+    }
+
+    long getMaximumFileReloadTime() {
+        return TimeUnit.NANOSECONDS.toMicros(maximumFileReloadTime.get());
+    }
+
+    private void updateFileStamp() {
+        if (resolvedPath != null) {
+            fileLastModified = resolvedPath.lastModified();
+            fileLength = resolvedPath.length();
+        }
+    }
+
+    /**
+     * Reloads the KeyStore if its file changed since it was last loaded or saved, unless the KeyStore has unsaved
+     * modifications.
+     * <p>
+     * The KeyStore is reloaded atomically, so that the entries it contains are replaced all at once, and remains as
+     * previously loaded if the file cannot be loaded, e.g. as it is being written, until a later check loads it.
+     */
+    private synchronized void reloadIfFileChanged() {
+        // Read before the load, so that a change made during the load is detected by the next check
+        final long lastModified = resolvedPath.lastModified();
+        final long length = resolvedPath.length();
+        if (keyStore == null || (lastModified == fileLastModified && length == fileLength)) {
+            return;
+        }
+        if (trackingKeyStore.isModified()) {
+            ROOT_LOGGER.tracef("not reloading modified KeyStore from changed file [%s]", resolvedPath);
+            return;
+        }
+
+        ROOT_LOGGER.tracef("reloading KeyStore from changed file [%s]", resolvedPath);
+        final long start = System.nanoTime();
+        try {
+            load(keyStore);
+        } catch (Exception e) {
+            // The file stamp is left unchanged, for the load to be attempted again by the next check, the failure
+            // only being reported once for each change of the file
+            if (lastModified != failedFileLastModified || length != failedFileLength) {
+                failedFileLastModified = lastModified;
+                failedFileLength = length;
+                ROOT_LOGGER.unableToReloadChangedKeyStore(resolvedPath.getAbsolutePath(), e);
+            } else {
+                ROOT_LOGGER.tracef(e, "unable to reload KeyStore from changed file [%s]", resolvedPath);
+            }
+            return;
+        }
+        fileLastModified = lastModified;
+        fileLength = length;
+        synched = System.currentTimeMillis();
+        fileReloaded();
+
+        final long time = System.nanoTime() - start;
+        fileReloads.increment();
+        totalFileReloadTime.add(time);
+        maximumFileReloadTime.accumulateAndGet(time, Math::max);
+    }
+
+    /**
+     * Notifies the registered listeners that the KeyStore has been reloaded from its file.
+     */
+    synchronized void fileReloaded() {
+        for (ExceptionRunnable<Exception> listener : fileReloadListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                ROOT_LOGGER.unableToApplyReloadedKeyStore(String.valueOf(getResolvedAbsolutePath()), e);
+            }
+        }
+    }
+
     char[] resolveKeyPassword(final ExceptionSupplier<CredentialSource, Exception> keyPasswordCredentialSourceSupplier) throws Exception {
         if (keyPasswordCredentialSourceSupplier == null) {
             // use the key-store password if no key password is provided
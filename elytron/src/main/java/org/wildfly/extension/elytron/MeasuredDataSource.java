@@ -0,0 +1,107 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * A {@link DataSource} recording in {@link RealmIdentityMetrics} the time taken by each execution of the statements
+ * created by the connections it provides.
+ * <p>
+ * A JDBC realm executes a statement per execution of a principal query, so the data source of a query measures the
+ * executions of the query. The time taken to obtain the connection from the pool, and to read the results, is not
+ * measured.
+ */
+final class MeasuredDataSource implements DataSource {
+
+    private final DataSource delegate;
+    private final RealmIdentityMetrics metrics;
+
+    MeasuredDataSource(DataSource delegate, RealmIdentityMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return (Connection) measure(Connection.class, delegate.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return (Connection) measure(Connection.class, delegate.getConnection(username, password));
+    }
+
+    private Object measure(Class<?> type, Object object) {
+        return Proxy.newProxyInstance(MeasuredDataSource.class.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> invoke(object, method, args));
+    }
+
+    private Object invoke(Object object, Method method, Object[] args) throws Throwable {
+        final boolean execution = object instanceof Statement && method.getName().startsWith("execute");
+        final long start = System.nanoTime();
+        final Object result;
+        try {
+            result = method.invoke(object, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            if (execution) {
+                metrics.record(start);
+            }
+        }
+        if (object instanceof Connection && result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+            // The statements created by the connection, i.e. Statement, PreparedStatement or CallableStatement
+            return measure(method.getReturnType(), result);
+        }
+        return result;
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import java.nio.ByteBuffer;
+import java.security.KeyManagementException;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLContextSpi;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+
+/**
+ * An {@link SSLContext} measuring the initial handshakes of the {@link SSLEngine} instances it creates.
+ * <p>
+ * A handshake is measured from the first time the engine is used until it reports the handshake as finished, and is
+ * considered as resumed if the negotiated session was created before the handshake started. Sockets are created by the
+ * context it delegates to, without measure.
+ */
+final class MeasuredSSLContext extends SSLContext {
+
+    private final HandshakeMetrics metrics;
+
+    private MeasuredSSLContext(MeasuredSSLContextSpi contextSpi, SSLContext delegate) {
+        super(contextSpi, delegate.getProvider(), delegate.getProtocol());
+        this.metrics = contextSpi.metrics;
+    }
+
+    static MeasuredSSLContext measure(SSLContext delegate) {
+        return new MeasuredSSLContext(new MeasuredSSLContextSpi(delegate), delegate);
+    }
+
+    HandshakeMetrics getMetrics() {
+        return metrics;
+    }
+
+    static final class HandshakeMetrics {
+
+        private final LongAdder handshakes = new LongAdder();
+        private final LongAdder resumedHandshakes = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final AtomicLong maximumTime = new AtomicLong();
+
+        void record(long start, boolean resumed) {
+            final long time = System.nanoTime() - start;
+            handshakes.increment();
+            if (resumed) {
+                resumedHandshakes.increment();
+            }
+            totalTime.add(time);
+            maximumTime.accumulateAndGet(time, Math::max);
+        }
+
+        long getHandshakes() {
+            return handshakes.sum();
+        }
+
+        long getResumedHandshakes() {
+            return resumedHandshakes.sum();
+        }
+
+        long getAverageTime() {
+            final long count = handshakes.sum();
+            return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalTime.sum() / count);
+        }
+
+        long getMaximumTime() {
+            return TimeUnit.NANOSECONDS.toMicros(maximumTime.get());
+        }
+    }
+
+    private static final class MeasuredSSLContextSpi extends SSLContextSpi {
+
+        private final SSLContext delegate;
+        private final HandshakeMetrics metrics = new HandshakeMetrics();
+
+        MeasuredSSLContextSpi(SSLContext delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected void engineInit(KeyManager[] keyManagers, TrustManager[] trustManagers, SecureRandom secureRandom) throws KeyManagementException {
+            delegate.init(keyManagers, trustManagers, secureRandom);
+        }
+
+        @Override
+        protected SSLSocketFactory engineGetSocketFactory() {
+            return delegate.getSocketFactory();
+        }
+
+        @Override
+        protected SSLServerSocketFactory engineGetServerSocketFactory() {
+            return delegate.getServerSocketFactory();
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine() {
+            return new MeasuredSSLEngine(delegate.createSSLEngine(), metrics);
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine(String host, int port) {
+            return new MeasuredSSLEngine(delegate.createSSLEngine(host, port), metrics);
+        }
+
+        @Override
+        protected SSLSessionContext engineGetServerSessionContext() {
+            return delegate.getServerSessionContext();
+        }
+
+        @Override
+        protected SSLSessionContext engineGetClientSessionContext() {
+            return delegate.getClientSessionContext();
+        }
+
+        @Override
+        protected SSLParameters engineGetDefaultSSLParameters() {
+            return delegate.getDefaultSSLParameters();
+        }
+
+        @Override
+        protected SSLParameters engineGetSupportedSSLParameters() {
+            return delegate.getSupportedSSLParameters();
+        }
+    }
+
+    private static final class MeasuredSSLEngine extends SSLEngine {
+
+        private final SSLEngine delegate;
+        private final HandshakeMetrics metrics;
+        private final AtomicBoolean measured = new AtomicBoolean();
+        private volatile long start;
+        private volatile long startTime;
+        private volatile BiFunction<SSLEngine, List<String>, String> applicationProtocolSelector;
+
+        MeasuredSSLEngine(SSLEngine delegate, HandshakeMetrics metrics) {
+            super(delegate.getPeerHost(), delegate.getPeerPort());
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        private void started() {
+            if (start == 0 && !measured.get()) {
+                startTime = System.currentTimeMillis();
+                start = System.nanoTime();
+            }
+        }
+
+        private SSLEngineResult finished(SSLEngineResult result) {
+            if (result.getHandshakeStatus() == HandshakeStatus.FINISHED && start != 0 && measured.compareAndSet(false, true)) {
+                final SSLSession session = delegate.getSession();
+                metrics.record(start, session != null && session.getCreationTime() < startTime);
+            }
+            return result;
+        }
+
+        @Override
+        public SSLEngineResult wrap(ByteBuffer[] srcs, int offset, int length, ByteBuffer dst) throws SSLException {
+            started();
+            return finished(delegate.wrap(srcs, offset, length, dst));
+        }
+
+        @Override
+        public SSLEngineResult unwrap(ByteBuffer src, ByteBuffer[] dsts, int offset, int length) throws SSLException {
+            started();
+            return finished(delegate.unwrap(src, dsts, offset, length));
+        }
+
+        @Override
+        public void beginHandshake() throws SSLException {
+            started();
+            delegate.beginHandshake();
+        }
+
+        @Override
+        public Runnable getDelegatedTask() {
+            return delegate.getDelegatedTask();
+        }
+
+        @Override
+        public void closeInbound() throws SSLException {
+            delegate.closeInbound();
+        }
+
+        @Override
+        public boolean isInboundDone() {
+            return delegate.isInboundDone();
+        }
+
+        @Override
+        public void closeOutbound() {
+            delegate.closeOutbound();
+        }
+
+        @Override
+        public boolean isOutboundDone() {
+            return delegate.isOutboundDone();
+        }
+
+        @Override
+        public String[] getSupportedCipherSuites() {
+            return delegate.getSupportedCipherSuites();
+        }
+
+        @Override
+        public String[] getEnabledCipherSuites() {
+            return delegate.getEnabledCipherSuites();
+        }
+
+        @Override
+        public void setEnabledCipherSuites(String[] suites) {
+            delegate.setEnabledCipherSuites(suites);
+        }
+
+        @Override
+        public String[] getSupportedProtocols() {
+            return delegate.getSupportedProtocols();
+        }
+
+        @Override
+        public String[] getEnabledProtocols() {
+            return delegate.getEnabledProtocols();
+        }
+
+        @Override
+        public void setEnabledProtocols(String[] protocols) {
+            delegate.setEnabledProtocols(protocols);
+        }
+
+        @Override
+        public SSLSession getSession() {
+            return delegate.getSession();
+        }
+
+        @Override
+        public SSLSession getHandshakeSession() {
+            return delegate.getHandshakeSession();
+        }
+
+        @Override
+        public HandshakeStatus getHandshakeStatus() {
+            return delegate.getHandshakeStatus();
+        }
+
+        @Override
+        public void setUseClientMode(boolean mode) {
+            delegate.setUseClientMode(mode);
+        }
+
+        @Override
+        public boolean getUseClientMode() {
+            return delegate.getUseClientMode();
+        }
+
+        @Override
+        public void setNeedClientAuth(boolean need) {
+            delegate.setNeedClientAuth(need);
+        }
+
+        @Override
+        public boolean getNeedClientAuth() {
+            return delegate.getNeedClientAuth();
+        }
+
+        @Override
+        public void setWantClientAuth(boolean want) {
+            delegate.setWantClientAuth(want);
+        }
+
+        @Override
+        public boolean getWantClientAuth() {
+            return delegate.getWantClientAuth();
+        }
+
+        @Override
+        public void setEnableSessionCreation(boolean flag) {
+            delegate.setEnableSessionCreation(flag);
+        }
+
+        @Override
+        public boolean getEnableSessionCreation() {
+            return delegate.getEnableSessionCreation();
+        }
+
+        @Override
+        public SSLParameters getSSLParameters() {
+            return delegate.getSSLParameters();
+        }
+
+        @Override
+        public void setSSLParameters(SSLParameters params) {
+            delegate.setSSLParameters(params);
+        }
+
+        @Override
+        public String getApplicationProtocol() {
+            return delegate.getApplicationProtocol();
+        }
+
+        @Override
+        public String getHandshakeApplicationProtocol() {
+            return delegate.getHandshakeApplicationProtocol();
+        }
+
+        @Override
+        public void setHandshakeApplicationProtocolSelector(BiFunction<SSLEngine, List<String>, String> selector) {
+            applicationProtocolSelector = selector;
+            // The selector is given this engine rather than the engine it decorates
+            delegate.setHandshakeApplicationProtocolSelector(selector == null ? null : (engine, protocols) -> selector.apply(this, protocols));
+        }
+
+        @Override
+        public BiFunction<SSLEngine, List<String>, String> getHandshakeApplicationProtocolSelector() {
+            return applicationProtocolSelector;
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
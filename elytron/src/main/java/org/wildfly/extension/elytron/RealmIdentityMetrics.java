@@ -0,0 +1,228 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.elytron;
+
+import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
+
+import java.security.Principal;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.wildfly.security.auth.SupportLevel;
+import org.wildfly.security.auth.realm.CacheableSecurityRealm;
+import org.wildfly.security.auth.server.ModifiableRealmIdentity;
+import org.wildfly.security.auth.server.ModifiableRealmIdentityIterator;
+import org.wildfly.security.auth.server.ModifiableSecurityRealm;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+import org.wildfly.security.auth.server.SecurityRealm;
+import org.wildfly.security.auth.server.event.RealmEvent;
+import org.wildfly.security.credential.Credential;
+import org.wildfly.security.evidence.Evidence;
+
+/**
+ * Metrics of the identity lookups of a security realm, recorded by a decorator of the realm and exposed as runtime
+ * attributes of its resource.
+ */
+final class RealmIdentityMetrics {
+
+    static final SimpleAttributeDefinition IDENTITY_LOOKUPS = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.IDENTITY_LOOKUPS, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    static final SimpleAttributeDefinition AVERAGE_IDENTITY_LOOKUP_TIME = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.AVERAGE_IDENTITY_LOOKUP_TIME, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+
+    static final SimpleAttributeDefinition MAXIMUM_IDENTITY_LOOKUP_TIME = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.MAXIMUM_IDENTITY_LOOKUP_TIME, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+
+    static final AttributeDefinition[] METRICS = new AttributeDefinition[] {IDENTITY_LOOKUPS, AVERAGE_IDENTITY_LOOKUP_TIME, MAXIMUM_IDENTITY_LOOKUP_TIME};
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final AtomicLong maximumTime = new AtomicLong();
+
+    /**
+     * Records a lookup.
+     *
+     * @param start the value of {@link System#nanoTime()} when the lookup started
+     */
+    void record(long start) {
+        final long time = System.nanoTime() - start;
+        lookups.increment();
+        totalTime.add(time);
+        maximumTime.accumulateAndGet(time, Math::max);
+    }
+
+    long getLookups() {
+        return lookups.sum();
+    }
+
+    long getAverageTime() {
+        final long count = lookups.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalTime.sum() / count);
+    }
+
+    long getMaximumTime() {
+        return TimeUnit.NANOSECONDS.toMicros(maximumTime.get());
+    }
+
+    /**
+     * Registers the metrics on the resource of realms.
+     *
+     * @param resourceRegistration the registration of the resource
+     * @param realmMetrics the metrics of the realms, by realm name
+     */
+    static void registerMetrics(ManagementResourceRegistration resourceRegistration, Map<String, RealmIdentityMetrics> realmMetrics) {
+        resourceRegistration.registerMetric(IDENTITY_LOOKUPS, new MetricsHandler(realmMetrics, RealmIdentityMetrics::getLookups));
+        resourceRegistration.registerMetric(AVERAGE_IDENTITY_LOOKUP_TIME, new MetricsHandler(realmMetrics, RealmIdentityMetrics::getAverageTime));
+        resourceRegistration.registerMetric(MAXIMUM_IDENTITY_LOOKUP_TIME, new MetricsHandler(realmMetrics, RealmIdentityMetrics::getMaximumTime));
+    }
+
+    private static class MetricsHandler extends ElytronRuntimeOnlyHandler {
+
+        private final Map<String, RealmIdentityMetrics> realmMetrics;
+        private final Function<RealmIdentityMetrics, Long> metric;
+
+        MetricsHandler(Map<String, RealmIdentityMetrics> realmMetrics, Function<RealmIdentityMetrics, Long> metric) {
+            this.realmMetrics = realmMetrics;
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            RealmIdentityMetrics metrics = realmMetrics.get(context.getCurrentAddressValue());
+            if (metrics == null) {
+                throw ROOT_LOGGER.realmMetricsNotAvailable(context.getCurrentAddressValue());
+            }
+            context.getResult().set(metric.apply(metrics));
+        }
+    }
+
+    /**
+     * A {@link SecurityRealm} recording the identity lookups of the realm it delegates to.
+     */
+    static class MeasuredSecurityRealm implements SecurityRealm {
+
+        final SecurityRealm delegate;
+        final RealmIdentityMetrics metrics;
+
+        MeasuredSecurityRealm(SecurityRealm delegate, RealmIdentityMetrics metrics) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+            final long start = System.nanoTime();
+            try {
+                return delegate.getRealmIdentity(principal);
+            } finally {
+                metrics.record(start);
+            }
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Evidence evidence) throws RealmUnavailableException {
+            final long start = System.nanoTime();
+            try {
+                return delegate.getRealmIdentity(evidence);
+            } finally {
+                metrics.record(start);
+            }
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Evidence evidence, Function<Principal, Principal> principalTransformer) throws RealmUnavailableException {
+            final long start = System.nanoTime();
+            try {
+                return delegate.getRealmIdentity(evidence, principalTransformer);
+            } finally {
+                metrics.record(start);
+            }
+        }
+
+        @Override
+        public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName) throws RealmUnavailableException {
+            return delegate.getCredentialAcquireSupport(credentialType, algorithmName);
+        }
+
+        @Override
+        public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec) throws RealmUnavailableException {
+            return delegate.getCredentialAcquireSupport(credentialType, algorithmName, parameterSpec);
+        }
+
+        @Override
+        public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) throws RealmUnavailableException {
+            return delegate.getEvidenceVerifySupport(evidenceType, algorithmName);
+        }
+
+        @Override
+        public void handleRealmEvent(RealmEvent event) {
+            delegate.handleRealmEvent(event);
+        }
+    }
+
+    /**
+     * A {@link ModifiableSecurityRealm} recording the identity lookups of the realm it delegates to, which remains
+     * cacheable by a caching realm.
+     */
+    static class MeasuredModifiableSecurityRealm extends MeasuredSecurityRealm implements ModifiableSecurityRealm, CacheableSecurityRealm {
+
+        private final CacheableSecurityRealm cacheable;
+
+        /**
+         * @param delegate the realm to delegate to
+         * @param cacheable the realm notifying the changes of identities, i.e. the decorated realm
+         * @param metrics the metrics to record the lookups in
+         */
+        MeasuredModifiableSecurityRealm(ModifiableSecurityRealm delegate, CacheableSecurityRealm cacheable, RealmIdentityMetrics metrics) {
+            super(delegate, metrics);
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public ModifiableRealmIdentity getRealmIdentityForUpdate(Principal principal) throws RealmUnavailableException {
+            final long start = System.nanoTime();
+            try {
+                return ((ModifiableSecurityRealm) delegate).getRealmIdentityForUpdate(principal);
+            } finally {
+                metrics.record(start);
+            }
+        }
+
+        @Override
+        public ModifiableRealmIdentityIterator getRealmIdentityIterator() throws RealmUnavailableException {
+            return ((ModifiableSecurityRealm) delegate).getRealmIdentityIterator();
+        }
+
+        @Override
+        public void registerIdentityChangeListener(Consumer<Principal> listener) {
+            cacheable.registerIdentityChangeListener(listener);
+        }
+    }
+}
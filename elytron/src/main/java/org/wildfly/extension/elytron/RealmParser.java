@@ -108,12 +108,31 @@ class RealmParser {
             .addAttribute(FileSystemRealmDefinition.KEY_STORE) //new
             .addAttribute(FileSystemRealmDefinition.KEY_STORE_ALIAS) //new
             .build();
+    private final PersistentResourceXMLDescription filesystemRealmParser_20 = builder(PathElement.pathElement(ElytronDescriptionConstants.FILESYSTEM_REALM))
+            .addAttributes(FileSystemRealmDefinition.PATH)
+            .addAttributes(FileSystemRealmDefinition.RELATIVE_TO)
+            .addAttributes(FileSystemRealmDefinition.LEVELS)
+            .addAttributes(FileSystemRealmDefinition.ENCODED)
+            .addAttributes(FileSystemRealmDefinition.HASH_ENCODING)
+            .addAttributes(FileSystemRealmDefinition.HASH_CHARSET)
+            .addAttributes(FileSystemRealmDefinition.CREDENTIAL_STORE)
+            .addAttributes(FileSystemRealmDefinition.SECRET_KEY)
+            .addAttribute(FileSystemRealmDefinition.KEY_STORE)
+            .addAttribute(FileSystemRealmDefinition.KEY_STORE_ALIAS)
+            .addAttribute(FileSystemRealmDefinition.IDENTITY_CACHE_MAXIMUM_ENTRIES) //new
+            .addAttribute(FileSystemRealmDefinition.IDENTITY_CACHE_MAXIMUM_AGE) //new
+            .build();
 
     private final PersistentResourceXMLDescription tokenRealmParser = builder(PathElement.pathElement(ElytronDescriptionConstants.TOKEN_REALM))
             .addAttributes(TokenRealmDefinition.ATTRIBUTES)
             .build();
     private final PersistentResourceXMLDescription cachingRealmParser = builder(PathElement.pathElement(ElytronDescriptionConstants.CACHING_REALM))
-            .addAttributes(CachingRealmDefinition.ATTRIBUTES)
+            .addAttributes(CachingRealmDefinition.REALM_NAME, CachingRealmDefinition.MAXIMUM_ENTRIES, CachingRealmDefinition.MAXIMUM_AGE)
+            .build();
+    private final PersistentResourceXMLDescription cachingRealmParser_20 = builder(PathElement.pathElement(ElytronDescriptionConstants.CACHING_REALM))
+            .addAttributes(CachingRealmDefinition.REALM_NAME, CachingRealmDefinition.MAXIMUM_ENTRIES, CachingRealmDefinition.MAXIMUM_AGE)
+            .addAttribute(CachingRealmDefinition.NEGATIVE_MAXIMUM_AGE) //new
+            .addAttribute(CachingRealmDefinition.REFRESH_AHEAD) //new
             .build();
     private final PersistentResourceXMLDescription distributedRealmParser = builder(PathElement.pathElement(ElytronDescriptionConstants.DISTRIBUTED_REALM))
             .addAttribute(DistributedRealmDefinition.REALMS, AttributeParser.STRING_LIST, AttributeMarshaller.STRING_LIST)
@@ -272,6 +291,23 @@ class RealmParser {
             .addChild(jaasRealmParser)
             .build();
 
+    final PersistentResourceXMLDescription realmParser_20 = decorator(ElytronDescriptionConstants.SECURITY_REALMS)
+            .addChild(aggregateRealmParser_8_0)
+            .addChild(customRealmParser)
+            .addChild(customModifiableRealmParser)
+            .addChild(identityRealmParser)
+            .addChild(jdbcRealmParser_14_0)
+            .addChild(keyStoreRealmParser)
+            .addChild(propertiesRealmParser_14_0)
+            .addChild(ldapRealmParser)
+            .addChild(filesystemRealmParser_20)
+            .addChild(tokenRealmParser)
+            .addChild(cachingRealmParser_20)
+            .addChild(distributedRealmParser_18)
+            .addChild(failoverRealmParser)
+            .addChild(jaasRealmParser)
+            .build();
+
     RealmParser() {
 
     }
@@ -57,6 +57,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -88,6 +89,7 @@ import org.jboss.as.controller.SimpleMapAttributeDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.descriptions.StandardResourceDescriptionResolver;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
@@ -109,6 +111,7 @@ import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceRegistry;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.value.InjectedValue;
+import org.wildfly.common.function.ExceptionRunnable;
 import org.wildfly.common.function.ExceptionSupplier;
 import org.wildfly.extension.elytron.TrivialResourceDefinition.Builder;
 import org.wildfly.extension.elytron.TrivialService.ValueSupplier;
@@ -289,6 +292,12 @@ class SSLDefinitions {
             .setRestartAllServices()
             .build();
 
+    static final SimpleAttributeDefinition HANDSHAKE_METRICS = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.HANDSHAKE_METRICS, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setRestartAllServices()
+            .build();
+
     static final SimpleAttributeDefinition KEY_MANAGER = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.KEY_MANAGER, ModelType.STRING, true)
             .setMinSize(1)
             .setCapabilityReference(KEY_MANAGER_CAPABILITY, SSL_CONTEXT_CAPABILITY)
@@ -404,6 +413,28 @@ class SSLDefinitions {
             .setStorageRuntime()
             .build();
 
+    private static final SimpleAttributeDefinition HANDSHAKES = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.HANDSHAKES, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    private static final SimpleAttributeDefinition RESUMED_HANDSHAKES = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.RESUMED_HANDSHAKES, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    private static final SimpleAttributeDefinition AVERAGE_HANDSHAKE_TIME = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.AVERAGE_HANDSHAKE_TIME, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+
+    private static final SimpleAttributeDefinition MAXIMUM_HANDSHAKE_TIME = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.MAXIMUM_HANDSHAKE_TIME, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .build();
+
     static class CipherSuiteFilterValidator extends ModelTypeValidator {
 
         CipherSuiteFilterValidator() {
@@ -527,66 +558,92 @@ class SSLDefinitions {
                         CredentialReference.getCredentialSourceSupplier(context, credentialReferenceDefinition, model, serviceBuilder);
 
                 DelegatingKeyManager delegatingKeyManager = new DelegatingKeyManager();
-                return () -> {
-                    Provider[] providers = providersInjector.getOptionalValue();
-                    KeyManagerFactory keyManagerFactory = null;
-                    if (providers != null) {
-                        for (Provider current : providers) {
-                            if (providerName == null || providerName.equals(current.getName())) {
-                                try {
-                                    // TODO - We could check the Services within each Provider to check there is one of the required type/algorithm
-                                    // However the same loop would need to remain as it is still possible a specific provider can't create it.
-                                    keyManagerFactory = KeyManagerFactory.getInstance(algorithm, current);
-                                    break;
-                                } catch (NoSuchAlgorithmException ignored) {
+                return new ValueSupplier<KeyManager>() {
+
+                    private volatile ExceptionRunnable<Exception> fileReloadListener;
+
+                    @Override
+                    public KeyManager get() throws StartException {
+                        Provider[] providers = providersInjector.getOptionalValue();
+                        KeyManagerFactory keyManagerFactory = null;
+                        if (providers != null) {
+                            for (Provider current : providers) {
+                                if (providerName == null || providerName.equals(current.getName())) {
+                                    try {
+                                        // TODO - We could check the Services within each Provider to check there is one of the required type/algorithm
+                                        // However the same loop would need to remain as it is still possible a specific provider can't create it.
+                                        keyManagerFactory = KeyManagerFactory.getInstance(algorithm, current);
+                                        break;
+                                    } catch (NoSuchAlgorithmException ignored) {
+                                    }
                                 }
                             }
+                            if (keyManagerFactory == null)
+                                throw ROOT_LOGGER.unableToCreateManagerFactory(KeyManagerFactory.class.getSimpleName(), algorithm);
+                        } else {
+                            try {
+                                keyManagerFactory = KeyManagerFactory.getInstance(algorithm);
+                            } catch (NoSuchAlgorithmException e) {
+                                throw new StartException(e);
+                            }
                         }
-                        if (keyManagerFactory == null)
-                            throw ROOT_LOGGER.unableToCreateManagerFactory(KeyManagerFactory.class.getSimpleName(), algorithm);
-                    } else {
+
+                        KeyStore keyStore = keyStoreInjector.getOptionalValue();
+                        char[] password;
                         try {
-                            keyManagerFactory = KeyManagerFactory.getInstance(algorithm);
-                        } catch (NoSuchAlgorithmException e) {
+                            CredentialSource cs = credentialSourceSupplier.get();
+                            if (cs != null) {
+                                password = cs.getCredential(PasswordCredential.class).getPassword(ClearPassword.class).getPassword();
+                            } else {
+                                throw new StartException(ROOT_LOGGER.keyStorePasswordCannotBeResolved(keyStoreName));
+                            }
+                            if (ROOT_LOGGER.isTraceEnabled()) {
+                                ROOT_LOGGER.tracef(
+                                        "KeyManager supplying:  providers = %s  provider = %s  algorithm = %s  keyManagerFactory = %s  " +
+                                                "keyStoreName = %s  aliasFilter = %s  keyStore = %s  keyStoreSize = %d  password (of item) = %b",
+                                        Arrays.toString(providers), providerName, algorithm, keyManagerFactory, keyStoreName, aliasFilter, keyStore, keyStore.size(), password != null
+                                );
+                            }
+                        } catch (StartException e) {
+                            throw e;
+                        } catch (Exception e) {
                             throw new StartException(e);
                         }
-                    }
 
-                    KeyStore keyStore = keyStoreInjector.getOptionalValue();
-                    char[] password;
-                    try {
-                        CredentialSource cs = credentialSourceSupplier.get();
-                        if (cs != null) {
-                            password = cs.getCredential(PasswordCredential.class).getPassword(ClearPassword.class).getPassword();
+                        if ((keyStoreService instanceof KeyStoreService) && ((KeyStoreService) keyStoreService).shouldAutoGenerateSelfSignedCertificate(generateSelfSignedCertificateHost)) {
+                            ROOT_LOGGER.selfSignedCertificateWillBeCreated(((KeyStoreService) keyStoreService).getResolvedAbsolutePath(), generateSelfSignedCertificateHost);
+                            LazyDelegatingKeyManager lazyKeyManager = new LazyDelegatingKeyManager(keyStoreService, password, keyManagerFactory,
+                                    generateSelfSignedCertificateHost, aliasFilter);
+                            final KeyManagerFactory factory = keyManagerFactory;
+                            fileReloadListener = () -> lazyKeyManager.reload(KeyManagerFactory.getInstance(factory.getAlgorithm(), factory.getProvider()));
+                            ((KeyStoreService) keyStoreService).addFileReloadListener(fileReloadListener);
+                            return lazyKeyManager;
                         } else {
-                            throw new StartException(ROOT_LOGGER.keyStorePasswordCannotBeResolved(keyStoreName));
-                        }
-                        if (ROOT_LOGGER.isTraceEnabled()) {
-                            ROOT_LOGGER.tracef(
-                                    "KeyManager supplying:  providers = %s  provider = %s  algorithm = %s  keyManagerFactory = %s  " +
-                                            "keyStoreName = %s  aliasFilter = %s  keyStore = %s  keyStoreSize = %d  password (of item) = %b",
-                                    Arrays.toString(providers), providerName, algorithm, keyManagerFactory, keyStoreName, aliasFilter, keyStore, keyStore.size(), password != null
-                            );
+                            try {
+                                if (initKeyManagerFactory(keyStore, delegatingKeyManager, aliasFilter, password, keyManagerFactory)) {
+                                    if (keyStoreService instanceof KeyStoreService) {
+                                        // Swaps the key manager delegated to when the key store is reloaded following a
+                                        // change of its file, the handshakes in progress completing with the previous one
+                                        final KeyManagerFactory factory = keyManagerFactory;
+                                        fileReloadListener = () -> initKeyManagerFactory(keyStore, delegatingKeyManager, aliasFilter, password,
+                                                KeyManagerFactory.getInstance(factory.getAlgorithm(), factory.getProvider()));
+                                        ((KeyStoreService) keyStoreService).addFileReloadListener(fileReloadListener);
+                                    }
+                                    return delegatingKeyManager;
+                                }
+                            } catch (Exception e) {
+                                throw new StartException(e);
+                            }
+                            throw ROOT_LOGGER.noTypeFound(X509ExtendedKeyManager.class.getSimpleName());
                         }
-                    } catch (StartException e) {
-                        throw e;
-                    } catch (Exception e) {
-                        throw new StartException(e);
                     }
 
-                    if ((keyStoreService instanceof KeyStoreService) && ((KeyStoreService) keyStoreService).shouldAutoGenerateSelfSignedCertificate(generateSelfSignedCertificateHost)) {
-                        ROOT_LOGGER.selfSignedCertificateWillBeCreated(((KeyStoreService) keyStoreService).getResolvedAbsolutePath(), generateSelfSignedCertificateHost);
-                        return new LazyDelegatingKeyManager(keyStoreService, password, keyManagerFactory,
-                                generateSelfSignedCertificateHost, aliasFilter);
-                    } else {
-                        try {
-                            if (initKeyManagerFactory(keyStore, delegatingKeyManager, aliasFilter, password, keyManagerFactory)) {
-                                return delegatingKeyManager;
-                            }
-                        } catch (Exception e) {
-                            throw new StartException(e);
+                    @Override
+                    public void dispose() {
+                        if (fileReloadListener != null) {
+                            ((KeyStoreService) keyStoreService).removeFileReloadListener(fileReloadListener);
+                            fileReloadListener = null;
                         }
-                        throw ROOT_LOGGER.noTypeFound(X509ExtendedKeyManager.class.getSimpleName());
                     }
                 };
             }
@@ -1074,6 +1131,16 @@ class SSLDefinitions {
             }
         }
 
+        /**
+         * Swaps the key manager delegated to once the KeyStore has been reloaded from its file. Until the first use
+         * initialises the key manager, there is nothing to swap as the reloaded KeyStore is used by the initialisation.
+         */
+        private void reload(KeyManagerFactory keyManagerFactory) throws Exception {
+            if (init) {
+                initKeyManagerFactory(keyStoreService.getValue(), this, aliasFilter, password, keyManagerFactory);
+            }
+        }
+
         @Override
         public String[] getClientAliases(String s, Principal[] principals) {
             doInit();
@@ -1222,6 +1289,12 @@ class SSLDefinitions {
                     return server ? SERVER_SERVICE_UTIL : CLIENT_SERVICE_UTIL;
                 }
             }).addChild(new SSLSessionDefinition(server));
+            if (server) {
+                builder.addMetric(HANDSHAKES, new HandshakeMetricsHandler(MeasuredSSLContext.HandshakeMetrics::getHandshakes))
+                        .addMetric(RESUMED_HANDSHAKES, new HandshakeMetricsHandler(MeasuredSSLContext.HandshakeMetrics::getResumedHandshakes))
+                        .addMetric(AVERAGE_HANDSHAKE_TIME, new HandshakeMetricsHandler(MeasuredSSLContext.HandshakeMetrics::getAverageTime))
+                        .addMetric(MAXIMUM_HANDSHAKE_TIME, new HandshakeMetricsHandler(MeasuredSSLContext.HandshakeMetrics::getMaximumTime));
+            }
         }
 
         return builder.build();
@@ -1258,7 +1331,7 @@ class SSLDefinitions {
                 SECURITY_DOMAIN, WANT_CLIENT_AUTH, NEED_CLIENT_AUTH, AUTHENTICATION_OPTIONAL,
                 USE_CIPHER_SUITES_ORDER, MAXIMUM_SESSION_CACHE_SIZE, SESSION_TIMEOUT, WRAP, keyManagerDefinition, TRUST_MANAGER,
                 PRE_REALM_PRINCIPAL_TRANSFORMER, POST_REALM_PRINCIPAL_TRANSFORMER, FINAL_PRINCIPAL_TRANSFORMER, REALM_MAPPER,
-                providersDefinition, PROVIDER_NAME};
+                providersDefinition, PROVIDER_NAME, HANDSHAKE_METRICS};
 
         AbstractAddStepHandler add = new TrivialAddHandler<SSLContext>(SSLContext.class, ServiceController.Mode.ACTIVE, ServiceController.Mode.PASSIVE, SSL_CONTEXT_RUNTIME_CAPABILITY) {
 
@@ -1286,6 +1359,7 @@ class SSLDefinitions {
                 final int maximumSessionCacheSize = MAXIMUM_SESSION_CACHE_SIZE.resolveModelAttribute(context, model).asInt();
                 final int sessionTimeout = SESSION_TIMEOUT.resolveModelAttribute(context, model).asInt();
                 final boolean wrap = WRAP.resolveModelAttribute(context, model).asBoolean();
+                final boolean handshakeMetrics = HANDSHAKE_METRICS.resolveModelAttribute(context, model).asBoolean();
 
                 return () -> {
                     SecurityDomain securityDomain = securityDomainInjector.getOptionalValue();
@@ -1347,7 +1421,8 @@ class SSLDefinitions {
                     }
 
                     try {
-                        return builder.build().create();
+                        SSLContext sslContext = builder.build().create();
+                        return handshakeMetrics ? MeasuredSSLContext.measure(sslContext) : sslContext;
                     } catch (GeneralSecurityException e) {
                         throw new StartException(e);
                     }
@@ -1593,6 +1668,28 @@ class SSLDefinitions {
         protected abstract ServiceUtil<SSLContext> getSSLContextServiceUtil();
     }
 
+    private static class HandshakeMetricsHandler extends SSLContextRuntimeHandler {
+
+        private final Function<MeasuredSSLContext.HandshakeMetrics, Long> metric;
+
+        HandshakeMetricsHandler(Function<MeasuredSSLContext.HandshakeMetrics, Long> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void performRuntime(ModelNode result, ModelNode operation, SSLContext sslContext) throws OperationFailedException {
+            // Undefined if the handshakes of the context are not measured
+            if (sslContext instanceof MeasuredSSLContext) {
+                result.set(metric.apply(((MeasuredSSLContext) sslContext).getMetrics()));
+            }
+        }
+
+        @Override
+        protected ServiceUtil<SSLContext> getSSLContextServiceUtil() {
+            return SERVER_SERVICE_UTIL;
+        }
+    }
+
     private static BooleanSupplier getFipsSupplier() {
         try {
             final Class<?> providerClazz = SSLDefinitions.class.getClassLoader().loadClass("com.sun.net.ssl.internal.ssl.Provider");
@@ -85,6 +85,18 @@ class TlsParser {
             .addAttribute(FileAttributeDefinitions.RELATIVE_TO)
             ;
 
+    private PersistentResourceXMLBuilder keyStoreParser_20_0 = PersistentResourceXMLDescription.builder(PathElement.pathElement(KEY_STORE))
+            .addAttribute(KeyStoreDefinition.TYPE)
+            .addAttribute(KeyStoreDefinition.PROVIDER_NAME)
+            .addAttribute(KeyStoreDefinition.PROVIDERS)
+            .addAttribute(KeyStoreDefinition.CREDENTIAL_REFERENCE)
+            .addAttribute(KeyStoreDefinition.ALIAS_FILTER)
+            .addAttribute(KeyStoreDefinition.REQUIRED)
+            .addAttribute(FileAttributeDefinitions.PATH)
+            .addAttribute(FileAttributeDefinitions.RELATIVE_TO)
+            .addAttribute(KeyStoreDefinition.WATCH_INTERVAL) // new
+            ;
+
     private PersistentResourceXMLBuilder ldapKeyStoreParser = PersistentResourceXMLDescription.builder(PathElement.pathElement(LDAP_KEY_STORE))
             .addAttribute(LdapKeyStoreDefinition.DIR_CONTEXT)
             .addAttribute(LdapKeyStoreDefinition.SEARCH_PATH)
@@ -180,6 +192,30 @@ class TlsParser {
             .addAttribute(SSLDefinitions.FINAL_PRINCIPAL_TRANSFORMER)
             .addAttribute(SSLDefinitions.REALM_MAPPER);
 
+    private PersistentResourceXMLBuilder serverSslContextParser_20_0 = PersistentResourceXMLDescription.builder(PathElement.pathElement(SERVER_SSL_CONTEXT))
+            .setXmlWrapperElement(SERVER_SSL_CONTEXTS)
+            .setMarshallDefaultValues(true)
+            .addAttribute(SSLDefinitions.SECURITY_DOMAIN)
+            .addAttribute(SSLDefinitions.CIPHER_SUITE_FILTER)
+            .addAttribute(SSLDefinitions.CIPHER_SUITE_NAMES)
+            .addAttribute(SSLDefinitions.PROTOCOLS)
+            .addAttribute(SSLDefinitions.WANT_CLIENT_AUTH)
+            .addAttribute(SSLDefinitions.NEED_CLIENT_AUTH)
+            .addAttribute(SSLDefinitions.AUTHENTICATION_OPTIONAL)
+            .addAttribute(SSLDefinitions.USE_CIPHER_SUITES_ORDER)
+            .addAttribute(SSLDefinitions.MAXIMUM_SESSION_CACHE_SIZE)
+            .addAttribute(SSLDefinitions.SESSION_TIMEOUT)
+            .addAttribute(SSLDefinitions.WRAP)
+            .addAttribute(SSLDefinitions.KEY_MANAGER)
+            .addAttribute(SSLDefinitions.TRUST_MANAGER)
+            .addAttribute(SSLDefinitions.PROVIDERS)
+            .addAttribute(SSLDefinitions.PROVIDER_NAME)
+            .addAttribute(SSLDefinitions.PRE_REALM_PRINCIPAL_TRANSFORMER)
+            .addAttribute(SSLDefinitions.POST_REALM_PRINCIPAL_TRANSFORMER)
+            .addAttribute(SSLDefinitions.FINAL_PRINCIPAL_TRANSFORMER)
+            .addAttribute(SSLDefinitions.REALM_MAPPER)
+            .addAttribute(SSLDefinitions.HANDSHAKE_METRICS); // new
+
     private PersistentResourceXMLBuilder clientSslContextParser = PersistentResourceXMLDescription.builder(PathElement.pathElement(CLIENT_SSL_CONTEXT))
             .setXmlWrapperElement(CLIENT_SSL_CONTEXTS)
             .addAttribute(SSLDefinitions.SECURITY_DOMAIN)
@@ -387,4 +423,20 @@ class TlsParser {
             .addChild(serverSslSniContextParser)
             .addChild(dynamicClientSslContextParser) // new in DEFAULT
             .build();
+
+    final PersistentResourceXMLDescription tlsParser_20_0 = decorator(TLS)
+            .addChild(decorator(KEY_STORES)
+                    .addChild(keyStoreParser_20_0)
+                    .addChild(ldapKeyStoreParser)
+                    .addChild(filteringKeyStoreParser)
+            )
+            .addChild(keyManagerParser_12_0)
+            .addChild(trustManagerParser_14_0)
+            .addChild(serverSslContextParser_20_0)
+            .addChild(clientSslContextParser_9_0)
+            .addChild(certificateAuthorityParser)
+            .addChild(certificateAuthorityAccountParser)
+            .addChild(serverSslSniContextParser)
+            .addChild(dynamicClientSslContextParser)
+            .build();
 }
@@ -36,6 +36,7 @@ final class TrivialResourceDefinition extends SimpleResourceDefinition {
     private final AttributeDefinition[] attributes;
     private final Map<OperationDefinition, OperationStepHandler> operations;
     private final Map<AttributeDefinition, OperationStepHandler> readOnlyAttributes;
+    private final Map<AttributeDefinition, OperationStepHandler> metrics;
     private final List<ResourceDefinition> children;
     private final String dependencyPackageName;
 
@@ -50,12 +51,12 @@ final class TrivialResourceDefinition extends SimpleResourceDefinition {
     private TrivialResourceDefinition(String pathKey, ResourceDescriptionResolver resourceDescriptionResolver, AbstractAddStepHandler add, AbstractRemoveStepHandler remove, AttributeDefinition[] attributes,
                                       Map<AttributeDefinition, OperationStepHandler> readOnlyAttributes, Map<OperationDefinition, OperationStepHandler> operations, List<ResourceDefinition> children,
                                       RuntimeCapability<?>[] runtimeCapabilities, Stability stability) {
-        this(pathKey, resourceDescriptionResolver, add, remove, attributes, readOnlyAttributes, operations, children, runtimeCapabilities, stability, null);
+        this(pathKey, resourceDescriptionResolver, add, remove, attributes, readOnlyAttributes, null, operations, children, runtimeCapabilities, stability, null);
     }
 
     private TrivialResourceDefinition(String pathKey, ResourceDescriptionResolver resourceDescriptionResolver, AbstractAddStepHandler add, AbstractRemoveStepHandler remove, AttributeDefinition[] attributes,
-            Map<AttributeDefinition, OperationStepHandler> readOnlyAttributes, Map<OperationDefinition, OperationStepHandler> operations, List<ResourceDefinition> children,
-            RuntimeCapability<?>[] runtimeCapabilities, Stability stability, String dependencyPackageName) {
+            Map<AttributeDefinition, OperationStepHandler> readOnlyAttributes, Map<AttributeDefinition, OperationStepHandler> metrics, Map<OperationDefinition, OperationStepHandler> operations,
+            List<ResourceDefinition> children, RuntimeCapability<?>[] runtimeCapabilities, Stability stability, String dependencyPackageName) {
         super(new Parameters(ResourceRegistration.of(PathElement.pathElement(pathKey), stability),
                 resourceDescriptionResolver)
             .setAddHandler(add)
@@ -66,6 +67,7 @@ final class TrivialResourceDefinition extends SimpleResourceDefinition {
 
         this.attributes = attributes;
         this.readOnlyAttributes = readOnlyAttributes;
+        this.metrics = metrics;
         this.operations = operations;
         this.children = children;
         this.dependencyPackageName = dependencyPackageName;
@@ -84,6 +86,12 @@ final class TrivialResourceDefinition extends SimpleResourceDefinition {
                  resourceRegistration.registerReadOnlyAttribute(entry.getKey(), entry.getValue());
              }
          }
+
+         if (metrics != null) {
+             for (Entry<AttributeDefinition, OperationStepHandler> entry : metrics.entrySet()) {
+                 resourceRegistration.registerMetric(entry.getKey(), entry.getValue());
+             }
+         }
     }
 
     @Override
@@ -129,6 +137,7 @@ final class TrivialResourceDefinition extends SimpleResourceDefinition {
         private AbstractRemoveStepHandler removeHandler;
         private AttributeDefinition[] attributes;
         private Map<AttributeDefinition, OperationStepHandler> readOnlyAttributes;
+        private Map<AttributeDefinition, OperationStepHandler> metrics;
         private Map<OperationDefinition, OperationStepHandler> operations;
         private RuntimeCapability<?>[] runtimeCapabilities;
         private List<ResourceDefinition> children;
@@ -176,6 +185,15 @@ final class TrivialResourceDefinition extends SimpleResourceDefinition {
             return this;
         }
 
+        Builder addMetric(AttributeDefinition metric, OperationStepHandler handler) {
+            if (metrics == null) {
+                metrics = new HashMap<>();
+            }
+            metrics.put(metric, handler);
+
+            return this;
+        }
+
         Builder addOperation(OperationDefinition operation, OperationStepHandler handler) {
             if (operations == null) {
                 operations = new HashMap<>();
@@ -215,7 +233,7 @@ final class TrivialResourceDefinition extends SimpleResourceDefinition {
             ResourceDescriptionResolver resourceDescriptionResolver = this.resourceDescriptionResolver != null ? this.resourceDescriptionResolver : ElytronExtension.getResourceDescriptionResolver(pathKey);
             return new TrivialResourceDefinition(pathKey, resourceDescriptionResolver, addHandler,
                     removeHandler != null ? removeHandler : new TrivialCapabilityServiceRemoveHandler(addHandler, runtimeCapabilities),
-                    attributes, readOnlyAttributes, operations, children, runtimeCapabilities, stability, dependencyPackageName);
+                    attributes, readOnlyAttributes, metrics, operations, children, runtimeCapabilities, stability, dependencyPackageName);
         }
 
     }
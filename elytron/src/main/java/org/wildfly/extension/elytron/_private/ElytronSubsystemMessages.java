@@ -746,6 +746,17 @@ public interface ElytronSubsystemMessages extends BasicLogger {
 
     // Message ID 1221 Mistakenly used for DynamicSSLContext - Moved above.
 
+    @Message(id = 1222, value = "The metrics of the realm '%s' are not available.")
+    OperationFailedException realmMetricsNotAvailable(String realmName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 1223, value = "Unable to reload the KeyStore from the changed file '%s', the KeyStore previously loaded remains in use.")
+    void unableToReloadChangedKeyStore(String file, @Cause Exception cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 1224, value = "Unable to update a user of the KeyStore reloaded from the changed file '%s'.")
+    void unableToApplyReloadedKeyStore(String file, @Cause Exception cause);
+
 
     /*
      * Don't just add new errors to the end of the file, there may be an appropriate section above for the resource.
@@ -0,0 +1,197 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.security.Principal;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+import org.wildfly.extension.elytron.AdaptiveRealmIdentityCache.NegativeCachingSecurityRealm;
+import org.wildfly.security.auth.SupportLevel;
+import org.wildfly.security.auth.principal.NamePrincipal;
+import org.wildfly.security.auth.realm.CacheableSecurityRealm;
+import org.wildfly.security.auth.realm.CachingSecurityRealm;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.authz.AuthorizationIdentity;
+import org.wildfly.security.credential.Credential;
+import org.wildfly.security.credential.PasswordCredential;
+import org.wildfly.security.evidence.Evidence;
+import org.wildfly.security.password.interfaces.ClearPassword;
+
+/**
+ * Tests of the {@link AdaptiveRealmIdentityCache} of a caching realm.
+ */
+public class AdaptiveRealmIdentityCacheTestCase {
+
+    private static final Principal EXISTING = new NamePrincipal("existing");
+    private static final Principal MISSING = new NamePrincipal("missing");
+
+    private final TestRealm cachedRealm = new TestRealm();
+
+    /**
+     * Decorates the cached realm as the caching-realm resource does.
+     */
+    private CachingSecurityRealm cachingRealm(AdaptiveRealmIdentityCache cache) {
+        CachingSecurityRealm cachingRealm = new CachingSecurityRealm(new NegativeCachingSecurityRealm(cachedRealm, cachedRealm, cache), cache);
+        cache.setRealm(cachingRealm);
+        return cachingRealm;
+    }
+
+    @Test
+    public void testNegativeCaching() throws Exception {
+        AdaptiveRealmIdentityCache cache = new AdaptiveRealmIdentityCache(16, -1, 200, 0, null);
+        CachingSecurityRealm realm = cachingRealm(cache);
+
+        assertFalse(realm.getRealmIdentity(MISSING).exists());
+        assertFalse(realm.getRealmIdentity(MISSING).exists());
+        assertEquals(1, cachedRealm.lookups(MISSING));
+        assertEquals(1, cache.getNegativeHits());
+
+        // The principal without identity expires from the cache
+        Thread.sleep(300);
+        assertFalse(realm.getRealmIdentity(MISSING).exists());
+        assertEquals(2, cachedRealm.lookups(MISSING));
+        assertEquals(1, cache.getNegativeHits());
+
+        // The identity created since is found
+        cachedRealm.passwords.put(MISSING.getName(), "password");
+        cache.remove(MISSING);
+        assertTrue(realm.getRealmIdentity(MISSING).exists());
+        assertEquals(3, cachedRealm.lookups(MISSING));
+    }
+
+    @Test
+    public void testNegativeCachingDisabled() throws Exception {
+        AdaptiveRealmIdentityCache cache = new AdaptiveRealmIdentityCache(16, -1, 0, 0, null);
+        CachingSecurityRealm realm = cachingRealm(cache);
+
+        assertFalse(realm.getRealmIdentity(MISSING).exists());
+        assertFalse(realm.getRealmIdentity(MISSING).exists());
+        assertEquals(2, cachedRealm.lookups(MISSING));
+        assertEquals(0, cache.getNegativeHits());
+    }
+
+    @Test
+    public void testRefreshAhead() throws Exception {
+        cachedRealm.passwords.put(EXISTING.getName(), "password");
+        // Reloads the identities found in the cache after 100ms, synchronously
+        Executor executor = Runnable::run;
+        AdaptiveRealmIdentityCache cache = new AdaptiveRealmIdentityCache(16, 1000, 0, 10, executor);
+        CachingSecurityRealm realm = cachingRealm(cache);
+
+        RealmIdentity loaded = realm.getRealmIdentity(EXISTING);
+        assertSame(loaded, realm.getRealmIdentity(EXISTING));
+        assertEquals(1, cachedRealm.lookups(EXISTING));
+        assertEquals(1, cache.getHits());
+
+        Thread.sleep(150);
+        // The cached identity is returned, and replaced by the reloaded one
+        assertSame(loaded, realm.getRealmIdentity(EXISTING));
+        assertEquals(2, cachedRealm.lookups(EXISTING));
+        // The reloaded identity is loaded in advance of its first use
+        assertEquals(1, cachedRealm.loads.get());
+        RealmIdentity reloaded = realm.getRealmIdentity(EXISTING);
+        assertNotSame(loaded, reloaded);
+        assertEquals(2, cachedRealm.lookups(EXISTING));
+        assertEquals(3, cache.getHits());
+        assertTrue(reloaded.getCredential(PasswordCredential.class).getPassword(ClearPassword.class).getPassword().length > 0);
+        assertEquals(1, cachedRealm.loads.get());
+
+        // The reload removes the identities which no longer exist
+        cachedRealm.passwords.remove(EXISTING.getName());
+        Thread.sleep(150);
+        assertSame(reloaded, realm.getRealmIdentity(EXISTING));
+        assertEquals(3, cachedRealm.lookups(EXISTING));
+        assertFalse(realm.getRealmIdentity(EXISTING).exists());
+        assertEquals(4, cachedRealm.lookups(EXISTING));
+    }
+
+    /**
+     * A cacheable realm of clear passwords counting the lookups of the identities, and the loads of their credentials.
+     */
+    private static class TestRealm implements CacheableSecurityRealm {
+
+        final Map<String, String> passwords = new ConcurrentHashMap<>();
+        final Map<Principal, AtomicInteger> lookups = new ConcurrentHashMap<>();
+        final AtomicInteger loads = new AtomicInteger();
+
+        int lookups(Principal principal) {
+            return lookups.getOrDefault(principal, new AtomicInteger()).get();
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Principal principal) {
+            lookups.computeIfAbsent(principal, p -> new AtomicInteger()).incrementAndGet();
+            String password = passwords.get(principal.getName());
+            if (password == null) {
+                return RealmIdentity.NON_EXISTENT;
+            }
+            return new RealmIdentity() {
+
+                @Override
+                public Principal getRealmIdentityPrincipal() {
+                    return principal;
+                }
+
+                @Override
+                public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec) {
+                    return PasswordCredential.class.isAssignableFrom(credentialType) ? SupportLevel.SUPPORTED : SupportLevel.UNSUPPORTED;
+                }
+
+                @Override
+                public <C extends Credential> C getCredential(Class<C> credentialType) {
+                    loads.incrementAndGet();
+                    return credentialType.isAssignableFrom(PasswordCredential.class) ?
+                            credentialType.cast(new PasswordCredential(ClearPassword.createRaw(ClearPassword.ALGORITHM_CLEAR, password.toCharArray()))) : null;
+                }
+
+                @Override
+                public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) {
+                    return SupportLevel.UNSUPPORTED;
+                }
+
+                @Override
+                public boolean verifyEvidence(Evidence evidence) {
+                    return false;
+                }
+
+                @Override
+                public AuthorizationIdentity getAuthorizationIdentity() {
+                    return AuthorizationIdentity.EMPTY;
+                }
+
+                @Override
+                public boolean exists() {
+                    return true;
+                }
+            };
+        }
+
+        @Override
+        public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec) {
+            return SupportLevel.POSSIBLY_SUPPORTED;
+        }
+
+        @Override
+        public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) {
+            return SupportLevel.UNSUPPORTED;
+        }
+
+        @Override
+        public void registerIdentityChangeListener(Consumer<Principal> listener) {
+        }
+    }
+}
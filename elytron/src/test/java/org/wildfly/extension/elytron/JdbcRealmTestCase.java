@@ -0,0 +1,121 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.jboss.as.controller.capability.registry.RuntimeCapabilityRegistry;
+import org.jboss.as.controller.client.helpers.ClientConstants;
+import org.jboss.as.controller.extension.ExtensionRegistry;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.Service;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceTarget;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.extension.elytron.MeasuredDataSourceTestCase.TestDataSource;
+import org.wildfly.security.auth.principal.NamePrincipal;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.SecurityRealm;
+
+/**
+ * Tests of the jdbc-realm resource, against a data source returning a row for any query.
+ */
+public class JdbcRealmTestCase extends AbstractElytronSubsystemBaseTest {
+
+    private static final String DATA_SOURCE = "TestDS";
+
+    private final TestDataSource testDataSource = new TestDataSource();
+
+    public JdbcRealmTestCase() {
+        super(ElytronExtension.SUBSYSTEM_NAME, new ElytronExtension());
+    }
+
+    @Override
+    protected String getSubsystemXml() throws IOException {
+        return readResource("jdbc-realm-test.xml");
+    }
+
+    @Override
+    protected AdditionalInitialization createAdditionalInitialization() {
+        return new TestEnvironment() {
+
+            @Override
+            protected void initializeExtraSubystemsAndModel(ExtensionRegistry extensionRegistry, Resource rootResource,
+                    ManagementResourceRegistration rootRegistration, RuntimeCapabilityRegistry capabilityRegistry) {
+                super.initializeExtraSubystemsAndModel(extensionRegistry, rootResource, rootRegistration, capabilityRegistry);
+                registerServiceCapability(capabilityRegistry, Capabilities.DATA_SOURCE_CAPABILITY_NAME + "." + DATA_SOURCE, DataSource.class);
+            }
+
+            @Override
+            protected void addExtraServices(ServiceTarget target) {
+                super.addExtraServices(target);
+                ServiceBuilder<?> serviceBuilder = target.addService();
+                serviceBuilder.setInstance(Service.newInstance(serviceBuilder.provides(ServiceName.parse(Capabilities.DATA_SOURCE_CAPABILITY_NAME + "." + DATA_SOURCE)),
+                        testDataSource.dataSource()));
+                serviceBuilder.install();
+            }
+        };
+    }
+
+    @Test
+    public void testPrincipalQueryMetrics() throws Exception {
+        KernelServices services = createKernelServicesBuilder(createAdditionalInitialization()).setSubsystemXml(getSubsystemXml()).build();
+        if (!services.isSuccessfulBoot()) {
+            if (services.getBootError() != null) {
+                Assert.fail(services.getBootError().toString());
+            }
+            Assert.fail("Failed to boot, no reason provided");
+        }
+
+        List<ModelNode> metrics = readPrincipalQueryMetrics(services);
+        assertEquals(2, metrics.size());
+        assertEquals("SELECT role FROM roles WHERE name = ?", metrics.get(0).get(ElytronDescriptionConstants.SQL).asString());
+        assertEquals("SELECT email FROM users WHERE name = ?", metrics.get(1).get(ElytronDescriptionConstants.SQL).asString());
+        for (ModelNode metric : metrics) {
+            assertEquals(0, metric.get(ElytronDescriptionConstants.EXECUTIONS).asLong());
+        }
+
+        SecurityRealm securityRealm = (SecurityRealm) services.getContainer()
+                .getService(Capabilities.SECURITY_REALM_RUNTIME_CAPABILITY.getCapabilityServiceName("JdbcRealm")).getValue();
+        for (int i = 0; i < 2; i++) {
+            RealmIdentity identity = securityRealm.getRealmIdentity(new NamePrincipal("user"));
+            assertEquals(TestDataSource.VALUE, identity.getAuthorizationIdentity().getAttributes().getFirst("role"));
+            identity.dispose();
+        }
+
+        // Each identity lookup executes each principal query once
+        metrics = readPrincipalQueryMetrics(services);
+        for (ModelNode metric : metrics) {
+            assertEquals(metric.toString(), 2, metric.get(ElytronDescriptionConstants.EXECUTIONS).asLong());
+            assertTrue(metric.toString(), metric.get(ElytronDescriptionConstants.MAXIMUM_EXECUTION_TIME).asLong()
+                    >= metric.get(ElytronDescriptionConstants.AVERAGE_EXECUTION_TIME).asLong());
+        }
+        assertEquals(4, testDataSource.executions.get());
+        assertEquals(4, testDataSource.closes.get());
+    }
+
+    private static List<ModelNode> readPrincipalQueryMetrics(KernelServices services) {
+        ModelNode operation = new ModelNode();
+        operation.get(ClientConstants.OP_ADDR).add("subsystem", "elytron").add(ElytronDescriptionConstants.JDBC_REALM, "JdbcRealm");
+        operation.get(ClientConstants.OP).set(ClientConstants.READ_ATTRIBUTE_OPERATION);
+        operation.get(ClientConstants.NAME).set(ElytronDescriptionConstants.PRINCIPAL_QUERY_METRICS);
+        ModelNode response = services.executeOperation(operation);
+        assertEquals(response.toString(), ClientConstants.SUCCESS, response.get(OUTCOME).asString());
+        return response.get(ClientConstants.RESULT).asList();
+    }
+}
@@ -12,9 +12,11 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.math.BigInteger;
@@ -22,6 +24,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.security.AccessController;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
@@ -45,6 +48,7 @@ import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 
+import javax.net.ssl.X509ExtendedKeyManager;
 import javax.security.auth.x500.X500Principal;
 
 import org.jboss.as.controller.PathAddress;
@@ -78,6 +82,7 @@ public class KeyStoresTestCase extends AbstractSubsystemTest {
     private static CredentialStoreUtility csUtil = null;
     private static final String CS_PASSWORD = "super_secret";
     private static final String KEYSTORE_NAME = "ModifiedKeystore";
+    private static final String WATCHED_KEYSTORE_NAME = "WatchedKeystore";
     private static final String KEY_PASSWORD = "secret";
     private static final String CERTIFICATE_AUTHORITY_ACCOUNT_NAME = "CertAuthorityAccount";
     private static final String CERTIFICATE_AUTHORITY_NAME = "CertAuthority";
@@ -97,6 +102,7 @@ public class KeyStoresTestCase extends AbstractSubsystemTest {
     private static final X500Principal INTERMEDIATE_DN = new X500Principal("O=Intermediate Certificate Authority, EMAILADDRESS=intermediateca@wildfly.org, C=UK, ST=Elytron, CN=Intermediate Elytron CA");
     private static final File FIREFLY_FILE = new File(WORKING_DIRECTORY_LOCATION, "firefly.keystore");
     private static final File FIREFLY_COPY_FILE = new File(WORKING_DIRECTORY_LOCATION, "firefly-copy.keystore");
+    private static final File WATCHED_FILE = new File(WORKING_DIRECTORY_LOCATION, "watched.keystore");
     private static final File TEST_FILE = new File(WORKING_DIRECTORY_LOCATION, "test.keystore");
     private static final File TEST_SINGLE_CERT_REPLY_FILE = new File(WORKING_DIRECTORY_LOCATION, "test-single-cert-reply.cert");
     private static final File TEST_CERT_CHAIN_REPLY_FILE = new File(WORKING_DIRECTORY_LOCATION, "test-cert-chain-reply.cert");
@@ -293,6 +299,7 @@ public class KeyStoresTestCase extends AbstractSubsystemTest {
         File[] testFiles = {
                 FIREFLY_FILE,
                 FIREFLY_COPY_FILE,
+                WATCHED_FILE,
                 TEST_FILE,
                 TEST_SINGLE_CERT_REPLY_FILE,
                 TEST_CERT_CHAIN_REPLY_FILE,
@@ -472,6 +479,157 @@ public class KeyStoresTestCase extends AbstractSubsystemTest {
         checkCertificate(services.executeOperation(operation).get(ClientConstants.RESULT), false);
     }
 
+    @Test
+    public void testKeystoreFileWatch() throws Exception {
+        createTemporaryKeyStoreFile(createFireflyKeyStore(), WATCHED_FILE);
+        final long lastModified = WATCHED_FILE.lastModified() - 10000;
+        addWatchedKeyStore(50);
+        X509ExtendedKeyManager keyManager = addWatchedKeyManager(null);
+        X509Certificate loaded = keyManager.getCertificateChain("firefly")[0];
+        assertEquals(0, readFileReloads());
+
+        // A file which cannot be loaded, e.g. as it is being written, leaves the key store and the key manager unchanged
+        KeyStore replacement = createFireflyKeyStore();
+        ByteArrayOutputStream replacementBytes = new ByteArrayOutputStream();
+        replacement.store(replacementBytes, KEYSTORE_PASSWORD);
+        replaceWatchedFile(new byte[replacementBytes.size()], lastModified);
+        Thread.sleep(300);
+        assertEquals(0, readFileReloads());
+        assertEquals(loaded, keyManager.getCertificateChain("firefly")[0]);
+        assertEquals(loaded, getKeyStore(WATCHED_KEYSTORE_NAME).getCertificate("firefly"));
+
+        // The file is loaded once complete, even if the modification time and the length did not change since the
+        // failed load, and the key manager swaps the key it delegates to
+        replaceWatchedFile(replacementBytes.toByteArray(), lastModified);
+        awaitFileReloads(1);
+        X509Certificate reloaded = (X509Certificate) replacement.getCertificate("firefly");
+        assertEquals(reloaded, getKeyStore(WATCHED_KEYSTORE_NAME).getCertificate("firefly"));
+        assertEquals(reloaded, keyManager.getCertificateChain("firefly")[0]);
+
+        removeWatchedKeyManager();
+
+        // The removed key manager is no longer updated by the reloads of the key store
+        final long fileReloads = readFileReloads();
+        replacementBytes.reset();
+        createFireflyKeyStore().store(replacementBytes, KEYSTORE_PASSWORD);
+        replaceWatchedFile(replacementBytes.toByteArray(), lastModified + 1000);
+        awaitFileReloads(fileReloads + 1);
+        assertEquals(reloaded, keyManager.getCertificateChain("firefly")[0]);
+        assertFalse(reloaded.equals(getKeyStore(WATCHED_KEYSTORE_NAME).getCertificate("firefly")));
+
+        removeKeyStore(WATCHED_KEYSTORE_NAME);
+    }
+
+    @Test
+    public void testKeystoreLoadUpdatesKeyManager() throws Exception {
+        createTemporaryKeyStoreFile(createFireflyKeyStore(), WATCHED_FILE);
+        addWatchedKeyStore(0);
+        X509ExtendedKeyManager keyManager = addWatchedKeyManager(null);
+        X509Certificate loaded = keyManager.getCertificateChain("firefly")[0];
+
+        KeyStore replacement = createFireflyKeyStore();
+        ByteArrayOutputStream replacementBytes = new ByteArrayOutputStream();
+        replacement.store(replacementBytes, KEYSTORE_PASSWORD);
+        replaceWatchedFile(replacementBytes.toByteArray(), WATCHED_FILE.lastModified() + 1000);
+        assertEquals(loaded, keyManager.getCertificateChain("firefly")[0]);
+
+        // The load operation updates the key managers using the key store like a reload following a change of the file
+        ModelNode operation = new ModelNode();
+        operation.get(ClientConstants.OP_ADDR).add("subsystem","elytron").add("key-store", WATCHED_KEYSTORE_NAME);
+        operation.get(ClientConstants.OP).set(ElytronDescriptionConstants.LOAD);
+        assertSuccess(services.executeOperation(operation));
+        assertEquals(replacement.getCertificate("firefly"), keyManager.getCertificateChain("firefly")[0]);
+
+        removeWatchedKeyManager();
+        removeKeyStore(WATCHED_KEYSTORE_NAME);
+    }
+
+    @Test
+    public void testKeystoreFileWatchWithGeneratedCertificate() throws Exception {
+        WATCHED_FILE.delete();
+        addWatchedKeyStore(50);
+        X509ExtendedKeyManager keyManager = addWatchedKeyManager("localhost");
+
+        // The first use of the key manager generates the certificate and saves it to the file, which is not reloaded
+        assertNotNull(keyManager.getCertificateChain("server"));
+        assertTrue(WATCHED_FILE.exists());
+        Thread.sleep(300);
+        assertEquals(0, readFileReloads());
+
+        // A replacement of the file is then applied to the key manager
+        KeyStore replacement = createFireflyKeyStore();
+        ByteArrayOutputStream replacementBytes = new ByteArrayOutputStream();
+        replacement.store(replacementBytes, KEYSTORE_PASSWORD);
+        replaceWatchedFile(replacementBytes.toByteArray(), WATCHED_FILE.lastModified() + 1000);
+        awaitFileReloads(1);
+        assertEquals(replacement.getCertificate("firefly"), keyManager.getCertificateChain("firefly")[0]);
+        assertNull(keyManager.getCertificateChain("server"));
+
+        removeWatchedKeyManager();
+        removeKeyStore(WATCHED_KEYSTORE_NAME);
+    }
+
+    private void addWatchedKeyStore(long watchInterval) {
+        ModelNode operation = new ModelNode();
+        operation.get(ClientConstants.OPERATION_HEADERS).get("allow-resource-service-restart").set(Boolean.TRUE);
+        operation.get(ClientConstants.OP_ADDR).add("subsystem","elytron").add("key-store", WATCHED_KEYSTORE_NAME);
+        operation.get(ClientConstants.OP).set(ClientConstants.ADD);
+        operation.get(ElytronDescriptionConstants.PATH).set(WATCHED_FILE.getAbsolutePath());
+        operation.get(ElytronDescriptionConstants.TYPE).set("JKS");
+        operation.get(ElytronDescriptionConstants.WATCH_INTERVAL).set(watchInterval);
+        operation.get(CredentialReference.CREDENTIAL_REFERENCE).get(CredentialReference.CLEAR_TEXT).set("Elytron");
+        assertSuccess(services.executeOperation(operation));
+    }
+
+    private X509ExtendedKeyManager addWatchedKeyManager(String generateSelfSignedCertificateHost) {
+        ModelNode operation = new ModelNode();
+        operation.get(ClientConstants.OPERATION_HEADERS).get("allow-resource-service-restart").set(Boolean.TRUE);
+        operation.get(ClientConstants.OP_ADDR).add("subsystem","elytron").add(ElytronDescriptionConstants.KEY_MANAGER, WATCHED_KEYSTORE_NAME);
+        operation.get(ClientConstants.OP).set(ClientConstants.ADD);
+        operation.get(ElytronDescriptionConstants.KEY_STORE).set(WATCHED_KEYSTORE_NAME);
+        operation.get(CredentialReference.CREDENTIAL_REFERENCE).get(CredentialReference.CLEAR_TEXT).set(KEY_PASSWORD);
+        if (generateSelfSignedCertificateHost != null) {
+            operation.get(ElytronDescriptionConstants.GENERATE_SELF_SIGNED_CERTIFICATE_HOST).set(generateSelfSignedCertificateHost);
+        }
+        assertSuccess(services.executeOperation(operation));
+
+        ServiceName keyManagerName = Capabilities.KEY_MANAGER_RUNTIME_CAPABILITY.getCapabilityServiceName(WATCHED_KEYSTORE_NAME);
+        return (X509ExtendedKeyManager) services.getContainer().getService(keyManagerName).getValue();
+    }
+
+    private void removeWatchedKeyManager() {
+        ModelNode operation = new ModelNode();
+        operation.get(ClientConstants.OPERATION_HEADERS).get("allow-resource-service-restart").set(Boolean.TRUE);
+        operation.get(ClientConstants.OP_ADDR).add("subsystem","elytron").add(ElytronDescriptionConstants.KEY_MANAGER, WATCHED_KEYSTORE_NAME);
+        operation.get(ClientConstants.OP).set(ClientConstants.REMOVE_OPERATION);
+        assertSuccess(services.executeOperation(operation));
+    }
+
+    /**
+     * Replaces the watched file atomically, so that its content and modification time are changed at once.
+     */
+    private static void replaceWatchedFile(byte[] content, long lastModified) throws Exception {
+        File file = new File(WORKING_DIRECTORY_LOCATION, "watched.keystore.tmp");
+        Files.write(file.toPath(), content);
+        assertTrue(file.setLastModified(lastModified));
+        Files.move(file.toPath(), WATCHED_FILE.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private long readFileReloads() {
+        ModelNode operation = new ModelNode();
+        operation.get(ClientConstants.OP_ADDR).add("subsystem","elytron").add("key-store", WATCHED_KEYSTORE_NAME);
+        operation.get(ClientConstants.OP).set(ClientConstants.READ_ATTRIBUTE_OPERATION);
+        operation.get(ClientConstants.NAME).set(ElytronDescriptionConstants.FILE_RELOADS);
+        return assertSuccess(services.executeOperation(operation)).get(ClientConstants.RESULT).asLong();
+    }
+
+    private void awaitFileReloads(long fileReloads) throws InterruptedException {
+        for (int i = 0; i < 100 && readFileReloads() < fileReloads; i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(readFileReloads() >= fileReloads);
+    }
+
     private void validateRecursiveReadAliases(final boolean verbose) {
         ModelNode operation = new ModelNode();
         operation.get(ClientConstants.OP_ADDR).add("subsystem","elytron").add("key-store","ModifiedKeyStore");
@@ -0,0 +1,201 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.Test;
+
+/**
+ * Tests of the measurement of the principal query executions by {@link MeasuredDataSource}.
+ */
+public class MeasuredDataSourceTestCase {
+
+    private final TestDataSource testDataSource = new TestDataSource();
+    private final RealmIdentityMetrics metrics = new RealmIdentityMetrics();
+    private final MeasuredDataSource dataSource = new MeasuredDataSource(testDataSource.dataSource(), metrics);
+
+    private void executeQuery() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT password FROM users WHERE name = ?")) {
+            statement.setString(1, "user");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertEquals(TestDataSource.VALUE, resultSet.getString(1));
+            }
+        }
+    }
+
+    @Test
+    public void testExecutions() throws Exception {
+        assertEquals(0, metrics.getLookups());
+        executeQuery();
+        executeQuery();
+        assertEquals(2, metrics.getLookups());
+        assertEquals(2, testDataSource.closes.get());
+        assertEquals(2, testDataSource.executions.get());
+    }
+
+    @Test
+    public void testConnectionClosedTwice() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+        assertEquals(2, testDataSource.closes.get());
+        assertEquals(0, metrics.getLookups());
+    }
+
+    @Test
+    public void testExecutionTime() throws Exception {
+        testDataSource.connectionDelay = 200;
+        testDataSource.executionDelay = 50;
+        executeQuery();
+        // The time taken to obtain the connection is not measured
+        assertTrue(String.valueOf(metrics.getMaximumTime()), metrics.getMaximumTime() >= TimeUnit.MILLISECONDS.toMicros(50));
+        assertTrue(String.valueOf(metrics.getMaximumTime()), metrics.getMaximumTime() < TimeUnit.MILLISECONDS.toMicros(200));
+    }
+
+    @Test
+    public void testFailedExecution() throws Exception {
+        testDataSource.failing = true;
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeQuery("SELECT password FROM users");
+            fail("The execution fails");
+        } catch (SQLException expected) {
+            assertEquals(TestDataSource.FAILURE, expected.getMessage());
+        }
+        assertEquals(1, metrics.getLookups());
+        assertEquals(1, testDataSource.closes.get());
+    }
+
+    @Test
+    public void testUnwrap() throws Exception {
+        assertSame(dataSource, dataSource.unwrap(MeasuredDataSource.class));
+        assertTrue(dataSource.isWrapperFor(DataSource.class));
+        assertFalse(dataSource.isWrapperFor(Connection.class));
+
+        try (Connection connection = dataSource.getConnection()) {
+            // The connection and the statements are unwrapped by the connection of the pool
+            assertSame(testDataSource.connection, connection.unwrap(Connection.class));
+            assertTrue(connection.isWrapperFor(Connection.class));
+            try (PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+                assertSame(testDataSource.statement, statement.unwrap(PreparedStatement.class));
+                assertEquals(0, metrics.getLookups());
+            }
+        }
+    }
+
+    /**
+     * A data source of connections whose statements return a row of {@link #VALUE}.
+     */
+    static final class TestDataSource {
+
+        static final String VALUE = "value";
+        static final String FAILURE = "failure";
+
+        final AtomicInteger closes = new AtomicInteger();
+        final AtomicInteger executions = new AtomicInteger();
+        volatile long connectionDelay;
+        volatile long executionDelay;
+        volatile boolean failing;
+        volatile Connection connection;
+        volatile Statement statement;
+
+        DataSource dataSource() {
+            return proxy(DataSource.class, (proxy, method, args) -> {
+                if (method.getName().equals("getConnection")) {
+                    Thread.sleep(connectionDelay);
+                    return connection = connection();
+                }
+                return defaultValue(method.getReturnType());
+            });
+        }
+
+        private Connection connection() {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close":
+                        closes.incrementAndGet();
+                        return null;
+                    case "createStatement":
+                    case "prepareStatement":
+                        return statement = (Statement) proxy(method.getReturnType(), statementHandler());
+                    case "unwrap":
+                        return proxy;
+                    case "isWrapperFor":
+                        return ((Class<?>) args[0]).isInstance(proxy);
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            });
+        }
+
+        private InvocationHandler statementHandler() {
+            return (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "executeQuery":
+                        executions.incrementAndGet();
+                        Thread.sleep(executionDelay);
+                        if (failing) {
+                            throw new SQLException(FAILURE);
+                        }
+                        return resultSet();
+                    case "unwrap":
+                        return proxy;
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            };
+        }
+
+        private static ResultSet resultSet() {
+            final AtomicBoolean read = new AtomicBoolean();
+            return proxy(ResultSet.class, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next":
+                        return read.compareAndSet(false, true);
+                    case "getString":
+                    case "getObject":
+                        return VALUE;
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return type.cast(Proxy.newProxyInstance(TestDataSource.class.getClassLoader(), new Class<?>[] {type}, handler));
+        }
+
+        private static Object defaultValue(Class<?> type) {
+            if (type == boolean.class) {
+                return false;
+            } else if (type == int.class) {
+                return 0;
+            } else if (type == long.class) {
+                return 0L;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.TrustManagerFactory;
+import javax.security.auth.x500.X500Principal;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.wildfly.security.x500.cert.SelfSignedX509CertificateAndSigningKey;
+
+/**
+ * Tests of the measurement of the handshakes of the {@link SSLEngine} instances created by a {@link MeasuredSSLContext}.
+ */
+public class MeasuredSSLContextTestCase {
+
+    private static final char[] PASSWORD = "Elytron".toCharArray();
+
+    private static SSLContext serverContext;
+    private static SSLContext clientContext;
+
+    @BeforeClass
+    public static void createContexts() throws Exception {
+        SelfSignedX509CertificateAndSigningKey localhost = SelfSignedX509CertificateAndSigningKey.builder()
+                .setDn(new X500Principal("OU=Elytron, O=Elytron, C=CZ, ST=Elytron, CN=localhost"))
+                .setKeyAlgorithmName("RSA")
+                .setSignatureAlgorithmName("SHA256withRSA")
+                .build();
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        keyStore.setKeyEntry("localhost", localhost.getSigningKey(), PASSWORD, new X509Certificate[] {localhost.getSelfSignedCertificate()});
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, PASSWORD);
+        serverContext = SSLContext.getInstance("TLS");
+        serverContext.init(keyManagerFactory.getKeyManagers(), null, null);
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        trustStore.load(null, null);
+        trustStore.setCertificateEntry("localhost", localhost.getSelfSignedCertificate());
+        TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(trustStore);
+        clientContext = SSLContext.getInstance("TLS");
+        clientContext.init(null, trustManagerFactory.getTrustManagers(), null);
+    }
+
+    private static SSLEngine clientEngine(String protocol) {
+        // The sessions of the client are resumed by peer
+        SSLEngine engine = clientContext.createSSLEngine("localhost", 8443);
+        engine.setUseClientMode(true);
+        engine.setEnabledProtocols(new String[] {protocol});
+        return engine;
+    }
+
+    private static SSLEngine serverEngine(SSLContext context) {
+        SSLEngine engine = context.createSSLEngine();
+        engine.setUseClientMode(false);
+        return engine;
+    }
+
+    @Test
+    public void testHandshakes() throws Exception {
+        MeasuredSSLContext context = MeasuredSSLContext.measure(serverContext);
+        MeasuredSSLContext.HandshakeMetrics metrics = context.getMetrics();
+        assertEquals(0, metrics.getHandshakes());
+
+        handshake(clientEngine("TLSv1.2"), serverEngine(context));
+        assertEquals(1, metrics.getHandshakes());
+        assertEquals(0, metrics.getResumedHandshakes());
+        assertTrue(metrics.getMaximumTime() > 0);
+        assertEquals(metrics.getMaximumTime(), metrics.getAverageTime());
+
+        // The session is resumed by the next handshake, created after the session
+        Thread.sleep(10);
+        handshake(clientEngine("TLSv1.2"), serverEngine(context));
+        assertEquals(2, metrics.getHandshakes());
+        assertEquals(1, metrics.getResumedHandshakes());
+        assertTrue(metrics.getAverageTime() <= metrics.getMaximumTime());
+    }
+
+    @Test
+    public void testApplicationProtocolSelector() throws Exception {
+        MeasuredSSLContext context = MeasuredSSLContext.measure(serverContext);
+        SSLEngine serverEngine = serverEngine(context);
+        List<SSLEngine> selectingEngines = new ArrayList<>();
+        List<String> offeredProtocols = new ArrayList<>();
+        serverEngine.setHandshakeApplicationProtocolSelector((engine, protocols) -> {
+            selectingEngines.add(engine);
+            offeredProtocols.addAll(protocols);
+            return "h2";
+        });
+        assertTrue(serverEngine.getHandshakeApplicationProtocolSelector() != null);
+
+        SSLEngine clientEngine = clientEngine("TLSv1.3");
+        SSLParameters parameters = clientEngine.getSSLParameters();
+        parameters.setApplicationProtocols(new String[] {"h2", "http/1.1"});
+        clientEngine.setSSLParameters(parameters);
+        handshake(clientEngine, serverEngine);
+
+        // The selector is given the engine created by the measured context
+        assertEquals(1, selectingEngines.size());
+        assertSame(serverEngine, selectingEngines.get(0));
+        assertEquals(List.of("h2", "http/1.1"), offeredProtocols);
+        assertEquals("h2", serverEngine.getApplicationProtocol());
+        assertEquals("h2", clientEngine.getApplicationProtocol());
+        assertEquals(1, context.getMetrics().getHandshakes());
+    }
+
+    /**
+     * Performs the handshake of the given engines, exchanging their messages in memory.
+     */
+    static void handshake(SSLEngine client, SSLEngine server) throws SSLException {
+        int packetSize = Math.max(client.getSession().getPacketBufferSize(), server.getSession().getPacketBufferSize());
+        int applicationSize = Math.max(client.getSession().getApplicationBufferSize(), server.getSession().getApplicationBufferSize());
+        ByteBuffer clientToServer = ByteBuffer.allocate(packetSize);
+        ByteBuffer serverToClient = ByteBuffer.allocate(packetSize);
+        ByteBuffer clientApplication = ByteBuffer.allocate(applicationSize);
+        ByteBuffer serverApplication = ByteBuffer.allocate(applicationSize);
+        ByteBuffer empty = ByteBuffer.allocate(0);
+
+        client.beginHandshake();
+        server.beginHandshake();
+        for (int i = 0; i < 100; i++) {
+            client.wrap(empty, clientToServer);
+            runDelegatedTasks(client);
+            server.wrap(empty, serverToClient);
+            runDelegatedTasks(server);
+
+            clientToServer.flip();
+            server.unwrap(clientToServer, serverApplication);
+            clientToServer.compact();
+            runDelegatedTasks(server);
+            serverToClient.flip();
+            client.unwrap(serverToClient, clientApplication);
+            serverToClient.compact();
+            runDelegatedTasks(client);
+
+            if (client.getHandshakeStatus() == HandshakeStatus.NOT_HANDSHAKING && server.getHandshakeStatus() == HandshakeStatus.NOT_HANDSHAKING
+                    && clientToServer.position() == 0 && serverToClient.position() == 0) {
+                return;
+            }
+        }
+        fail("The handshake did not complete");
+    }
+
+    private static void runDelegatedTasks(SSLEngine engine) {
+        Runnable task;
+        while ((task = engine.getDelegatedTask()) != null) {
+            task.run();
+        }
+    }
+}
@@ -447,6 +447,83 @@ public class RealmsTestCase extends AbstractElytronSubsystemBaseTest {
         identity.dispose();
     }
 
+    /**
+     * Test the identity cache of the filesystem realm is cleared by the integrity operations, and the identity lookups
+     * are recorded
+     */
+    @Test
+    public void testFilesystemRealmIdentityCache() throws Exception {
+        KernelServices services = super.createKernelServicesBuilder(new TestEnvironment()).setSubsystemXmlResource("realms-test.xml").build();
+        if (!services.isSuccessfulBoot()) {
+            if (services.getBootError() != null) {
+                Assert.fail(services.getBootError().toString());
+            }
+            Assert.fail("Failed to boot, no reason provided");
+        }
+        // Only the dependents of the realm, such as security domains, use the cache
+        TestEnvironment.activateService(services, Capabilities.SECURITY_DOMAIN_RUNTIME_CAPABILITY, "FilesystemRealmIdentityCacheDomain");
+        ServiceName serviceName = Capabilities.SECURITY_DOMAIN_RUNTIME_CAPABILITY.getCapabilityServiceName("FilesystemRealmIdentityCacheDomain");
+        SecurityDomain domain = (SecurityDomain) services.getContainer().getService(serviceName).getValue();
+        Assert.assertNotNull(domain);
+
+        Path identityFile = Paths.get("target/test-classes/org/wildfly/extension/elytron/filesystem-realm-identity-cache/c/cachedUser.xml");
+        assertCacheCleared(services, domain, identityFile, ElytronDescriptionConstants.VERIFY_INTEGRITY);
+        long lookups = readFilesystemRealmAttribute(services, ElytronDescriptionConstants.IDENTITY_LOOKUPS).asLong();
+        assertTrue(lookups > 0);
+        assertCacheCleared(services, domain, identityFile, ElytronDescriptionConstants.UPDATE_KEY_PAIR);
+        assertTrue(readFilesystemRealmAttribute(services, ElytronDescriptionConstants.IDENTITY_LOOKUPS).asLong() > lookups);
+
+        long averageTime = readFilesystemRealmAttribute(services, ElytronDescriptionConstants.AVERAGE_IDENTITY_LOOKUP_TIME).asLong();
+        long maximumTime = readFilesystemRealmAttribute(services, ElytronDescriptionConstants.MAXIMUM_IDENTITY_LOOKUP_TIME).asLong();
+        assertTrue(maximumTime > 0);
+        assertTrue(maximumTime >= averageTime);
+    }
+
+    private static void assertCacheCleared(KernelServices services, SecurityDomain domain, Path identityFile, String operationName) throws Exception {
+        char[] password = "password".toCharArray();
+        ModifiableRealmIdentity identity = domain.getIdentityForUpdate(fromName("cachedUser"));
+        // This identity may exist from a previous test execution if no maven clean was performed.
+        if (identity.exists()) {
+            identity.delete();
+        }
+        identity.create();
+        PasswordFactory factory = PasswordFactory.getInstance(ClearPassword.ALGORITHM_CLEAR, WildFlyElytronPasswordProvider.getInstance());
+        identity.setCredentials(Collections.singleton(new PasswordCredential(factory.generatePassword(new ClearPasswordSpec(password)))));
+        identity.dispose();
+        assertTrue(verifyPassword(domain, "cachedUser", password));
+
+        // The cached credentials are still verified once the file is removed, until the operation clears the cache
+        Files.delete(identityFile);
+        assertTrue(verifyPassword(domain, "cachedUser", password));
+
+        ModelNode operation = new ModelNode();
+        operation.get(ClientConstants.OP_ADDR).add("subsystem", "elytron").add(ElytronDescriptionConstants.FILESYSTEM_REALM, "FilesystemRealmIdentityCache");
+        operation.get(ClientConstants.OP).set(operationName);
+        ModelNode response = services.executeOperation(operation);
+        assertEquals(response.toString(), ClientConstants.SUCCESS, response.get(OUTCOME).asString());
+
+        assertFalse(verifyPassword(domain, "cachedUser", password));
+    }
+
+    private static boolean verifyPassword(SecurityDomain domain, String username, char[] password) throws Exception {
+        ServerAuthenticationContext context = domain.createNewAuthenticationContext();
+        context.setAuthenticationName(username);
+        boolean verified = context.verifyEvidence(new PasswordGuessEvidence(password));
+        // Releases the identity
+        context.fail();
+        return verified;
+    }
+
+    private static ModelNode readFilesystemRealmAttribute(KernelServices services, String attributeName) {
+        ModelNode operation = new ModelNode();
+        operation.get(ClientConstants.OP_ADDR).add("subsystem", "elytron").add(ElytronDescriptionConstants.FILESYSTEM_REALM, "FilesystemRealmIdentityCache");
+        operation.get(ClientConstants.OP).set(ClientConstants.READ_ATTRIBUTE_OPERATION);
+        operation.get(ClientConstants.NAME).set(attributeName);
+        ModelNode response = services.executeOperation(operation);
+        assertEquals(response.toString(), ClientConstants.SUCCESS, response.get(OUTCOME).asString());
+        return response.get(ClientConstants.RESULT);
+    }
+
     private boolean validateDigitalSignature(File path, PublicKey publicKey) {
         try {
             DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
@@ -41,6 +41,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLHandshakeException;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.TrustManager;
@@ -356,6 +357,32 @@ public class TlsTestCase extends AbstractSubsystemTest {
         testCommunication("ServerSslContextNoAuth", "ClientSslContextNoAuth", true, "OU=Elytron,O=Elytron,C=CZ,ST=Elytron,CN=localhost", null);
     }
 
+    @Test
+    public void testHandshakeMetrics() throws Throwable {
+        // The handshakes are only measured by the contexts enabling them
+        Assert.assertFalse(getSslContext("ServerSslContextNoAuth") instanceof MeasuredSSLContext);
+        SSLContext serverContext = getSslContext("ServerSslContextHandshakeMetrics");
+        Assert.assertTrue(serverContext instanceof MeasuredSSLContext);
+        assertEquals(0, readHandshakes("ServerSslContextHandshakeMetrics"));
+
+        SSLEngine serverEngine = serverContext.createSSLEngine();
+        serverEngine.setUseClientMode(false);
+        SSLEngine clientEngine = getSslContext("ClientSslContextNoAuth").createSSLEngine("localhost", TESTING_PORT);
+        clientEngine.setUseClientMode(true);
+        MeasuredSSLContextTestCase.handshake(clientEngine, serverEngine);
+        assertEquals(1, readHandshakes("ServerSslContextHandshakeMetrics"));
+    }
+
+    private int readHandshakes(String serverContextName) {
+        ModelNode operation = new ModelNode();
+        operation.get(ClientConstants.OP_ADDR).add("subsystem", "elytron").add(ElytronDescriptionConstants.SERVER_SSL_CONTEXT, serverContextName);
+        operation.get(ClientConstants.OP).set(ClientConstants.READ_ATTRIBUTE_OPERATION);
+        operation.get(ClientConstants.NAME).set(ElytronDescriptionConstants.HANDSHAKES);
+        ModelNode response = services.executeOperation(operation);
+        assertEquals(response.toString(), SUCCESS, response.get(OUTCOME).asString());
+        return response.get(ClientConstants.RESULT).asInt();
+    }
+
     @Test
     public void testSslServiceAuth() throws Throwable {
         System.out.println("Ok lets begin this test." + System.getProperty("java.home"));
@@ -107,6 +107,7 @@ import org.jboss.as.controller.extension.ExtensionRegistry;
 import org.jboss.as.controller.extension.MutableRootResourceRegistrationProvider;
 import org.jboss.as.controller.extension.RuntimeHostControllerInfoAccessor;
 import org.jboss.as.controller.logging.ControllerLogger;
+import org.jboss.as.controller.management.ManagementRequestExecutors;
 import org.jboss.as.controller.notification.Notification;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.persistence.ConfigurationPersistenceException;
@@ -390,6 +391,7 @@ public class DomainModelControllerService extends AbstractControllerService impl
 
             modelNodeRegistration.registerProxyController(pe, hostControllerClient);
             hostProxies.put(hostName, hostControllerClient);
+            proxyRegistrationChanged(addr);
         }
     }
 
@@ -415,6 +417,7 @@ public class DomainModelControllerService extends AbstractControllerService impl
 
                 if (registered) {
                     modelNodeRegistration.unregisterProxyController(PathElement.pathElement(HOST, id));
+                    proxyRegistrationChanged(PathAddress.pathAddress(HOST, id));
                     if (!cleanShutdown) {
                         DOMAIN_LOGGER.lostConnectionToRemoteHost(id);
                     } else {
@@ -469,6 +472,7 @@ public class DomainModelControllerService extends AbstractControllerService impl
         final ManagementResourceRegistration serverRegistration = hostRegistration.getSubModel(PathAddress.EMPTY_ADDRESS.append(pe));
         ServerConfigResourceDefinition.registerServerLifecycleOperations(serverRegistration, serverInventory);
         serverProxies.put(pe.getValue(), serverControllerClient);
+        proxyRegistrationChanged(pa);
     }
 
     @Override
@@ -479,6 +483,7 @@ public class DomainModelControllerService extends AbstractControllerService impl
         ManagementResourceRegistration hostRegistration = modelNodeRegistration.getSubModel(pa);
         hostRegistration.unregisterProxyController(pe);
         serverProxies.remove(serverName);
+        proxyRegistrationChanged(pa.append(pe));
     }
 
     @Override
@@ -652,6 +657,9 @@ public class DomainModelControllerService extends AbstractControllerService impl
             // Install the intermediate service to connect domain server verification through.
             ServerVerificationService.install(serviceTarget);
 
+            // Applied by the boot operations if the configuration enables them, not carried over from before a reload
+            ManagementRequestExecutors.setVirtualThreadsEnabled(false);
+
             // Parse the host.xml and invoke all the ops. The ops should rollback on any Stage.RUNTIME failure
             List<ModelNode> hostBootOps = hostControllerConfigurationPersister.load();
             if (hostBootOps.isEmpty()) { // booting with empty config
@@ -1365,6 +1373,11 @@ public class DomainModelControllerService extends AbstractControllerService impl
             getServerInventory().awaitServersState(serverNames, started);
         }
 
+        @Override
+        public long getServerBootTime(String serverName) {
+            return getServerInventory().getServerBootTime(serverName);
+        }
+
         @Override
         public List<ModelNode> suspendServers(Set<String> serverNames, BlockingTimeout blockingTimeout) {
             return getServerInventory().suspendServers(serverNames, blockingTimeout);
@@ -1720,6 +1733,11 @@ public class DomainModelControllerService extends AbstractControllerService impl
             public void awaitServersState(Collection<String> serverNames, boolean started) {
             }
 
+            @Override
+            public long getServerBootTime(String serverName) {
+                return -1;
+            }
+
             @Override
             public List<ModelNode> suspendServers(Set<String> serverNames, BlockingTimeout blockingTimeout) {
                 return Collections.emptyList();
@@ -127,6 +127,7 @@ class ManagedServer {
     private volatile int operationID = CurrentOperationIdHolder.getCurrentOperationID();
     private volatile ManagedServerBootConfiguration bootConfiguration;
     private volatile boolean unstable;
+    private final ServerBootTimer bootTimer = new ServerBootTimer();
 
     private final PathAddress address;
 
@@ -217,6 +218,16 @@ class ManagedServer {
         }
     }
 
+    /**
+     * Get the time the last boot of this server took, measured from the start request until the server
+     * reported it was started.
+     *
+     * @return the boot time in milliseconds, or {@code -1} if the server has not completed a boot
+     */
+    long getLastBootTime() {
+        return bootTimer.getLastBootTime();
+    }
+
     boolean isRequiresReload() {
         return requiresReload;
     }
@@ -260,6 +271,7 @@ class ManagedServer {
         operationID = CurrentOperationIdHolder.getCurrentOperationID();
         bootConfiguration = factory.createConfiguration();
         requiredState = InternalState.SERVER_STARTED;
+        bootTimer.startRequested();
         ROOT_LOGGER.startingServer(serverName);
         transition();
     }
@@ -448,9 +460,16 @@ class ManagedServer {
 
     synchronized void serverStarted(final TransitionTask task) {
         internalSetState(task, InternalState.SERVER_STARTING, InternalState.SERVER_STARTED);
+        if (internalState == InternalState.SERVER_STARTED) {
+            final long bootTime = bootTimer.started();
+            if (bootTime >= 0) {
+                ROOT_LOGGER.logf(DEBUG_LEVEL, "server (%s) started in %d ms", serverName, bootTime);
+            }
+        }
     }
 
     synchronized void serverStartFailed() {
+        bootTimer.startFailed();
         internalSetState(null, InternalState.SERVER_STARTING, InternalState.FAILED);
     }
 
@@ -500,6 +519,7 @@ class ManagedServer {
     synchronized void processFinished() {
         final InternalState required = this.requiredState;
         final InternalState state = this.internalState;
+        ManagedServerClassDataSharing.serverStopped(serverName);
         // If the server was not stopped
         if(required == InternalState.STOPPED && state == InternalState.PROCESS_STOPPING) {
             finishTransition(InternalState.PROCESS_STOPPING, InternalState.PROCESS_STOPPED);
@@ -327,6 +327,12 @@ public class ManagedServerBootCmdFactory implements ManagedServerBootConfigurati
 
         JvmOptionsBuilderFactory.getInstance(localJvmType).addOptions(jvmElement, command);
 
+        // Only for the actual launch, the archive in use must not affect whether the launch command changed
+        if (forLaunch && ManagedServerClassDataSharing.isEnabled() && ManagedServerClassDataSharing.isSupported(jvmElement.getJvmType())) {
+            command.addAll(ManagedServerClassDataSharing.getJvmOptions(environment, serverName,
+                    serverModel.require(GROUP).asString(), localJvmType.getJavaExecutable()));
+        }
+
         Map<String, String> bootTimeProperties = getAllSystemProperties(true);
         // Add in properties passed in to the ProcessController command line
         Set<String> excludedHostProperties = getExcludedHostProperties();
@@ -0,0 +1,181 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.host.controller;
+
+import static org.jboss.as.host.controller.logging.HostControllerLogger.ROOT_LOGGER;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.as.controller.HashUtil;
+import org.jboss.as.host.controller.model.jvm.JvmType;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Manages the dynamic AppCDS archives used to launch managed servers when class data sharing is enabled via the
+ * {@value #CLASS_DATA_SHARING_PROP} host controller system property.
+ * <p>
+ * One archive is kept per server group in the {@code cds} directory of the host's data directory. The archive name
+ * includes a fingerprint of the JVM and of the module path content, so patching or otherwise updating modules, or
+ * switching JVM, results in a new archive being recorded and the stale ones being removed. The first server of a group
+ * that is started without a matching archive records it when its JVM exits; servers started afterwards use it.
+ * <p>
+ * A dynamic archive only holds the classes loaded by the JDK's built-in class loaders, that is the classes of the JDK
+ * and of {@code jboss-modules.jar}. The classes of the modules, including those of the server itself, are loaded by
+ * JBoss Modules class loaders, which the JVM does not archive dynamically, so they are still loaded and verified from
+ * the module jars. The size of each recorded archive is logged to show what it holds.
+ */
+final class ManagedServerClassDataSharing {
+
+    static final String CLASS_DATA_SHARING_PROP = "jboss.host.server-class-data-sharing";
+
+    private static final String ARCHIVE_DIR = "cds";
+    private static final String ARCHIVE_SUFFIX = ".jsa";
+
+    /** Fingerprints of the module path keyed by the module path, the modules can only change with a host controller restart. */
+    private static final Map<String, String> MODULE_FINGERPRINTS = new ConcurrentHashMap<>();
+    /** The archives currently being recorded, mapped to the name of the server recording them. */
+    private static final Map<File, String> RECORDING = new ConcurrentHashMap<>();
+
+    private ManagedServerClassDataSharing() {
+    }
+
+    static boolean isEnabled() {
+        return Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(CLASS_DATA_SHARING_PROP, "false"));
+    }
+
+    /**
+     * Whether servers launched with the given type of JVM support the dynamic AppCDS options, which are HotSpot specific.
+     *
+     * @param jvmType the type of the JVM configured for the server
+     * @return {@code true} if the options can be added to the launch command
+     */
+    static boolean isSupported(final JvmType jvmType) {
+        return jvmType == JvmType.ORACLE || jvmType == JvmType.SUN;
+    }
+
+    /**
+     * Get the JVM options to launch a server with class data sharing.
+     *
+     * @param environment the host controller environment
+     * @param serverName the name of the server being launched
+     * @param serverGroup the name of the server group of the server
+     * @param javaExecutable the java executable used to launch the server
+     * @return the JVM options to add to the launch command, will not be {@code null}
+     */
+    static List<String> getJvmOptions(final HostControllerEnvironment environment, final String serverName,
+                                      final String serverGroup, final String javaExecutable) {
+        try {
+            final File archiveDir = new File(environment.getDomainDataDir(), ARCHIVE_DIR);
+            Files.createDirectories(archiveDir.toPath());
+            final String prefix = serverGroup + "-";
+            final File archive = new File(archiveDir, prefix + fingerprint(environment, javaExecutable) + ARCHIVE_SUFFIX);
+            removeStaleArchives(archiveDir, prefix, archive);
+            if (archive.isFile() && !RECORDING.containsKey(archive)) {
+                return Collections.singletonList("-XX:SharedArchiveFile=" + archive.getAbsolutePath());
+            }
+            final String recorder = RECORDING.putIfAbsent(archive, serverName);
+            if (recorder == null || recorder.equals(serverName)) {
+                // Either nobody is recording the archive or this server previously tried and did not get to write it
+                ROOT_LOGGER.recordingClassDataSharingArchive(serverName, archive, serverGroup);
+                return Collections.singletonList("-XX:ArchiveClassesAtExit=" + archive.getAbsolutePath());
+            }
+        } catch (IOException | NoSuchAlgorithmException e) {
+            ROOT_LOGGER.cannotUseClassDataSharing(e, serverName);
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Notification that a server process has stopped, any archive it was recording has been written by now.
+     *
+     * @param serverName the name of the server
+     */
+    static void serverStopped(final String serverName) {
+        final Iterator<Map.Entry<File, String>> iterator = RECORDING.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<File, String> entry = iterator.next();
+            if (entry.getValue().equals(serverName)) {
+                iterator.remove();
+                final File archive = entry.getKey();
+                if (archive.isFile()) {
+                    ROOT_LOGGER.recordedClassDataSharingArchive(serverName, archive, archive.length());
+                }
+            }
+        }
+    }
+
+    private static void removeStaleArchives(final File archiveDir, final String prefix, final File current) {
+        final File[] archives = archiveDir.listFiles((dir, name) -> name.startsWith(prefix) && name.endsWith(ARCHIVE_SUFFIX));
+        if (archives != null) {
+            for (File archive : archives) {
+                if (!archive.equals(current) && archive.getName().length() == current.getName().length()) {
+                    archive.delete();
+                }
+            }
+        }
+    }
+
+    private static String fingerprint(final HostControllerEnvironment environment, final String javaExecutable) throws IOException, NoSuchAlgorithmException {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+        // The archive can only be used by the exact JVM build which created it
+        final File java = new File(javaExecutable).getAbsoluteFile();
+        digest.update(java.getPath().getBytes(StandardCharsets.UTF_8));
+        update(digest, java);
+        final File release = new File(java.getParentFile().getParentFile(), "release");
+        if (release.isFile()) {
+            digest.update(Files.readAllBytes(release.toPath()));
+        }
+        update(digest, new File(environment.getHomeDir(), "jboss-modules.jar"));
+        final String modulePath = environment.getModulePath();
+        String modules = MODULE_FINGERPRINTS.get(modulePath);
+        if (modules == null) {
+            modules = fingerprintModules(modulePath);
+            MODULE_FINGERPRINTS.put(modulePath, modules);
+        }
+        digest.update(modules.getBytes(StandardCharsets.UTF_8));
+        return HashUtil.bytesToHexString(digest.digest());
+    }
+
+    private static String fingerprintModules(final String modulePath) throws IOException, NoSuchAlgorithmException {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+        for (String root : modulePath.split(File.pathSeparator)) {
+            final Path rootPath = new File(root).toPath();
+            if (!Files.isDirectory(rootPath)) {
+                continue;
+            }
+            Files.walkFileTree(rootPath, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    // module.xml and the jars of every module, plus the patching overlay metadata
+                    digest.update(rootPath.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                    digest.update(Long.toString(attrs.size()).getBytes(StandardCharsets.UTF_8));
+                    digest.update(Long.toString(attrs.lastModifiedTime().toMillis()).getBytes(StandardCharsets.UTF_8));
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+        return HashUtil.bytesToHexString(digest.digest());
+    }
+
+    private static void update(final MessageDigest digest, final File file) {
+        digest.update(Long.toString(file.length()).getBytes(StandardCharsets.UTF_8));
+        digest.update(Long.toString(file.lastModified()).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.host.controller;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures how long the boots of a managed server take, from the request to start the server until the server reports
+ * it was started.
+ */
+final class ServerBootTimer {
+
+    private final LongSupplier nanoTime;
+    private boolean startRequested;
+    private long startRequestTime;
+    private volatile long lastBootTime = -1;
+
+    ServerBootTimer() {
+        this(System::nanoTime);
+    }
+
+    ServerBootTimer(final LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Records that the server was requested to start.
+     */
+    synchronized void startRequested() {
+        startRequested = true;
+        startRequestTime = nanoTime.getAsLong();
+    }
+
+    /**
+     * Records that the server reported it was started.
+     *
+     * @return the time the boot took in milliseconds, or {@code -1} if the start of the server wasn't requested, e.g.
+     *         if the host controller reconnected to a running server
+     */
+    synchronized long started() {
+        if (!startRequested) {
+            return -1;
+        }
+        startRequested = false;
+        lastBootTime = TimeUnit.NANOSECONDS.toMillis(nanoTime.getAsLong() - startRequestTime);
+        return lastBootTime;
+    }
+
+    /**
+     * Records that the server failed to start, so that the boot isn't measured.
+     */
+    synchronized void startFailed() {
+        startRequested = false;
+    }
+
+    /**
+     * Get the time the last boot of the server took.
+     *
+     * @return the boot time in milliseconds, or {@code -1} if the server has not completed a boot
+     */
+    long getLastBootTime() {
+        return lastBootTime;
+    }
+}
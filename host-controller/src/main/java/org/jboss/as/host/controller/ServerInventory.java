@@ -283,6 +283,15 @@ public interface ServerInventory {
      */
     void awaitServersState(Collection<String> serverNames, boolean started);
 
+    /**
+     * Gets the time it took the given server to go from a start request to the started notification, the
+     * last time it was started.
+     *
+     * @param serverName the name of the server
+     * @return the boot time in milliseconds, or {@code -1} if the server has not completed a boot
+     */
+    long getServerBootTime(String serverName);
+
     /**
      * Suspend the servers, allowing current requests to finish and blocking any new requests
      * from starting.
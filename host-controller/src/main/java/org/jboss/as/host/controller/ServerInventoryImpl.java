@@ -373,6 +373,15 @@ public class ServerInventoryImpl implements ServerInventory {
         }
     }
 
+    @Override
+    public long getServerBootTime(final String serverName) {
+        final ManagedServer server = servers.get(serverName);
+        if(server == null) {
+            return -1;
+        }
+        return server.getLastBootTime();
+    }
+
 
     @Override
     public List<ModelNode> suspendServers(Set<String> serverNames, BlockingTimeout blockingTimeout) {
@@ -1471,6 +1471,18 @@ public interface HostControllerLogger extends BasicLogger {
     @Message(id = 224, value = "Cannot create a HostControllerEnvironment for an embedded host controller")
     IllegalStateException cannotCreateHostControllerEnvironment();
 
+    @LogMessage(level = INFO)
+    @Message(id = 225, value = "Server %s will record the class data sharing archive %s for server group %s when it stops")
+    void recordingClassDataSharingArchive(String serverName, File archive, String serverGroup);
+
+    @LogMessage(level = WARN)
+    @Message(id = 226, value = "Class data sharing cannot be used for server %s")
+    void cannotUseClassDataSharing(@Cause Throwable cause, String serverName);
+
+    @LogMessage(level = INFO)
+    @Message(id = 227, value = "Server %s recorded the class data sharing archive %s of %d bytes, it holds the classes of the JDK and of JBoss Modules but not those of the modules")
+    void recordedClassDataSharingArchive(String serverName, File archive, long size);
+
     ////////////////////////////////////////////////
     //Messages without IDs
 
@@ -53,6 +53,7 @@ import org.jboss.as.controller.operations.global.GlobalInstallationReportHandler
 import org.jboss.as.controller.operations.global.ReadAttributeHandler;
 import org.jboss.as.controller.operations.global.ReadConfigAsFeaturesOperationHandler;
 import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -108,6 +109,7 @@ import org.jboss.as.server.operations.WriteConfigHandler;
 import org.jboss.as.server.services.net.InterfaceResourceDefinition;
 import org.jboss.as.server.services.net.SocketBindingGroupResourceDefinition;
 import org.jboss.as.server.services.net.SpecifiedInterfaceResolveHandler;
+import org.jboss.as.version.Stability;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
@@ -193,6 +195,11 @@ public class HostResourceDefinition extends SimpleResourceDefinition {
             setValidator(EnumValidator.create(DirectoryGrouping.class)).
             setAllowExpression(true).
             build();
+    public static final SimpleAttributeDefinition MAX_CONCURRENT_SERVER_STARTS = SimpleAttributeDefinitionBuilder.create(ModelDescriptionConstants.MAX_CONCURRENT_SERVER_STARTS, ModelType.INT, true)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setAllowExpression(true)
+            .setStability(Stability.COMMUNITY)
+            .build();
     public static final SimpleAttributeDefinition MASTER = SimpleAttributeDefinitionBuilder.create(ModelDescriptionConstants.PRIMARY, ModelType.BOOLEAN, true)
             .setDefaultValue(ModelNode.FALSE)
             .setStorageRuntime()
@@ -298,6 +305,8 @@ public class HostResourceDefinition extends SimpleResourceDefinition {
 
         });
         hostRegistration.registerReadWriteAttribute(ORGANIZATION_IDENTIFIER, null, ModelOnlyWriteAttributeHandler.INSTANCE);
+        // Only read by start-servers when the host controller boots
+        hostRegistration.registerReadWriteAttribute(MAX_CONCURRENT_SERVER_STARTS, null, ModelOnlyWriteAttributeHandler.INSTANCE);
         // provide the domain-organization, this was defined here, but never had any handlers or storage defined.
         hostRegistration.registerReadOnlyAttribute(DOMAIN_ORGANIZATION_IDENTIFIER, new ReadAttributeHandler() {
                     @Override
@@ -0,0 +1,35 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.host.controller.operations;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.host.controller.ServerInventory;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * {@code OperationHandler} reporting how long the last boot of a server took.
+ */
+public class ServerBootTimeHandler implements OperationStepHandler {
+
+    public static final String ATTRIBUTE_NAME = "boot-time";
+
+    private final ServerInventory serverInventory;
+
+    public ServerBootTimeHandler(final ServerInventory serverInventory) {
+        this.serverInventory = serverInventory;
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String serverName = context.getCurrentAddressValue();
+        final long bootTime = serverInventory.getServerBootTime(serverName);
+        if (bootTime >= 0) {
+            context.getResult().set(bootTime);
+        }
+    }
+}
@@ -10,6 +10,9 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_CONFIG;
 import static org.jboss.as.host.controller.logging.HostControllerLogger.ROOT_LOGGER;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Map;
 
 import org.jboss.as.controller.AttributeDefinition;
@@ -28,6 +31,7 @@ import org.jboss.as.host.controller.HostRunningModeControl;
 import org.jboss.as.host.controller.RestartMode;
 import org.jboss.as.host.controller.ServerInventory;
 import org.jboss.as.host.controller.logging.HostControllerLogger;
+import org.jboss.as.host.controller.model.host.HostResourceDefinition;
 import org.jboss.as.host.controller.resources.ServerConfigResourceDefinition;
 import org.jboss.as.process.ProcessInfo;
 import org.jboss.dmr.ModelNode;
@@ -92,11 +96,13 @@ public class StartServersHandler implements OperationStepHandler {
                 final ModelNode hostModel = Resource.Tools.readModel(resource);
                 if(hostModel.hasDefined(SERVER_CONFIG)) {
                     final ModelNode servers = hostModel.get(SERVER_CONFIG).clone();
+                    final ModelNode maxConcurrentStarts = HostResourceDefinition.MAX_CONCURRENT_SERVER_STARTS.resolveModelAttribute(context, hostModel);
+                    final ServerStarter starter = new ServerStarter(serverInventory, domainModel, maxConcurrentStarts.isDefined() ? maxConcurrentStarts.asInt() : 0);
                     if (hostControllerEnvironment.isRestart() || runningModeControl.getRestartMode() == RestartMode.HC_ONLY){
-                        restartedHcStartOrReconnectServers(servers, domainModel, context, enabledAutoStart);
+                        restartedHcStartOrReconnectServers(servers, domainModel, starter, enabledAutoStart);
                         runningModeControl.setRestartMode(RestartMode.SERVERS);
                     } else if (enabledAutoStart) {
-                        cleanStartServers(servers, domainModel, context);
+                        cleanStartServers(servers, domainModel, starter, context);
                     }
                 }
                 context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
@@ -104,7 +110,7 @@ public class StartServersHandler implements OperationStepHandler {
         }, OperationContext.Stage.RUNTIME);
     }
 
-    private void cleanStartServers(final ModelNode servers, final ModelNode domainModel, OperationContext context) throws OperationFailedException {
+    private void cleanStartServers(final ModelNode servers, final ModelNode domainModel, final ServerStarter starter, OperationContext context) throws OperationFailedException {
         Map<String, ProcessInfo> processInfos = serverInventory.determineRunningProcesses();
         for(final Property serverProp : servers.asPropertyList()) {
             String serverName = serverProp.getName();
@@ -113,30 +119,66 @@ public class StartServersHandler implements OperationStepHandler {
                 if ( info != null ){
                     serverInventory.reconnectServer(serverName, domainModel, info.isRunning(), info.isStopping());
                 } else {
-                    try {
-                        serverInventory.startServer(serverName, domainModel, START_BLOCKING, false);
-                    } catch (Exception e) {
-                        ROOT_LOGGER.failedToStartServer(e, serverName);
-                    }
+                    starter.startServer(serverName);
                 }
             }
         }
     }
 
-    private void restartedHcStartOrReconnectServers(final ModelNode servers, final ModelNode domainModel, final OperationContext context, final boolean enabledAutoStart) {
+    private void restartedHcStartOrReconnectServers(final ModelNode servers, final ModelNode domainModel, final ServerStarter starter, final boolean enabledAutoStart) {
         Map<String, ProcessInfo> processInfos = serverInventory.determineRunningProcesses();
         for(final String serverName : servers.keys()) {
             ProcessInfo info = processInfos.get(serverInventory.getServerProcessName(serverName));
             boolean auto = servers.get(serverName, AUTO_START).asBoolean(true);
             if (info == null && auto && enabledAutoStart) {
-                try {
-                    serverInventory.startServer(serverName, domainModel, START_BLOCKING, false);
-                } catch (Exception e) {
-                    ROOT_LOGGER.failedToStartServer(e, serverName);
-                }
+                starter.startServer(serverName);
             } else if (info != null){
                 serverInventory.reconnectServer(serverName, domainModel, info.isRunning(), info.isStopping());
             }
         }
     }
+
+    /**
+     * Starts servers, keeping no more than a maximum number of them booting at the same time unless servers are started
+     * sequentially.
+     */
+    static final class ServerStarter {
+
+        private final ServerInventory serverInventory;
+        private final ModelNode domainModel;
+        private final int maxConcurrentStarts;
+        // The servers started which may still be booting, in start order
+        private final Deque<String> booting = new ArrayDeque<>();
+
+        /**
+         * @param serverInventory the server inventory
+         * @param domainModel the domain model
+         * @param maxConcurrentStarts the maximum number of servers booting at the same time, {@code 0} for no maximum
+         */
+        ServerStarter(final ServerInventory serverInventory, final ModelNode domainModel, final int maxConcurrentStarts) {
+            this.serverInventory = serverInventory;
+            this.domainModel = domainModel;
+            this.maxConcurrentStarts = START_BLOCKING ? 0 : maxConcurrentStarts;
+        }
+
+        /**
+         * Starts a server. If the maximum number of servers are booting, first waits for the first started of them to
+         * complete its boot.
+         *
+         * @param serverName the name of the server to start
+         */
+        void startServer(final String serverName) {
+            if (maxConcurrentStarts > 0) {
+                while (booting.size() >= maxConcurrentStarts) {
+                    serverInventory.awaitServersState(Collections.singleton(booting.poll()), true);
+                }
+            }
+            try {
+                serverInventory.startServer(serverName, domainModel, START_BLOCKING, false);
+                booting.add(serverName);
+            } catch (Exception e) {
+                ROOT_LOGGER.failedToStartServer(e, serverName);
+            }
+        }
+    }
 }
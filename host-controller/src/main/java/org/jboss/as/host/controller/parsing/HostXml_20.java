@@ -25,6 +25,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LOC
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LOOPBACK;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_INTERFACE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_CONCURRENT_SERVER_STARTS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAMES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NATIVE_INTERFACE;
@@ -83,6 +84,7 @@ import org.jboss.as.controller.parsing.ProfileParsingCompletionHandler;
 import org.jboss.as.controller.parsing.WriteUtils;
 import org.jboss.as.controller.persistence.ModelMarshallingContext;
 import org.jboss.as.controller.xml.VersionedNamespace;
+import org.jboss.as.domain.management.CoreManagementResourceDefinition;
 import org.jboss.as.domain.management.parsing.AuditLogXml;
 import org.jboss.as.domain.management.parsing.ManagementXml;
 import org.jboss.as.domain.management.parsing.ManagementXmlDelegate;
@@ -226,12 +228,14 @@ final class HostXml_20 extends CommonXml implements ManagementXmlDelegate {
             writer.writeStartElement(Element.SERVERS.getLocalName());
             // Write the directory grouping
             HostResourceDefinition.DIRECTORY_GROUPING.marshallAsAttribute(modelNode, writer);
+            writeServersAttributes(writer, modelNode);
             writeServers(writer, modelNode.get(SERVER_CONFIG));
             writer.writeEndElement();
-        } else if (modelNode.hasDefined(DIRECTORY_GROUPING)) {
-            // In case there are no servers defined, write an empty element, preserving the directory grouping
+        } else if (modelNode.hasDefined(DIRECTORY_GROUPING) || (stability.enables(Stability.COMMUNITY) && modelNode.hasDefined(MAX_CONCURRENT_SERVER_STARTS))) {
+            // In case there are no servers defined, write an empty element, preserving the directory grouping and start limit
             writer.writeEmptyElement(Element.SERVERS.getLocalName());
             HostResourceDefinition.DIRECTORY_GROUPING.marshallAsAttribute(modelNode, writer);
+            writeServersAttributes(writer, modelNode);
         }
 
         writeHostProfile(writer, context);
@@ -437,6 +441,15 @@ final class HostXml_20 extends CommonXml implements ManagementXmlDelegate {
                         }
                         break;
                     }
+                    case HTTP2: {
+                        // Can't pull the Stability level from the attribute definition as to move would mean a new major version of the schema.
+                        if (stability.enables(Stability.COMMUNITY)) {
+                            HttpManagementResourceDefinition.HTTP2.parseAndSetParameter(value, addOp, reader);
+                        } else {
+                            throw unexpectedAttribute(reader, i);
+                        }
+                        break;
+                    }
                     default:
                         throw unexpectedAttribute(reader, i);
                 }
@@ -1173,6 +1186,16 @@ final class HostXml_20 extends CommonXml implements ManagementXmlDelegate {
                                 parseAttributeValue(HostResourceDefinition.DIRECTORY_GROUPING, value,reader)));
                         break;
                     }
+                    case MAX_CONCURRENT_SERVER_STARTS: {
+                        // Can't pull the Stability level from the attribute definition as to move would mean a new major version of the schema.
+                        if (stability.enables(Stability.COMMUNITY)) {
+                            list.add(Util.getWriteAttributeOperation(parentAddress.clone(), MAX_CONCURRENT_SERVER_STARTS,
+                                    parseAttributeValue(HostResourceDefinition.MAX_CONCURRENT_SERVER_STARTS, value, reader)));
+                        } else {
+                            throw unexpectedAttribute(reader, i);
+                        }
+                        break;
+                    }
                     default:
                         throw unexpectedAttribute(reader, i);
                 }
@@ -1619,6 +1642,12 @@ final class HostXml_20 extends CommonXml implements ManagementXmlDelegate {
         }
     }
 
+    private void writeServersAttributes(final XMLExtendedStreamWriter writer, final ModelNode modelNode) throws XMLStreamException {
+        if (stability.enables(Stability.COMMUNITY)) {
+            HostResourceDefinition.MAX_CONCURRENT_SERVER_STARTS.marshallAsAttribute(modelNode, writer);
+        }
+    }
+
     private void writeServers(final XMLExtendedStreamWriter writer, final ModelNode modelNode) throws XMLStreamException {
 
         for (String serverName : modelNode.keys()) {
@@ -1685,6 +1714,43 @@ final class HostXml_20 extends CommonXml implements ManagementXmlDelegate {
      * ManagamentXmlDelegate Methods
      */
 
+    @Override
+    public boolean parseManagementAttributes(XMLExtendedStreamReader reader, ModelNode address, List<ModelNode> operationsList)
+            throws XMLStreamException {
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            final String value = reader.getAttributeValue(i);
+            if (!isNoNamespaceAttribute(reader, i)) {
+                throw unexpectedAttribute(reader, i);
+            } else {
+                final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+                switch (attribute) {
+                    case VIRTUAL_THREADS: {
+                        // Can't pull the Stability level from the attribute definition as to move would mean a new major version of the schema.
+                        if (stability.enables(Stability.COMMUNITY)) {
+                            operationsList.add(Util.getWriteAttributeOperation(address.clone(), CoreManagementResourceDefinition.VIRTUAL_THREADS.getName(),
+                                    parseAttributeValue(CoreManagementResourceDefinition.VIRTUAL_THREADS, value, reader)));
+                        } else {
+                            throw unexpectedAttribute(reader, i);
+                        }
+                        break;
+                    }
+                    default:
+                        throw unexpectedAttribute(reader, i);
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean writeManagementAttributes(XMLExtendedStreamWriter writer, ModelNode management) throws XMLStreamException {
+        if (stability.enables(Stability.COMMUNITY)) {
+            CoreManagementResourceDefinition.VIRTUAL_THREADS.marshallAsAttribute(management, writer);
+        }
+        return true;
+    }
+
     @Override
     public boolean parseManagementInterfaces(XMLExtendedStreamReader reader, ModelNode address, List<ModelNode> operationsList)
             throws XMLStreamException {
@@ -1760,6 +1826,7 @@ final class HostXml_20 extends CommonXml implements ManagementXmlDelegate {
             HttpManagementResourceDefinition.NO_REQUEST_TIMEOUT.marshallAsAttribute(protocol, writer);
             HttpManagementResourceDefinition.CONNECTION_HIGH_WATER.marshallAsAttribute(protocol, writer);
             HttpManagementResourceDefinition.CONNECTION_LOW_WATER.marshallAsAttribute(protocol, writer);
+            HttpManagementResourceDefinition.HTTP2.marshallAsAttribute(protocol, writer);
         }
 
         if (HttpManagementResourceDefinition.HTTP_UPGRADE.isMarshallable(protocol)) {
@@ -22,6 +22,7 @@ import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.management.BaseHttpInterfaceResourceDefinition;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.registry.RuntimePackageDependency;
 import org.jboss.as.host.controller.HostControllerEnvironment;
@@ -92,6 +93,12 @@ public class HttpManagementResourceDefinition extends BaseHttpInterfaceResourceD
         return new HttpManagementResourceDefinition(add, remove);
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        org.jboss.as.server.mgmt.HttpManagementResourceDefinition.registerConnectionMetrics(resourceRegistration);
+    }
+
     @Override
     protected AttributeDefinition[] getAttributeDefinitions() {
         return ATTRIBUTE_DEFINITIONS;
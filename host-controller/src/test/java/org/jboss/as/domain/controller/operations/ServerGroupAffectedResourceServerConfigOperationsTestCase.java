@@ -656,6 +656,11 @@ public class ServerGroupAffectedResourceServerConfigOperationsTestCase extends A
             throw new UnsupportedOperationException("Not supported yet.");
         }
 
+        @Override
+        public long getServerBootTime(String serverName) {
+            throw new UnsupportedOperationException("Not supported yet.");
+        }
+
         @Override
         public List<ModelNode> suspendServers(Set<String> serverNames, BlockingTimeout blockingTimeout) {
             throw new UnsupportedOperationException("Not supported yet.");
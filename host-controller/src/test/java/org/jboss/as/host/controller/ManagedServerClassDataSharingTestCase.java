@@ -0,0 +1,126 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.host.controller;
+
+import static org.jboss.as.host.controller.HostControllerEnvironment.HOME_DIR;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.as.controller.RunningMode;
+import org.jboss.as.host.controller.model.jvm.JvmType;
+import org.jboss.as.version.ProductConfig;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ManagedServerClassDataSharing}.
+ */
+public class ManagedServerClassDataSharingTestCase {
+
+    private static final Path homeDir = new File(System.getProperty("basedir", ".")).toPath().resolve("target").resolve("wildfly-cds");
+    private static final Path configurationDir = homeDir.resolve("domain").resolve("configuration");
+    private static final String JAVA = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+
+    @BeforeClass
+    public static void createHomeDir() throws IOException {
+        Files.createDirectories(configurationDir);
+    }
+
+    @AfterClass
+    public static void clean() throws IOException {
+        if (Files.exists(homeDir)) {
+            Files.walkFileTree(homeDir, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    Files.delete(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                    Files.delete(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+    }
+
+    private static HostControllerEnvironment getTestHostEnvironment() throws UnknownHostException {
+        Map<String, String> hostSystemProperties = new HashMap<>();
+        hostSystemProperties.put(HOME_DIR, homeDir.toAbsolutePath().toString());
+        return new HostControllerEnvironment(
+                hostSystemProperties, false, "/opt/wildfly/modules",
+                InetAddress.getLocalHost(), 8080, InetAddress.getLocalHost(), 9990, null, null, null, null, null,
+                RunningMode.NORMAL, true, true, new ProductConfig(null, null, null));
+    }
+
+    @Test
+    public void testEnabledBySystemProperty() {
+        Assert.assertFalse(ManagedServerClassDataSharing.isEnabled());
+        System.setProperty(ManagedServerClassDataSharing.CLASS_DATA_SHARING_PROP, "true");
+        try {
+            Assert.assertTrue(ManagedServerClassDataSharing.isEnabled());
+        } finally {
+            System.clearProperty(ManagedServerClassDataSharing.CLASS_DATA_SHARING_PROP);
+        }
+    }
+
+    @Test
+    public void testOnlySupportedByHotSpot() {
+        Assert.assertTrue(ManagedServerClassDataSharing.isSupported(JvmType.ORACLE));
+        Assert.assertTrue(ManagedServerClassDataSharing.isSupported(JvmType.SUN));
+        Assert.assertFalse(ManagedServerClassDataSharing.isSupported(JvmType.IBM));
+        Assert.assertFalse(ManagedServerClassDataSharing.isSupported(JvmType.OTHER));
+    }
+
+    @Test
+    public void testArchiveRecordedOnceThenShared() throws IOException {
+        final HostControllerEnvironment environment = getTestHostEnvironment();
+
+        // The first server of the group records the archive
+        List<String> options = ManagedServerClassDataSharing.getJvmOptions(environment, "server-one", "record-group", JAVA);
+        Assert.assertEquals(options.toString(), 1, options.size());
+        Assert.assertTrue(options.toString(), options.get(0).startsWith("-XX:ArchiveClassesAtExit="));
+        final File archive = new File(options.get(0).substring("-XX:ArchiveClassesAtExit=".length()));
+
+        // Another server of the group started meanwhile neither records nor uses it
+        Assert.assertTrue(ManagedServerClassDataSharing.getJvmOptions(environment, "server-two", "record-group", JAVA).isEmpty());
+
+        // The archive is written when the recording server stops
+        Files.write(archive.toPath(), new byte[] {0});
+        ManagedServerClassDataSharing.serverStopped("server-one");
+
+        options = ManagedServerClassDataSharing.getJvmOptions(environment, "server-two", "record-group", JAVA);
+        Assert.assertEquals(options.toString(), 1, options.size());
+        Assert.assertEquals("-XX:SharedArchiveFile=" + archive.getAbsolutePath(), options.get(0));
+    }
+
+    @Test
+    public void testRecordingRetriedBySameServer() throws IOException {
+        final HostControllerEnvironment environment = getTestHostEnvironment();
+
+        List<String> options = ManagedServerClassDataSharing.getJvmOptions(environment, "server-three", "retry-group", JAVA);
+        Assert.assertTrue(options.toString(), options.get(0).startsWith("-XX:ArchiveClassesAtExit="));
+
+        // Restarted before it got to write the archive
+        options = ManagedServerClassDataSharing.getJvmOptions(environment, "server-three", "retry-group", JAVA);
+        Assert.assertTrue(options.toString(), options.get(0).startsWith("-XX:ArchiveClassesAtExit="));
+        ManagedServerClassDataSharing.serverStopped("server-three");
+    }
+}
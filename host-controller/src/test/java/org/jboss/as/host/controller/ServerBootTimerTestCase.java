@@ -0,0 +1,77 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.host.controller;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Tests of the measurement of the boot time of managed servers by {@link ServerBootTimer}.
+ */
+public class ServerBootTimerTestCase {
+
+    private final AtomicLong nanoTime = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private final ServerBootTimer timer = new ServerBootTimer(nanoTime::get);
+
+    private void advance(final long millis) {
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    public void testBootTime() {
+        assertEquals(-1, timer.getLastBootTime());
+
+        timer.startRequested();
+        advance(1500);
+        assertEquals(1500, timer.started());
+        assertEquals(1500, timer.getLastBootTime());
+
+        // A later boot replaces the boot time
+        advance(10000);
+        timer.startRequested();
+        advance(800);
+        assertEquals(800, timer.started());
+        assertEquals(800, timer.getLastBootTime());
+    }
+
+    @Test
+    public void testStartedWithoutRequest() {
+        // e.g. a server the host controller reconnected to
+        assertEquals(-1, timer.started());
+        assertEquals(-1, timer.getLastBootTime());
+
+        timer.startRequested();
+        advance(1000);
+        timer.started();
+        // A server reporting it started again without a new request doesn't change the boot time
+        advance(5000);
+        assertEquals(-1, timer.started());
+        assertEquals(1000, timer.getLastBootTime());
+    }
+
+    @Test
+    public void testFailedStart() {
+        timer.startRequested();
+        advance(1000);
+        timer.started();
+
+        timer.startRequested();
+        advance(2000);
+        timer.startFailed();
+        assertEquals(1000, timer.getLastBootTime());
+
+        // The time of the failed attempt isn't counted in the next boot
+        advance(2000);
+        assertEquals(-1, timer.started());
+        timer.startRequested();
+        advance(700);
+        assertEquals(700, timer.started());
+    }
+}
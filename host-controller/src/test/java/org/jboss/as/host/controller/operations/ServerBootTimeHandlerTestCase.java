@@ -0,0 +1,45 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.host.controller.operations;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.host.controller.ServerInventory;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Tests of the boot-time metric of a server-config reported by {@link ServerBootTimeHandler}.
+ */
+public class ServerBootTimeHandlerTestCase {
+
+    private final ServerInventory serverInventory = mock(ServerInventory.class);
+    private final OperationContext context = mock(OperationContext.class);
+    private final ModelNode result = new ModelNode();
+
+    private ModelNode readBootTime(final String serverName) throws Exception {
+        doReturn(serverName).when(context).getCurrentAddressValue();
+        doReturn(result).when(context).getResult();
+        new ServerBootTimeHandler(serverInventory).execute(context, new ModelNode());
+        return result;
+    }
+
+    @Test
+    public void testBootTime() throws Exception {
+        doReturn(1234L).when(serverInventory).getServerBootTime("server-one");
+        assertEquals(1234L, readBootTime("server-one").asLong());
+    }
+
+    @Test
+    public void testNotBooted() throws Exception {
+        doReturn(-1L).when(serverInventory).getServerBootTime("server-one");
+        assertFalse(readBootTime("server-one").isDefined());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.host.controller.operations;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.jboss.as.host.controller.ServerInventory;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+/**
+ * Tests of the bound on the number of servers booting at the same time when {@link StartServersHandler} starts servers.
+ */
+public class StartServersHandlerTestCase {
+
+    private final ServerInventory serverInventory = mock(ServerInventory.class);
+    private final ModelNode domainModel = new ModelNode();
+
+    @Before
+    public void checkNotSequential() {
+        // Servers started sequentially have completed their boot before the next one is started
+        Assume.assumeFalse(StartServersHandler.START_BLOCKING);
+    }
+
+    private void start(final StartServersHandler.ServerStarter starter, final String... serverNames) {
+        for (String serverName : serverNames) {
+            starter.startServer(serverName);
+        }
+    }
+
+    private void verifyStarted(final InOrder inOrder, final String serverName) {
+        inOrder.verify(serverInventory).startServer(serverName, domainModel, false, false);
+    }
+
+    private void verifyAwaited(final InOrder inOrder, final String serverName) {
+        inOrder.verify(serverInventory).awaitServersState(Collections.singleton(serverName), true);
+    }
+
+    @Test
+    public void testUnbounded() {
+        start(new StartServersHandler.ServerStarter(serverInventory, domainModel, 0), "a", "b", "c", "d");
+
+        final InOrder inOrder = inOrder(serverInventory);
+        for (String serverName : new String[] {"a", "b", "c", "d"}) {
+            verifyStarted(inOrder, serverName);
+        }
+        verify(serverInventory, never()).awaitServersState(any(), anyBoolean());
+    }
+
+    @Test
+    public void testBounded() {
+        start(new StartServersHandler.ServerStarter(serverInventory, domainModel, 2), "a", "b", "c", "d", "e");
+
+        // The next server is started once the first started of those booting has booted
+        final InOrder inOrder = inOrder(serverInventory);
+        verifyStarted(inOrder, "a");
+        verifyStarted(inOrder, "b");
+        verifyAwaited(inOrder, "a");
+        verifyStarted(inOrder, "c");
+        verifyAwaited(inOrder, "b");
+        verifyStarted(inOrder, "d");
+        verifyAwaited(inOrder, "c");
+        verifyStarted(inOrder, "e");
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void testFailedStartIsNotAwaited() {
+        doThrow(new IllegalStateException()).when(serverInventory).startServer(eq("b"), any(ModelNode.class), anyBoolean(), anyBoolean());
+
+        start(new StartServersHandler.ServerStarter(serverInventory, domainModel, 1), "a", "b", "c");
+
+        final InOrder inOrder = inOrder(serverInventory);
+        verifyStarted(inOrder, "a");
+        verifyAwaited(inOrder, "a");
+        verifyStarted(inOrder, "b");
+        // b isn't booting, so c is started right away
+        verifyStarted(inOrder, "c");
+        inOrder.verifyNoMoreInteractions();
+        verify(serverInventory, never()).awaitServersState(eq(Collections.singleton("b")), anyBoolean());
+    }
+}
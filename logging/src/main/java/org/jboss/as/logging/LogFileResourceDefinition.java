@@ -9,6 +9,7 @@ import static org.jboss.as.logging.CommonAttributes.ENCODING;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -156,7 +157,7 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
                 validateFile(context, logDir, name);
                 final Path path = Paths.get(logDir, name);
                 try {
-                    String uuid = context.attachResultStream("text/plain", Files.newInputStream(path));
+                    String uuid = context.attachResultStream("text/plain", new FileInputStream(path.toFile()));
                     context.getResult().set(uuid);
                 } catch (IOException e) {
                     throw new RuntimeException(e);
@@ -16,6 +16,7 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import org.jboss.as.controller.management.ManagementRequestExecutors;
 import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceController;
@@ -55,10 +56,29 @@ public class ExternalManagementRequestExecutor implements Service<ExecutorServic
     // We provide a fairly large but not unlimited queue to avoid rejecting requests.
     private static final int DEFAULT_POOL_SIZE = 10;
     private static final int WORK_QUEUE_SIZE = 512;
+    private static final String EXECUTOR_NAME = "External Management Request Threads";
     private static final String POOL_SIZE_PROP = "org.wildfly.unsupported.external.management.pool-size";
 
+    /** Whether the HTTP management interface using the executor has HTTP/2 enabled, read when the executor starts. */
+    private static volatile boolean http2Enabled;
+
+    /**
+     * Sets whether the HTTP management interface has HTTP/2 enabled. The executor is only started on demand of the HTTP
+     * management interface, so this is called by the interface's add handler before it installs its service.
+     *
+     * @param enabled {@code true} if HTTP/2 is enabled
+     */
+    public static void setHttp2Enabled(final boolean enabled) {
+        http2Enabled = enabled;
+    }
+
     private static int getPoolSize() {
         int defaultThreads = DEFAULT_POOL_SIZE;
+        if (http2Enabled) {
+            // HTTP/2 clients send their concurrent requests as streams of a single connection instead of queueing them
+            // for a connection of their own, so allow as many of them to run as the processors can handle
+            defaultThreads = Math.max(DEFAULT_POOL_SIZE, 2 * Runtime.getRuntime().availableProcessors());
+        }
         String maxThreads = WildFlySecurityManager.getPropertyPrivileged(POOL_SIZE_PROP, null);
         if (maxThreads != null && maxThreads.length() > 0) {
             try {
@@ -89,7 +109,7 @@ public class ExternalManagementRequestExecutor implements Service<ExecutorServic
 
     @Override
     public synchronized void start(StartContext context) throws StartException {
-        final String namePattern = "External Management Request Threads -- %t";
+        final String namePattern = EXECUTOR_NAME + " -- %t";
         final ThreadFactory threadFactory = doPrivileged(new PrivilegedAction<ThreadFactory>() {
             public ThreadFactory run() {
                 return new JBossThreadFactory(threadGroup, Boolean.FALSE, null, namePattern, null, null);
@@ -97,18 +117,24 @@ public class ExternalManagementRequestExecutor implements Service<ExecutorServic
         });
 
         int poolSize = getPoolSize();
+        if (ManagementRequestExecutors.isVirtualThreadsEnabled()) {
+            // Requests blocked e.g. waiting for services to stabilize don't hold a pool thread, accept as many
+            // requests as the pool would have run or queued
+            executorService = ManagementRequestExecutors.createVirtualThreadExecutor(EXECUTOR_NAME, poolSize + WORK_QUEUE_SIZE);
+            return;
+        }
         if (EnhancedQueueExecutor.DISABLE_HINT) {
             final BlockingQueue<Runnable> workQueue = new LinkedBlockingQueue<Runnable>(WORK_QUEUE_SIZE);
-            executorService = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
-                    workQueue, threadFactory);
+            executorService = ManagementRequestExecutors.track(EXECUTOR_NAME, new ThreadPoolExecutor(poolSize, poolSize,
+                    60L, TimeUnit.SECONDS, workQueue, threadFactory));
         } else {
-            executorService = new EnhancedQueueExecutor.Builder()
+            executorService = ManagementRequestExecutors.track(EXECUTOR_NAME, new EnhancedQueueExecutor.Builder()
                 .setCorePoolSize(poolSize)
                 .setMaximumPoolSize(poolSize)
                 .setKeepAliveTime(60L, TimeUnit.SECONDS)
                 .setMaximumQueueSize(WORK_QUEUE_SIZE)
                 .setThreadFactory(threadFactory)
-                .build();
+                .build());
         }
     }
 
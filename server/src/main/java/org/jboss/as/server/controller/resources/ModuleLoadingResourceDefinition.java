@@ -23,6 +23,7 @@ import java.security.PrivilegedExceptionAction;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.management.JMX;
 import javax.management.MBeanServer;
@@ -42,9 +43,11 @@ import org.jboss.as.controller.SimpleListAttributeDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.client.helpers.JBossModulesNameUtil;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.server.controller.descriptions.ServerDescriptions;
+import org.jboss.as.server.deployment.module.ResourceRootIndexCache;
 import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -66,15 +69,38 @@ public class ModuleLoadingResourceDefinition extends SimpleResourceDefinition {
 
     private static final AttributeDefinition MODULE_NAME = new SimpleAttributeDefinitionBuilder(MODULE, ModelType.STRING).build();
 
-    public static final ModuleLoadingResourceDefinition INSTANCE = new ModuleLoadingResourceDefinition();
+    private static final AttributeDefinition DEPLOYMENT_INDEX_CACHE_HITS = new SimpleAttributeDefinitionBuilder("deployment-index-cache-hits", ModelType.LONG)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
 
-    private ModuleLoadingResourceDefinition() {
+    private static final AttributeDefinition DEPLOYMENT_INDEX_CACHE_MISSES = new SimpleAttributeDefinitionBuilder("deployment-index-cache-misses", ModelType.LONG)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
+    private static final AttributeDefinition DEPLOYMENT_INDEX_CACHE_SAVED_TIME = new SimpleAttributeDefinitionBuilder("deployment-index-cache-saved-time", ModelType.LONG)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+
+    /** The resource of a host controller */
+    public static final ModuleLoadingResourceDefinition INSTANCE = new ModuleLoadingResourceDefinition(false);
+
+    /** The resource of a server, which also reports on the index cache of deployment modules */
+    public static final ModuleLoadingResourceDefinition SERVER_INSTANCE = new ModuleLoadingResourceDefinition(true);
+
+    private final boolean server;
+
+    private ModuleLoadingResourceDefinition(boolean server) {
         super(new Parameters(PathElement.pathElement(CORE_SERVICE, MODULE_LOADING),
                 ServerDescriptions.getResourceDescriptionResolver("core", MODULE_LOADING))
                 .setAccessConstraints(SensitiveTargetAccessConstraintDefinition.MODULE_LOADING)
                 .setFeature(false) // TODO this is not needed when setRuntime is set but just in case I'm wrong and removing it will break urgent Galleon work I'm leaving it
                 .setRuntime()
         );
+        this.server = server;
     }
 
     @Override
@@ -86,6 +112,14 @@ public class ModuleLoadingResourceDefinition extends SimpleResourceDefinition {
                 .setDeprecated(ModelVersion.create(1, 4, 0))
                 .build();
         resourceRegistration.registerReadOnlyAttribute(ad, new ListModuleRootsHandler());
+        if (server) {
+            resourceRegistration.registerMetric(DEPLOYMENT_INDEX_CACHE_HITS,
+                    (context, operation) -> context.getResult().set(ResourceRootIndexCache.getHitCount()));
+            resourceRegistration.registerMetric(DEPLOYMENT_INDEX_CACHE_MISSES,
+                    (context, operation) -> context.getResult().set(ResourceRootIndexCache.getMissCount()));
+            resourceRegistration.registerMetric(DEPLOYMENT_INDEX_CACHE_SAVED_TIME,
+                    (context, operation) -> context.getResult().set(ResourceRootIndexCache.getSavedTime(TimeUnit.MILLISECONDS)));
+        }
     }
 
     @Override
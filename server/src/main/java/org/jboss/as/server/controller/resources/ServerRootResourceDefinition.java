@@ -524,7 +524,7 @@ public class ServerRootResourceDefinition extends SimpleResourceDefinition {
         resourceRegistration.registerSubModel(new ServiceContainerResourceDefinition());
 
         //module loading
-        resourceRegistration.registerSubModel(ModuleLoadingResourceDefinition.INSTANCE);
+        resourceRegistration.registerSubModel(ModuleLoadingResourceDefinition.SERVER_INSTANCE);
 
         // Platform MBeans
         PlatformMBeanResourceRegistrar.registerPlatformMBeanResources(resourceRegistration);
@@ -52,7 +52,7 @@ public class ManagedDeploymentReadContentHandler implements OperationStepHandler
         final String path = contentPath.isDefined() ? contentPath.asString() : "";
         try {
             TypedInputStream inputStream = contentRepository.readContent(deploymentHash, path);
-            String uuid = context.attachResultStream(inputStream.getContentType(), inputStream);
+            String uuid = context.attachResultStream(inputStream.getContentType(), inputStream.getResponseStream());
             context.getResult().get(UUID).set(uuid);
         } catch (ExplodedContentException ex) {
             throw createFailureException(ex.toString());
@@ -18,6 +18,7 @@ import java.util.PropertyPermission;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import org.jboss.as.server.ServerEnvironment;
 import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
@@ -63,6 +64,22 @@ public class ModuleSpecProcessor implements DeploymentUnitProcessor {
 
     private static final ServerLogger logger = ServerLogger.DEPLOYMENT_LOGGER;
 
+    private final ResourceRootIndexCache indexCache;
+
+    public ModuleSpecProcessor() {
+        this(null);
+    }
+
+    /**
+     * Construct a processor which caches the index of deployment resource roots in the server data directory when
+     * enabled via the {@value ResourceRootIndexCache#INDEX_CACHE_PROP} system property.
+     *
+     * @param serverEnvironment the server environment, may be {@code null} in which case nothing is cached
+     */
+    public ModuleSpecProcessor(final ServerEnvironment serverEnvironment) {
+        this.indexCache = ResourceRootIndexCache.create(serverEnvironment);
+    }
+
     @Override
     public void deploy(final DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
@@ -219,7 +236,7 @@ public class ModuleSpecProcessor implements DeploymentUnitProcessor {
 
         for (final ResourceRoot resourceRoot : resourceRoots) {
             logger.debugf("Adding resource %s to module %s", resourceRoot.getRoot(), moduleIdentifier);
-            addResourceRoot(specBuilder, resourceRoot, permFactories);
+            addResourceRoot(specBuilder, deploymentUnit, resourceRoot, permFactories);
         }
 
         createDependencies(specBuilder, dependencies, false);
@@ -348,20 +365,21 @@ public class ModuleSpecProcessor implements DeploymentUnitProcessor {
         }
     }
 
-    private void addResourceRoot(final ModuleSpec.Builder specBuilder, final ResourceRoot resource, final List<PermissionFactory> permFactories)
-            throws DeploymentUnitProcessingException {
+    private void addResourceRoot(final ModuleSpec.Builder specBuilder, final DeploymentUnit deploymentUnit, final ResourceRoot resource,
+                                 final List<PermissionFactory> permFactories) throws DeploymentUnitProcessingException {
         try {
             final VirtualFile root = resource.getRoot();
+            final VFSResourceLoader resourceLoader = indexCache == null
+                    ? new VFSResourceLoader(resource.getRootName(), root, resource.isUsePhysicalCodeSource())
+                    : indexCache.createResourceLoader(deploymentUnit, resource);
             if (resource.getExportFilters().isEmpty()) {
-                specBuilder.addResourceRoot(ResourceLoaderSpec.createResourceLoaderSpec(new VFSResourceLoader(resource
-                        .getRootName(), root, resource.isUsePhysicalCodeSource())));
+                specBuilder.addResourceRoot(ResourceLoaderSpec.createResourceLoaderSpec(resourceLoader));
             } else {
                 final MultiplePathFilterBuilder filterBuilder = PathFilters.multiplePathFilterBuilder(true);
                 for (final FilterSpecification filter : resource.getExportFilters()) {
                     filterBuilder.addFilter(filter.getPathFilter(), filter.isInclude());
                 }
-                specBuilder.addResourceRoot(ResourceLoaderSpec.createResourceLoaderSpec(new VFSResourceLoader(resource
-                        .getRootName(), root, resource.isUsePhysicalCodeSource()), filterBuilder.create()));
+                specBuilder.addResourceRoot(ResourceLoaderSpec.createResourceLoaderSpec(resourceLoader, filterBuilder.create()));
             }
             // start with the root
             permFactories.add(new ImmediatePermissionFactory(
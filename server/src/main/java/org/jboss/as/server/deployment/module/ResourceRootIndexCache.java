@@ -0,0 +1,379 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.server.deployment.module;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.as.controller.HashUtil;
+import org.jboss.as.server.ServerEnvironment;
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.DeploymentUtils;
+import org.jboss.as.server.deploymentoverlay.DeploymentOverlayIndex;
+import org.jboss.as.server.logging.ServerLogger;
+import org.jboss.vfs.VirtualFile;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * A persistent cache of the path index of deployment resource roots, sparing the walk of the resource root
+ * {@link VFSResourceLoader#getPaths()} otherwise performs every time a deployment module is linked.
+ * <p>
+ * Enabled via the {@value #INDEX_CACHE_PROP} system property, the indexes are stored in the {@code module-index}
+ * directory of the server data directory, one directory per deployment. An index is only reused if the deployment
+ * content it was built from is unchanged, which is checked using the path, size and last modification time of the
+ * content; for managed content the path includes the content hash. The content hashes of the deployment overlays
+ * applying to the deployment are part of the check as well, since overlays replace files of the deployment content.
+ * Exploded deployments are never cached as their content can change in place.
+ * <p>
+ * The directory of a deployment is emptied when the deployment content changes, and deleted when the server boots if
+ * the deployment content it was built from no longer exists.
+ */
+public final class ResourceRootIndexCache {
+
+    static final String INDEX_CACHE_PROP = "jboss.server.deployment.module-index-cache";
+
+    private static final String CACHE_DIR = "module-index";
+    private static final String INDEX_SUFFIX = ".index";
+    private static final String CONTENT_FILE = "content";
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong savedNanos = new AtomicLong();
+
+    private final File cacheDir;
+
+    ResourceRootIndexCache(final File cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * Create the cache for a server, if enabled.
+     *
+     * @param environment the server environment, may be {@code null}
+     * @return the cache or {@code null} if the cache is disabled or there is no server environment
+     */
+    static ResourceRootIndexCache create(final ServerEnvironment environment) {
+        if (environment == null || !Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(INDEX_CACHE_PROP, "false"))) {
+            return null;
+        }
+        final ResourceRootIndexCache cache = new ResourceRootIndexCache(new File(environment.getServerDataDir(), CACHE_DIR));
+        cache.prune();
+        return cache;
+    }
+
+    /**
+     * Gets the number of resource root indexes read from the cache since the server started.
+     *
+     * @return the number of cache hits
+     */
+    public static long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of resource root indexes which had to be built since the server started, as they were not cached
+     * or their cached index was stale.
+     *
+     * @return the number of cache misses
+     */
+    public static long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the time saved by reading resource root indexes from the cache rather than building them since the server
+     * started.
+     *
+     * @param unit the unit of the result
+     * @return the saved time
+     */
+    public static long getSavedTime(final TimeUnit unit) {
+        return unit.convert(savedNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Delete the directories of deployments whose content no longer exists or changed since their indexes were cached,
+     * i.e. of deployments which were removed or replaced.
+     */
+    void prune() {
+        final File[] dirs = cacheDir.listFiles(File::isDirectory);
+        if (dirs == null) {
+            return;
+        }
+        for (File dir : dirs) {
+            final DeploymentContent content = DeploymentContent.read(new File(dir, CONTENT_FILE));
+            if (content == null || !content.exists()) {
+                delete(dir);
+            }
+        }
+    }
+
+    /**
+     * Create the resource loader of a resource root of a deployment module.
+     *
+     * @param deploymentUnit the deployment unit the module belongs to
+     * @param resource the resource root
+     * @return a resource loader using the cache if the deployment content allows it
+     * @throws IOException if the resource loader could not be created
+     */
+    VFSResourceLoader createResourceLoader(final DeploymentUnit deploymentUnit, final ResourceRoot resource) throws IOException {
+        final DeploymentUnit top = DeploymentUtils.getTopDeploymentUnit(deploymentUnit);
+        final VirtualFile contents = top.getAttachment(Attachments.DEPLOYMENT_CONTENTS);
+        final ResourceRoot deploymentRoot = top.getAttachment(Attachments.DEPLOYMENT_ROOT);
+        if (contents != null && contents.isFile() && deploymentRoot != null) {
+            final String rootPath;
+            try {
+                rootPath = resource.getRoot().getPathNameRelativeTo(deploymentRoot.getRoot());
+            } catch (IllegalArgumentException e) {
+                // The resource root is not part of the deployment content, e.g. a Class-Path entry referencing an external jar
+                return new VFSResourceLoader(resource.getRootName(), resource.getRoot(), resource.isUsePhysicalCodeSource());
+            }
+            final DeploymentContent content = new DeploymentContent(contents.getPathName(), contents.getSize(), contents.getLastModified());
+            final File deploymentDir = new File(cacheDir, sha1(top.getName()));
+            prepareDeploymentDir(deploymentDir, content);
+            final String contentKey = content.toKey() + overlayKey(top, deploymentUnit);
+            final File indexFile = new File(deploymentDir, sha1(rootPath) + INDEX_SUFFIX);
+            return new CachingResourceLoader(resource, top.getName(), contentKey, rootPath, indexFile);
+        }
+        return new VFSResourceLoader(resource.getRootName(), resource.getRoot(), resource.isUsePhysicalCodeSource());
+    }
+
+    /**
+     * Record the content the indexes of a deployment are built from, discarding the indexes built from previous content.
+     */
+    private synchronized void prepareDeploymentDir(final File deploymentDir, final DeploymentContent content) {
+        final File contentFile = new File(deploymentDir, CONTENT_FILE);
+        if (content.equals(DeploymentContent.read(contentFile))) {
+            return;
+        }
+        delete(deploymentDir);
+        try {
+            Files.createDirectories(deploymentDir.toPath());
+            Files.write(contentFile.toPath(), content.toLines(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // The indexes will be written, and then found stale when the content file is missing
+            ServerLogger.DEPLOYMENT_LOGGER.debugf(e, "Failed to write %s", contentFile);
+        }
+    }
+
+    /**
+     * The paths and content hashes of the deployment overlays applying to a deployment unit and its top level deployment.
+     */
+    private static String overlayKey(final DeploymentUnit top, final DeploymentUnit deploymentUnit) {
+        final DeploymentOverlayIndex overlays = top.getAttachment(Attachments.DEPLOYMENT_OVERLAY_INDEX);
+        if (overlays == null) {
+            return "";
+        }
+        final Map<String, String> hashes = new TreeMap<>();
+        for (Map.Entry<String, byte[]> entry : overlays.getOverlays(top.getName()).entrySet()) {
+            hashes.put(entry.getKey(), HashUtil.bytesToHexString(entry.getValue()));
+        }
+        if (deploymentUnit != top) {
+            for (Map.Entry<String, byte[]> entry : overlays.getOverlays(deploymentUnit.getName()).entrySet()) {
+                hashes.put(deploymentUnit.getName() + '/' + entry.getKey(), HashUtil.bytesToHexString(entry.getValue()));
+            }
+        }
+        final StringBuilder key = new StringBuilder();
+        for (Map.Entry<String, String> entry : hashes.entrySet()) {
+            key.append('|').append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return key.toString();
+    }
+
+    private static void delete(final File file) {
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static String sha1(final String value) {
+        try {
+            return HashUtil.bytesToHexString(MessageDigest.getInstance("SHA-1").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final class CachingResourceLoader extends VFSResourceLoader {
+
+        private final String rootName;
+        private final String deploymentName;
+        private final String contentKey;
+        private final String rootPath;
+        private final File indexFile;
+
+        CachingResourceLoader(final ResourceRoot resource, final String deploymentName, final String contentKey,
+                              final String rootPath, final File indexFile) throws IOException {
+            super(resource.getRootName(), resource.getRoot(), resource.isUsePhysicalCodeSource());
+            this.rootName = resource.getRootName();
+            this.deploymentName = deploymentName;
+            this.contentKey = contentKey;
+            this.rootPath = rootPath;
+            this.indexFile = indexFile;
+        }
+
+        @Override
+        public Collection<String> getPaths() {
+            final long start = System.nanoTime();
+            final Cached cached = read();
+            if (cached != null) {
+                final long saved = Math.max(0, cached.buildNanos - (System.nanoTime() - start));
+                hits.incrementAndGet();
+                final long total = savedNanos.addAndGet(saved);
+                ServerLogger.DEPLOYMENT_LOGGER.reusedResourceRootIndex(rootName, deploymentName,
+                        TimeUnit.NANOSECONDS.toMillis(saved), TimeUnit.NANOSECONDS.toMillis(total));
+                return cached.paths;
+            }
+            misses.incrementAndGet();
+            final Collection<String> paths = super.getPaths();
+            write(paths, System.nanoTime() - start);
+            return paths;
+        }
+
+        /**
+         * The index file holds the content key, the path of the resource root within the deployment and the time the
+         * index took to build, followed by one path per line.
+         */
+        private Cached read() {
+            if (!indexFile.isFile()) {
+                return null;
+            }
+            try (BufferedReader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8)) {
+                if (!contentKey.equals(reader.readLine()) || !rootPath.equals(reader.readLine())) {
+                    // Stale, the deployment content or its overlays have been replaced since the index was written
+                    return null;
+                }
+                final String buildNanos = reader.readLine();
+                if (buildNanos == null) {
+                    return null;
+                }
+                final List<String> paths = new ArrayList<>();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    paths.add(line);
+                }
+                return new Cached(Long.parseLong(buildNanos), paths);
+            } catch (IOException | NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private void write(final Collection<String> paths, final long buildNanos) {
+            final Path dir = indexFile.getParentFile().toPath();
+            Path tmp = null;
+            try {
+                Files.createDirectories(dir);
+                tmp = Files.createTempFile(dir, indexFile.getName(), ".tmp");
+                try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                    writer.write(contentKey);
+                    writer.newLine();
+                    writer.write(rootPath);
+                    writer.newLine();
+                    writer.write(Long.toString(buildNanos));
+                    writer.newLine();
+                    for (String path : paths) {
+                        writer.write(path);
+                        writer.newLine();
+                    }
+                }
+                Files.move(tmp, indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                ServerLogger.DEPLOYMENT_LOGGER.failedToCacheResourceRootIndex(e, rootName, deploymentName, cacheDir);
+                if (tmp != null) {
+                    tmp.toFile().delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * The deployment content the indexes of a deployment are built from.
+     */
+    private static final class DeploymentContent {
+        private final String path;
+        private final long size;
+        private final long lastModified;
+
+        private DeploymentContent(final String path, final long size, final long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        static DeploymentContent read(final File contentFile) {
+            if (!contentFile.isFile()) {
+                return null;
+            }
+            try {
+                final List<String> lines = Files.readAllLines(contentFile.toPath(), StandardCharsets.UTF_8);
+                return lines.size() == 3 ? new DeploymentContent(lines.get(0), Long.parseLong(lines.get(1)), Long.parseLong(lines.get(2))) : null;
+            } catch (IOException | NumberFormatException e) {
+                return null;
+            }
+        }
+
+        boolean exists() {
+            final File file = new File(path);
+            return file.isFile() && file.length() == size && file.lastModified() == lastModified;
+        }
+
+        List<String> toLines() {
+            final List<String> lines = new ArrayList<>(3);
+            lines.add(path);
+            lines.add(Long.toString(size));
+            lines.add(Long.toString(lastModified));
+            return lines;
+        }
+
+        String toKey() {
+            return path + '|' + size + '|' + lastModified;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof DeploymentContent)) {
+                return false;
+            }
+            final DeploymentContent other = (DeploymentContent) obj;
+            return path.equals(other.path) && size == other.size && lastModified == other.lastModified;
+        }
+
+        @Override
+        public int hashCode() {
+            return path.hashCode() * 31 + Long.hashCode(size) * 17 + Long.hashCode(lastModified);
+        }
+    }
+
+    private static final class Cached {
+        private final long buildNanos;
+        private final List<String> paths;
+
+        private Cached(final long buildNanos, final List<String> paths) {
+            this.buildNanos = buildNanos;
+            this.paths = paths;
+        }
+    }
+}
@@ -168,7 +168,7 @@ public class DeploymentOverlayContentDefinition extends SimpleResourceDefinition
             byte[] contentHash = resource.getModel().get(CONTENT).asBytes();
             try {
                 TypedInputStream inputStream = contentRepository.readContent(contentHash, "");
-                String uuid = context.attachResultStream(inputStream.getContentType(), inputStream);
+                String uuid = context.attachResultStream(inputStream.getContentType(), inputStream.getResponseStream());
                 context.getResult().get(UUID).set(uuid);
             } catch (ExplodedContentException ex) {
                 throw new RuntimeException(ex.getMessage(), ex);
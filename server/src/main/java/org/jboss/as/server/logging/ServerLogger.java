@@ -1500,6 +1500,14 @@ public interface ServerLogger extends BasicLogger {
     @Message(id = 316, value = "Server started as %s. If this user has elevated privileges, it is discouraged to run the server under this account, as it can compromise system security. You can dismiss this warning by starting the server with: -Djboss.ignore.root.username.warning=true")
     void startedWithRootUser(String userName);
 
+    @LogMessage(level = DEBUG)
+    @Message(id = 317, value = "Reused the cached index of resource root %s of deployment %s, saving %dms (%dms saved since the server started)")
+    void reusedResourceRootIndex(String rootName, String deploymentName, long savedMillis, long totalSavedMillis);
+
+    @LogMessage(level = WARN)
+    @Message(id = 318, value = "Failed to cache the index of resource root %s of deployment %s in %s")
+    void failedToCacheResourceRootIndex(@Cause Throwable cause, String rootName, String deploymentName, File cacheDir);
+
     ////////////////////////////////////////////////
     //Messages without IDs
 
@@ -8,6 +8,7 @@ package org.jboss.as.server.mgmt;
 import static org.jboss.as.server.logging.ServerLogger.ROOT_LOGGER;
 
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
@@ -23,13 +24,18 @@ import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.management.BaseHttpInterfaceResourceDefinition;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.parsing.Attribute;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.RuntimePackageDependency;
+import org.jboss.as.domain.http.server.HttpConnectionStatistics;
 import org.jboss.as.network.SocketBinding;
 import org.jboss.as.server.controller.descriptions.ServerDescriptions;
+import org.jboss.as.server.mgmt.domain.HttpManagement;
 import org.jboss.as.server.operations.HttpManagementAddHandler;
 import org.jboss.as.server.operations.HttpManagementRemoveHandler;
+import org.jboss.as.version.Stability;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 
 /**
  * {@link org.jboss.as.controller.ResourceDefinition} for the HTTP management interface resource.
@@ -56,6 +62,24 @@ public class HttpManagementResourceDefinition extends BaseHttpInterfaceResourceD
 
     public static final AttributeDefinition[] ATTRIBUTE_DEFINITIONS = combine(COMMON_ATTRIBUTES, SOCKET_BINDING, SECURE_SOCKET_BINDING);
 
+    public static final SimpleAttributeDefinition OPEN_CONNECTIONS = new SimpleAttributeDefinitionBuilder("open-connections", ModelType.INT)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    public static final SimpleAttributeDefinition REQUEST_COUNT = new SimpleAttributeDefinitionBuilder("request-count", ModelType.LONG)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    public static final SimpleAttributeDefinition MAX_CONCURRENT_REQUESTS = new SimpleAttributeDefinitionBuilder("max-concurrent-requests", ModelType.INT)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
     public static final HttpManagementResourceDefinition INSTANCE = new HttpManagementResourceDefinition();
 
     private HttpManagementResourceDefinition() {
@@ -67,11 +91,32 @@ public class HttpManagementResourceDefinition extends BaseHttpInterfaceResourceD
         );
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        registerConnectionMetrics(resourceRegistration);
+    }
+
     @Override
     protected AttributeDefinition[] getAttributeDefinitions() {
         return ATTRIBUTE_DEFINITIONS;
     }
 
+    /**
+     * Registers the metrics of the connections to the running HTTP management interface, shared with the interface of
+     * a host controller.
+     *
+     * @param resourceRegistration the registration of the HTTP management interface resource
+     */
+    public static void registerConnectionMetrics(ManagementResourceRegistration resourceRegistration) {
+        resourceRegistration.registerMetric(OPEN_CONNECTIONS,
+                new ConnectionMetricHandler(statistics -> new ModelNode(statistics.getOpenConnections())));
+        resourceRegistration.registerMetric(REQUEST_COUNT,
+                new ConnectionMetricHandler(statistics -> new ModelNode(statistics.getRequestCount())));
+        resourceRegistration.registerMetric(MAX_CONCURRENT_REQUESTS,
+                new ConnectionMetricHandler(statistics -> new ModelNode(statistics.getMaxConcurrentRequests())));
+    }
+
     @Override
     protected Consumer<OperationContext> getValidationConsumer() {
         return HttpManagementResourceDefinition::addAttributeValidator;
@@ -94,4 +139,29 @@ public class HttpManagementResourceDefinition extends BaseHttpInterfaceResourceD
         }, Stage.MODEL);
     }
 
+    private static final class ConnectionMetricHandler implements OperationStepHandler {
+
+        private final Function<HttpConnectionStatistics, ModelNode> metric;
+
+        private ConnectionMetricHandler(final Function<HttpConnectionStatistics, ModelNode> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            context.addStep(new OperationStepHandler() {
+                @Override
+                public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    final ServiceController<?> controller = context.getServiceRegistry(false).getService(UndertowHttpManagementService.SERVICE_NAME);
+                    if (controller != null && controller.getState() == ServiceController.State.UP) {
+                        final HttpConnectionStatistics statistics = HttpManagement.class.cast(controller.getValue()).getConnectionStatistics();
+                        if (statistics != null) {
+                            context.getResult().set(metric.apply(statistics));
+                        }
+                    }
+                }
+            }, Stage.RUNTIME);
+        }
+    }
+
 }
@@ -21,8 +21,10 @@ import org.jboss.as.controller.ModelController;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.management.BaseHttpInterfaceAddStepHandler;
 import org.jboss.as.controller.management.HttpInterfaceCommonPolicy.Header;
+import org.jboss.as.controller.notification.NotificationHandlerRegistry;
 import org.jboss.as.domain.http.server.ConsoleAvailability;
 import org.jboss.as.domain.http.server.ConsoleMode;
+import org.jboss.as.domain.http.server.HttpConnectionStatistics;
 import org.jboss.as.domain.http.server.ManagementHttpRequestProcessor;
 import org.jboss.as.domain.http.server.ManagementHttpServer;
 import org.jboss.as.network.ManagedBinding;
@@ -76,6 +78,7 @@ public class UndertowHttpManagementService implements Service<HttpManagement> {
     private final Consumer<HttpManagement> httpManagementConsumer;
     private final Supplier<ListenerRegistry> listenerRegistrySupplier;
     private final Supplier<ModelController> modelControllerSupplier;
+    private final Supplier<NotificationHandlerRegistry> notificationRegistrySupplier;
     private final Supplier<SocketBinding> socketBindingSupplier;
     private final Supplier<SocketBinding> secureSocketBindingSupplier;
     private final Supplier<NetworkInterfaceBinding> interfaceBindingSupplier;
@@ -100,6 +103,7 @@ public class UndertowHttpManagementService implements Service<HttpManagement> {
     private final Integer noRequestTimeout;
     private final Integer connectionHighWater;
     private final Integer connectionLowWater;
+    private final boolean http2;
 
     private ManagementHttpServer serverManagement;
     private SocketBindingManager socketBindingManager;
@@ -190,14 +194,91 @@ public class UndertowHttpManagementService implements Service<HttpManagement> {
         public boolean hasConsole() {
             return consoleMode.hasConsole();
         }
+
+        @Override
+        public HttpConnectionStatistics getConnectionStatistics() {
+            final ManagementHttpServer server = serverManagement;
+            return server == null ? null : server.getConnectionStatistics();
+        }
     };
 
     // These constructors are getting large and unwieldly, but where we use builders we end up triggering more classes to be loaded
     // as well as more objects on the heap for a resource that generally comes up once at server start.
 
+    /**
+     * Creates the service without the management notifications stream.
+     */
+    public UndertowHttpManagementService(final Consumer<HttpManagement> httpManagementConsumer,
+                                         final Supplier<ListenerRegistry> listenerRegistrySupplier,
+                                         final Supplier<ModelController> modelControllerSupplier,
+                                         final Supplier<SocketBinding> socketBindingSupplier,
+                                         final Supplier<SocketBinding> secureSocketBindingSupplier,
+                                         final Supplier<SocketBindingManager> socketBindingManagerSupplier,
+                                         final Supplier<NetworkInterfaceBinding> interfaceBindingSupplier,
+                                         final Supplier<NetworkInterfaceBinding> secureInterfaceBindingSupplier,
+                                         final Supplier<ManagementHttpRequestProcessor> requestProcessorSupplier,
+                                         final Supplier<XnioWorker> workerSupplier,
+                                         final Supplier<Executor> executorSupplier,
+                                         final Supplier<HttpAuthenticationFactory> httpAuthFactorySupplier,
+                                         final Supplier<SSLContext> sslContextSupplier,
+                                         final Integer port,
+                                         final Integer securePort,
+                                         final Collection<String> allowedOrigins,
+                                         final ConsoleMode consoleMode,
+                                         final Supplier<String> consoleSlot,
+                                         final Map<String, List<Header>> constantHeaders,
+                                         final Supplier<ConsoleAvailability> consoleAvailabilitySupplier,
+                                         final Integer backlog,
+                                         final Integer noRequestTimeout,
+                                         final Integer connectionHighWater,
+                                         final Integer connectionLowWater) {
+        this(httpManagementConsumer, listenerRegistrySupplier, modelControllerSupplier, null, socketBindingSupplier,
+                secureSocketBindingSupplier, socketBindingManagerSupplier, interfaceBindingSupplier, secureInterfaceBindingSupplier,
+                requestProcessorSupplier, workerSupplier, executorSupplier, httpAuthFactorySupplier, sslContextSupplier, port, securePort,
+                allowedOrigins, consoleMode, consoleSlot, constantHeaders, consoleAvailabilitySupplier, null, null,
+                backlog, noRequestTimeout, connectionHighWater, connectionLowWater);
+    }
+
+    /**
+     * Creates the service without the management notifications stream.
+     */
+    public UndertowHttpManagementService(final Consumer<HttpManagement> httpManagementConsumer,
+                                         final Supplier<ListenerRegistry> listenerRegistrySupplier,
+                                         final Supplier<ModelController> modelControllerSupplier,
+                                         final Supplier<SocketBinding> socketBindingSupplier,
+                                         final Supplier<SocketBinding> secureSocketBindingSupplier,
+                                         final Supplier<SocketBindingManager> socketBindingManagerSupplier,
+                                         final Supplier<NetworkInterfaceBinding> interfaceBindingSupplier,
+                                         final Supplier<NetworkInterfaceBinding> secureInterfaceBindingSupplier,
+                                         final Supplier<ManagementHttpRequestProcessor> requestProcessorSupplier,
+                                         final Supplier<XnioWorker> workerSupplier,
+                                         final Supplier<Executor> executorSupplier,
+                                         final Supplier<HttpAuthenticationFactory> httpAuthFactorySupplier,
+                                         final Supplier<SSLContext> sslContextSupplier,
+                                         final Integer port,
+                                         final Integer securePort,
+                                         final Collection<String> allowedOrigins,
+                                         final ConsoleMode consoleMode,
+                                         final Supplier<String> consoleSlot,
+                                         final Map<String, List<Header>> constantHeaders,
+                                         final Supplier<ConsoleAvailability> consoleAvailabilitySupplier,
+                                         final Supplier<SecurityDomain> virtualSecurityDomainSupplier,
+                                         final Supplier<HttpServerAuthenticationMechanismFactory> virtualMechanismFactorySupplier,
+                                         final Integer backlog,
+                                         final Integer noRequestTimeout,
+                                         final Integer connectionHighWater,
+                                         final Integer connectionLowWater) {
+        this(httpManagementConsumer, listenerRegistrySupplier, modelControllerSupplier, null, socketBindingSupplier,
+                secureSocketBindingSupplier, socketBindingManagerSupplier, interfaceBindingSupplier, secureInterfaceBindingSupplier,
+                requestProcessorSupplier, workerSupplier, executorSupplier, httpAuthFactorySupplier, sslContextSupplier, port, securePort,
+                allowedOrigins, consoleMode, consoleSlot, constantHeaders, consoleAvailabilitySupplier, virtualSecurityDomainSupplier,
+                virtualMechanismFactorySupplier, backlog, noRequestTimeout, connectionHighWater, connectionLowWater);
+    }
+
     public UndertowHttpManagementService(final Consumer<HttpManagement> httpManagementConsumer,
                                          final Supplier<ListenerRegistry> listenerRegistrySupplier,
                                          final Supplier<ModelController> modelControllerSupplier,
+                                         final Supplier<NotificationHandlerRegistry> notificationRegistrySupplier,
                                          final Supplier<SocketBinding> socketBindingSupplier,
                                          final Supplier<SocketBinding> secureSocketBindingSupplier,
                                          final Supplier<SocketBindingManager> socketBindingManagerSupplier,
@@ -219,7 +300,7 @@ public class UndertowHttpManagementService implements Service<HttpManagement> {
                                          final Integer noRequestTimeout,
                                          final Integer connectionHighWater,
                                          final Integer connectionLowWater) {
-        this(httpManagementConsumer, listenerRegistrySupplier, modelControllerSupplier, socketBindingSupplier,
+        this(httpManagementConsumer, listenerRegistrySupplier, modelControllerSupplier, notificationRegistrySupplier, socketBindingSupplier,
                 secureSocketBindingSupplier, socketBindingManagerSupplier, interfaceBindingSupplier, secureInterfaceBindingSupplier,
                 requestProcessorSupplier, workerSupplier, executorSupplier, httpAuthFactorySupplier, sslContextSupplier, port, securePort,
                 allowedOrigins, consoleMode, consoleSlot, constantHeaders, consoleAvailabilitySupplier, null, null,
@@ -229,6 +310,7 @@ public class UndertowHttpManagementService implements Service<HttpManagement> {
     public UndertowHttpManagementService(final Consumer<HttpManagement> httpManagementConsumer,
                                          final Supplier<ListenerRegistry> listenerRegistrySupplier,
                                          final Supplier<ModelController> modelControllerSupplier,
+                                         final Supplier<NotificationHandlerRegistry> notificationRegistrySupplier,
                                          final Supplier<SocketBinding> socketBindingSupplier,
                                          final Supplier<SocketBinding> secureSocketBindingSupplier,
                                          final Supplier<SocketBindingManager> socketBindingManagerSupplier,
@@ -252,9 +334,45 @@ public class UndertowHttpManagementService implements Service<HttpManagement> {
                                          final Integer noRequestTimeout,
                                          final Integer connectionHighWater,
                                          final Integer connectionLowWater) {
+        this(httpManagementConsumer, listenerRegistrySupplier, modelControllerSupplier, notificationRegistrySupplier, socketBindingSupplier,
+                secureSocketBindingSupplier, socketBindingManagerSupplier, interfaceBindingSupplier, secureInterfaceBindingSupplier,
+                requestProcessorSupplier, workerSupplier, executorSupplier, httpAuthFactorySupplier, sslContextSupplier, port, securePort,
+                allowedOrigins, consoleMode, consoleSlot, constantHeaders, consoleAvailabilitySupplier, virtualSecurityDomainSupplier,
+                virtualMechanismFactorySupplier, backlog, noRequestTimeout, connectionHighWater, connectionLowWater, false);
+    }
+
+    public UndertowHttpManagementService(final Consumer<HttpManagement> httpManagementConsumer,
+                                         final Supplier<ListenerRegistry> listenerRegistrySupplier,
+                                         final Supplier<ModelController> modelControllerSupplier,
+                                         final Supplier<NotificationHandlerRegistry> notificationRegistrySupplier,
+                                         final Supplier<SocketBinding> socketBindingSupplier,
+                                         final Supplier<SocketBinding> secureSocketBindingSupplier,
+                                         final Supplier<SocketBindingManager> socketBindingManagerSupplier,
+                                         final Supplier<NetworkInterfaceBinding> interfaceBindingSupplier,
+                                         final Supplier<NetworkInterfaceBinding> secureInterfaceBindingSupplier,
+                                         final Supplier<ManagementHttpRequestProcessor> requestProcessorSupplier,
+                                         final Supplier<XnioWorker> workerSupplier,
+                                         final Supplier<Executor> executorSupplier,
+                                         final Supplier<HttpAuthenticationFactory> httpAuthFactorySupplier,
+                                         final Supplier<SSLContext> sslContextSupplier,
+                                         final Integer port,
+                                         final Integer securePort,
+                                         final Collection<String> allowedOrigins,
+                                         final ConsoleMode consoleMode,
+                                         final Supplier<String> consoleSlot,
+                                         final Map<String, List<Header>> constantHeaders,
+                                         final Supplier<ConsoleAvailability> consoleAvailabilitySupplier,
+                                         final Supplier<SecurityDomain> virtualSecurityDomainSupplier,
+                                         final Supplier<HttpServerAuthenticationMechanismFactory> virtualMechanismFactorySupplier,
+                                         final Integer backlog,
+                                         final Integer noRequestTimeout,
+                                         final Integer connectionHighWater,
+                                         final Integer connectionLowWater,
+                                         final boolean http2) {
         this.httpManagementConsumer = httpManagementConsumer;
         this.listenerRegistrySupplier = listenerRegistrySupplier;
         this.modelControllerSupplier = modelControllerSupplier;
+        this.notificationRegistrySupplier = notificationRegistrySupplier;
         this.socketBindingSupplier = socketBindingSupplier;
         this.secureSocketBindingSupplier = secureSocketBindingSupplier;
         this.socketBindingManagerSupplier = socketBindingManagerSupplier;
@@ -278,6 +396,7 @@ public class UndertowHttpManagementService implements Service<HttpManagement> {
         this.noRequestTimeout = noRequestTimeout;
         this.connectionHighWater = connectionHighWater;
         this.connectionLowWater = connectionLowWater;
+        this.http2 = http2;
     }
 
     /**
@@ -368,6 +487,7 @@ public class UndertowHttpManagementService implements Service<HttpManagement> {
                     .setBindAddress(bindAddress)
                     .setSecureBindAddress(secureBindAddress)
                     .setModelController(modelController)
+                    .setNotificationHandlerRegistry(notificationRegistrySupplier != null ? notificationRegistrySupplier.get() : null)
                     .setSSLContext(sslContext)
                     .setConsoleMode(consoleMode)
                     .setConsoleSlot(consoleSlot.get())
@@ -383,6 +503,7 @@ public class UndertowHttpManagementService implements Service<HttpManagement> {
                     .setConnectionLowWater(connectionLowWater)
                     .setNoRequestTimeout(noRequestTimeout)
                     .setUploadLimit(uploadLimit)
+                    .setHttp2(http2)
                     ;
 
             if (virtualSecurityDomainSupplier != null && virtualMechanismFactorySupplier != null) {
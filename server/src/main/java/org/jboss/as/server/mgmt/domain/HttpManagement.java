@@ -5,6 +5,7 @@
 
 package org.jboss.as.server.mgmt.domain;
 
+import org.jboss.as.domain.http.server.HttpConnectionStatistics;
 import org.jboss.as.network.NetworkInterfaceBinding;
 
 /**
@@ -22,4 +23,8 @@ public interface HttpManagement {
 
     boolean hasConsole();
 
+    default HttpConnectionStatistics getConnectionStatistics() {
+        return null;
+    }
+
 }
@@ -71,6 +71,7 @@ import org.jboss.as.controller.parsing.ProfileParsingCompletionHandler;
 import org.jboss.as.controller.parsing.WriteUtils;
 import org.jboss.as.controller.persistence.ModelMarshallingContext;
 import org.jboss.as.controller.xml.VersionedNamespace;
+import org.jboss.as.domain.management.CoreManagementResourceDefinition;
 import org.jboss.as.domain.management.access.AccessAuthorizationResourceDefinition;
 import org.jboss.as.domain.management.parsing.AccessControlXml;
 import org.jboss.as.domain.management.parsing.AuditLogXml;
@@ -318,6 +319,15 @@ final class StandaloneXml_20 extends CommonXml implements ManagementXmlDelegate
                         }
                         break;
                     }
+                    case HTTP2: {
+                        // Can't pull the Stability level from the attribute definition as to move would mean a new major version of the schema.
+                        if (stability.enables(Stability.COMMUNITY)) {
+                            HttpManagementResourceDefinition.HTTP2.parseAndSetParameter(value, addOp, reader);
+                        } else {
+                            throw unexpectedAttribute(reader, i);
+                        }
+                        break;
+                    }
                     default:
                         throw unexpectedAttribute(reader, i);
                 }
@@ -838,6 +848,54 @@ final class StandaloneXml_20 extends CommonXml implements ManagementXmlDelegate
      * ManagamentXmlDelegate Methods
      */
 
+    @Override
+    public boolean parseManagementAttributes(XMLExtendedStreamReader reader, ModelNode address, List<ModelNode> operationsList)
+            throws XMLStreamException {
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            final String value = reader.getAttributeValue(i);
+            if (!isNoNamespaceAttribute(reader, i)) {
+                throw unexpectedAttribute(reader, i);
+            } else {
+                final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+                switch (attribute) {
+                    case VIRTUAL_THREADS: {
+                        // Can't pull the Stability level from the attribute definition as to move would mean a new major version of the schema.
+                        if (stability.enables(Stability.COMMUNITY)) {
+                            operationsList.add(Util.getWriteAttributeOperation(address.clone(), CoreManagementResourceDefinition.VIRTUAL_THREADS.getName(),
+                                    parseAttributeValue(CoreManagementResourceDefinition.VIRTUAL_THREADS, value, reader)));
+                        } else {
+                            throw unexpectedAttribute(reader, i);
+                        }
+                        break;
+                    }
+                    case PARALLEL_READ_MAX_THREADS: {
+                        // Can't pull the Stability level from the attribute definition as to move would mean a new major version of the schema.
+                        if (stability.enables(Stability.COMMUNITY)) {
+                            operationsList.add(Util.getWriteAttributeOperation(address.clone(), CoreManagementResourceDefinition.PARALLEL_READ_MAX_THREADS.getName(),
+                                    parseAttributeValue(CoreManagementResourceDefinition.PARALLEL_READ_MAX_THREADS, value, reader)));
+                        } else {
+                            throw unexpectedAttribute(reader, i);
+                        }
+                        break;
+                    }
+                    default:
+                        throw unexpectedAttribute(reader, i);
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean writeManagementAttributes(XMLExtendedStreamWriter writer, ModelNode management) throws XMLStreamException {
+        if (stability.enables(Stability.COMMUNITY)) {
+            CoreManagementResourceDefinition.VIRTUAL_THREADS.marshallAsAttribute(management, writer);
+            CoreManagementResourceDefinition.PARALLEL_READ_MAX_THREADS.marshallAsAttribute(management, writer);
+        }
+        return true;
+    }
+
     @Override
     public boolean parseManagementInterfaces(final XMLExtendedStreamReader reader, final ModelNode address,
                                              final List<ModelNode> list) throws XMLStreamException {
@@ -978,6 +1036,7 @@ final class StandaloneXml_20 extends CommonXml implements ManagementXmlDelegate
             HttpManagementResourceDefinition.NO_REQUEST_TIMEOUT.marshallAsAttribute(protocol, writer);
             HttpManagementResourceDefinition.CONNECTION_HIGH_WATER.marshallAsAttribute(protocol, writer);
             HttpManagementResourceDefinition.CONNECTION_LOW_WATER.marshallAsAttribute(protocol, writer);
+            HttpManagementResourceDefinition.HTTP2.marshallAsAttribute(protocol, writer);
         }
 
         HttpManagementResourceDefinition.ALLOWED_ORIGINS.getMarshaller().marshallAsAttribute(
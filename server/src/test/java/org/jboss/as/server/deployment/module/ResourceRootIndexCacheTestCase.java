@@ -0,0 +1,163 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.server.deployment.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deploymentoverlay.DeploymentOverlayIndex;
+import org.jboss.vfs.VFS;
+import org.jboss.vfs.VirtualFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests of {@link ResourceRootIndexCache}.
+ */
+public class ResourceRootIndexCacheTestCase {
+
+    private Path dir;
+    private File cacheDir;
+    private File contents;
+    private DeploymentUnit deploymentUnit;
+    private ResourceRoot resourceRoot;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("module-index");
+        cacheDir = dir.resolve("module-index").toFile();
+        contents = dir.resolve("test.war").toFile();
+        Files.write(contents.toPath(), new byte[] {1, 2, 3});
+        // The deployment root, as mounted from the content, holding a resource root
+        final Path deploymentRoot = dir.resolve("mounted");
+        Files.createDirectories(deploymentRoot.resolve("WEB-INF/classes/org/test"));
+        Files.write(deploymentRoot.resolve("WEB-INF/classes/org/test/Test.class"), new byte[] {0});
+
+        deploymentUnit = Mockito.mock(DeploymentUnit.class);
+        Mockito.when(deploymentUnit.getName()).thenReturn("test.war");
+        Mockito.when(deploymentUnit.getAttachment(Attachments.DEPLOYMENT_CONTENTS)).thenReturn(VFS.getChild(contents.toURI()));
+        final VirtualFile root = VFS.getChild(deploymentRoot.toUri());
+        Mockito.when(deploymentUnit.getAttachment(Attachments.DEPLOYMENT_ROOT)).thenReturn(new ResourceRoot(root, null));
+        resourceRoot = new ResourceRoot("classes", root.getChild("WEB-INF/classes"), null);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    private Set<String> getPaths() throws IOException {
+        // A new cache each time, as after a restart
+        return new HashSet<>(new ResourceRootIndexCache(cacheDir).createResourceLoader(deploymentUnit, resourceRoot).getPaths());
+    }
+
+    private void setOverlay(String path, byte[] hash) {
+        final DeploymentOverlayIndex overlays = Mockito.mock(DeploymentOverlayIndex.class);
+        Mockito.when(overlays.getOverlays("test.war")).thenReturn(Collections.singletonMap(path, hash));
+        Mockito.when(deploymentUnit.getAttachment(Attachments.DEPLOYMENT_OVERLAY_INDEX)).thenReturn(overlays);
+    }
+
+    @Test
+    public void testIndexReused() throws IOException {
+        final long hits = ResourceRootIndexCache.getHitCount();
+        final long misses = ResourceRootIndexCache.getMissCount();
+
+        final Set<String> paths = getPaths();
+        assertTrue(paths.toString(), paths.contains("org/test"));
+        assertEquals(misses + 1, ResourceRootIndexCache.getMissCount());
+        assertEquals(hits, ResourceRootIndexCache.getHitCount());
+
+        assertEquals(paths, getPaths());
+        assertEquals(misses + 1, ResourceRootIndexCache.getMissCount());
+        assertEquals(hits + 1, ResourceRootIndexCache.getHitCount());
+    }
+
+    @Test
+    public void testIndexStaleWhenOverlayChanges() throws IOException {
+        setOverlay("WEB-INF/classes/org/test/Test.class", new byte[] {1});
+        getPaths();
+        final long hits = ResourceRootIndexCache.getHitCount();
+        final long misses = ResourceRootIndexCache.getMissCount();
+
+        getPaths();
+        assertEquals(hits + 1, ResourceRootIndexCache.getHitCount());
+
+        // The overlay content is replaced
+        setOverlay("WEB-INF/classes/org/test/Test.class", new byte[] {2});
+        getPaths();
+        assertEquals(hits + 1, ResourceRootIndexCache.getHitCount());
+        assertEquals(misses + 1, ResourceRootIndexCache.getMissCount());
+
+        // The overlay is removed
+        Mockito.when(deploymentUnit.getAttachment(Attachments.DEPLOYMENT_OVERLAY_INDEX)).thenReturn(null);
+        getPaths();
+        assertEquals(misses + 2, ResourceRootIndexCache.getMissCount());
+    }
+
+    @Test
+    public void testIndexStaleWhenContentChanges() throws IOException {
+        getPaths();
+        final long misses = ResourceRootIndexCache.getMissCount();
+
+        Files.write(contents.toPath(), "replaced".getBytes(StandardCharsets.UTF_8));
+        getPaths();
+        assertEquals(misses + 1, ResourceRootIndexCache.getMissCount());
+    }
+
+    @Test
+    public void testTruncatedIndexRebuilt() throws IOException {
+        final Set<String> paths = getPaths();
+        final File[] indexFiles = cacheDir.listFiles(File::isDirectory)[0].listFiles((d, name) -> name.endsWith(".index"));
+        assertEquals(1, indexFiles.length);
+        // Only the content key and the resource root path were written
+        final List<String> lines = Files.readAllLines(indexFiles[0].toPath(), StandardCharsets.UTF_8);
+        Files.write(indexFiles[0].toPath(), lines.subList(0, 2), StandardCharsets.UTF_8);
+        final long hits = ResourceRootIndexCache.getHitCount();
+        final long misses = ResourceRootIndexCache.getMissCount();
+
+        assertEquals(paths, getPaths());
+        assertEquals(misses + 1, ResourceRootIndexCache.getMissCount());
+        assertEquals(hits, ResourceRootIndexCache.getHitCount());
+
+        // Written again in full
+        assertEquals(paths, getPaths());
+        assertEquals(hits + 1, ResourceRootIndexCache.getHitCount());
+    }
+
+    @Test
+    public void testPruneRemovedDeployments() throws IOException {
+        getPaths();
+        final File[] deploymentDirs = cacheDir.listFiles(File::isDirectory);
+        assertEquals(1, deploymentDirs.length);
+
+        // Still deployed
+        new ResourceRootIndexCache(cacheDir).prune();
+        assertTrue(deploymentDirs[0].isDirectory());
+
+        // The deployment and its content are removed
+        assertTrue(contents.delete());
+        new ResourceRootIndexCache(cacheDir).prune();
+        assertFalse(deploymentDirs[0].exists());
+    }
+}